@@ -590,6 +590,19 @@ public class ApiClient {
         return this;
     }
 
+    /**
+     * Enables gzip compression of request bodies of at least the given size (in bytes).
+     * Smaller bodies are sent uncompressed. Responses are always negotiated through
+     * Accept-Encoding and decompressed transparently by OkHttp.
+     *
+     * @param minimumSize minimum body size to compress, in bytes
+     * @return Api client
+     */
+    public ApiClient enableRequestCompression(long minimumSize) {
+        httpClient = httpClient.newBuilder().addInterceptor(new GzipRequestInterceptor(minimumSize)).build();
+        return this;
+    }
+
     /**
      * Get read timeout (in milliseconds).
      *
@@ -885,6 +898,20 @@ public class ApiClient {
             return (T) downloadFileFromResponse(response);
         }
 
+        String contentType = response.headers().get("Content-Type");
+        if (contentType == null) {
+            // ensuring a default content type
+            contentType = "application/json";
+        }
+        if (isJsonMime(contentType) && !returnType.equals(String.class) && response.body() != null) {
+            // Stream JSON models straight from the response source, without an intermediate String
+            try (ResponseBody body = response.body()) {
+                return JSON.deserialize(body.source(), returnType);
+            } catch (IOException e) {
+                throw new ApiException(e);
+            }
+        }
+
         String respBody;
         try {
             if (response.body() != null)
@@ -899,11 +926,6 @@ public class ApiClient {
             return null;
         }
 
-        String contentType = response.headers().get("Content-Type");
-        if (contentType == null) {
-            // ensuring a default content type
-            contentType = "application/json";
-        }
         if (isJsonMime(contentType)) {
             return JSON.deserialize(respBody, returnType);
         } else if (returnType.equals(String.class)) {
@@ -937,13 +959,11 @@ public class ApiClient {
         } else if ("text/plain".equals(contentType) && obj instanceof String) {
             return RequestBody.create((String) obj, MediaType.parse(contentType));
         } else if (isJsonMime(contentType)) {
-            String content;
             if (obj != null) {
-                content = JSON.serialize(obj);
-            } else {
-                content = null;
+                // Serialized straight into the request sink when the call is written
+                return new JsonRequestBody(obj, MediaType.parse(contentType));
             }
-            return RequestBody.create(content, MediaType.parse(contentType));
+            return RequestBody.create((String) null, MediaType.parse(contentType));
         } else if (obj instanceof String) {
             return RequestBody.create((String) obj, MediaType.parse(contentType));
         } else {
@@ -1202,8 +1222,10 @@ public class ApiClient {
             reqBody = serialize(body, contentType);
         }
 
-        // update parameters with authentication settings
-        updateParamsForAuth(authNames, allQueryParams, headerParams, cookieParams, requestBodyToString(reqBody), method, URI.create(url));
+        // update parameters with authentication settings; the body is only rendered
+        // to a String when an authentication scheme needs to see the payload
+        String payload = authNames.length > 0 ? requestBodyToString(reqBody) : "";
+        updateParamsForAuth(authNames, allQueryParams, headerParams, cookieParams, payload, method, URI.create(url));
 
         final Request.Builder reqBuilder = new Request.Builder().url(url);
         processHeaderParams(headerParams, reqBuilder);
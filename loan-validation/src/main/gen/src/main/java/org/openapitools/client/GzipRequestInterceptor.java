@@ -3,11 +3,9 @@
  * No description provided (generated by Openapi Generator https://github.com/openapitools/openapi-generator)
  *
  * The version of the OpenAPI document: 1.0.0
- * 
  *
- * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
- * https://openapi-generator.tech
- * Do not edit the class manually.
+ *
+ * NOTE: This class is maintained by hand and listed in .openapi-generator-ignore.
  */
 
 
@@ -16,38 +14,102 @@ package org.openapitools.client;
 import okhttp3.*;
 import okio.Buffer;
 import okio.BufferedSink;
-import okio.GzipSink;
-import okio.Okio;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 /**
- * Encodes request bodies using gzip.
+ * Encodes request bodies using gzip when they are large enough to benefit.
+ *
+ * Bodies smaller than the minimum size are sent as is, since gzip framing and
+ * CPU cost outweigh the savings on small loan requests. Large bodies are
+ * compressed once into a buffer with a pooled {@link Deflater}, so the request
+ * carries an exact Content-Length and the compressed bytes are not copied again
+ * when written. Hosts that answer a compressed request with 415 Unsupported
+ * Media Type are retried uncompressed and not compressed for again.
+ *
+ * Response compression is negotiated by OkHttp itself: this interceptor never
+ * sets Accept-Encoding, so OkHttp advertises gzip and decompresses responses
+ * transparently.
  *
- * Taken from https://github.com/square/okhttp/issues/350
+ * Based on https://github.com/square/okhttp/issues/350
  */
 class GzipRequestInterceptor implements Interceptor {
+
+    static final long DEFAULT_MINIMUM_SIZE = 1024;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int CHUNK_SIZE = 8192;
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<Deflater>(POOL_SIZE);
+
+    private final long minimumSize;
+    private final Set<String> uncompressedHosts = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    GzipRequestInterceptor() {
+        this(DEFAULT_MINIMUM_SIZE);
+    }
+
+    GzipRequestInterceptor(long minimumSize) {
+        this.minimumSize = minimumSize;
+    }
+
     @Override
     public Response intercept(Chain chain) throws IOException {
         Request originalRequest = chain.request();
-        if (originalRequest.body() == null || originalRequest.header("Content-Encoding") != null) {
+        RequestBody body = originalRequest.body();
+        if (body == null || originalRequest.header("Content-Encoding") != null
+                || uncompressedHosts.contains(originalRequest.url().host())) {
             return chain.proceed(originalRequest);
         }
+        long declaredLength = body.contentLength();
+        if (declaredLength >= 0 && declaredLength < minimumSize) {
+            return chain.proceed(originalRequest);
+        }
+
+        // Streamed bodies have no declared length; render them once and decide on the real size
+        Buffer plain = new Buffer();
+        body.writeTo(plain);
+        if (plain.size() < minimumSize) {
+            return chain.proceed(withBody(originalRequest, buffered(body.contentType(), plain)));
+        }
+
+        Buffer compressed = gzip(plain.clone());
+        Request compressedRequest = withBody(originalRequest, buffered(body.contentType(), compressed))
+                .newBuilder()
+                .header("Content-Encoding", "gzip")
+                .build();
+        Response response = chain.proceed(compressedRequest);
+        if (response.code() != 415) {
+            return response;
+        }
+
+        // RFC 7694: the server does not accept this content coding, fall back to identity
+        uncompressedHosts.add(originalRequest.url().host());
+        response.close();
+        return chain.proceed(withBody(originalRequest, buffered(body.contentType(), plain)));
+    }
 
-        Request compressedRequest = originalRequest.newBuilder()
-                                                   .header("Content-Encoding", "gzip")
-                                                   .method(originalRequest.method(), forceContentLength(gzip(originalRequest.body())))
-                                                   .build();
-        return chain.proceed(compressedRequest);
+    private static Request withBody(Request request, RequestBody body) {
+        return request.newBuilder().method(request.method(), body).build();
     }
 
-    private RequestBody forceContentLength(final RequestBody requestBody) throws IOException {
-        final Buffer buffer = new Buffer();
-        requestBody.writeTo(buffer);
+    /**
+     * Wraps a fully written buffer as a request body with an exact length.
+     * Each write hands a clone to the sink: okio shares the segments instead of
+     * copying the bytes, and the original stays intact for retries.
+     */
+    static RequestBody buffered(final MediaType contentType, final Buffer buffer) {
         return new RequestBody() {
             @Override
             public MediaType contentType() {
-                return requestBody.contentType();
+                return contentType;
             }
 
             @Override
@@ -57,29 +119,60 @@ class GzipRequestInterceptor implements Interceptor {
 
             @Override
             public void writeTo(BufferedSink sink) throws IOException {
-                sink.write(buffer.snapshot());
+                sink.write(buffer.clone(), buffer.size());
             }
         };
     }
 
-    private RequestBody gzip(final RequestBody body) {
-        return new RequestBody() {
-            @Override
-            public MediaType contentType() {
-                return body.contentType();
-            }
+    /**
+     * Compresses the buffer into gzip format (RFC 1952) with a pooled deflater.
+     * The source buffer is consumed.
+     */
+    static Buffer gzip(Buffer source) {
+        Buffer target = new Buffer();
+        target.writeShortLe(GZIP_MAGIC);
+        target.writeByte(Deflater.DEFLATED);
+        target.writeByte(0); // flags
+        target.writeInt(0); // modification time
+        target.writeByte(0); // extra flags
+        target.writeByte(0); // operating system
 
-            @Override
-            public long contentLength() {
-                return -1; // We don't know the compressed length in advance!
+        CRC32 crc = new CRC32();
+        long size = source.size();
+        byte[] input = new byte[CHUNK_SIZE];
+        byte[] output = new byte[CHUNK_SIZE];
+        Deflater deflater = borrowDeflater();
+        try {
+            int read;
+            while ((read = source.read(input, 0, input.length)) != -1) {
+                crc.update(input, 0, read);
+                deflater.setInput(input, 0, read);
+                while (!deflater.needsInput()) {
+                    target.write(output, 0, deflater.deflate(output));
+                }
             }
-
-            @Override
-            public void writeTo(BufferedSink sink) throws IOException {
-                BufferedSink gzipSink = Okio.buffer(new GzipSink(sink));
-                body.writeTo(gzipSink);
-                gzipSink.close();
+            deflater.finish();
+            while (!deflater.finished()) {
+                target.write(output, 0, deflater.deflate(output));
             }
-        };
+        } finally {
+            releaseDeflater(deflater);
+        }
+
+        target.writeIntLe((int) crc.getValue());
+        target.writeIntLe((int) size);
+        return target;
+    }
+
+    private static Deflater borrowDeflater() {
+        Deflater deflater = DEFLATERS.poll();
+        return deflater != null ? deflater : new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    private static void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+        if (!DEFLATERS.offer(deflater)) {
+            deflater.end();
+        }
     }
 }
@@ -18,16 +18,23 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParseException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.internal.bind.util.ISO8601Utils;
+import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.google.gson.JsonElement;
 import io.gsonfire.GsonFireBuilder;
 import io.gsonfire.TypeSelector;
 
+import okio.BufferedSink;
+import okio.BufferedSource;
 import okio.ByteString;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -39,6 +46,8 @@ import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /*
  * A JSON utility class
@@ -54,6 +63,7 @@ public class JSON {
     private static OffsetDateTimeTypeAdapter offsetDateTimeTypeAdapter = new OffsetDateTimeTypeAdapter();
     private static LocalDateTypeAdapter localDateTypeAdapter = new LocalDateTypeAdapter();
     private static ByteArrayAdapter byteArrayAdapter = new ByteArrayAdapter();
+    private static final ConcurrentMap<Type, TypeAdapter<?>> typeAdapters = new ConcurrentHashMap<Type, TypeAdapter<?>>();
 
     @SuppressWarnings("unchecked")
     public static GsonBuilder createGson() {
@@ -96,6 +106,8 @@ public class JSON {
         gsonBuilder.registerTypeAdapterFactory(new org.openapitools.client.model.LoanValidationRequest.CustomTypeAdapterFactory());
         gsonBuilder.registerTypeAdapterFactory(new org.openapitools.client.model.LoanValidationResult.CustomTypeAdapterFactory());
         gson = gsonBuilder.create();
+        getTypeAdapter(org.openapitools.client.model.LoanValidationRequest.class);
+        getTypeAdapter(org.openapitools.client.model.LoanValidationResult.class);
     }
 
     /**
@@ -114,6 +126,7 @@ public class JSON {
      */
     public static void setGson(Gson gson) {
         JSON.gson = gson;
+        typeAdapters.clear();
     }
 
     public static void setLenientOnJson(boolean lenientOnJson) {
@@ -160,6 +173,65 @@ public class JSON {
         }
     }
 
+    /**
+     * Get the TypeAdapter for the given type, resolving it through Gson only once.
+     * The cache is cleared whenever the Gson instance is replaced.
+     *
+     * @param <T>  Type
+     * @param type The type to (de)serialize
+     * @return The cached TypeAdapter
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<T> getTypeAdapter(Type type) {
+        TypeAdapter<?> adapter = typeAdapters.get(type);
+        if (adapter == null) {
+            adapter = gson.getAdapter(TypeToken.get(type));
+            TypeAdapter<?> existing = typeAdapters.putIfAbsent(type, adapter);
+            if (existing != null) {
+                adapter = existing;
+            }
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /**
+     * Serialize the given Java object as UTF-8 JSON straight into the sink,
+     * without building an intermediate String.
+     *
+     * @param obj  Object
+     * @param sink The sink to write to; flushed but not closed
+     * @throws IOException If writing to the sink fails
+     */
+    public static void serialize(Object obj, BufferedSink sink) throws IOException {
+        JsonWriter jsonWriter = gson.newJsonWriter(new OutputStreamWriter(sink.outputStream(), StandardCharsets.UTF_8));
+        JSON.<Object>getTypeAdapter(obj.getClass()).write(jsonWriter, obj);
+        jsonWriter.flush();
+    }
+
+    /**
+     * Deserialize UTF-8 JSON read straight from the source to a Java object,
+     * without building an intermediate String.
+     *
+     * @param <T>        Type
+     * @param source     The source to read from; not closed
+     * @param returnType The type to deserialize into
+     * @return The deserialized Java object, or null for an empty body
+     * @throws IOException If reading from the source fails
+     */
+    public static <T> T deserialize(BufferedSource source, Type returnType) throws IOException {
+        if (source.exhausted()) {
+            return null;
+        }
+        JsonReader jsonReader = gson.newJsonReader(new InputStreamReader(source.inputStream(), StandardCharsets.UTF_8));
+        if (isLenientOnJson) {
+            jsonReader.setLenient(true);
+        }
+        if (jsonReader.peek() == JsonToken.END_DOCUMENT) {
+            return null;
+        }
+        return JSON.<T>getTypeAdapter(returnType).read(jsonReader);
+    }
+
     /**
      * Gson TypeAdapter for Byte Array type
      */
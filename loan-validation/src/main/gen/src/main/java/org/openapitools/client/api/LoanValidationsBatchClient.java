@@ -0,0 +1,252 @@
+/*
+ * Loan Validation API
+ * High-throughput facade over the generated LoanValidationsApi.
+ *
+ * The version of the OpenAPI document: 1.0.0
+ *
+ * NOTE: This class is maintained by hand and listed in .openapi-generator-ignore.
+ */
+
+
+package org.openapitools.client.api;
+
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.openapitools.client.ApiCallback;
+import org.openapitools.client.ApiClient;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.LoanValidationRequest;
+import org.openapitools.client.model.LoanValidationResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch client for the loan validation endpoint.
+ *
+ * Requests are issued asynchronously over a tuned {@link OkHttpClient} private to
+ * this facade, derived from the one of the given {@link ApiClient}, which is left
+ * unchanged for the caller's other APIs. The {@link Dispatcher} allows {@code maxInFlight} concurrent calls to the host
+ * and the {@link ConnectionPool} keeps the same number of idle connections alive,
+ * so a batch reuses warm keep-alive connections (or a single multiplexed HTTP/2
+ * connection) instead of opening one per call. {@link #validateAll(Iterable)}
+ * keeps at most {@code maxInFlight} calls outstanding and starts the next one as
+ * soon as a previous call completes.
+ */
+public class LoanValidationsBatchClient {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+    public static final long DEFAULT_KEEP_ALIVE_SECONDS = 300;
+
+    private final ApiClient apiClient;
+    private final OkHttpClient httpClient;
+    private final LoanValidationsApi api;
+    private final int maxInFlight;
+
+    public LoanValidationsBatchClient(ApiClient apiClient) {
+        this(apiClient, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Creates a batch client whose calls use a tuned copy of the HTTP client of the
+     * given {@link ApiClient}. Interceptors, timeouts and SSL settings already
+     * configured on it are kept; the {@link ApiClient} itself is not modified.
+     *
+     * @param apiClient API client to issue calls with
+     * @param maxInFlight maximum number of concurrent calls per batch and per host
+     */
+    public LoanValidationsBatchClient(ApiClient apiClient, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        this.maxInFlight = maxInFlight;
+        this.apiClient = apiClient;
+        this.httpClient = tune(apiClient.getHttpClient(), maxInFlight);
+        this.api = new LoanValidationsApi(apiClient);
+    }
+
+    static OkHttpClient tune(OkHttpClient httpClient, int maxInFlight) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(maxInFlight, dispatcher.getMaxRequests()));
+        dispatcher.setMaxRequestsPerHost(maxInFlight);
+        return httpClient.newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxInFlight, DEFAULT_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS))
+                .build();
+    }
+
+    public LoanValidationsApi getApi() {
+        return api;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * HTTP client the batch calls are issued with.
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Validates a single loan without blocking the caller.
+     *
+     * @param loanValidationRequest  (required)
+     * @return future completed with the result, or exceptionally with an {@link ApiException}
+     */
+    public CompletableFuture<LoanValidationResult> validateAsync(LoanValidationRequest loanValidationRequest) {
+        final CompletableFuture<LoanValidationResult> future = new CompletableFuture<LoanValidationResult>();
+        if (loanValidationRequest == null) {
+            future.completeExceptionally(new ApiException("Missing the required parameter 'loanValidationRequest' when calling validateAsync"));
+            return future;
+        }
+        try {
+            // The generated API builds the request; the tuned client sends it
+            final Call call = httpClient.newCall(api.validateLoanCall(loanValidationRequest, null).request());
+            apiClient.executeAsync(call, LoanValidationResult.class, new CompletionCallback(future));
+            future.whenComplete((result, error) -> {
+                if (future.isCancelled()) {
+                    call.cancel();
+                }
+            });
+        } catch (ApiException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Validates all loans with at most {@code maxInFlight} calls outstanding.
+     * Results are returned in the order of the requests. The batch fails fast:
+     * the first failed call completes the future exceptionally, no further calls
+     * are started and the ones still in flight are cancelled.
+     *
+     * @param loanValidationRequests requests to validate
+     * @return future completed with one result per request
+     */
+    public CompletableFuture<List<LoanValidationResult>> validateAll(Iterable<LoanValidationRequest> loanValidationRequests) {
+        List<LoanValidationRequest> requests = new ArrayList<LoanValidationRequest>();
+        for (LoanValidationRequest request : loanValidationRequests) {
+            requests.add(request);
+        }
+        return new Batch(requests).start();
+    }
+
+    /**
+     * State of one {@link #validateAll(Iterable)} invocation. Each completed call
+     * claims the next pending request, so the in-flight window stays full without
+     * blocking any thread.
+     */
+    private final class Batch {
+        private final List<LoanValidationRequest> requests;
+        private final LoanValidationResult[] results;
+        private final Iterator<Integer> pending;
+        private final Set<CompletableFuture<LoanValidationResult>> inFlight =
+                Collections.newSetFromMap(new ConcurrentHashMap<CompletableFuture<LoanValidationResult>, Boolean>());
+        private final CompletableFuture<List<LoanValidationResult>> outcome = new CompletableFuture<List<LoanValidationResult>>();
+        private int remaining;
+
+        Batch(List<LoanValidationRequest> requests) {
+            this.requests = requests;
+            this.results = new LoanValidationResult[requests.size()];
+            this.remaining = requests.size();
+            List<Integer> indexes = new ArrayList<Integer>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                indexes.add(i);
+            }
+            this.pending = indexes.iterator();
+        }
+
+        CompletableFuture<List<LoanValidationResult>> start() {
+            if (requests.isEmpty()) {
+                outcome.complete(Collections.<LoanValidationResult>emptyList());
+                return outcome;
+            }
+            outcome.whenComplete((list, error) -> {
+                if (error != null) {
+                    for (CompletableFuture<LoanValidationResult> call : inFlight) {
+                        call.cancel(false);
+                    }
+                }
+            });
+            for (int i = 0; i < maxInFlight; i++) {
+                if (!launchNext()) {
+                    break;
+                }
+            }
+            return outcome;
+        }
+
+        private boolean launchNext() {
+            final int index;
+            synchronized (this) {
+                if (outcome.isDone() || !pending.hasNext()) {
+                    return false;
+                }
+                index = pending.next();
+            }
+            final CompletableFuture<LoanValidationResult> call = validateAsync(requests.get(index));
+            inFlight.add(call);
+            call.whenComplete((result, error) -> {
+                inFlight.remove(call);
+                if (error != null) {
+                    outcome.completeExceptionally(error);
+                    return;
+                }
+                onResult(index, result);
+                launchNext();
+            });
+            return true;
+        }
+
+        private void onResult(int index, LoanValidationResult result) {
+            boolean done;
+            synchronized (this) {
+                results[index] = result;
+                done = --remaining == 0;
+            }
+            if (done) {
+                List<LoanValidationResult> ordered = new ArrayList<LoanValidationResult>(results.length);
+                Collections.addAll(ordered, results);
+                outcome.complete(ordered);
+            }
+        }
+    }
+
+    private static final class CompletionCallback implements ApiCallback<LoanValidationResult> {
+        private final CompletableFuture<LoanValidationResult> future;
+
+        CompletionCallback(CompletableFuture<LoanValidationResult> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+            future.completeExceptionally(e);
+        }
+
+        @Override
+        public void onSuccess(LoanValidationResult result, int statusCode, Map<String, List<String>> responseHeaders) {
+            future.complete(result);
+        }
+
+        @Override
+        public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+        }
+
+        @Override
+        public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Loan Validation API
+ * Micro-benchmark for the size-aware GzipRequestInterceptor.
+ *
+ * The version of the OpenAPI document: 1.0.0
+ */
+
+
+package org.openapitools.client;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+
+/**
+ * Compares the original interceptor body handling (GzipSink, then buffer
+ * snapshot) with the pooled-deflater path for single requests and batch
+ * payloads. Disabled by default. The loan-validation service build does not
+ * compile this client, so run it from this client's own directory
+ * ({@code loan-validation/src/main/gen}) with either build:
+ * <pre>
+ * mvn test -Dtest=GzipRequestInterceptorBenchmark -Dbenchmark=true
+ * ./gradlew test --tests org.openapitools.client.GzipRequestInterceptorBenchmark -Dbenchmark=true
+ * </pre>
+ * Results are printed to standard output, one line per payload size.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class GzipRequestInterceptorBenchmark {
+
+    private static final MediaType JSON_TYPE = MediaType.get("application/json");
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    private static final String LOAN =
+            "{\"monthlySalary\":3000.0,\"requestedAmount\":5000.0,\"termMonths\":24,\"lastLoanDate\":\"2024-01-15\"}";
+
+    private interface Encoder {
+        long encode(RequestBody body) throws IOException;
+    }
+
+    /** The original implementation: gzip through GzipSink, buffer, then write a snapshot copy. */
+    private static long legacy(RequestBody body) throws IOException {
+        Buffer compressed = new Buffer();
+        BufferedSink gzipSink = Okio.buffer(new GzipSink(compressed));
+        body.writeTo(gzipSink);
+        gzipSink.close();
+        Buffer wire = new Buffer();
+        wire.write(compressed.snapshot());
+        return wire.size();
+    }
+
+    /** The current implementation: threshold check, pooled deflater, shared-segment write. */
+    private static long adaptive(RequestBody body) throws IOException {
+        Buffer plain = new Buffer();
+        body.writeTo(plain);
+        RequestBody wireBody = plain.size() < GzipRequestInterceptor.DEFAULT_MINIMUM_SIZE
+                ? GzipRequestInterceptor.buffered(JSON_TYPE, plain)
+                : GzipRequestInterceptor.buffered(JSON_TYPE, GzipRequestInterceptor.gzip(plain));
+        Buffer wire = new Buffer();
+        wireBody.writeTo(wire);
+        return wire.size();
+    }
+
+    private static String batch(int loans) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < loans; i++) {
+            json.append(i == 0 ? "" : ",").append(LOAN);
+        }
+        return json.append(']').toString();
+    }
+
+    private static void measure(String label, String payload) throws IOException {
+        RequestBody body = RequestBody.create(payload, JSON_TYPE);
+        long legacyNanos = run(GzipRequestInterceptorBenchmark::legacy, body);
+        long adaptiveNanos = run(GzipRequestInterceptorBenchmark::adaptive, body);
+        System.out.printf("%-14s %8d B  legacy %8d ns/op (%6d B)  adaptive %8d ns/op (%6d B)  speedup %.2fx%n",
+                label, payload.length(),
+                legacyNanos, legacy(body),
+                adaptiveNanos, adaptive(body),
+                (double) legacyNanos / adaptiveNanos);
+    }
+
+    private static long run(Encoder encoder, RequestBody body) throws IOException {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += encoder.encode(body);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += encoder.encode(body);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 0) {
+            throw new IllegalStateException("encoder produced no output");
+        }
+        return elapsed / MEASURED_ROUNDS;
+    }
+
+    @Test
+    public void compareEncoders() throws IOException {
+        measure("single loan", LOAN);
+        measure("batch of 10", batch(10));
+        measure("batch of 100", batch(100));
+        measure("batch of 1000", batch(1000));
+    }
+}
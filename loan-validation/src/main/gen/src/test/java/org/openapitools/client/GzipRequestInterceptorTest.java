@@ -0,0 +1,166 @@
+/*
+ * Loan Validation API
+ * Tests for the size-aware GzipRequestInterceptor.
+ *
+ * The version of the OpenAPI document: 1.0.0
+ */
+
+
+package org.openapitools.client;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for GzipRequestInterceptor. Requests are captured by a terminal
+ * interceptor, so no server is needed.
+ */
+public class GzipRequestInterceptorTest {
+
+    private static final MediaType JSON_TYPE = MediaType.get("application/json");
+
+    /** Records every request that reaches the network and answers with the given status. */
+    private static class CapturingInterceptor implements Interceptor {
+        final List<Request> requests = new ArrayList<Request>();
+        final List<Buffer> bodies = new ArrayList<Buffer>();
+        int status = 200;
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            Buffer body = new Buffer();
+            request.body().writeTo(body);
+            requests.add(request);
+            bodies.add(body);
+            int code = requests.size() == 1 ? status : 200;
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message("status " + code)
+                    .body(ResponseBody.create("{}", JSON_TYPE))
+                    .build();
+        }
+    }
+
+    private final CapturingInterceptor network = new CapturingInterceptor();
+
+    private OkHttpClient client(long minimumSize) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(new GzipRequestInterceptor(minimumSize))
+                .addInterceptor(network)
+                .build();
+    }
+
+    private static String payload(int size) {
+        StringBuilder json = new StringBuilder("[");
+        while (json.length() < size) {
+            json.append("{\"monthlySalary\":3000.0,\"requestedAmount\":5000.0,\"termMonths\":24},");
+        }
+        json.setCharAt(json.length() - 1, ']');
+        return json.toString();
+    }
+
+    private void post(OkHttpClient client, RequestBody body) throws IOException {
+        Request request = new Request.Builder().url("http://loan-validation.test/loan-validations").post(body).build();
+        client.newCall(request).execute().close();
+    }
+
+    private static String gunzip(Buffer body) throws IOException {
+        GZIPInputStream in = new GZIPInputStream(body.clone().inputStream());
+        return Okio.buffer(Okio.source(in)).readUtf8();
+    }
+
+    @Test
+    public void smallBodiesAreSentUncompressed() throws Exception {
+        String json = payload(100);
+        post(client(1024), RequestBody.create(json, JSON_TYPE));
+
+        assertNull(network.requests.get(0).header("Content-Encoding"));
+        assertEquals(json, network.bodies.get(0).readUtf8());
+    }
+
+    @Test
+    public void largeBodiesAreGzippedWithExactLength() throws Exception {
+        String json = payload(64 * 1024);
+        post(client(1024), RequestBody.create(json, JSON_TYPE));
+
+        Request sent = network.requests.get(0);
+        assertEquals("gzip", sent.header("Content-Encoding"));
+        assertEquals(network.bodies.get(0).size(), sent.body().contentLength());
+        assertEquals(json, gunzip(network.bodies.get(0)));
+    }
+
+    @Test
+    public void compressedOutputIsReadableByOkio() throws Exception {
+        String json = payload(8 * 1024);
+        Buffer compressed = GzipRequestInterceptor.gzip(new Buffer().writeUtf8(json));
+
+        assertEquals(json, Okio.buffer(new GzipSource(compressed)).readUtf8());
+    }
+
+    @Test
+    public void streamedBodiesAreMeasuredBeforeDeciding() throws Exception {
+        final String json = payload(100);
+        RequestBody streamed = new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON_TYPE;
+            }
+
+            @Override
+            public void writeTo(okio.BufferedSink sink) throws IOException {
+                sink.writeUtf8(json);
+            }
+        };
+        post(client(1024), streamed);
+
+        Request sent = network.requests.get(0);
+        assertNull(sent.header("Content-Encoding"));
+        assertEquals(json.length(), sent.body().contentLength());
+    }
+
+    @Test
+    public void bufferedBodyCanBeWrittenMoreThanOnce() throws Exception {
+        Buffer buffer = new Buffer().writeUtf8(payload(4096));
+        RequestBody body = GzipRequestInterceptor.buffered(JSON_TYPE, buffer);
+        Buffer first = new Buffer();
+        Buffer second = new Buffer();
+        body.writeTo(first);
+        body.writeTo(second);
+
+        assertEquals(first.readUtf8(), second.readUtf8());
+    }
+
+    @Test
+    public void unsupportedEncodingFallsBackToIdentity() throws Exception {
+        network.status = 415;
+        String json = payload(4096);
+        OkHttpClient client = client(1024);
+        post(client, RequestBody.create(json, JSON_TYPE));
+        post(client, RequestBody.create(json, JSON_TYPE));
+
+        assertEquals("gzip", network.requests.get(0).header("Content-Encoding"));
+        assertNull(network.requests.get(1).header("Content-Encoding"));
+        assertEquals(json, network.bodies.get(1).readUtf8());
+        assertNull(network.requests.get(2).header("Content-Encoding"));
+    }
+}
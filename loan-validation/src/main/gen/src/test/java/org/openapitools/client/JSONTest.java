@@ -0,0 +1,96 @@
+/*
+ * Loan Validation API
+ * Tests for the streaming JSON path of the client.
+ *
+ * The version of the OpenAPI document: 1.0.0
+ */
+
+
+package org.openapitools.client;
+
+import com.google.gson.reflect.TypeToken;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.model.LoanValidationRequest;
+import org.openapitools.client.model.LoanValidationResult;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for the streaming serialize/deserialize path of JSON and ApiClient.
+ */
+public class JSONTest {
+
+    private static final Type RESULT_TYPE = new TypeToken<LoanValidationResult>(){}.getType();
+
+    private final ApiClient apiClient = new ApiClient();
+
+    private static LoanValidationRequest request() {
+        return new LoanValidationRequest()
+                .monthlySalary(3000.0)
+                .requestedAmount(5000.0)
+                .termMonths(24)
+                .lastLoanDate(LocalDate.of(2024, 1, 15));
+    }
+
+    private static Response response(String json) {
+        return new Response.Builder()
+                .request(new Request.Builder().url("http://loan-validation.test/loan-validations").build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .header("Content-Type", "application/json")
+                .body(ResponseBody.create(json, MediaType.get("application/json")))
+                .build();
+    }
+
+    @Test
+    public void streamingSerializationMatchesStringSerialization() throws Exception {
+        Buffer buffer = new Buffer();
+        JSON.serialize(request(), buffer);
+
+        assertEquals(JSON.serialize(request()), buffer.readUtf8());
+    }
+
+    @Test
+    public void serializeWritesJsonBodiesStraightToTheSink() throws Exception {
+        RequestBody body = apiClient.serialize(request(), "application/json");
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+
+        assertInstanceOf(JsonRequestBody.class, body);
+        assertEquals(request(), LoanValidationRequest.fromJson(buffer.readUtf8()));
+    }
+
+    @Test
+    public void deserializeReadsJsonModelsFromTheSource() throws Exception {
+        LoanValidationResult result = apiClient.deserialize(
+                response("{\"eligible\":false,\"reasons\":[\"PLAZO_MAXIMO_SUPERADO\"],\"monthlyPayment\":208.33}"), RESULT_TYPE);
+
+        assertEquals(Boolean.FALSE, result.getEligible());
+        assertEquals(LoanValidationResult.ReasonsEnum.PLAZO_MAXIMO_SUPERADO, result.getReasons().get(0));
+        assertEquals(Double.valueOf(208.33), result.getMonthlyPayment());
+    }
+
+    @Test
+    public void deserializeReturnsNullForEmptyBody() throws Exception {
+        assertNull(apiClient.deserialize(response(""), RESULT_TYPE));
+    }
+
+    @Test
+    public void typeAdaptersAreCached() {
+        assertSame(JSON.getTypeAdapter(LoanValidationResult.class), JSON.getTypeAdapter(LoanValidationResult.class));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Loan Validation API
+ * Tests for the hand-maintained LoanValidationsBatchClient.
+ *
+ * The version of the OpenAPI document: 1.0.0
+ */
+
+
+package org.openapitools.client.api;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.ApiClient;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.LoanValidationRequest;
+import org.openapitools.client.model.LoanValidationResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for LoanValidationsBatchClient. Responses are produced by an
+ * application interceptor, so no server is needed.
+ */
+public class LoanValidationsBatchClientTest {
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    /**
+     * Echoes the requested term as the monthly payment and records the peak
+     * number of concurrent calls. Requests with a negative amount fail with 500.
+     */
+    private static class EchoInterceptor implements Interceptor {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            calls.incrementAndGet();
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+                Request request = chain.request();
+                Buffer body = new Buffer();
+                request.body().writeTo(body);
+                LoanValidationRequest loan = LoanValidationRequest.fromJson(body.readUtf8());
+                if (loan.getRequestedAmount() < 0) {
+                    return response(request, 500, "{}");
+                }
+                return response(request, 200,
+                        "{\"eligible\":true,\"reasons\":[],\"monthlyPayment\":" + loan.getTermMonths() + ".0}");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+
+        private Response response(Request request, int code, String json) {
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(code)
+                    .message(code == 200 ? "OK" : "Server Error")
+                    .body(ResponseBody.create(json, JSON))
+                    .build();
+        }
+    }
+
+    private final EchoInterceptor interceptor = new EchoInterceptor();
+
+    private LoanValidationsBatchClient client(int maxInFlight) {
+        ApiClient apiClient = new ApiClient(new OkHttpClient.Builder().addInterceptor(interceptor).build());
+        apiClient.setBasePath("http://loan-validation.test");
+        return new LoanValidationsBatchClient(apiClient, maxInFlight);
+    }
+
+    private static List<LoanValidationRequest> requests(int count) {
+        List<LoanValidationRequest> requests = new ArrayList<LoanValidationRequest>();
+        for (int i = 1; i <= count; i++) {
+            requests.add(new LoanValidationRequest().monthlySalary(3000.0).requestedAmount(5000.0).termMonths(i));
+        }
+        return requests;
+    }
+
+    @Test
+    public void validateAllReturnsResultsInRequestOrder() throws Exception {
+        List<LoanValidationResult> results = client(4).validateAll(requests(20)).get(10, TimeUnit.SECONDS);
+
+        assertEquals(20, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(Double.valueOf(i + 1), results.get(i).getMonthlyPayment());
+        }
+    }
+
+    @Test
+    public void validateAllBoundsInFlightCalls() throws Exception {
+        client(3).validateAll(requests(15)).get(10, TimeUnit.SECONDS);
+
+        assertEquals(15, interceptor.calls.get());
+        assertTrue(interceptor.peak.get() <= 3, "peak in-flight calls was " + interceptor.peak.get());
+        assertTrue(interceptor.peak.get() > 1, "calls were not issued concurrently");
+    }
+
+    @Test
+    public void validateAllFailsFastOnFirstError() {
+        List<LoanValidationRequest> requests = requests(50);
+        requests.get(0).setRequestedAmount(-1.0);
+
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client(2).validateAll(requests).get(10, TimeUnit.SECONDS));
+
+        assertInstanceOf(ApiException.class, error.getCause());
+        assertTrue(interceptor.calls.get() < 50, "batch kept issuing calls after a failure");
+    }
+
+    @Test
+    public void validateAllCompletesImmediatelyForEmptyBatch() throws Exception {
+        assertTrue(client(2).validateAll(new ArrayList<LoanValidationRequest>()).get().isEmpty());
+    }
+
+    @Test
+    public void constructorLeavesTheCallersHttpClientUntouched() throws Exception {
+        OkHttpClient shared = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        ApiClient apiClient = new ApiClient(shared);
+        apiClient.setBasePath("http://loan-validation.test");
+
+        LoanValidationsBatchClient batchClient = new LoanValidationsBatchClient(apiClient, 8);
+        batchClient.validateAll(requests(4)).get(10, TimeUnit.SECONDS);
+
+        assertSame(shared, apiClient.getHttpClient());
+        assertEquals(8, batchClient.getHttpClient().dispatcher().getMaxRequestsPerHost());
+        assertEquals(4, interceptor.calls.get());
+    }
+
+    @Test
+    public void tuneAppliesDispatcherAndPoolLimits() {
+        OkHttpClient tuned = LoanValidationsBatchClient.tune(new OkHttpClient(), 8);
+
+        assertEquals(8, tuned.dispatcher().getMaxRequestsPerHost());
+        assertTrue(tuned.dispatcher().getMaxRequests() >= 8);
+    }
+}
@@ -0,0 +1,29 @@
+package com.techgirls.loanvalidation;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Offline bulk scoring entry point: runs the rule engine over a loan request file
+ * without starting the HTTP server, then exits.
+ *
+ * {@code java -jar loan-validation.jar --mode=batch --loan-validation.batch.input=portfolio.csv
+ * --loan-validation.batch.output=scores.csv}
+ */
+public class BatchScoringApplication {
+
+    public static final String MODE_ARGUMENT = "--mode=batch";
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LoanValidationApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "loan-validation.batch.enabled=true",
+                        // One log line per scored record would dominate the run
+                        "logging.level.com.techgirls.loanvalidation.service=WARN")
+                .run(OfflineArguments.of(args));
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -3,6 +3,8 @@ package com.techgirls.loanvalidation;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 <<<<<<< HEAD
 =======
 /**
@@ -13,6 +15,18 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class LoanValidationApplication {
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(BatchScoringApplication.MODE_ARGUMENT)) {
+            BatchScoringApplication.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(ReplayApplication.MODE_ARGUMENT)) {
+            ReplayApplication.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(SimulationApplication.MODE_ARGUMENT)) {
+            SimulationApplication.main(args);
+            return;
+        }
         SpringApplication.run(LoanValidationApplication.class, args);
     }
 }
\ No newline at end of file
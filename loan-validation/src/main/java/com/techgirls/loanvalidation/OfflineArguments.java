@@ -0,0 +1,28 @@
+package com.techgirls.loanvalidation;
+
+import java.util.Arrays;
+
+/**
+ * Command line of the offline entry points (batch, replay, simulation). They
+ * evaluate stored or bulk inputs, not live decisions, so the evaluation observers
+ * that record live traffic are turned off. The overrides are passed as arguments,
+ * after the user's, so no profile or earlier argument can turn them back on.
+ */
+final class OfflineArguments {
+
+    private static final String[] OVERRIDES = {
+            // Offline evaluations are not decisions and must not be journaled as ones
+            "--loan-validation.journal.enabled=false",
+            // The shadow compares candidate rules against live decisions only
+            "--loan-validation.shadow.enabled=false"
+    };
+
+    private OfflineArguments() {
+    }
+
+    static String[] of(String[] args) {
+        String[] offlineArgs = Arrays.copyOf(args, args.length + OVERRIDES.length);
+        System.arraycopy(OVERRIDES, 0, offlineArgs, args.length, OVERRIDES.length);
+        return offlineArgs;
+    }
+}
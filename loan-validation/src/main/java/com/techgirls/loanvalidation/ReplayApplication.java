@@ -0,0 +1,29 @@
+package com.techgirls.loanvalidation;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Decision replay entry point: streams a decision journal or NDJSON capture through
+ * the current rules without starting the HTTP server, writes the diff and latency
+ * report, then exits.
+ *
+ * {@code java -jar loan-validation.jar --mode=replay --loan-validation.replay.input=journal
+ * --loan-validation.replay.report=replay-report.txt}
+ */
+public class ReplayApplication {
+
+    public static final String MODE_ARGUMENT = "--mode=replay";
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LoanValidationApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "loan-validation.replay.enabled=true",
+                        "logging.level.com.techgirls.loanvalidation.service=WARN")
+                .run(OfflineArguments.of(args));
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,27 @@
+package com.techgirls.loanvalidation;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * What-if policy simulation entry point: evaluates candidate thresholds over a
+ * decision journal or NDJSON capture without starting the HTTP server, writes the
+ * approval rate and reason deltas, then exits.
+ *
+ * {@code java -jar loan-validation.jar --mode=simulate --loan-validation.simulation.input=journal
+ * --loan-validation.simulation.candidate.max-salary-percentage=0.35}
+ */
+public class SimulationApplication {
+
+    public static final String MODE_ARGUMENT = "--mode=simulate";
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LoanValidationApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("loan-validation.simulation.enabled=true")
+                .run(OfflineArguments.of(args));
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,78 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Loan history adapter that skips the wrapped client for applicants the Bloom filter
+ * rules out: an applicant definitely absent from the filter has no loans and no
+ * defaults, so the lookup completes locally as such. Possible members, and every
+ * applicant while no fresh filter is loaded, go to the wrapped client.
+ *
+ * Lookups are counted under {@code loanvalidation.loanhistory.filter.lookups},
+ * tagged {@code absent} (short-circuited), {@code maybe} or {@code bypass}.
+ */
+public class BloomFilterLoanHistoryClient implements LoanHistoryClient {
+
+    static final String METRIC = "loanvalidation.loanhistory.filter.lookups";
+
+    private final LoanHistoryFilterStore store;
+    private final LoanHistoryClient delegate;
+    private final Counter absent;
+    private final Counter maybe;
+    private final Counter bypasses;
+
+    public BloomFilterLoanHistoryClient(LoanHistoryFilterStore store, LoanHistoryClient delegate,
+                                        MeterRegistry meterRegistry) {
+        this.store = store;
+        this.delegate = delegate;
+        this.absent = counter(meterRegistry, "absent");
+        this.maybe = counter(meterRegistry, "maybe");
+        this.bypasses = counter(meterRegistry, "bypass");
+    }
+
+    public LoanHistoryClient getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Mono<LocalDate> getLastLoanDate(String applicantId) {
+        return definitelyAbsent(applicantId) ? Mono.empty() : delegate.getLastLoanDate(applicantId);
+    }
+
+    @Override
+    public Mono<Boolean> hasDefaultHistory(String customerId) {
+        return definitelyAbsent(customerId) ? Mono.just(false) : delegate.hasDefaultHistory(customerId);
+    }
+
+    @Override
+    public Mono<LoanHistory> getLoanHistory(String applicantId) {
+        return definitelyAbsent(applicantId) ? Mono.just(LoanHistory.none()) : delegate.getLoanHistory(applicantId);
+    }
+
+    private boolean definitelyAbsent(String applicantId) {
+        LoanHistoryBloomFilter filter = store.current();
+        if (filter == null || applicantId == null) {
+            bypasses.increment();
+            return false;
+        }
+        if (filter.mightContain(applicantId)) {
+            maybe.increment();
+            return false;
+        }
+        absent.increment();
+        return true;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC)
+                .description("Loan history lookups by Bloom filter outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
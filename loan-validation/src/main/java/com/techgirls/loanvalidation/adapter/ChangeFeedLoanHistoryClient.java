@@ -0,0 +1,60 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Loan history adapter that adds the changes ingested from the loan event feed to
+ * the answers of the wrapped client. The wrapped client (snapshot, filter or remote
+ * service) still answers for the history before the feed; a loan disbursed this
+ * morning is then reported even if the snapshot, or the Bloom filter, predates it.
+ */
+public class ChangeFeedLoanHistoryClient implements LoanHistoryClient {
+
+    private final LoanHistoryOverlay overlay;
+    private final LoanHistoryClient delegate;
+
+    public ChangeFeedLoanHistoryClient(LoanHistoryOverlay overlay, LoanHistoryClient delegate) {
+        this.overlay = overlay;
+        this.delegate = delegate;
+    }
+
+    public LoanHistoryClient getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Mono<LocalDate> getLastLoanDate(String applicantId) {
+        LoanHistory recent = applicantId == null ? null : overlay.lookup(applicantId);
+        if (recent == null || recent.getLastLoanDate() == null) {
+            return delegate.getLastLoanDate(applicantId);
+        }
+        LocalDate ingested = recent.getLastLoanDate();
+        return delegate.getLastLoanDate(applicantId)
+                .map(date -> LoanHistoryOverlay.later(date, ingested))
+                .defaultIfEmpty(ingested);
+    }
+
+    @Override
+    public Mono<Boolean> hasDefaultHistory(String customerId) {
+        LoanHistory recent = customerId == null ? null : overlay.lookup(customerId);
+        if (recent != null && recent.isDefaultHistory()) {
+            return Mono.just(true);
+        }
+        return delegate.hasDefaultHistory(customerId);
+    }
+
+    @Override
+    public Mono<LoanHistory> getLoanHistory(String applicantId) {
+        LoanHistory recent = applicantId == null ? null : overlay.lookup(applicantId);
+        if (recent == null) {
+            return delegate.getLoanHistory(applicantId);
+        }
+        return delegate.getLoanHistory(applicantId)
+                .map(history -> LoanHistoryOverlay.merge(history, recent))
+                .defaultIfEmpty(recent);
+    }
+}
@@ -0,0 +1,142 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanEvent;
+import com.techgirls.loanvalidation.port.LoanEventSource;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loan event feed read by tailing an append-only file, one event per line:
+ * {@code sequence,applicantId,DISBURSED|DEFAULTED,yyyy-MM-dd[,publishedAt]}.
+ *
+ * The file is polled on the bounded elastic scheduler; only complete lines are
+ * emitted, so a line being appended is picked up on the next poll. A file that
+ * shrinks was truncated or rotated and is read again from the start, relying on
+ * the sequence filter to skip events already applied. Malformed lines are logged
+ * and skipped.
+ */
+@Slf4j
+public class FileTailLoanEventSource implements LoanEventSource {
+
+    private static final int READ_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Duration pollInterval;
+
+    public FileTailLoanEventSource(Path file, Duration pollInterval) {
+        this.file = file;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public Flux<LoanEvent> events(long afterSequence) {
+        return Flux.defer(() -> {
+            Tail tail = new Tail();
+            return Flux.interval(Duration.ZERO, pollInterval, Schedulers.boundedElastic())
+                    .onBackpressureDrop()
+                    .concatMapIterable(tick -> tail.poll(), 1)
+                    .filter(event -> event.getSequence() > afterSequence);
+        });
+    }
+
+    /**
+     * Read position in the file, owned by a single subscription.
+     */
+    private final class Tail {
+
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+        private long position;
+
+        List<LoanEvent> poll() {
+            List<LoanEvent> events = new ArrayList<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() < position) {
+                    log.info("Loan event file {} was truncated, reading it from the start", file);
+                    position = 0;
+                    partialLine.reset();
+                }
+                ByteBuffer buffer = ByteBuffer.allocate(READ_SIZE);
+                int read;
+                while ((read = channel.read(buffer, position)) > 0) {
+                    position += read;
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        byte value = buffer.get();
+                        if (value == '\n') {
+                            parse(partialLine.toString(StandardCharsets.UTF_8), events);
+                            partialLine.reset();
+                        } else {
+                            partialLine.write(value);
+                        }
+                    }
+                    buffer.clear();
+                }
+            } catch (NoSuchFileException e) {
+                log.debug("Loan event file {} does not exist yet", file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return events;
+        }
+
+        private void parse(String line, List<LoanEvent> events) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty()) {
+                return;
+            }
+            try {
+                events.add(parseLine(trimmed));
+            } catch (RuntimeException e) {
+                log.warn("Skipping malformed loan event line in {}: {}", file, trimmed);
+            }
+        }
+    }
+
+    static LoanEvent parseLine(String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length < 4) {
+            throw new IllegalArgumentException("Expected at least 4 columns: " + line);
+        }
+        return new LoanEvent(
+                Long.parseLong(columns[0].trim()),
+                columns[1].trim(),
+                LoanEvent.Type.valueOf(columns[2].trim()),
+                LocalDate.parse(columns[3].trim()),
+                columns.length > 4 && !columns[4].isBlank() ? Instant.parse(columns[4].trim()) : null);
+    }
+
+    /**
+     * Appends events to a feed file, for tests and local runs.
+     */
+    public static void append(Path file, List<LoanEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (LoanEvent event : events) {
+            lines.append(event.getSequence()).append(',')
+                    .append(event.getApplicantId()).append(',')
+                    .append(event.getType()).append(',')
+                    .append(event.getOccurredOn());
+            if (event.getPublishedAt() != null) {
+                lines.append(',').append(event.getPublishedAt());
+            }
+            lines.append('\n');
+        }
+        Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
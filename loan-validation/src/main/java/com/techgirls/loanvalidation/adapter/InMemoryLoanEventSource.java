@@ -0,0 +1,35 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanEvent;
+import com.techgirls.loanvalidation.port.LoanEventSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loan event feed held in memory, for tests and local runs. Published events are
+ * retained, so subscribers joining later still replay them from their watermark.
+ */
+public class InMemoryLoanEventSource implements LoanEventSource {
+
+    private final Sinks.Many<LoanEvent> sink = Sinks.many().replay().all();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Flux<LoanEvent> events(long afterSequence) {
+        return sink.asFlux().filter(event -> event.getSequence() > afterSequence);
+    }
+
+    public synchronized LoanEvent publish(String applicantId, LoanEvent.Type type, LocalDate occurredOn) {
+        LoanEvent event = new LoanEvent(sequence.incrementAndGet(), applicantId, type, occurredOn, Instant.now());
+        sink.emitNext(event, Sinks.EmitFailureHandler.FAIL_FAST);
+        return event;
+    }
+
+    public void complete() {
+        sink.emitComplete(Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+}
@@ -0,0 +1,98 @@
+package com.techgirls.loanvalidation.adapter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bloom filter of applicant ids. {@link #mightContain} never answers false for an
+ * added id, and answers true for an id that was not added with about the configured
+ * false positive rate.
+ *
+ * Sized with the usual formulas, m = -n ln(p) / ln(2)^2 bits and k = m/n ln(2)
+ * hash functions; the k bit positions are derived from one 64-bit hash by double
+ * hashing. Built on a single thread, then only read, so it needs no locking once
+ * published.
+ */
+public final class LoanHistoryBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final int MAX_HASH_FUNCTIONS = 16;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final double falsePositiveRate;
+    private long insertions;
+
+    private LoanHistoryBloomFilter(long bitCount, int hashFunctions, double falsePositiveRate) {
+        this.words = new long[(int) ((bitCount + 63) >>> 6)];
+        this.bitCount = (long) words.length << 6;
+        this.hashFunctions = hashFunctions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Filter sized for the expected number of ids at the target false positive rate.
+     */
+    public static LoanHistoryBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        if (bits > (long) Integer.MAX_VALUE << 6) {
+            throw new IllegalArgumentException("Bloom filter for " + expectedInsertions + " ids is too large");
+        }
+        int hashes = (int) Math.max(1, Math.min(MAX_HASH_FUNCTIONS, Math.round((double) bits / n * LN2)));
+        return new LoanHistoryBloomFilter(bits, hashes, falsePositiveRate);
+    }
+
+    public void put(String applicantId) {
+        long hash = LoanHistorySnapshot.hash(applicantId.getBytes(StandardCharsets.UTF_8));
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        insertions++;
+    }
+
+    /**
+     * False means the applicant was definitely not added.
+     */
+    public boolean mightContain(String applicantId) {
+        long hash = LoanHistorySnapshot.hash(applicantId.getBytes(StandardCharsets.UTF_8));
+        long h1 = hash;
+        long h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % bitCount;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long insertions() {
+        return insertions;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * Heap used by the bit array.
+     */
+    public long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+}
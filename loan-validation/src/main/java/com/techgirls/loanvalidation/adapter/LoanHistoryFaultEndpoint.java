@@ -0,0 +1,50 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint to inspect and switch the loan history fault profile at runtime.
+ *
+ * - {@code GET /actuator/loanhistoryfaults}: active profile and the configured profiles
+ * - {@code POST /actuator/loanhistoryfaults} with {@code {"profile": "slow"}}: activates a profile
+ * - {@code DELETE /actuator/loanhistoryfaults}: back to a healthy backend
+ */
+@Endpoint(id = "loanhistoryfaults")
+@RequiredArgsConstructor
+public class LoanHistoryFaultEndpoint {
+
+    private final LoanHistoryFaultInjector faultInjector;
+
+    @ReadOperation
+    public Map<String, Object> faults() {
+        Map<String, Object> faults = new LinkedHashMap<>();
+        faults.put("active", faultInjector.activeProfile());
+        faults.put("profiles", faultInjector.profiles());
+        return faults;
+    }
+
+    @WriteOperation
+    public Map<String, Object> activate(String profile) {
+        try {
+            faultInjector.activate(profile);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "Unknown profile");
+        }
+        return faults();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> reset() {
+        faultInjector.activate(LoanHistoryFaultProperties.NONE);
+        return faults();
+    }
+}
@@ -0,0 +1,145 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties;
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties.FaultProfile;
+import com.techgirls.loanvalidation.exception.ExternalServiceException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies the active {@link FaultProfile} to loan history responses: added latency,
+ * injected errors, calls that never answer, and slow-drip answers.
+ * Each call rolls its own fault, so rates apply per call. The active profile can be
+ * switched at runtime; calls already in flight keep the fault they rolled.
+ */
+@Slf4j
+public class LoanHistoryFaultInjector {
+
+    static final String SERVICE_NAME = "LoanHistoryService";
+
+    private final Map<String, FaultProfile> profiles;
+    private final AtomicReference<String> active = new AtomicReference<>(LoanHistoryFaultProperties.NONE);
+
+    public LoanHistoryFaultInjector(LoanHistoryFaultProperties properties) {
+        this.profiles = Collections.unmodifiableMap(new LinkedHashMap<>(properties.getProfiles()));
+        activate(properties.getActive());
+    }
+
+    /**
+     * Injector that never injects, for a healthy stub.
+     */
+    public static LoanHistoryFaultInjector disabled() {
+        return new LoanHistoryFaultInjector(new LoanHistoryFaultProperties());
+    }
+
+    public String activeProfile() {
+        return active.get();
+    }
+
+    public Map<String, FaultProfile> profiles() {
+        return profiles;
+    }
+
+    /**
+     * Switches the active profile; {@code none} disables injection.
+     *
+     * @throws IllegalArgumentException if no profile has that name
+     */
+    public void activate(String profile) {
+        if (!LoanHistoryFaultProperties.NONE.equals(profile) && !profiles.containsKey(profile)) {
+            throw new IllegalArgumentException("Unknown loan history fault profile: " + profile);
+        }
+        String previous = active.getAndSet(profile);
+        if (!profile.equals(previous)) {
+            log.info("Loan history fault profile switched from {} to {}", previous, profile);
+        }
+    }
+
+    /**
+     * Rolls the fault for one call and applies it to the in-process response.
+     * A slow drip is delayed by {@code dripInterval} per byte of {@code payloadBytes}.
+     */
+    public <T> Mono<T> inject(Mono<T> response, int payloadBytes) {
+        return Mono.defer(() -> {
+            Fault fault = roll();
+            return switch (fault.getKind()) {
+                case NONE -> delay(response, fault.getLatency());
+                case ERROR -> Mono.delay(fault.getLatency()).then(Mono.error(injectedError()));
+                case TIMEOUT -> Mono.never();
+                case SLOW_DRIP -> delay(response, fault.getLatency().plus(fault.getDripInterval().multipliedBy(payloadBytes)));
+            };
+        });
+    }
+
+    /**
+     * Rolls the fault for one call without applying it, for transports that apply
+     * it themselves, such as the HTTP mock server.
+     */
+    public Fault roll() {
+        FaultProfile profile = profiles.get(active.get());
+        if (profile == null) {
+            return Fault.HEALTHY;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Duration latency = sampleLatency(profile, random);
+        double roll = random.nextDouble();
+        if (roll < profile.getErrorRate()) {
+            return new Fault(FaultKind.ERROR, latency, Duration.ZERO);
+        }
+        roll -= profile.getErrorRate();
+        if (roll < profile.getTimeoutRate()) {
+            return new Fault(FaultKind.TIMEOUT, latency, Duration.ZERO);
+        }
+        roll -= profile.getTimeoutRate();
+        if (roll < profile.getSlowDripRate()) {
+            return new Fault(FaultKind.SLOW_DRIP, latency, profile.getDripInterval());
+        }
+        return new Fault(FaultKind.NONE, latency, Duration.ZERO);
+    }
+
+    static ExternalServiceException injectedError() {
+        return new ExternalServiceException(SERVICE_NAME, "injected fault");
+    }
+
+    static Duration sampleLatency(FaultProfile profile, ThreadLocalRandom random) {
+        long mean = profile.getLatency().toNanos();
+        if (mean <= 0) {
+            return Duration.ZERO;
+        }
+        long sampled = switch (profile.getDistribution()) {
+            case FIXED -> mean;
+            case UNIFORM -> random.nextLong(2 * mean + 1);
+            case EXPONENTIAL -> (long) (-mean * Math.log(1.0 - random.nextDouble()));
+        };
+        return Duration.ofNanos(Math.min(sampled, profile.getMaxLatency().toNanos()));
+    }
+
+    private static <T> Mono<T> delay(Mono<T> response, Duration latency) {
+        return latency.isZero() ? response : Mono.delay(latency).then(response);
+    }
+
+    public enum FaultKind {
+        NONE, ERROR, TIMEOUT, SLOW_DRIP
+    }
+
+    /**
+     * Outcome rolled for one call.
+     */
+    @Value
+    public static class Fault {
+
+        static final Fault HEALTHY = new Fault(FaultKind.NONE, Duration.ZERO, Duration.ZERO);
+
+        FaultKind kind;
+        Duration latency;
+        Duration dripInterval;
+    }
+}
@@ -0,0 +1,166 @@
+package com.techgirls.loanvalidation.adapter;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Builds the {@link LoanHistoryBloomFilter} of applicants with any loan history from
+ * the periodic export, and rebuilds it when the export file is replaced.
+ *
+ * The export is the CSV read by {@link LoanHistorySnapshotBuilder}
+ * ({@code applicantId,lastLoanDate[,defaultHistory]}); applicants with neither a
+ * loan date nor a default are left out. The file is read twice, once to size the
+ * filter and once to fill it, so the ids are never held on heap. Loans granted after
+ * the export are not in the filter: the filter is only served while the export is
+ * younger than the maximum age, which bounds that window.
+ */
+@Slf4j
+public class LoanHistoryFilterStore {
+
+    /**
+     * Loaded filter and the time of the export it was built from.
+     */
+    @Value
+    static class Loaded {
+        LoanHistoryBloomFilter filter;
+        Instant exportedAt;
+    }
+
+    private final Path export;
+    private final double falsePositiveRate;
+    private final Duration refreshInterval;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final AtomicReference<Loaded> current = new AtomicReference<>();
+
+    private volatile Object loadedVersion;
+    private Disposable refresher;
+
+    public LoanHistoryFilterStore(Path export, double falsePositiveRate, Duration refreshInterval,
+                                  Duration maxAge, Clock clock) {
+        this.export = export;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshInterval = refreshInterval;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    public void start() {
+        refresh();
+        refresher = Flux.interval(refreshInterval, refreshInterval, Schedulers.boundedElastic())
+                .subscribe(tick -> refresh());
+    }
+
+    public void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Filter to short-circuit lookups with, or null when none is loaded or the export
+     * it was built from is older than the maximum age.
+     */
+    public LoanHistoryBloomFilter current() {
+        Loaded loaded = current.get();
+        if (loaded == null || loaded.getExportedAt().plus(maxAge).isBefore(clock.instant())) {
+            return null;
+        }
+        return loaded.getFilter();
+    }
+
+    public long sizeInBytes() {
+        Loaded loaded = current.get();
+        return loaded == null ? 0 : loaded.getFilter().sizeInBytes();
+    }
+
+    public long applicants() {
+        Loaded loaded = current.get();
+        return loaded == null ? 0 : loaded.getFilter().insertions();
+    }
+
+    /**
+     * Rebuilds the filter if the export changed since the last build.
+     * @return true when a new filter was published
+     */
+    public boolean refresh() {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(export, BasicFileAttributes.class);
+        } catch (IOException e) {
+            if (current.get() == null) {
+                log.debug("No loan history export at {}", export);
+            }
+            return false;
+        }
+        Object version = attributes.fileKey() != null
+                ? attributes.fileKey() + "@" + attributes.lastModifiedTime()
+                : attributes.lastModifiedTime() + "/" + attributes.size();
+        if (Objects.equals(version, loadedVersion)) {
+            return false;
+        }
+        try {
+            LoanHistoryBloomFilter filter = build();
+            current.set(new Loaded(filter, attributes.lastModifiedTime().toInstant()));
+            loadedVersion = version;
+            log.info("Built loan history filter from {}: {} applicants, {} KiB, {} hash functions",
+                    export, filter.insertions(), filter.sizeInBytes() / 1024, filter.hashFunctions());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not build loan history filter from {}, keeping the previous one: {}",
+                    export, e.getMessage());
+            return false;
+        }
+    }
+
+    private LoanHistoryBloomFilter build() throws IOException {
+        long expected = 0;
+        try (BufferedReader reader = Files.newBufferedReader(export, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (hasLoanHistory(line)) {
+                    expected++;
+                }
+            }
+        }
+        LoanHistoryBloomFilter filter = LoanHistoryBloomFilter.create(expected, falsePositiveRate);
+        try (BufferedReader reader = Files.newBufferedReader(export, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (hasLoanHistory(line)) {
+                    filter.put(line.substring(0, line.indexOf(',')).trim());
+                }
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * True for export lines of applicants with a loan date or a default; false for
+     * blank lines, the header and applicants without history.
+     */
+    static boolean hasLoanHistory(String line) {
+        int first = line.indexOf(',');
+        if (first <= 0 || line.startsWith("applicantId,")) {
+            return false;
+        }
+        int second = line.indexOf(',', first + 1);
+        String date = (second < 0 ? line.substring(first + 1) : line.substring(first + 1, second)).trim();
+        return !date.isEmpty() || (second >= 0 && Boolean.parseBoolean(line.substring(second + 1).trim()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanEvent;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Loan history changes received on the event feed since the last full export,
+ * keyed by applicant.
+ *
+ * Applying an event keeps the latest disbursement date and sets the default flag,
+ * so applying the same event twice, as happens when ingestion resumes from a
+ * watermark saved before a crash, changes nothing. Entries are dropped once older
+ * than the retention, by which time a newer snapshot or export covers them.
+ * {@link #forEach} and {@link #restore} let ingestion save the entries with its
+ * watermark and load them back after a restart.
+ */
+public class LoanHistoryOverlay {
+
+    @Value
+    static class Entry {
+        LoanHistory history;
+        Instant updatedAt;
+    }
+
+    /**
+     * Receives the entries of the overlay, see {@link #forEach}.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        void visit(String applicantId, LoanHistory history, Instant updatedAt);
+    }
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Changes ingested for the applicant, or null when there are none.
+     */
+    public LoanHistory lookup(String applicantId) {
+        Entry entry = entries.get(applicantId);
+        return entry == null ? null : entry.getHistory();
+    }
+
+    public void apply(LoanEvent event, Instant now) {
+        entries.merge(event.getApplicantId(), new Entry(toHistory(event), now),
+                (existing, added) -> new Entry(merge(existing.getHistory(), added.getHistory()), now));
+    }
+
+    /**
+     * Puts back an entry saved from {@link #forEach}, replacing any entry of the
+     * applicant.
+     */
+    public void restore(String applicantId, LoanHistory history, Instant updatedAt) {
+        entries.put(applicantId, new Entry(history, updatedAt));
+    }
+
+    public void forEach(EntryVisitor visitor) {
+        entries.forEach((applicantId, entry) -> visitor.visit(applicantId, entry.getHistory(), entry.getUpdatedAt()));
+    }
+
+    /**
+     * Drops entries last updated before the cutoff.
+     * @return number of entries dropped
+     */
+    public int prune(Instant cutoff) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.getUpdatedAt().isBefore(cutoff));
+        return before - entries.size();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static LoanHistory toHistory(LoanEvent event) {
+        return event.getType() == LoanEvent.Type.DISBURSED
+                ? new LoanHistory(event.getOccurredOn(), false)
+                : new LoanHistory(null, true);
+    }
+
+    /**
+     * Combines two histories of the same applicant: the later loan date and either
+     * default.
+     */
+    public static LoanHistory merge(LoanHistory first, LoanHistory second) {
+        return new LoanHistory(later(first.getLastLoanDate(), second.getLastLoanDate()),
+                first.isDefaultHistory() || second.isDefaultHistory());
+    }
+
+    static LocalDate later(LocalDate first, LocalDate second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || !second.isAfter(first) ? first : second;
+    }
+}
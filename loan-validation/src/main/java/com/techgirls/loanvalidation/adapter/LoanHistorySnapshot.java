@@ -0,0 +1,185 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Read-only, memory-mapped loan history index built by {@link LoanHistorySnapshotBuilder}.
+ *
+ * The file is an open-addressing hash table of applicant ids, so a lookup is one
+ * hash, usually one slot read and one key comparison, all off-heap: millions of
+ * applicants cost page cache, not heap. Layout, little endian:
+ *
+ * - header (64 bytes): magic, version, slot count (a power of two), entry count,
+ *   export time, offset of the key area
+ * - slots (16 bytes each): 64-bit key hash (0 = empty), last loan epoch day
+ *   ({@link #NO_LOAN} when none), key reference (key offset / 8)
+ * - key area: per applicant, a 2-byte length, a flags byte (bit 0: default history)
+ *   and the UTF-8 id, each record 8-byte aligned and never crossing a 1 GiB segment
+ *
+ * The file is mapped in 1 GiB segments, so indexes larger than 2 GiB work.
+ * Instances are immutable and safe for concurrent lookups.
+ */
+public final class LoanHistorySnapshot {
+
+    static final int MAGIC = 0x5849484C; // "LHIX"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int SLOT_SIZE = 16;
+    static final int NO_LOAN = Integer.MIN_VALUE;
+    static final int FLAG_DEFAULT_HISTORY = 1;
+    static final int SEGMENT_SHIFT = 30;
+    static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    private final Path file;
+    private final ByteBuffer[] segments;
+    private final long slotMask;
+    private final long entryCount;
+    private final Instant exportedAt;
+    private final long keyAreaOffset;
+
+    private LoanHistorySnapshot(Path file, ByteBuffer[] segments, long slotCount, long entryCount,
+                                Instant exportedAt, long keyAreaOffset) {
+        this.file = file;
+        this.segments = segments;
+        this.slotMask = slotCount - 1;
+        this.entryCount = entryCount;
+        this.exportedAt = exportedAt;
+        this.keyAreaOffset = keyAreaOffset;
+    }
+
+    /**
+     * Maps an index file. The channel is closed right away; the mapping stays valid
+     * until the snapshot is garbage collected. The header is checked against the file
+     * size, so a truncated or corrupt file fails here instead of on lookups.
+     */
+    public static LoanHistorySnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int segmentCount = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+            ByteBuffer[] segments = new ByteBuffer[Math.max(segmentCount, 1)];
+            for (int i = 0; i < segmentCount; i++) {
+                long start = (long) i << SEGMENT_SHIFT;
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(SEGMENT_SIZE, size - start));
+                segments[i] = segment.order(ByteOrder.LITTLE_ENDIAN);
+            }
+            if (size < HEADER_SIZE || segments[0].getInt(0) != MAGIC) {
+                throw new IOException("Not a loan history snapshot: " + file);
+            }
+            ByteBuffer header = segments[0];
+            if (header.getInt(4) != VERSION) {
+                throw new IOException("Unsupported loan history snapshot version " + header.getInt(4) + ": " + file);
+            }
+            long slotCount = header.getLong(8);
+            if (slotCount <= 0 || Long.bitCount(slotCount) != 1 || slotCount > (size - HEADER_SIZE) / SLOT_SIZE) {
+                throw new IOException("Corrupt loan history snapshot, slot count " + slotCount
+                        + " for " + size + " bytes: " + file);
+            }
+            long entryCount = header.getLong(16);
+            if (entryCount < 0 || entryCount >= slotCount) {
+                throw new IOException("Corrupt loan history snapshot, " + entryCount + " entries in "
+                        + slotCount + " slots: " + file);
+            }
+            long keyAreaOffset = header.getLong(32);
+            if (keyAreaOffset < HEADER_SIZE + slotCount * SLOT_SIZE || keyAreaOffset > size) {
+                throw new IOException("Corrupt loan history snapshot, key area at " + keyAreaOffset
+                        + " for " + size + " bytes: " + file);
+            }
+            return new LoanHistorySnapshot(file, segments, slotCount, entryCount,
+                    Instant.ofEpochMilli(header.getLong(24)), keyAreaOffset);
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public long size() {
+        return entryCount;
+    }
+
+    public Instant exportedAt() {
+        return exportedAt;
+    }
+
+    /**
+     * Loan history of the applicant as of the export, or null when the applicant is
+     * not in the snapshot.
+     */
+    public LoanHistory lookup(String applicantId) {
+        byte[] key = applicantId.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(key);
+        // Bounded by the slot count, so a table without empty slots cannot loop forever
+        long slot = hash & slotMask;
+        for (long probes = 0; probes <= slotMask; probes++, slot = (slot + 1) & slotMask) {
+            long position = HEADER_SIZE + slot * SLOT_SIZE;
+            long slotHash = getLong(position);
+            if (slotHash == 0) {
+                return null;
+            }
+            if (slotHash == hash) {
+                long keyOffset = keyAreaOffset + (getInt(position + 12) & 0xFFFFFFFFL) * 8;
+                if (keyEquals(keyOffset, key)) {
+                    int epochDay = getInt(position + 8);
+                    boolean defaultHistory = (getByte(keyOffset + 2) & FLAG_DEFAULT_HISTORY) != 0;
+                    return new LoanHistory(epochDay == NO_LOAN ? null : LocalDate.ofEpochDay(epochDay), defaultHistory);
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean keyEquals(long keyOffset, byte[] key) {
+        ByteBuffer segment = segments[(int) (keyOffset >>> SEGMENT_SHIFT)];
+        int base = (int) (keyOffset & (SEGMENT_SIZE - 1));
+        int length = segment.getShort(base) & 0xFFFF;
+        if (length != key.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (segment.get(base + 3 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long getLong(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].getLong((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    private int getInt(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].getInt((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    private byte getByte(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & (SEGMENT_SIZE - 1)));
+    }
+
+    /**
+     * FNV-1a over the UTF-8 id, finished with the SplitMix64 mixer so linear probing
+     * sees well spread low bits. Never 0, which marks empty slots.
+     */
+    static long hash(byte[] key) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte value : key) {
+            hash ^= value & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash ^= hash >>> 31;
+        return hash == 0 ? 1 : hash;
+    }
+}
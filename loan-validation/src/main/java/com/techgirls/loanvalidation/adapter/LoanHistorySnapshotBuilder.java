@@ -0,0 +1,181 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.techgirls.loanvalidation.adapter.LoanHistorySnapshot.FLAG_DEFAULT_HISTORY;
+import static com.techgirls.loanvalidation.adapter.LoanHistorySnapshot.HEADER_SIZE;
+import static com.techgirls.loanvalidation.adapter.LoanHistorySnapshot.MAGIC;
+import static com.techgirls.loanvalidation.adapter.LoanHistorySnapshot.NO_LOAN;
+import static com.techgirls.loanvalidation.adapter.LoanHistorySnapshot.SEGMENT_SIZE;
+import static com.techgirls.loanvalidation.adapter.LoanHistorySnapshot.SLOT_SIZE;
+import static com.techgirls.loanvalidation.adapter.LoanHistorySnapshot.VERSION;
+
+/**
+ * Builds a {@link LoanHistorySnapshot} index file from a CSV export of the loan
+ * history service.
+ *
+ * Export format, one applicant per line, with an optional header line:
+ * {@code applicantId,lastLoanDate[,defaultHistory]}, where lastLoanDate is
+ * {@code yyyy-MM-dd} or empty for applicants without loans. Repeated applicants are
+ * merged, keeping the latest loan date and any default.
+ *
+ * The index is written next to the target and moved into place atomically, so a
+ * running {@link LoanHistorySnapshotStore} never maps a half written file.
+ *
+ * Usage: {@code java ... LoanHistorySnapshotBuilder export.csv loan-history.idx}
+ */
+@Slf4j
+public final class LoanHistorySnapshotBuilder {
+
+    private static final double MAX_LOAD_FACTOR = 0.7;
+    private static final int MAX_KEY_BYTES = 0xFFFF;
+
+    private final Map<String, LoanHistory> entries = new HashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: LoanHistorySnapshotBuilder <export.csv> <index file>");
+            System.exit(2);
+        }
+        LoanHistorySnapshotBuilder builder = new LoanHistorySnapshotBuilder();
+        builder.readCsv(Path.of(args[0]));
+        builder.write(Path.of(args[1]), Instant.now());
+        log.info("Wrote loan history snapshot {} with {} applicants", args[1], builder.size());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public LoanHistorySnapshotBuilder add(String applicantId, LocalDate lastLoanDate, boolean defaultHistory) {
+        if (applicantId.getBytes(StandardCharsets.UTF_8).length > MAX_KEY_BYTES) {
+            throw new IllegalArgumentException("Applicant id too long: " + applicantId);
+        }
+        entries.merge(applicantId, new LoanHistory(lastLoanDate, defaultHistory), LoanHistorySnapshotBuilder::merge);
+        return this;
+    }
+
+    public LoanHistorySnapshotBuilder readCsv(Path export) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(export, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.startsWith("applicantId"))) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                if (columns.length < 2 || columns[0].isBlank()) {
+                    throw new IOException("Malformed line " + lineNumber + " in " + export + ": " + line);
+                }
+                String date = columns[1].trim();
+                add(columns[0].trim(),
+                        date.isEmpty() ? null : LocalDate.parse(date),
+                        columns.length > 2 && Boolean.parseBoolean(columns[2].trim()));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes the index and atomically replaces {@code target} with it.
+     */
+    public void write(Path target, Instant exportedAt) throws IOException {
+        long slotCount = slotCount(entries.size());
+        long keyAreaOffset = HEADER_SIZE + slotCount * SLOT_SIZE;
+
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(slotCount).putLong(entries.size())
+                    .putLong(exportedAt.toEpochMilli()).putLong(keyAreaOffset);
+            header.clear();
+            channel.write(header, 0);
+
+            // The slot table is assembled on heap: the builder runs offline, not in the service
+            long[] hashes = new long[(int) slotCount];
+            int[] epochDays = new int[(int) slotCount];
+            int[] keyRefs = new int[(int) slotCount];
+
+            long keyPosition = keyAreaOffset;
+            ByteBuffer record = ByteBuffer.allocate(MAX_KEY_BYTES + 3 + 8).order(ByteOrder.LITTLE_ENDIAN);
+            for (Map.Entry<String, LoanHistory> entry : entries.entrySet()) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                int recordSize = align(key.length + 3);
+                if ((keyPosition & (SEGMENT_SIZE - 1)) + recordSize > SEGMENT_SIZE) {
+                    keyPosition = (keyPosition | (SEGMENT_SIZE - 1)) + 1;
+                }
+                LoanHistory history = entry.getValue();
+                record.clear();
+                record.putShort((short) key.length)
+                        .put((byte) (history.isDefaultHistory() ? FLAG_DEFAULT_HISTORY : 0))
+                        .put(key);
+                while (record.position() < recordSize) {
+                    record.put((byte) 0);
+                }
+                record.flip();
+                channel.write(record, keyPosition);
+
+                long hash = LoanHistorySnapshot.hash(key);
+                int slot = (int) (hash & (slotCount - 1));
+                while (hashes[slot] != 0) {
+                    slot = (int) ((slot + 1) & (slotCount - 1));
+                }
+                hashes[slot] = hash;
+                epochDays[slot] = history.getLastLoanDate() == null
+                        ? NO_LOAN : (int) history.getLastLoanDate().toEpochDay();
+                keyRefs[slot] = (int) ((keyPosition - keyAreaOffset) / 8);
+                keyPosition += recordSize;
+            }
+
+            ByteBuffer slots = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+            long slotPosition = HEADER_SIZE;
+            for (int slot = 0; slot < slotCount; slot++) {
+                slots.putLong(hashes[slot]).putInt(epochDays[slot]).putInt(keyRefs[slot]);
+                if (!slots.hasRemaining()) {
+                    slots.flip();
+                    slotPosition += channel.write(slots, slotPosition);
+                    slots.clear();
+                }
+            }
+            slots.flip();
+            channel.write(slots, slotPosition);
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static LoanHistory merge(LoanHistory existing, LoanHistory added) {
+        LocalDate latest = existing.getLastLoanDate();
+        if (latest == null || (added.getLastLoanDate() != null && added.getLastLoanDate().isAfter(latest))) {
+            latest = added.getLastLoanDate();
+        }
+        return new LoanHistory(latest, existing.isDefaultHistory() || added.isDefaultHistory());
+    }
+
+    static long slotCount(int entryCount) {
+        long slots = Long.highestOneBit(Math.max(2, (long) Math.ceil(entryCount / MAX_LOAD_FACTOR)));
+        return slots < entryCount / MAX_LOAD_FACTOR ? slots << 1 : slots;
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+}
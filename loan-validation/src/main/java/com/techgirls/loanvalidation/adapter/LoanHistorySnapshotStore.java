@@ -0,0 +1,110 @@
+package com.techgirls.loanvalidation.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link LoanHistorySnapshot} and swaps in a new one when the
+ * index file is replaced.
+ *
+ * The file is polled on the bounded elastic scheduler; a changed file is mapped and
+ * published with a single reference swap, so in-flight lookups finish on the
+ * mapping they started with and the old mapping is released once unreachable.
+ * A file that fails to open leaves the previous snapshot in place.
+ */
+@Slf4j
+public class LoanHistorySnapshotStore {
+
+    private final Path file;
+    private final Duration refreshInterval;
+    private final Duration maxAge;
+    private final Clock clock;
+    private final AtomicReference<LoanHistorySnapshot> current = new AtomicReference<>();
+
+    private volatile Object loadedVersion;
+    private Disposable refresher;
+
+    public LoanHistorySnapshotStore(Path file, Duration refreshInterval, Duration maxAge, Clock clock) {
+        this.file = file;
+        this.refreshInterval = refreshInterval;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    public void start() {
+        refresh();
+        refresher = Flux.interval(refreshInterval, refreshInterval, Schedulers.boundedElastic())
+                .subscribe(tick -> refresh());
+    }
+
+    public void stop() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Snapshot to answer lookups from, or null when none is loaded or the loaded one
+     * is older than the maximum age.
+     */
+    public LoanHistorySnapshot current() {
+        LoanHistorySnapshot snapshot = current.get();
+        if (snapshot == null || snapshot.exportedAt().plus(maxAge).isBefore(clock.instant())) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Number of applicants in the loaded snapshot, stale or not.
+     */
+    public long size() {
+        LoanHistorySnapshot snapshot = current.get();
+        return snapshot == null ? 0 : snapshot.size();
+    }
+
+    /**
+     * Maps the index file if it changed since the last load.
+     * @return true when a new snapshot was published
+     */
+    public boolean refresh() {
+        Object version;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            // The file key changes on every atomic rename, the timestamp covers file systems without one
+            version = attributes.fileKey() != null
+                    ? attributes.fileKey() + "@" + attributes.lastModifiedTime()
+                    : attributes.lastModifiedTime() + "/" + attributes.size();
+        } catch (IOException e) {
+            if (current.get() == null) {
+                log.debug("No loan history snapshot at {}", file);
+            }
+            return false;
+        }
+        if (Objects.equals(version, loadedVersion)) {
+            return false;
+        }
+        try {
+            LoanHistorySnapshot snapshot = LoanHistorySnapshot.open(file);
+            current.set(snapshot);
+            loadedVersion = version;
+            log.info("Loaded loan history snapshot {} with {} applicants exported at {}",
+                    file, snapshot.size(), snapshot.exportedAt());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load loan history snapshot {}, keeping the previous one: {}", file, e.getMessage());
+            return false;
+        }
+    }
+}
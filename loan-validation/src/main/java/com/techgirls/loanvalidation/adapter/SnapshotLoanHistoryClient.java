@@ -0,0 +1,81 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Loan history adapter that answers from the local snapshot index and only calls
+ * the wrapped client for applicants missing from it, typically those created after
+ * the export, or for everyone while no fresh snapshot is loaded.
+ *
+ * Lookups are counted under {@code loanvalidation.loanhistory.snapshot.lookups},
+ * tagged {@code hit}, {@code miss} or {@code bypass}.
+ */
+public class SnapshotLoanHistoryClient implements LoanHistoryClient {
+
+    static final String METRIC = "loanvalidation.loanhistory.snapshot.lookups";
+
+    private final LoanHistorySnapshotStore store;
+    private final LoanHistoryClient delegate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    public SnapshotLoanHistoryClient(LoanHistorySnapshotStore store, LoanHistoryClient delegate,
+                                     MeterRegistry meterRegistry) {
+        this.store = store;
+        this.delegate = delegate;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.bypasses = counter(meterRegistry, "bypass");
+    }
+
+    public LoanHistoryClient getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Mono<LocalDate> getLastLoanDate(String applicantId) {
+        LoanHistory history = lookup(applicantId);
+        return history != null
+                ? Mono.justOrEmpty(history.getLastLoanDate())
+                : delegate.getLastLoanDate(applicantId);
+    }
+
+    @Override
+    public Mono<Boolean> hasDefaultHistory(String customerId) {
+        LoanHistory history = lookup(customerId);
+        return history != null
+                ? Mono.just(history.isDefaultHistory())
+                : delegate.hasDefaultHistory(customerId);
+    }
+
+    @Override
+    public Mono<LoanHistory> getLoanHistory(String applicantId) {
+        LoanHistory history = lookup(applicantId);
+        return history != null ? Mono.just(history) : delegate.getLoanHistory(applicantId);
+    }
+
+    private LoanHistory lookup(String applicantId) {
+        LoanHistorySnapshot snapshot = store.current();
+        if (snapshot == null || applicantId == null) {
+            bypasses.increment();
+            return null;
+        }
+        LoanHistory history = snapshot.lookup(applicantId);
+        (history != null ? hits : misses).increment();
+        return history;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC)
+                .description("Loan history lookups by snapshot outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
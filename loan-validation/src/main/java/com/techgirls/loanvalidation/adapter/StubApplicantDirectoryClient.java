@@ -0,0 +1,28 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.ApplicantDirectoryClient;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+* Stub implementation that simulates the applicant directory for testing and development.
+* The canonical id is the trimmed, lower-cased subject, so stub loan history
+* scenarios ("recent", "old", "default") can be driven from the caller identity.
+* Active by default - use a real implementation in production.
+*/
+@Component
+public class StubApplicantDirectoryClient implements ApplicantDirectoryClient {
+
+    /**
+     * Simulates the directory lookup.
+     * Blank subjects are treated as unknown applicants.
+     */
+    @Override
+    public Mono<String> findApplicantId(String subject) {
+        if (subject == null || subject.isBlank()) {
+            return Mono.empty(); // Unknown applicant
+        }
+        return Mono.just(subject.trim().toLowerCase(Locale.ROOT));
+    }
+}
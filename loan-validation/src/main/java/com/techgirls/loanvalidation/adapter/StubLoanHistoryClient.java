@@ -2,17 +2,39 @@ package com.techgirls.loanvalidation.adapter;
 
 import com.techgirls.loanvalidation.port.LoanHistoryClient;
 import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 /**
 * Stub implementation that simulates loan history for testing and development.
 * Returns configurable loan dates for different test scenarios.
-* Active by default - use a real implementation in production.
+* Active by default - set loan-validation.client.loan-history.mode=webclient
+* to use the HTTP adapter instead.
+* Latency, errors, timeouts and slow answers can be injected through the
+* fault profiles of {@link LoanHistoryFaultInjector}.
 */
 @Component
+@ConditionalOnProperty(prefix = "loan-validation.client.loan-history", name = "mode",
+        havingValue = "stub", matchIfMissing = true)
 public class StubLoanHistoryClient implements LoanHistoryClient {
     
+    // Size of the equivalent HTTP bodies, used to pace slow-drip answers
+    private static final int DATE_BYTES = 10;
+    private static final int BOOLEAN_BYTES = 5;
+    
+    private final LoanHistoryFaultInjector faultInjector;
+    
+    public StubLoanHistoryClient() {
+        this(LoanHistoryFaultInjector.disabled());
+    }
+    
+    @Autowired
+    public StubLoanHistoryClient(LoanHistoryFaultInjector faultInjector) {
+        this.faultInjector = faultInjector;
+    }
+    
     /**
      * Simulates loan history lookup.
      * For testing purposes, returns a recent loan date for amounts > 10000,
@@ -20,6 +42,10 @@ public class StubLoanHistoryClient implements LoanHistoryClient {
      */
     @Override
     public Mono<LocalDate> getLastLoanDate(String applicantId) {
+        return faultInjector.inject(lastLoanDate(applicantId), DATE_BYTES);
+    }
+    
+    private Mono<LocalDate> lastLoanDate(String applicantId) {
         // Simulate different scenarios based on applicantId pattern
         if (applicantId != null && applicantId.contains("recent")) {
             return Mono.just(LocalDate.now().minusMonths(1)); // Recent loan
@@ -35,6 +61,10 @@ public class StubLoanHistoryClient implements LoanHistoryClient {
      */
     @Override
     public Mono<Boolean> hasDefaultHistory(String customerId) {
+        return faultInjector.inject(defaultHistory(customerId), BOOLEAN_BYTES);
+    }
+    
+    private Mono<Boolean> defaultHistory(String customerId) {
         // Simulate different scenarios based on customerId pattern
         if (customerId != null && customerId.contains("default")) {
             return Mono.just(true); // Has default history
@@ -0,0 +1,145 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.config.LoanHistoryClientProperties;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Loan history adapter that calls the loan history service over HTTP.
+ *
+ * Contract of the remote service (plain text bodies):
+ * - {@code GET /applicants/{id}/last-loan-date}: 200 with {@code yyyy-MM-dd}, 204 or 404 when there are no loans
+ * - {@code GET /applicants/{id}/default-history}: 200 with {@code true} or {@code false}, 404 for unknown applicants
+ *
+ * The date is decoded directly from the pooled response buffer, without
+ * building an intermediate String. Connection pooling, keep-alive or HTTP/2
+ * and the response timeout are configured on the underlying HttpClient, see
+ * {@code LoanHistoryClientConfig}.
+ */
+@Slf4j
+public class WebClientLoanHistoryClient implements LoanHistoryClient {
+
+    static final String LAST_LOAN_DATE_PATH = "/applicants/{applicantId}/last-loan-date";
+    static final String DEFAULT_HISTORY_PATH = "/applicants/{applicantId}/default-history";
+
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private final WebClient webClient;
+    private final Retry retry;
+
+    public WebClientLoanHistoryClient(WebClient webClient, LoanHistoryClientProperties properties) {
+        this.webClient = webClient;
+        this.retry = Retry.max(properties.getRetryAttempts())
+                .filter(WebClientLoanHistoryClient::isRetryable);
+    }
+
+    @Override
+    public Mono<LocalDate> getLastLoanDate(String applicantId) {
+        return lookup(LAST_LOAN_DATE_PATH, applicantId, WebClientLoanHistoryClient::parseIsoDate);
+    }
+
+    @Override
+    public Mono<Boolean> hasDefaultHistory(String customerId) {
+        return lookup(DEFAULT_HISTORY_PATH, customerId, WebClientLoanHistoryClient::parseBoolean)
+                .defaultIfEmpty(false);
+    }
+
+    private <T> Mono<T> lookup(String path, String applicantId, Function<DataBuffer, T> parser) {
+        return webClient.get()
+                .uri(path, applicantId)
+                .accept(MediaType.TEXT_PLAIN)
+                .exchangeToMono(response -> read(response, parser))
+                .retryWhen(retry)
+                .doOnError(error -> log.warn("Loan history lookup {} failed: {}", path, error.getMessage()));
+    }
+
+    private static <T> Mono<T> read(ClientResponse response, Function<DataBuffer, T> parser) {
+        if (response.statusCode().is2xxSuccessful()) {
+            return response.bodyToMono(DataBuffer.class)
+                    .map(buffer -> {
+                        try {
+                            return parser.apply(buffer);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    });
+        }
+        if (response.statusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+            return response.releaseBody().then(Mono.empty());
+        }
+        return response.createError();
+    }
+
+    /**
+     * Only failures before any response (refused or reset connections) are retried;
+     * response timeouts are not, so a slow backend is not hit twice.
+     */
+    private static boolean isRetryable(Throwable error) {
+        return error instanceof WebClientRequestException
+                && !(error.getCause() instanceof io.netty.handler.timeout.TimeoutException);
+    }
+
+    /**
+     * Parses an ISO {@code yyyy-MM-dd} date from the readable bytes of the buffer,
+     * tolerating surrounding whitespace and JSON string quotes.
+     */
+    static LocalDate parseIsoDate(DataBuffer buffer) {
+        int start = buffer.readPosition();
+        int end = buffer.writePosition();
+        while (start < end && isPadding(buffer.getByte(start))) {
+            start++;
+        }
+        while (end > start && isPadding(buffer.getByte(end - 1))) {
+            end--;
+        }
+        if (end - start != ISO_DATE_LENGTH
+                || buffer.getByte(start + 4) != '-' || buffer.getByte(start + 7) != '-') {
+            return LocalDate.parse(buffer.toString(start, end - start, StandardCharsets.US_ASCII));
+        }
+        int year = digits(buffer, start, 4);
+        int month = digits(buffer, start + 5, 2);
+        int day = digits(buffer, start + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return LocalDate.parse(buffer.toString(start, end - start, StandardCharsets.US_ASCII));
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    static Boolean parseBoolean(DataBuffer buffer) {
+        int start = buffer.readPosition();
+        int end = buffer.writePosition();
+        while (start < end && isPadding(buffer.getByte(start))) {
+            start++;
+        }
+        return start < end && (buffer.getByte(start) == 't' || buffer.getByte(start) == 'T');
+    }
+
+    private static boolean isPadding(byte value) {
+        return value == ' ' || value == '"' || value == '\r' || value == '\n' || value == '\t';
+    }
+
+    private static int digits(DataBuffer buffer, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = buffer.getByte(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
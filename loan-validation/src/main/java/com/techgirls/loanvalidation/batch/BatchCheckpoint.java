@@ -0,0 +1,96 @@
+package com.techgirls.loanvalidation.batch;
+
+import lombok.Value;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Progress of a batch run: the input file it belongs to, the input offset of the
+ * next record to score, the size of the output written up to it, and the number of
+ * records scored so far.
+ * Saved through a temporary file and an atomic rename, so a crash leaves either the
+ * previous or the new checkpoint.
+ */
+@Value
+public class BatchCheckpoint {
+
+    InputIdentity input;
+    long inputOffset;
+    long outputSize;
+    long records;
+
+    /**
+     * Identity of an input file: its path, size and modification time. A checkpoint
+     * only applies to the input it was written for, as offsets into any other file
+     * would point into the middle of unrelated records.
+     */
+    @Value
+    public static class InputIdentity {
+        String path;
+        long size;
+        long lastModified;
+
+        public static InputIdentity of(Path file) throws IOException {
+            return new InputIdentity(file.toAbsolutePath().normalize().toString(), Files.size(file),
+                    Files.getLastModifiedTime(file).toMillis());
+        }
+
+        @Override
+        public String toString() {
+            return path + " (" + size + " bytes, modified " + lastModified + ")";
+        }
+    }
+
+    public static BatchCheckpoint start(InputIdentity input) {
+        return new BatchCheckpoint(input, 0, 0, 0);
+    }
+
+    /**
+     * Whether this checkpoint was written for the given input. Checkpoints saved
+     * without an input identity never match.
+     */
+    public boolean belongsTo(InputIdentity current) {
+        return current.equals(input);
+    }
+
+    public static Optional<BatchCheckpoint> load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        InputIdentity input = properties.getProperty("inputPath") == null ? null : new InputIdentity(
+                properties.getProperty("inputPath"),
+                Long.parseLong(properties.getProperty("inputSize")),
+                Long.parseLong(properties.getProperty("inputModified")));
+        return Optional.of(new BatchCheckpoint(input,
+                Long.parseLong(properties.getProperty("inputOffset")),
+                Long.parseLong(properties.getProperty("outputSize")),
+                Long.parseLong(properties.getProperty("records"))));
+    }
+
+    public void save(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("inputPath", input.getPath());
+        properties.setProperty("inputSize", Long.toString(input.getSize()));
+        properties.setProperty("inputModified", Long.toString(input.getLastModified()));
+        properties.setProperty("inputOffset", Long.toString(inputOffset));
+        properties.setProperty("outputSize", Long.toString(outputSize));
+        properties.setProperty("records", Long.toString(records));
+        StringWriter content = new StringWriter();
+        properties.store(content, null);
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temporary, content.toString(), StandardCharsets.UTF_8);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
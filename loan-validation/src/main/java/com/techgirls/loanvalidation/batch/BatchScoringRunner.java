@@ -0,0 +1,196 @@
+package com.techgirls.loanvalidation.batch;
+
+import com.techgirls.loanvalidation.config.BatchScoringProperties;
+import com.techgirls.loanvalidation.exception.InputValidationException;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.service.InputValidationService;
+import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Scores a file of loan requests offline with the same input validation and rule
+ * engine as the HTTP endpoint.
+ *
+ * One thread reads chunks of records from the memory-mapped input; chunks are scored
+ * in parallel on Reactor's parallel scheduler (one rail per core by default) and come
+ * back in input order, so results are written sequentially. After every
+ * {@code checkpointInterval} records the output is forced to disk and a checkpoint
+ * is saved; a rerun resumes from it instead of starting over. The checkpoint records
+ * the input's path, size and modification time, and a rerun refuses to resume from a
+ * checkpoint written for a different or modified input. A completed run deletes its
+ * checkpoint, so the next run over the same files starts from the beginning.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BatchScoringRunner {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private final LoanValidationOrchestrator orchestrator;
+    private final InputValidationService inputValidationService;
+    private final BatchScoringProperties properties;
+
+    @Value
+    public static class Summary {
+        long records;
+        long resumedFrom;
+        Duration elapsed;
+
+        public double recordsPerSecond() {
+            long scored = records - resumedFrom;
+            return elapsed.isZero() ? scored : scored / (elapsed.toNanos() / 1e9);
+        }
+    }
+
+    public Summary run() throws IOException {
+        Path checkpointFile = properties.resolveCheckpoint();
+        BatchCheckpoint.InputIdentity input = BatchCheckpoint.InputIdentity.of(properties.getInput());
+        BatchCheckpoint checkpoint = properties.isResume()
+                ? resumePoint(checkpointFile, input)
+                : BatchCheckpoint.start(input);
+        if (checkpoint.getRecords() > 0) {
+            log.info("Resuming batch scoring at input offset {} after {} records",
+                    checkpoint.getInputOffset(), checkpoint.getRecords());
+        }
+
+        long started = System.nanoTime();
+        try (MappedLoanRecordReader reader = MappedLoanRecordReader.open(properties.getInput(), checkpoint.getInputOffset());
+             ResultFileWriter writer = ResultFileWriter.open(properties.getOutput(), checkpoint.getOutputSize())) {
+            Progress progress = new Progress(checkpoint, checkpointFile, writer, reader.size(), started);
+
+            Flux.<List<LoanRecord>>generate(sink -> {
+                        List<LoanRecord> chunk = reader.nextChunk(properties.getChunkSize());
+                        if (chunk.isEmpty()) {
+                            sink.complete();
+                        } else {
+                            sink.next(chunk);
+                        }
+                    })
+                    .flatMapSequential(chunk -> scoreChunk(chunk).subscribeOn(Schedulers.parallel()),
+                            properties.getParallelism(), 1)
+                    .doOnNext(progress::write)
+                    .blockLast();
+
+            progress.finish();
+            Summary summary = new Summary(progress.records, checkpoint.getRecords(),
+                    Duration.ofNanos(System.nanoTime() - started));
+            log.info("Batch scoring finished: {} records, {} records/s", summary.getRecords(),
+                    Math.round(summary.recordsPerSecond()));
+            return summary;
+        }
+    }
+
+    private static BatchCheckpoint resumePoint(Path checkpointFile, BatchCheckpoint.InputIdentity input)
+            throws IOException {
+        Optional<BatchCheckpoint> saved = BatchCheckpoint.load(checkpointFile);
+        if (saved.isEmpty()) {
+            return BatchCheckpoint.start(input);
+        }
+        if (!saved.get().belongsTo(input)) {
+            throw new IllegalStateException("Checkpoint " + checkpointFile + " was written for input "
+                    + saved.get().getInput() + ", not " + input
+                    + "; delete it or set loan-validation.batch.resume=false to score the input from the start");
+        }
+        return saved.get();
+    }
+
+    private Mono<List<ScoredRecord>> scoreChunk(List<LoanRecord> chunk) {
+        return Flux.fromIterable(chunk)
+                .flatMapSequential(this::score, properties.getChunkConcurrency())
+                .collectList();
+    }
+
+    private Mono<ScoredRecord> score(LoanRecord record) {
+        if (!record.isValid()) {
+            return Mono.just(ScoredRecord.invalid(record, record.getParseError()));
+        }
+        LoanValidationRequest request = record.toRequest();
+        try {
+            inputValidationService.validateRequest(request);
+        } catch (InputValidationException e) {
+            return Mono.just(ScoredRecord.invalid(record, e.getMessage()));
+        }
+        return orchestrator.evaluate(request, record.getApplicantId())
+                .map(result -> ScoredRecord.scored(record, result))
+                .onErrorResume(error -> Mono.just(ScoredRecord.failed(record, error.getMessage())));
+    }
+
+    /**
+     * Sequential writing side: called for one chunk at a time, in input order.
+     */
+    private final class Progress {
+        private final BatchCheckpoint.InputIdentity input;
+        private final Path checkpointFile;
+        private final ResultFileWriter writer;
+        private final long inputSize;
+        private final long started;
+        private final long resumedFrom;
+        private long records;
+        private long inputOffset;
+        private long sinceCheckpoint;
+        private long lastReport;
+
+        Progress(BatchCheckpoint checkpoint, Path checkpointFile, ResultFileWriter writer, long inputSize, long started) {
+            this.input = checkpoint.getInput();
+            this.checkpointFile = checkpointFile;
+            this.writer = writer;
+            this.inputSize = inputSize;
+            this.started = started;
+            this.resumedFrom = checkpoint.getRecords();
+            this.records = checkpoint.getRecords();
+            this.inputOffset = checkpoint.getInputOffset();
+            this.lastReport = started;
+        }
+
+        void write(List<ScoredRecord> chunk) {
+            try {
+                for (ScoredRecord scored : chunk) {
+                    writer.write(scored);
+                    inputOffset = scored.getRecord().getNextOffset();
+                }
+                records += chunk.size();
+                sinceCheckpoint += chunk.size();
+                if (sinceCheckpoint >= properties.getCheckpointInterval()) {
+                    checkpoint();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write batch results", e);
+            }
+            long now = System.nanoTime();
+            if (now - lastReport >= PROGRESS_INTERVAL.toNanos()) {
+                lastReport = now;
+                log.info("Batch scoring: {} records, {}% of input, {} records/s", records,
+                        inputSize == 0 ? 100 : inputOffset * 100 / inputSize,
+                        Math.round((records - resumedFrom) / ((now - started) / 1e9)));
+            }
+        }
+
+        void checkpoint() throws IOException {
+            long outputSize = writer.flush();
+            new BatchCheckpoint(input, inputOffset, outputSize, records).save(checkpointFile);
+            sinceCheckpoint = 0;
+        }
+
+        /**
+         * Forces the complete output to disk, then removes the checkpoint: there is
+         * nothing left to resume.
+         */
+        void finish() throws IOException {
+            writer.flush();
+            Files.deleteIfExists(checkpointFile);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.techgirls.loanvalidation.batch;
+
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * One loan request read from a batch input file, with its position in the file.
+ * A record that could not be parsed carries the parse error instead of a request.
+ */
+@Data
+public class LoanRecord {
+
+    /** File offset of the first byte of the record. */
+    private long offset;
+
+    /** File offset just past the record's line terminator, where the next record starts. */
+    private long nextOffset;
+
+    private String applicantId;
+    private Double monthlySalary;
+    private Double requestedAmount;
+    private Integer termMonths;
+    private LocalDate lastLoanDate;
+    private String parseError;
+
+    public boolean isValid() {
+        return parseError == null;
+    }
+
+    public LoanValidationRequest toRequest() {
+        LoanValidationRequest request = new LoanValidationRequest(monthlySalary, requestedAmount, termMonths);
+        if (lastLoanDate != null) {
+            request.lastLoanDate(lastLoanDate);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,24 @@
+package com.techgirls.loanvalidation.batch;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Layouts accepted by the batch reader, chosen from the input file extension.
+ */
+public enum LoanRecordFormat {
+
+    /** Comma separated, with a header line naming the columns in any order. */
+    CSV,
+
+    /** One flat JSON object per line, with the same field names as the API. */
+    NDJSON;
+
+    public static LoanRecordFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || name.endsWith(".json")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
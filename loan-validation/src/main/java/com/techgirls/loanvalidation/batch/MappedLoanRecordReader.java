@@ -0,0 +1,523 @@
+package com.techgirls.loanvalidation.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sequential reader of loan records over a memory-mapped input file.
+ *
+ * The file is mapped in windows of up to 1 GiB, so inputs larger than 2 GiB work;
+ * a record that crosses a window end is re-read from a new window starting at the
+ * record. Fields are parsed straight from the mapped bytes: numbers and dates never
+ * go through a String, and the only per-record String is the applicant id the rule
+ * engine needs. NDJSON lines with escapes or nested values fall back to Jackson.
+ *
+ * Not thread-safe: one thread reads, records are then scored in parallel.
+ */
+public final class MappedLoanRecordReader implements AutoCloseable {
+
+    static final long DEFAULT_WINDOW_SIZE = 1L << 30;
+
+    private static final ObjectMapper FALLBACK_MAPPER = new ObjectMapper();
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private enum Field {
+        APPLICANT_ID("applicantId"),
+        MONTHLY_SALARY("monthlySalary"),
+        REQUESTED_AMOUNT("requestedAmount"),
+        TERM_MONTHS("termMonths"),
+        LAST_LOAN_DATE("lastLoanDate"),
+        IGNORED("");
+
+        private final String name;
+        private final byte[] nameBytes;
+
+        Field(String name) {
+            this.name = name;
+            this.nameBytes = name.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        static Field named(String name) {
+            for (Field field : values()) {
+                if (field != IGNORED && field.name.equalsIgnoreCase(name)) {
+                    return field;
+                }
+            }
+            return IGNORED;
+        }
+    }
+
+    private final FileChannel channel;
+    private final LoanRecordFormat format;
+    private final long fileSize;
+    private final long windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int windowLimit;
+    private long position;
+    private Field[] csvColumns;
+
+    private MappedLoanRecordReader(FileChannel channel, LoanRecordFormat format, long windowSize) throws IOException {
+        this.channel = channel;
+        this.format = format;
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Opens the file and positions the reader at {@code startOffset}, which must be a
+     * record boundary such as a checkpointed {@link LoanRecord#getNextOffset()}.
+     * The CSV header is always read from the start of the file.
+     */
+    public static MappedLoanRecordReader open(Path file, long startOffset) throws IOException {
+        return open(file, LoanRecordFormat.of(file), startOffset, DEFAULT_WINDOW_SIZE);
+    }
+
+    static MappedLoanRecordReader open(Path file, LoanRecordFormat format, long startOffset, long windowSize)
+            throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            MappedLoanRecordReader reader = new MappedLoanRecordReader(channel, format, windowSize);
+            if (format == LoanRecordFormat.CSV) {
+                reader.readHeader();
+            }
+            reader.position = Math.max(reader.position, startOffset);
+            return reader;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public long size() {
+        return fileSize;
+    }
+
+    /**
+     * Reads up to {@code max} records; an empty list means the end of the file.
+     */
+    public List<LoanRecord> nextChunk(int max) {
+        List<LoanRecord> chunk = new ArrayList<>(max);
+        LoanRecord record;
+        while (chunk.size() < max && (record = next()) != null) {
+            chunk.add(record);
+        }
+        return chunk;
+    }
+
+    /**
+     * Reads the next record, skipping blank lines, or returns null at the end of the file.
+     */
+    public LoanRecord next() {
+        while (position < fileSize) {
+            long recordOffset = position;
+            long lineEnd = findLineEnd(position);
+            position = lineEnd < fileSize ? lineEnd + 1 : fileSize;
+
+            int start = (int) (recordOffset - windowStart);
+            int end = trimEnd(start, (int) (lineEnd - windowStart));
+            start = trimStart(start, end);
+            if (start == end) {
+                continue;
+            }
+            LoanRecord record = new LoanRecord();
+            record.setOffset(recordOffset);
+            record.setNextOffset(position);
+            if (format == LoanRecordFormat.CSV) {
+                parseCsv(record, start, end);
+            } else {
+                parseJson(record, start, end);
+            }
+            return record;
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void readHeader() {
+        if (fileSize == 0) {
+            csvColumns = new Field[0];
+            return;
+        }
+        long lineEnd = findLineEnd(0);
+        int start = (int) (0 - windowStart);
+        int end = trimEnd(start, (int) (lineEnd - windowStart));
+        String header = decode(start, end);
+        String[] names = header.split(",");
+        csvColumns = new Field[names.length];
+        for (int i = 0; i < names.length; i++) {
+            csvColumns[i] = Field.named(names[i].trim().replace("\"", ""));
+        }
+        position = lineEnd < fileSize ? lineEnd + 1 : fileSize;
+    }
+
+    /**
+     * Finds the offset of the line feed ending the line that starts at {@code from},
+     * or the file size for a last line without one. Remaps when the line crosses the window.
+     */
+    private long findLineEnd(long from) {
+        ensureMapped(from);
+        while (true) {
+            for (int i = (int) (from - windowStart); i < windowLimit; i++) {
+                if (window.get(i) == '\n') {
+                    return windowStart + i;
+                }
+            }
+            if (windowStart + windowLimit >= fileSize) {
+                return fileSize;
+            }
+            if (windowStart == from) {
+                throw new IllegalStateException("Record at offset " + from + " is longer than the mapping window");
+            }
+            map(from);
+        }
+    }
+
+    private void ensureMapped(long offset) {
+        if (window == null || offset < windowStart || offset >= windowStart + windowLimit) {
+            map(offset);
+        }
+    }
+
+    private void map(long offset) {
+        long length = Math.min(windowSize, fileSize - offset);
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map input at offset " + offset, e);
+        }
+        windowStart = offset;
+        windowLimit = (int) length;
+    }
+
+    private void parseCsv(LoanRecord record, int start, int end) {
+        int column = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || window.get(i) == ',') {
+                if (column < csvColumns.length) {
+                    assign(record, csvColumns[column], fieldStart, i, false);
+                }
+                column++;
+                fieldStart = i + 1;
+            }
+        }
+    }
+
+    /**
+     * Parses a flat JSON object. Anything unexpected (escapes, nesting, arrays) is
+     * handed to Jackson, which is slower but complete.
+     */
+    private void parseJson(LoanRecord record, int start, int end) {
+        int i = skipWhitespace(start, end);
+        if (i >= end || window.get(i) != '{') {
+            record.setParseError("Expected a JSON object at offset " + record.getOffset());
+            return;
+        }
+        i++;
+        while (true) {
+            i = skipWhitespace(i, end);
+            if (i < end && window.get(i) == '}') {
+                return;
+            }
+            if (i >= end || window.get(i) != '"') {
+                parseJsonFallback(record, start, end);
+                return;
+            }
+            int keyStart = i + 1;
+            int keyEnd = indexOf('"', keyStart, end);
+            i = skipWhitespace(keyEnd + 1, end);
+            if (keyEnd < 0 || i >= end || window.get(i) != ':') {
+                parseJsonFallback(record, start, end);
+                return;
+            }
+            i = skipWhitespace(i + 1, end);
+            Field field = jsonField(keyStart, keyEnd);
+            int valueStart;
+            int valueEnd;
+            boolean quoted = i < end && window.get(i) == '"';
+            if (quoted) {
+                valueStart = i + 1;
+                valueEnd = indexOf('"', valueStart, end);
+                if (valueEnd < 0 || indexOf('\\', valueStart, valueEnd) >= 0) {
+                    parseJsonFallback(record, start, end);
+                    return;
+                }
+                i = valueEnd + 1;
+            } else {
+                valueStart = i;
+                while (i < end && window.get(i) != ',' && window.get(i) != '}') {
+                    byte value = window.get(i);
+                    if (value == '{' || value == '[') {
+                        parseJsonFallback(record, start, end);
+                        return;
+                    }
+                    i++;
+                }
+                valueEnd = i;
+            }
+            assign(record, field, valueStart, valueEnd, quoted);
+            i = skipWhitespace(i, end);
+            if (i < end && window.get(i) == ',') {
+                i++;
+            }
+        }
+    }
+
+    private void parseJsonFallback(LoanRecord record, int start, int end) {
+        byte[] line = new byte[end - start];
+        window.get(start, line);
+        record.setParseError(null);
+        try {
+            JsonNode node = FALLBACK_MAPPER.readTree(line);
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                JsonNode value = entry.getValue();
+                if (value.isNull()) {
+                    continue;
+                }
+                switch (Field.named(entry.getKey())) {
+                    case APPLICANT_ID -> record.setApplicantId(value.asText());
+                    case MONTHLY_SALARY -> record.setMonthlySalary(value.asDouble());
+                    case REQUESTED_AMOUNT -> record.setRequestedAmount(value.asDouble());
+                    case TERM_MONTHS -> record.setTermMonths(value.asInt());
+                    case LAST_LOAN_DATE -> record.setLastLoanDate(LocalDate.parse(value.asText()));
+                    default -> { }
+                }
+            }
+        } catch (IOException | DateTimeException e) {
+            record.setParseError("Malformed JSON record at offset " + record.getOffset() + ": " + e.getMessage());
+        }
+    }
+
+    private Field jsonField(int start, int end) {
+        for (Field field : Field.values()) {
+            byte[] name = field.nameBytes;
+            if (field != Field.IGNORED && name.length == end - start && matches(name, start)) {
+                return field;
+            }
+        }
+        return Field.IGNORED;
+    }
+
+    private boolean matches(byte[] name, int start) {
+        for (int i = 0; i < name.length; i++) {
+            if (window.get(start + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void assign(LoanRecord record, Field field, int start, int end, boolean quoted) {
+        if (field == Field.IGNORED) {
+            return;
+        }
+        if (!quoted) {
+            end = trimEnd(start, end);
+            start = trimStart(start, end);
+            if (end - start >= 2 && window.get(start) == '"' && window.get(end - 1) == '"') {
+                start++;
+                end--;
+            }
+        }
+        if (start == end || (!quoted && isNullLiteral(start, end))) {
+            return;
+        }
+        switch (field) {
+            case APPLICANT_ID -> record.setApplicantId(decode(start, end));
+            case MONTHLY_SALARY -> record.setMonthlySalary(number(record, field, start, end));
+            case REQUESTED_AMOUNT -> record.setRequestedAmount(number(record, field, start, end));
+            case TERM_MONTHS -> record.setTermMonths(integer(record, start, end));
+            case LAST_LOAN_DATE -> record.setLastLoanDate(date(record, start, end));
+            default -> { }
+        }
+    }
+
+    private Double number(LoanRecord record, Field field, int start, int end) {
+        double value = parseDouble(start, end);
+        if (Double.isNaN(value)) {
+            invalid(record, field.name);
+            return null;
+        }
+        return value;
+    }
+
+    private Integer integer(LoanRecord record, int start, int end) {
+        int sign = 1;
+        int i = start;
+        if (window.get(i) == '-') {
+            sign = -1;
+            i++;
+        }
+        if (i == end || end - i > 9) {
+            invalid(record, Field.TERM_MONTHS.name);
+            return null;
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = window.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                invalid(record, Field.TERM_MONTHS.name);
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+        return sign * value;
+    }
+
+    private LocalDate date(LoanRecord record, int start, int end) {
+        if (end - start == 10 && window.get(start + 4) == '-' && window.get(start + 7) == '-') {
+            int year = digits(start, 4);
+            int month = digits(start + 5, 2);
+            int day = digits(start + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (DateTimeException e) {
+                    // reported below
+                }
+            }
+        }
+        invalid(record, Field.LAST_LOAN_DATE.name);
+        return null;
+    }
+
+    /**
+     * Parses a plain decimal such as {@code 3000} or {@code -12.75}. With at most 15
+     * significant digits both the mantissa and the power of ten are exact doubles, so
+     * one division gives the correctly rounded value. Other forms go through the JDK.
+     */
+    private double parseDouble(int start, int end) {
+        int i = start;
+        boolean negative = window.get(i) == '-';
+        if (negative || window.get(i) == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int digitCount = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            byte value = window.get(i);
+            if (value == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            int digit = value - '0';
+            if (digit < 0 || digit > 9 || digitCount == 15) {
+                return parseDoubleSlow(start, end);
+            }
+            mantissa = mantissa * 10 + digit;
+            digitCount++;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (digitCount == 0) {
+            return Double.NaN;
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    private double parseDoubleSlow(int start, int end) {
+        try {
+            double value = Double.parseDouble(decode(start, end));
+            return Double.isFinite(value) ? value : Double.NaN;
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private int digits(int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = window.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void invalid(LoanRecord record, String field) {
+        if (record.getParseError() == null) {
+            record.setParseError("Invalid " + field + " at offset " + record.getOffset());
+        }
+    }
+
+    private boolean isNullLiteral(int start, int end) {
+        return end - start == 4 && window.get(start) == 'n' && window.get(start + 1) == 'u'
+                && window.get(start + 2) == 'l' && window.get(start + 3) == 'l';
+    }
+
+    private String decode(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        window.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int indexOf(char value, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (window.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int skipWhitespace(int from, int end) {
+        int i = from;
+        while (i < end && isWhitespace(window.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimStart(int start, int end) {
+        int i = start;
+        while (i < end && isWhitespace(window.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimEnd(int start, int end) {
+        int i = end;
+        while (i > start && isWhitespace(window.get(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte value) {
+        return value == ' ' || value == '\t' || value == '\r' || value == '\n';
+    }
+}
@@ -0,0 +1,202 @@
+package com.techgirls.loanvalidation.batch;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends scored records as CSV lines through a large direct buffer and a file channel:
+ * {@code offset,applicantId,status,eligible,monthlyPayment,reasons,error}.
+ *
+ * Values are encoded straight into the buffer; reason codes are pre-encoded once.
+ * Must be used from one thread at a time.
+ */
+public final class ResultFileWriter implements AutoCloseable {
+
+    static final String HEADER = "offset,applicantId,status,eligible,monthlyPayment,reasons,error\n";
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final Map<ReasonsEnum, byte[]> REASONS = new EnumMap<>(ReasonsEnum.class);
+    private static final Map<ScoredRecord.Status, byte[]> STATUSES = new EnumMap<>(ScoredRecord.Status.class);
+
+    static {
+        for (ReasonsEnum reason : ReasonsEnum.values()) {
+            REASONS.put(reason, reason.getValue().getBytes(StandardCharsets.US_ASCII));
+        }
+        for (ScoredRecord.Status status : ScoredRecord.Status.values()) {
+            STATUSES.put(status, status.name().getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final byte[] digits = new byte[20];
+
+    private ResultFileWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the output for appending after {@code validSize} bytes, discarding anything
+     * written after the last checkpoint. A new file starts with the header line.
+     */
+    public static ResultFileWriter open(Path file, long validSize) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            channel.truncate(validSize);
+            channel.position(validSize);
+            ResultFileWriter writer = new ResultFileWriter(channel);
+            if (validSize == 0) {
+                writer.buffer.put(HEADER.getBytes(StandardCharsets.US_ASCII));
+            }
+            return writer;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void write(ScoredRecord scored) throws IOException {
+        LoanRecord record = scored.getRecord();
+        putLong(record.getOffset());
+        put(',');
+        putText(record.getApplicantId());
+        put(',');
+        putBytes(STATUSES.get(scored.getStatus()));
+        put(',');
+        LoanValidationResult result = scored.getResult();
+        if (result != null) {
+            putText(Boolean.TRUE.equals(result.getEligible()) ? "true" : "false");
+            put(',');
+            putCents(result.getMonthlyPayment());
+            put(',');
+            putReasons(result.getReasons());
+        } else {
+            put(',');
+            put(',');
+        }
+        put(',');
+        putText(scored.getError());
+        put('\n');
+    }
+
+    /**
+     * Writes buffered lines to the channel and forces them to disk, so the returned
+     * size can be recorded in a checkpoint.
+     */
+    public long flush() throws IOException {
+        drain();
+        channel.force(false);
+        return channel.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void putReasons(List<ReasonsEnum> reasons) throws IOException {
+        if (reasons == null) {
+            return;
+        }
+        for (int i = 0; i < reasons.size(); i++) {
+            if (i > 0) {
+                put('|');
+            }
+            putBytes(REASONS.get(reasons.get(i)));
+        }
+    }
+
+    private void putCents(Double amount) throws IOException {
+        if (amount == null || !Double.isFinite(amount)) {
+            return;
+        }
+        long cents = Math.round(amount * 100);
+        if (cents < 0) {
+            put('-');
+            cents = -cents;
+        }
+        putLong(cents / 100);
+        put('.');
+        put((char) ('0' + cents % 100 / 10));
+        put((char) ('0' + cents % 10));
+    }
+
+    private void putLong(long value) throws IOException {
+        if (value < 0) {
+            put('-');
+            value = -value;
+        }
+        int length = 0;
+        do {
+            digits[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        ensure(length);
+        while (length > 0) {
+            buffer.put(digits[--length]);
+        }
+    }
+
+    /**
+     * Writes text as CSV: ASCII without separators is copied as is, anything else is
+     * quoted and UTF-8 encoded.
+     */
+    private void putText(String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+        boolean plain = true;
+        for (int i = 0; i < text.length() && plain; i++) {
+            char value = text.charAt(i);
+            plain = value >= ' ' && value < 0x7f && value != ',' && value != '"';
+        }
+        if (plain) {
+            ensure(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                buffer.put((byte) text.charAt(i));
+            }
+            return;
+        }
+        put('"');
+        putBytes(text.replace("\"", "\"\"").replace('\n', ' ').getBytes(StandardCharsets.UTF_8));
+        put('"');
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void put(char value) throws IOException {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    private void ensure(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,37 @@
+package com.techgirls.loanvalidation.batch;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import lombok.Value;
+
+/**
+ * Outcome of scoring one {@link LoanRecord}.
+ */
+@Value
+public class ScoredRecord {
+
+    public enum Status {
+        /** Evaluated by the rule engine. */
+        SCORED,
+        /** Rejected by input parsing or validation before evaluation. */
+        INVALID,
+        /** Evaluation failed, e.g. the loan history service was unavailable. */
+        FAILED
+    }
+
+    LoanRecord record;
+    Status status;
+    LoanValidationResult result;
+    String error;
+
+    public static ScoredRecord scored(LoanRecord record, LoanValidationResult result) {
+        return new ScoredRecord(record, Status.SCORED, result, null);
+    }
+
+    public static ScoredRecord invalid(LoanRecord record, String error) {
+        return new ScoredRecord(record, Status.INVALID, null, error);
+    }
+
+    public static ScoredRecord failed(LoanRecord record, String error) {
+        return new ScoredRecord(record, Status.FAILED, null, error);
+    }
+}
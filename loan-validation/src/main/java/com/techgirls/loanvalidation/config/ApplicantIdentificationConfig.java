@@ -0,0 +1,12 @@
+package com.techgirls.loanvalidation.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the applicant identification settings.
+ */
+@Configuration
+@EnableConfigurationProperties(ApplicantIdentificationProperties.class)
+public class ApplicantIdentificationConfig {
+}
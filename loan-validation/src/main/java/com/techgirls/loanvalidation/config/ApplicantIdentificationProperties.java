@@ -0,0 +1,46 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for resolving the applicant behind a loan validation request.
+ * Bound from {@code loan-validation.applicant.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.applicant")
+public class ApplicantIdentificationProperties {
+
+    /**
+     * Request header carrying the applicant subject when no principal is authenticated.
+     */
+    private String header = "X-Applicant-Id";
+
+    /**
+     * Maximum number of subject to applicant id mappings kept in memory.
+     */
+    private int cacheMaxSize = 10_000;
+
+    /**
+     * How long a subject the directory does not know is remembered as unknown, so
+     * repeat callers do not cost a directory round trip each. Zero disables it.
+     */
+    private Duration unknownSubjectTtl = Duration.ofSeconds(30);
+
+    /**
+     * What to do with callers no principal, header or directory entry identifies.
+     */
+    private UnidentifiedPolicy unidentified = UnidentifiedPolicy.REJECT;
+
+    public enum UnidentifiedPolicy {
+        /** Answer 401: no history lookups or decisions without a known applicant. */
+        REJECT,
+        /**
+         * Derive a stub applicant id from the requested amount so the stub loan
+         * history scenarios can be driven without a header. Development only.
+         */
+        SIMULATED
+    }
+}
@@ -0,0 +1,36 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.batch.BatchScoringRunner;
+import com.techgirls.loanvalidation.service.InputValidationService;
+import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the offline batch scoring job, enabled by {@code --mode=batch}
+ * (see {@code BatchScoringApplication}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.batch", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(BatchScoringProperties.class)
+public class BatchScoringConfig {
+
+    @Bean
+    public BatchScoringRunner batchScoringRunner(LoanValidationOrchestrator orchestrator,
+                                                 InputValidationService inputValidationService,
+                                                 BatchScoringProperties properties) {
+        if (properties.getInput() == null || properties.getOutput() == null) {
+            throw new IllegalStateException(
+                    "Batch mode needs --loan-validation.batch.input and --loan-validation.batch.output");
+        }
+        return new BatchScoringRunner(orchestrator, inputValidationService, properties);
+    }
+
+    @Bean
+    public ApplicationRunner batchScoringApplicationRunner(BatchScoringRunner batchScoringRunner) {
+        return args -> batchScoringRunner.run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Offline bulk scoring of a loan request file.
+ * Bound from {@code loan-validation.batch.*}; only used by {@code --mode=batch}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.batch")
+public class BatchScoringProperties {
+
+    /**
+     * Whether the application runs as a batch job instead of serving HTTP.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Input file of loan requests, CSV with a header line or NDJSON.
+     */
+    private Path input;
+
+    /**
+     * Output file of results, one CSV line per input record, in input order.
+     */
+    private Path output;
+
+    /**
+     * Checkpoint file; defaults to the output file with a {@code .checkpoint} suffix.
+     */
+    private Path checkpoint;
+
+    /**
+     * Whether to continue from the checkpoint of a previous, interrupted run. The run
+     * fails if that checkpoint was written for a different or since modified input.
+     */
+    private boolean resume = true;
+
+    /**
+     * Number of chunks scored in parallel; defaults to the number of cores.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Records per chunk, the unit of parallel work and of ordered output.
+     */
+    private int chunkSize = 1024;
+
+    /**
+     * Records in flight within one chunk, to overlap loan history lookups.
+     */
+    private int chunkConcurrency = 32;
+
+    /**
+     * Records written between two checkpoints.
+     */
+    private long checkpointInterval = 100_000;
+
+    public Path resolveCheckpoint() {
+        return checkpoint != null ? checkpoint : output.resolveSibling(output.getFileName() + ".checkpoint");
+    }
+}
@@ -0,0 +1,27 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.diagnostics.BlockingCallDetector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Installs the blocking call detector when
+ * {@code loan-validation.diagnostics.blocking-detection.enabled=true} and BlockHound
+ * is on the classpath.
+ */
+@Configuration
+@ConditionalOnClass(name = "reactor.blockhound.BlockHound")
+@ConditionalOnProperty(prefix = "loan-validation.diagnostics.blocking-detection", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(BlockingCallDetectionProperties.class)
+public class BlockingCallDetectionConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public BlockingCallDetector blockingCallDetector(MeterRegistry meterRegistry,
+                                                     BlockingCallDetectionProperties properties) {
+        return new BlockingCallDetector(meterRegistry, properties.isFailOnDetection());
+    }
+}
@@ -0,0 +1,27 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Opt-in detection of blocking calls on Reactor Netty event loops and other
+ * non-blocking threads. Bound from {@code loan-validation.diagnostics.blocking-detection.*}.
+ *
+ * Meant for development and tests: it installs the BlockHound agent, which needs
+ * the JVM flag {@code -XX:+AllowRedefinitionToAddDeleteMethods}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.diagnostics.blocking-detection")
+public class BlockingCallDetectionProperties {
+
+    /**
+     * Whether to install the detector.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Whether a detected call also fails with BlockingOperationError, instead of
+     * only being logged and counted.
+     */
+    private boolean failOnDetection = false;
+}
@@ -0,0 +1,25 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Business rule thresholds and the version that identifies them in audit records.
+ * Bound from {@code loan-validation.business-rules.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.business-rules")
+public class BusinessRulesProperties {
+
+    /**
+     * Version of the threshold set below. Bump it whenever a threshold changes so
+     * journaled decisions can be traced to the rules they were made under.
+     */
+    private int version = 1;
+
+    private int maxTermMonths = 36;
+
+    private double maxSalaryPercentage = 0.40;
+
+    private int recentLoanMonths = 3;
+}
@@ -0,0 +1,43 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.simulation.PolicyThresholds;
+import lombok.Data;
+
+/**
+ * Candidate rule thresholds to trial against the ones in force; unset ones keep the
+ * value of {@code loan-validation.business-rules}.
+ */
+@Data
+public class CandidateThresholds {
+
+    private Integer maxTermMonths;
+
+    private Double maxSalaryPercentage;
+
+    private Integer recentLoanMonths;
+
+    /**
+     * Annual interest rate pricing the monthly payment, 0 for the current simple division.
+     */
+    private Double annualInterestRate;
+
+    /**
+     * The baseline with the thresholds set here replaced.
+     */
+    public PolicyThresholds over(PolicyThresholds baseline) {
+        PolicyThresholds.PolicyThresholdsBuilder thresholds = baseline.toBuilder();
+        if (maxTermMonths != null) {
+            thresholds.maxTermMonths(maxTermMonths);
+        }
+        if (maxSalaryPercentage != null) {
+            thresholds.maxSalaryPercentage(maxSalaryPercentage);
+        }
+        if (recentLoanMonths != null) {
+            thresholds.recentLoanMonths(recentLoanMonths);
+        }
+        if (annualInterestRate != null) {
+            thresholds.annualInterestRate(annualInterestRate);
+        }
+        return thresholds.build();
+    }
+}
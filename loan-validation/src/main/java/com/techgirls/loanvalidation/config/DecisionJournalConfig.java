@@ -0,0 +1,29 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.journal.DecisionJournal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Registers the decision journal as an evaluation observer when
+ * {@code loan-validation.journal.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.journal", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DecisionJournalProperties.class)
+public class DecisionJournalConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public DecisionJournal decisionJournal(DecisionJournalProperties properties,
+                                           BusinessRulesProperties businessRulesProperties,
+                                           Clock clock, MeterRegistry meterRegistry) {
+        return new DecisionJournal(properties.getDirectory(), properties.getSegmentSize().toBytes(),
+                properties.getCapacity(), properties.getMaxBatch(), properties.getCommitWindow(),
+                businessRulesProperties.getVersion(), properties.getOverflowPolicy(), clock, meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.journal.DecisionJournal;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Audit journal of loan decisions.
+ * Bound from {@code loan-validation.journal.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.journal")
+public class DecisionJournalProperties {
+
+    /**
+     * Record every evaluation in the decision journal.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Directory holding the journal segments.
+     */
+    private Path directory = Path.of("journal");
+
+    /**
+     * Size at which a new segment is started.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Evaluations that may wait for the writer before the overflow policy applies.
+     */
+    private int capacity = 65536;
+
+    /**
+     * What happens to an evaluation when the queue is full, the journal is not
+     * running or its last write failed: REJECT fails the request with 503, DROP returns the decision
+     * unrecorded. Both are counted in loanvalidation.journal.records.
+     */
+    private DecisionJournal.OverflowPolicy overflowPolicy = DecisionJournal.OverflowPolicy.REJECT;
+
+    /**
+     * Maximum records made durable by a single fsync.
+     */
+    private int maxBatch = 1024;
+
+    /**
+     * Longest time a written record waits for its fsync.
+     */
+    private Duration commitWindow = Duration.ofMillis(5);
+}
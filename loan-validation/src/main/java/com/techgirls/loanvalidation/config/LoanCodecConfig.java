@@ -0,0 +1,25 @@
+package com.techgirls.loanvalidation.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techgirls.loanvalidation.web.codec.LoanValidationRequestDecoder;
+import com.techgirls.loanvalidation.web.codec.LoanValidationResultEncoder;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the dedicated JSON codecs for the loan validation payloads.
+ * Typed custom codecs are consulted before the generic Jackson codecs, which
+ * remain in place for every other type and as the fallback of these codecs.
+ */
+@Configuration
+public class LoanCodecConfig {
+
+    @Bean
+    public CodecCustomizer loanValidationCodecCustomizer(ObjectMapper objectMapper) {
+        return configurer -> {
+            configurer.customCodecs().registerWithDefaultConfig(new LoanValidationRequestDecoder(objectMapper));
+            configurer.customCodecs().registerWithDefaultConfig(new LoanValidationResultEncoder(objectMapper));
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.adapter.WebClientLoanHistoryClient;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Wires the loan history port. The in-process stub is used unless
+ * {@code loan-validation.client.loan-history.mode=webclient}, in which case lookups
+ * go over HTTP through a dedicated, sized Reactor Netty connection pool.
+ */
+@Configuration
+@EnableConfigurationProperties(LoanHistoryClientProperties.class)
+public class LoanHistoryClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(prefix = "loan-validation.client.loan-history", name = "mode", havingValue = "webclient")
+    public ConnectionProvider loanHistoryConnectionProvider(LoanHistoryClientProperties properties) {
+        return ConnectionProvider.builder("loan-history")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getMaxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "loan-validation.client.loan-history", name = "mode", havingValue = "webclient")
+    public WebClientLoanHistoryClient webClientLoanHistoryClient(WebClient.Builder webClientBuilder,
+                                                                 ConnectionProvider loanHistoryConnectionProvider,
+                                                                 LoanHistoryClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(loanHistoryConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(properties.getTimeout())
+                .protocol(properties.isHttp2()
+                        ? new HttpProtocol[] {HttpProtocol.H2C, HttpProtocol.HTTP11}
+                        : new HttpProtocol[] {HttpProtocol.HTTP11});
+
+        WebClient webClient = webClientBuilder.clone()
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        return new WebClientLoanHistoryClient(webClient, properties);
+    }
+}
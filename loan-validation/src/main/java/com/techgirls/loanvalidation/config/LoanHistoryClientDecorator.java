@@ -0,0 +1,45 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.function.Function;
+
+/**
+ * Wraps every loan history adapter bean in a decorator, whichever adapter the mode
+ * selects. Decorators with a lower order are applied first and so sit closer to the
+ * adapter: the Bloom filter guards the remote call, the snapshot is consulted
+ * before either, and changes from the loan event feed are added to whatever they
+ * answer.
+ */
+class LoanHistoryClientDecorator implements BeanPostProcessor, Ordered {
+
+    static final int FILTER_ORDER = 100;
+    static final int SNAPSHOT_ORDER = 200;
+    static final int FEED_ORDER = 300;
+
+    private final Class<? extends LoanHistoryClient> decoratorType;
+    private final Function<LoanHistoryClient, ? extends LoanHistoryClient> decorator;
+    private final int order;
+
+    LoanHistoryClientDecorator(Class<? extends LoanHistoryClient> decoratorType,
+                               Function<LoanHistoryClient, ? extends LoanHistoryClient> decorator, int order) {
+        this.decoratorType = decoratorType;
+        this.decorator = decorator;
+        this.order = order;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof LoanHistoryClient client && !decoratorType.isInstance(bean)) {
+            return decorator.apply(client);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
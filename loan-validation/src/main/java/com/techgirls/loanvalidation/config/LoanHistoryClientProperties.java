@@ -0,0 +1,72 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection settings for the loan history service.
+ * Bound from {@code loan-validation.client.loan-history.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.client.loan-history")
+public class LoanHistoryClientProperties {
+
+    /**
+     * Which adapter implements the loan history port.
+     */
+    public enum Mode {
+        /** In-process stub, no I/O. */
+        STUB,
+        /** Reactor Netty WebClient against {@link #baseUrl}. */
+        WEBCLIENT
+    }
+
+    private Mode mode = Mode.STUB;
+
+    /**
+     * Base URL of the loan history service.
+     */
+    private String baseUrl = "http://localhost:8089";
+
+    /**
+     * Response timeout for a single lookup.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * TCP connect timeout.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Retries for lookups that fail with an I/O error before a response arrives.
+     */
+    private int retryAttempts = 0;
+
+    /**
+     * Size of the dedicated connection pool.
+     */
+    private int maxConnections = 200;
+
+    /**
+     * Maximum number of lookups waiting for a pooled connection.
+     */
+    private int pendingAcquireMaxCount = 1000;
+
+    /**
+     * Maximum time a lookup waits for a pooled connection.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofMillis(500);
+
+    /**
+     * Idle time after which a pooled connection is closed.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Negotiate HTTP/2 (cleartext upgrade) instead of HTTP/1.1 keep-alive.
+     */
+    private boolean http2 = false;
+}
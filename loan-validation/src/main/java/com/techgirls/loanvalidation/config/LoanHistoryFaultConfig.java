@@ -0,0 +1,29 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.adapter.LoanHistoryFaultEndpoint;
+import com.techgirls.loanvalidation.adapter.LoanHistoryFaultInjector;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the fault injector shared by the stub loan history client and the
+ * embedded mock server, and the actuator endpoint that switches its profile.
+ * With no profile active, both behave as a healthy backend.
+ */
+@Configuration
+@EnableConfigurationProperties(LoanHistoryFaultProperties.class)
+public class LoanHistoryFaultConfig {
+
+    @Bean
+    public LoanHistoryFaultInjector loanHistoryFaultInjector(LoanHistoryFaultProperties properties) {
+        return new LoanHistoryFaultInjector(properties);
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public LoanHistoryFaultEndpoint loanHistoryFaultEndpoint(LoanHistoryFaultInjector faultInjector) {
+        return new LoanHistoryFaultEndpoint(faultInjector);
+    }
+}
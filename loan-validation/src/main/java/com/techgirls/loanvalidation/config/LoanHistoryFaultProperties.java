@@ -0,0 +1,84 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fault profiles for the stub loan history backend, used to measure how the
+ * validation pipeline behaves when the dependency degrades.
+ * Bound from {@code loan-validation.client.loan-history.faults.*}; the active
+ * profile can be switched at runtime through the {@code loanhistoryfaults}
+ * actuator endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.client.loan-history.faults")
+public class LoanHistoryFaultProperties {
+
+    /**
+     * Name of the profile that disables fault injection.
+     */
+    public static final String NONE = "none";
+
+    /**
+     * Profile applied at startup, {@code none} for a healthy backend.
+     */
+    private String active = NONE;
+
+    /**
+     * Named fault profiles that can be activated.
+     */
+    private Map<String, FaultProfile> profiles = new LinkedHashMap<>();
+
+    public enum LatencyDistribution {
+        /** Every response takes exactly {@code latency}. */
+        FIXED,
+        /** Uniform between zero and twice {@code latency}. */
+        UNIFORM,
+        /** Exponential with mean {@code latency}, capped at {@code maxLatency}: a long tail. */
+        EXPONENTIAL
+    }
+
+    @Data
+    public static class FaultProfile {
+
+        /**
+         * Mean latency added to every response.
+         */
+        private Duration latency = Duration.ZERO;
+
+        /**
+         * How the added latency is distributed around its mean.
+         */
+        private LatencyDistribution distribution = LatencyDistribution.FIXED;
+
+        /**
+         * Upper bound for sampled latencies.
+         */
+        private Duration maxLatency = Duration.ofSeconds(10);
+
+        /**
+         * Fraction of calls, between 0 and 1, that fail with an external service error.
+         */
+        private double errorRate;
+
+        /**
+         * Fraction of calls that never answer, leaving it to the caller's timeout.
+         */
+        private double timeoutRate;
+
+        /**
+         * Fraction of calls answered as a slow drip: over HTTP the body is written one
+         * byte per {@code dripInterval}; in process the answer is delayed accordingly.
+         */
+        private double slowDripRate;
+
+        /**
+         * Pause between bytes of a slow-drip response.
+         */
+        private Duration dripInterval = Duration.ofMillis(100);
+    }
+}
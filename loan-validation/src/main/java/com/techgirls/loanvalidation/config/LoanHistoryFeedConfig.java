@@ -0,0 +1,66 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.adapter.ChangeFeedLoanHistoryClient;
+import com.techgirls.loanvalidation.adapter.FileTailLoanEventSource;
+import com.techgirls.loanvalidation.adapter.InMemoryLoanEventSource;
+import com.techgirls.loanvalidation.adapter.LoanHistoryOverlay;
+import com.techgirls.loanvalidation.ingestion.LoanEventIngestionService;
+import com.techgirls.loanvalidation.port.LoanEventSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Keeps the local loan history view fresh from the loan event feed when
+ * {@code loan-validation.client.loan-history.feed.enabled=true}: events are ingested
+ * into an overlay, and the loan history adapter, with the snapshot and filter in
+ * front of it, is wrapped so its answers include them.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.client.loan-history.feed", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LoanHistoryFeedProperties.class)
+public class LoanHistoryFeedConfig {
+
+    @Bean
+    public LoanHistoryOverlay loanHistoryOverlay(MeterRegistry meterRegistry) {
+        LoanHistoryOverlay overlay = new LoanHistoryOverlay();
+        Gauge.builder("loanvalidation.loanhistory.feed.applicants", overlay, LoanHistoryOverlay::size)
+                .description("Applicants with loan history changes ingested from the feed")
+                .register(meterRegistry);
+        return overlay;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(LoanEventSource.class)
+    public LoanEventSource loanEventSource(LoanHistoryFeedProperties properties) {
+        return properties.getSource() == LoanHistoryFeedProperties.Source.MEMORY
+                ? new InMemoryLoanEventSource()
+                : new FileTailLoanEventSource(properties.getFile(), properties.getPollInterval());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public LoanEventIngestionService loanEventIngestionService(LoanEventSource loanEventSource,
+                                                               LoanHistoryOverlay loanHistoryOverlay,
+                                                               LoanHistoryFeedProperties properties,
+                                                               Clock clock, MeterRegistry meterRegistry) {
+        return new LoanEventIngestionService(loanEventSource, loanHistoryOverlay, properties.getWatermark(),
+                properties.getBatchSize(), properties.getBatchWindow(), properties.getRetention(),
+                properties.getCompactAfter(), clock, meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor changeFeedLoanHistoryClientPostProcessor(
+            ObjectProvider<LoanHistoryOverlay> overlay) {
+        return new LoanHistoryClientDecorator(ChangeFeedLoanHistoryClient.class,
+                client -> new ChangeFeedLoanHistoryClient(overlay.getObject(), client),
+                LoanHistoryClientDecorator.FEED_ORDER);
+    }
+}
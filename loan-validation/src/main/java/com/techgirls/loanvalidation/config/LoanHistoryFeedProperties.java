@@ -0,0 +1,73 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Ingestion of the loan event feed into the local loan history view.
+ * Bound from {@code loan-validation.client.loan-history.feed.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.client.loan-history.feed")
+public class LoanHistoryFeedProperties {
+
+    /**
+     * Which adapter implements the loan event source port.
+     */
+    public enum Source {
+        /** Tail of an append-only event file. */
+        FILE,
+        /** In-process feed, published to by tests and local tooling. */
+        MEMORY
+    }
+
+    /**
+     * Apply loan events to the local view and add them to loan history answers.
+     */
+    private boolean enabled = false;
+
+    private Source source = Source.FILE;
+
+    /**
+     * Event file tailed by the file source.
+     */
+    private Path file = Path.of("loan-events.csv");
+
+    /**
+     * How often the file source looks for new lines.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Maximum events applied per batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time an event waits for its batch to fill.
+     */
+    private Duration batchWindow = Duration.ofMillis(200);
+
+    /**
+     * File holding the sequence of the last applied event and the changes ingested
+     * up to it, loaded back on restart. The events applied since are logged next to
+     * it, in the same name with a {@code .log} suffix.
+     */
+    private Path watermark = Path.of("loan-events.watermark");
+
+    /**
+     * Events appended to the log next to the watermark file before the log is
+     * folded into it. Each batch only appends to the log; compaction rewrites the
+     * whole overlay.
+     */
+    private long compactAfter = 50_000;
+
+    /**
+     * How long ingested changes are kept. Must exceed the period of the full
+     * snapshot and export, which take over from then on.
+     */
+    private Duration retention = Duration.ofHours(48);
+}
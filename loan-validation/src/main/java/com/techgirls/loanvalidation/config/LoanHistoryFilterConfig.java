@@ -0,0 +1,49 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.adapter.BloomFilterLoanHistoryClient;
+import com.techgirls.loanvalidation.adapter.LoanHistoryFilterStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Puts the loan history Bloom filter directly in front of the configured loan
+ * history adapter when {@code loan-validation.client.loan-history.filter.enabled=true}.
+ * With the snapshot also enabled, the snapshot answers first and the filter only
+ * sees the applicants missing from it.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.client.loan-history.filter", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LoanHistoryFilterProperties.class)
+public class LoanHistoryFilterConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public LoanHistoryFilterStore loanHistoryFilterStore(LoanHistoryFilterProperties properties, Clock clock,
+                                                         MeterRegistry meterRegistry) {
+        LoanHistoryFilterStore store = new LoanHistoryFilterStore(properties.getExport(),
+                properties.getFalsePositiveRate(), properties.getRefreshInterval(), properties.getMaxAge(), clock);
+        Gauge.builder("loanvalidation.loanhistory.filter.memory", store, LoanHistoryFilterStore::sizeInBytes)
+                .description("Heap used by the loan history Bloom filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("loanvalidation.loanhistory.filter.applicants", store, LoanHistoryFilterStore::applicants)
+                .description("Applicants with loan history in the Bloom filter")
+                .register(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    public static BeanPostProcessor bloomFilterLoanHistoryClientPostProcessor(
+            ObjectProvider<LoanHistoryFilterStore> store, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LoanHistoryClientDecorator(BloomFilterLoanHistoryClient.class,
+                client -> new BloomFilterLoanHistoryClient(store.getObject(), client, meterRegistry.getObject()),
+                LoanHistoryClientDecorator.FILTER_ORDER);
+    }
+}
@@ -0,0 +1,45 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Bloom filter of applicants with loan history, used to skip remote lookups for
+ * applicants that have none.
+ * Bound from {@code loan-validation.client.loan-history.filter.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.client.loan-history.filter")
+public class LoanHistoryFilterProperties {
+
+    /**
+     * Short-circuit lookups of applicants the filter rules out.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Periodic CSV export of the loan history service, replaced by atomic rename.
+     */
+    private Path export = Path.of("loan-history-export.csv");
+
+    /**
+     * Target rate of applicants without history that still reach the remote service.
+     * Lower rates cost about 0.6 bytes more per applicant for each halving.
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * How often the export is checked for a newer version.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Age of the export after which the filter is no longer served. Loans granted
+     * after the export are unknown to the filter, so keep this close to the export
+     * period.
+     */
+    private Duration maxAge = Duration.ofHours(1);
+}
@@ -0,0 +1,49 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.adapter.LoanHistorySnapshotStore;
+import com.techgirls.loanvalidation.adapter.SnapshotLoanHistoryClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Puts the local loan history snapshot in front of the configured loan history
+ * adapter when {@code loan-validation.client.loan-history.snapshot.enabled=true}.
+ * Whichever adapter the mode selects (stub or WebClient) is wrapped, so it only
+ * serves applicants missing from the snapshot.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.client.loan-history.snapshot", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LoanHistorySnapshotProperties.class)
+public class LoanHistorySnapshotConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public LoanHistorySnapshotStore loanHistorySnapshotStore(LoanHistorySnapshotProperties properties, Clock clock,
+                                                             MeterRegistry meterRegistry) {
+        LoanHistorySnapshotStore store = new LoanHistorySnapshotStore(properties.getPath(),
+                properties.getRefreshInterval(), properties.getMaxAge(), clock);
+        Gauge.builder("loanvalidation.loanhistory.snapshot.applicants", store, LoanHistorySnapshotStore::size)
+                .description("Applicants in the loaded loan history snapshot")
+                .register(meterRegistry);
+        return store;
+    }
+
+    /**
+     * Static so the post processor is registered before the loan history beans are
+     * created; the store is resolved lazily when the first adapter is wrapped.
+     */
+    @Bean
+    public static BeanPostProcessor snapshotLoanHistoryClientPostProcessor(
+            ObjectProvider<LoanHistorySnapshotStore> store, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LoanHistoryClientDecorator(SnapshotLoanHistoryClient.class,
+                client -> new SnapshotLoanHistoryClient(store.getObject(), client, meterRegistry.getObject()),
+                LoanHistoryClientDecorator.SNAPSHOT_ORDER);
+    }
+}
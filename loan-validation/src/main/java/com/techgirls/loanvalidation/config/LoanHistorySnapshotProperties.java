@@ -0,0 +1,38 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Local loan history snapshot served in front of the loan history service.
+ * Bound from {@code loan-validation.client.loan-history.snapshot.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.client.loan-history.snapshot")
+public class LoanHistorySnapshotProperties {
+
+    /**
+     * Answer lookups from the snapshot index when the applicant is in it.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Index file written by {@code LoanHistorySnapshotBuilder}. Publishers replace it
+     * by atomic rename; the service picks the new file up on the next refresh.
+     */
+    private Path path = Path.of("loan-history.idx");
+
+    /**
+     * How often the index file is checked for a newer snapshot.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Age of the export after which the snapshot is no longer trusted and every
+     * lookup goes to the loan history service.
+     */
+    private Duration maxAge = Duration.ofHours(24);
+}
@@ -0,0 +1,46 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.replay.ReplayClock;
+import com.techgirls.loanvalidation.replay.ReplayRunner;
+import com.techgirls.loanvalidation.service.InputValidationService;
+import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.ZoneId;
+
+/**
+ * Wires the decision replay, enabled by {@code --mode=replay}
+ * (see {@code ReplayApplication}). The replay clock replaces the system clock so
+ * rules see the business date of the decisions being replayed.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.replay", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplayProperties.class)
+public class ReplayConfig {
+
+    @Bean
+    @Primary
+    public ReplayClock replayClock() {
+        return new ReplayClock(ZoneId.systemDefault());
+    }
+
+    @Bean
+    public ReplayRunner replayRunner(LoanValidationOrchestrator orchestrator,
+                                     InputValidationService inputValidationService,
+                                     ReplayClock replayClock, ReplayProperties properties) {
+        if (properties.getInput() == null) {
+            throw new IllegalStateException("Replay mode needs --loan-validation.replay.input");
+        }
+        return new ReplayRunner(orchestrator, inputValidationService, replayClock, properties);
+    }
+
+    @Bean
+    public ApplicationRunner replayApplicationRunner(ReplayRunner replayRunner) {
+        return args -> replayRunner.run();
+    }
+}
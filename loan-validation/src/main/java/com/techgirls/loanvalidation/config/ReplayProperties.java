@@ -0,0 +1,50 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Offline replay of recorded decisions through the current rules.
+ * Bound from {@code loan-validation.replay.*}; only used by {@code --mode=replay}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.replay")
+public class ReplayProperties {
+
+    /**
+     * Whether the application runs a replay instead of serving HTTP.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Decision journal directory, or NDJSON capture file.
+     */
+    private Path input;
+
+    /**
+     * Where the replay report is written.
+     */
+    private Path report = Path.of("replay-report.txt");
+
+    /**
+     * First journal sequence to replay.
+     */
+    private long fromSequence = 1;
+
+    /**
+     * Maximum decisions to replay, 0 for all.
+     */
+    private long limit = 0;
+
+    /**
+     * Decisions evaluated at once.
+     */
+    private int concurrency = 256;
+
+    /**
+     * Changed decisions listed in the report.
+     */
+    private int maxSamples = 100;
+}
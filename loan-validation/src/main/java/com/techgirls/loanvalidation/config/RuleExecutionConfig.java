@@ -0,0 +1,12 @@
+package com.techgirls.loanvalidation.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the rule execution settings used by the validation orchestrator.
+ */
+@Configuration
+@EnableConfigurationProperties(RuleExecutionProperties.class)
+public class RuleExecutionConfig {
+}
@@ -0,0 +1,30 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Concurrency and timeout policy for asynchronous validation rules.
+ * Bound from {@code loan-validation.rules.execution.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.rules.execution")
+public class RuleExecutionProperties {
+
+    /**
+     * Maximum number of asynchronous rules running at once for a single request.
+     */
+    private int perRequestConcurrency = 4;
+
+    /**
+     * Maximum number of asynchronous rules running at once across all requests.
+     */
+    private int globalConcurrency = 256;
+
+    /**
+     * Timeout applied to asynchronous rules that do not declare their own.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(2);
+}
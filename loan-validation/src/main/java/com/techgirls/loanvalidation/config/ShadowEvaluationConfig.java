@@ -0,0 +1,50 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.shadow.ShadowEvaluator;
+import com.techgirls.loanvalidation.shadow.ShadowRule;
+import com.techgirls.loanvalidation.simulation.PolicyThresholds;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Registers the shadow evaluator as an evaluation observer when
+ * {@code loan-validation.shadow.enabled=true}. The candidate is the thresholds in
+ * force with {@code loan-validation.shadow.candidate.*} applied, plus the
+ * {@link ShadowRule} beans named in {@code loan-validation.shadow.extra-rules}, which
+ * the orchestrator does not collect. The production rules read the
+ * same {@link BusinessRulesProperties}, so the baseline is the thresholds in force.
+ * Batch, replay and simulation runs turn the shadow off: it compares live traffic.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.shadow", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShadowEvaluationProperties.class)
+public class ShadowEvaluationConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShadowEvaluator shadowEvaluator(ShadowEvaluationProperties properties,
+                                           BusinessRulesProperties businessRulesProperties,
+                                           Map<String, ShadowRule> rules, MeterRegistry meterRegistry) {
+        List<ShadowRule> extraRules = properties.getExtraRules().stream()
+                .map(name -> {
+                    ShadowRule rule = rules.get(name);
+                    if (rule == null) {
+                        throw new IllegalStateException(
+                                "Unknown shadow rule " + name + ", known rules: " + rules.keySet());
+                    }
+                    return rule;
+                })
+                .collect(Collectors.toList());
+        PolicyThresholds candidate = properties.getCandidate().over(PolicyThresholds.of(businessRulesProperties));
+        return new ShadowEvaluator(candidate.toEngine(), extraRules, properties,
+                Schedulers.newBoundedElastic(properties.getThreads(), properties.getMaxInFlight(), "shadow-evaluation"),
+                meterRegistry);
+    }
+}
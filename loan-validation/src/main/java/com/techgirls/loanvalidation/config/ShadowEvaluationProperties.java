@@ -0,0 +1,49 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Shadow evaluation of a candidate rule set on sampled live traffic.
+ * Bound from {@code loan-validation.shadow.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.shadow")
+public class ShadowEvaluationProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Share of evaluations also run through the candidate, between 0 and 1.
+     */
+    private double sampleRate = 0.05;
+
+    /**
+     * Shadow evaluations queued or running at once; sampled evaluations beyond it are dropped.
+     */
+    private int maxInFlight = 64;
+
+    /**
+     * Threads running shadow evaluations.
+     */
+    private int threads = 2;
+
+    /**
+     * Time allowed for one shadow evaluation, extra rules included.
+     */
+    private Duration timeout = Duration.ofMillis(500);
+
+    /**
+     * Candidate thresholds.
+     */
+    private CandidateThresholds candidate = new CandidateThresholds();
+
+    /**
+     * Bean names of the ShadowRule beans the candidate adds to the thresholds based
+     * rules.
+     */
+    private List<String> extraRules = List.of();
+}
@@ -0,0 +1,48 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.simulation.PolicySimulator;
+import com.techgirls.loanvalidation.simulation.PolicyThresholds;
+import com.techgirls.loanvalidation.simulation.SimulationRunner;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Wires the what-if policy simulation, enabled by {@code --mode=simulate}
+ * (see {@code SimulationApplication}). The baseline is the thresholds in force;
+ * the candidate overrides any of them.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "loan-validation.simulation", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SimulationProperties.class)
+public class SimulationConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool simulationPool(SimulationProperties properties) {
+        return new ForkJoinPool(properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public SimulationRunner simulationRunner(ForkJoinPool simulationPool, SimulationProperties properties,
+                                             BusinessRulesProperties businessRules) {
+        if (properties.getInput() == null) {
+            throw new IllegalStateException("Simulation mode needs --loan-validation.simulation.input");
+        }
+        PolicySimulator simulator = new PolicySimulator(simulationPool,
+                properties.getAmountBuckets().stream().mapToDouble(Double::doubleValue).sorted().toArray(),
+                properties.getTermBuckets().stream().mapToInt(Integer::intValue).sorted().toArray());
+        PolicyThresholds baseline = PolicyThresholds.of(businessRules);
+        return new SimulationRunner(simulator, baseline, properties.getCandidate().over(baseline), properties);
+    }
+
+    @Bean
+    public ApplicationRunner simulationApplicationRunner(SimulationRunner simulationRunner) {
+        return args -> simulationRunner.run();
+    }
+}
@@ -0,0 +1,51 @@
+package com.techgirls.loanvalidation.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * What-if simulation of candidate rule thresholds over historical decisions.
+ * Bound from {@code loan-validation.simulation.*}; only used by {@code --mode=simulate}.
+ */
+@Data
+@ConfigurationProperties(prefix = "loan-validation.simulation")
+public class SimulationProperties {
+
+    /**
+     * Whether the application runs a simulation instead of serving HTTP.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Decision journal directory, or NDJSON capture file.
+     */
+    private Path input;
+
+    /**
+     * Where the simulation report is written.
+     */
+    private Path report = Path.of("simulation-report.txt");
+
+    /**
+     * Fork/join worker threads, 0 for one per core.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Upper bounds of the requested amount buckets.
+     */
+    private List<Double> amountBuckets = List.of(1_000.0, 5_000.0, 10_000.0, 25_000.0, 50_000.0, 100_000.0);
+
+    /**
+     * Upper bounds of the term buckets, in months.
+     */
+    private List<Integer> termBuckets = List.of(6, 12, 24, 36);
+
+    /**
+     * Candidate thresholds simulated against the ones in force.
+     */
+    private CandidateThresholds candidate = new CandidateThresholds();
+}
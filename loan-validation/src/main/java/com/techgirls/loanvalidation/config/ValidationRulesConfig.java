@@ -2,10 +2,12 @@ package com.techgirls.loanvalidation.config;
 
 import com.techgirls.loanvalidation.service.validation.LoanValidationRule;
 import com.techgirls.loanvalidation.service.validation.rules.AmountValidationRule;
+import com.techgirls.loanvalidation.service.validation.rules.DefaultHistoryRule;
 import com.techgirls.loanvalidation.service.validation.rules.PaymentCapacityRule;
 import com.techgirls.loanvalidation.service.validation.rules.RecentLoanRule;
 import com.techgirls.loanvalidation.service.validation.rules.TermValidationRule;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,6 +24,7 @@ import java.util.List;
  * Uses Lombok @Slf4j for logging configuration setup.
  */
 @Configuration
+@EnableConfigurationProperties(BusinessRulesProperties.class)
 @Slf4j
 public class ValidationRulesConfig {
 
@@ -35,6 +38,7 @@ public class ValidationRulesConfig {
      * @param termValidationRule injected term validation rule  
      * @param paymentCapacityRule injected payment capacity rule
      * @param recentLoanRule injected recent loan rule
+     * @param defaultHistoryRule injected default history rule
      * @return ordered list of validation rules
      */
     @Bean
@@ -42,13 +46,15 @@ public class ValidationRulesConfig {
             AmountValidationRule amountValidationRule,
             TermValidationRule termValidationRule,
             PaymentCapacityRule paymentCapacityRule,
-            RecentLoanRule recentLoanRule) {
+            RecentLoanRule recentLoanRule,
+            DefaultHistoryRule defaultHistoryRule) {
         
         List<LoanValidationRule> rules = Arrays.asList(
                 amountValidationRule,
                 termValidationRule, 
                 paymentCapacityRule,
-                recentLoanRule
+                recentLoanRule,
+                defaultHistoryRule
         );
         
         log.info("Configured {} validation rules", rules.size());
@@ -5,6 +5,9 @@ import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.InputValidationService;
 import com.techgirls.loanvalidation.service.LoanValidationService;
+import com.techgirls.loanvalidation.service.applicant.ApplicantIdentificationService;
+import com.techgirls.loanvalidation.service.validation.LoanHistoryFetchStage;
+import com.techgirls.loanvalidation.service.validation.PrefetchedLoanHistory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +15,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Unified controller implementing the generated OpenAPI interface.
  * Uses only OpenAPI generated models for complete contract compliance.
@@ -24,6 +30,8 @@ public class LoanValidationController implements DefaultApi {
     
     private final LoanValidationService loanValidationService;
     private final InputValidationService inputValidationService;
+    private final ApplicantIdentificationService applicantIdentificationService;
+    private final LoanHistoryFetchStage loanHistoryFetchStage;
 
     @Override
     public Mono<ResponseEntity<LoanValidationResult>> validateLoan(
@@ -33,18 +41,50 @@ public class LoanValidationController implements DefaultApi {
         String requestId = exchange.getRequest().getId();
         log.info("Processing loan validation request: {}", requestId);
         
-        return loanValidationRequest
+        // Resolve the caller identity (principal or applicant header) before evaluation
+        Mono<Optional<String>> applicantId = applicantIdentificationService.resolveApplicantId(exchange)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .cache();
+        
+        Mono<LoanValidationRequest> validatedRequest = loanValidationRequest
                 .doOnNext(request -> {
                     log.debug("Validating request: monthlySalary={}, requestedAmount={}, termMonths={}", 
                              request.getMonthlySalary(), request.getRequestedAmount(), request.getTermMonths());
                     // Perform comprehensive input validation
                     inputValidationService.validateRequest(request);
                 })
-                .flatMap(loanValidationService::evaluate)
+                .cache();
+        
+        // Start the loan history lookup as soon as the identity is known, so it
+        // overlaps body decoding and input validation instead of following them
+        Mono<Optional<PrefetchedLoanHistory>> prefetchedHistory = applicantId
+                .flatMap(id -> prefetchLoanHistory(id, validatedRequest));
+        
+        // A rejected or empty body terminates the zip, which cancels the pending lookup
+        return Mono.zip(validatedRequest, applicantId, prefetchedHistory)
+                .flatMap(tuple -> loanValidationService.evaluate(
+                        tuple.getT1(), tuple.getT2().orElse(null), tuple.getT3().orElse(null)))
                 .map(result -> {
                     log.info("Loan validation completed for request {}: eligible={}", requestId, result.getEligible());
                     return ResponseEntity.ok(result);
                 })
                 .doOnError(error -> log.error("Error processing loan validation request {}: {}", requestId, error.getMessage()));
     }
-}
\ No newline at end of file
+
+    /**
+     * Prefetches the loan history of an identified caller, bounded by the same
+     * timeout as the orchestrator's own lookup. A failed lookup reaches the
+     * orchestrator as unavailable history, which it reports as incomplete rules
+     * instead of looking it up again.
+     */
+    private Mono<Optional<PrefetchedLoanHistory>> prefetchLoanHistory(Optional<String> applicantId,
+                                                                      Mono<LoanValidationRequest> request) {
+        Optional<Duration> timeout = loanValidationService.loanHistoryTimeout();
+        if (applicantId.isEmpty() || timeout.isEmpty()) {
+            return Mono.just(Optional.empty());
+        }
+        return loanHistoryFetchStage.prefetch(applicantId.get(), request, timeout.get())
+                .map(Optional::of);
+    }
+}
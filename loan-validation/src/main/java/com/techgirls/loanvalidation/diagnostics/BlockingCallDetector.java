@@ -0,0 +1,103 @@
+package com.techgirls.loanvalidation.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reports blocking calls made on non-blocking threads: Reactor Netty event loops
+ * and Reactor's parallel scheduler.
+ *
+ * Each detection is logged with the stack trace of the offending call, counted in
+ * {@value #METRIC} tagged with the blocking method, and kept for inspection by tests.
+ * A single blocking call on an event loop stalls every connection served by that loop,
+ * so detections should be fixed rather than tolerated.
+ *
+ * BlockHound instruments the JVM once and cannot be uninstalled, so the agent is
+ * installed on the first start and later detectors (e.g. from other test contexts)
+ * only take over the callback.
+ */
+@Slf4j
+public class BlockingCallDetector {
+
+    public static final String METRIC = "loanvalidation.blocking.calls";
+
+    private static final int MAX_KEPT_DETECTIONS = 100;
+    private static final AtomicBoolean INSTALLED = new AtomicBoolean();
+    private static final AtomicReference<BlockingCallDetector> ACTIVE = new AtomicReference<>();
+    private static final ThreadLocal<Boolean> REPORTING = ThreadLocal.withInitial(() -> false);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnDetection;
+    private final ConcurrentLinkedQueue<BlockingOperationError> detections = new ConcurrentLinkedQueue<>();
+
+    public BlockingCallDetector(MeterRegistry meterRegistry, boolean failOnDetection) {
+        this.meterRegistry = meterRegistry;
+        this.failOnDetection = failOnDetection;
+    }
+
+    public void start() {
+        ACTIVE.set(this);
+        if (INSTALLED.compareAndSet(false, true)) {
+            BlockHound.builder()
+                    .blockingMethodCallback(BlockingCallDetector::dispatch)
+                    .install();
+            log.warn("Blocking call detection installed; do not enable it in production");
+        }
+    }
+
+    public void stop() {
+        ACTIVE.compareAndSet(this, null);
+    }
+
+    /**
+     * Detections seen so far, oldest first, up to the last {@value #MAX_KEPT_DETECTIONS}.
+     */
+    public List<BlockingOperationError> detections() {
+        return new ArrayList<>(detections);
+    }
+
+    public void clear() {
+        detections.clear();
+    }
+
+    private static void dispatch(BlockingMethod method) {
+        BlockingCallDetector detector = ACTIVE.get();
+        // Reporting may itself block (a synchronous appender); do not report that again
+        if (detector == null || REPORTING.get()) {
+            return;
+        }
+        REPORTING.set(true);
+        try {
+            detector.onBlockingCall(method);
+        } finally {
+            REPORTING.set(false);
+        }
+    }
+
+    void onBlockingCall(BlockingMethod method) {
+        BlockingOperationError error = new BlockingOperationError(method);
+        Counter.builder(METRIC)
+                .description("Blocking calls detected on non-blocking threads")
+                .tag("method", method.getClassName() + "." + method.getName())
+                .register(meterRegistry)
+                .increment();
+        detections.add(error);
+        while (detections.size() > MAX_KEPT_DETECTIONS) {
+            detections.poll();
+        }
+        log.error("Blocking call {} on non-blocking thread {}", method, Thread.currentThread().getName(), error);
+        if (failOnDetection) {
+            throw error;
+        }
+    }
+}
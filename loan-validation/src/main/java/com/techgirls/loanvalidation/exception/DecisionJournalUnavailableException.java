@@ -0,0 +1,12 @@
+package com.techgirls.loanvalidation.exception;
+
+/**
+ * Exception thrown when the decision journal cannot take an evaluation and is
+ * configured to fail the request rather than leave the decision unrecorded.
+ */
+public class DecisionJournalUnavailableException extends ExternalServiceException {
+
+    public DecisionJournalUnavailableException(String message) {
+        super("DecisionJournal", message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.techgirls.loanvalidation.exception;
+
+/**
+ * Exception raised by a rule that needs the applicant's loan history when the
+ * shared history fetch failed or timed out. The rule execution scheduler reports
+ * such a rule as incomplete instead of failing the evaluation.
+ */
+public class LoanHistoryUnavailableException extends ExternalServiceException {
+    
+    public LoanHistoryUnavailableException(String message) {
+        super("LoanHistoryService", message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.techgirls.loanvalidation.exception;
+
+/**
+ * Exception thrown when no principal, applicant header or directory entry
+ * identifies the caller, and unidentified callers are not accepted.
+ */
+public class UnidentifiedApplicantException extends BusinessException {
+    
+    public UnidentifiedApplicantException(String message) {
+        super("APPLICANT_UNIDENTIFIED", message);
+    }
+}
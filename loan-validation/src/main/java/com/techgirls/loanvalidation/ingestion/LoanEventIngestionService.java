@@ -0,0 +1,174 @@
+package com.techgirls.loanvalidation.ingestion;
+
+import com.techgirls.loanvalidation.adapter.LoanHistoryOverlay;
+import com.techgirls.loanvalidation.port.LoanEvent;
+import com.techgirls.loanvalidation.port.LoanEventSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies the loan event feed to the {@link LoanHistoryOverlay} so the local loan
+ * history view stays within seconds of the loan service.
+ *
+ * Events are buffered into batches of up to {@code batchSize}, or whatever arrived
+ * within {@code batchWindow}, and applied one batch at a time on a single worker, so
+ * updates of an applicant are applied in feed order. The events of each batch are
+ * appended to the watermark log, which is folded into the watermark file with the
+ * whole overlay once it holds {@code compactAfter} events, and both are loaded back
+ * on start, so loans ingested before a restart are still reported. A crash replays
+ * at most one batch, which the overlay absorbs since applying an event twice changes
+ * nothing. A failing feed is resubscribed from the watermark with backoff.
+ *
+ * Metrics: {@code loanvalidation.loanhistory.feed.events} (applied events),
+ * {@code loanvalidation.loanhistory.feed.lag} (publication to application) and
+ * {@code loanvalidation.loanhistory.feed.watermark}.
+ */
+@Slf4j
+public class LoanEventIngestionService {
+
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(500);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final LoanEventSource source;
+    private final LoanHistoryOverlay overlay;
+    private final Path watermarkFile;
+    private final LoanEventWatermark watermarkStore;
+    private final long compactAfter;
+    private final int batchSize;
+    private final Duration batchWindow;
+    private final Duration retention;
+    private final Clock clock;
+    private final AtomicLong watermark = new AtomicLong();
+    private final Counter appliedEvents;
+    private final Timer lag;
+    private final Scheduler worker = Schedulers.newSingle("loan-event-ingestion");
+
+    private volatile Instant lastPrune;
+    private Disposable subscription;
+
+    public LoanEventIngestionService(LoanEventSource source, LoanHistoryOverlay overlay, Path watermarkFile,
+                                     int batchSize, Duration batchWindow, Duration retention, long compactAfter,
+                                     Clock clock, MeterRegistry meterRegistry) {
+        this.source = source;
+        this.overlay = overlay;
+        this.watermarkFile = watermarkFile;
+        this.watermarkStore = new LoanEventWatermark(watermarkFile);
+        this.compactAfter = compactAfter;
+        this.batchSize = batchSize;
+        this.batchWindow = batchWindow;
+        this.retention = retention;
+        this.clock = clock;
+        this.lastPrune = clock.instant();
+        this.appliedEvents = Counter.builder("loanvalidation.loanhistory.feed.events")
+                .description("Loan events applied to the local loan history view")
+                .register(meterRegistry);
+        this.lag = Timer.builder("loanvalidation.loanhistory.feed.lag")
+                .description("Time from publication of a loan event to its application")
+                .register(meterRegistry);
+        Gauge.builder("loanvalidation.loanhistory.feed.watermark", watermark, AtomicLong::get)
+                .description("Sequence of the last applied loan event")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        try {
+            watermark.set(watermarkStore.load(overlay));
+            overlay.prune(clock.instant().minus(retention));
+            if (watermarkStore.loggedEvents() > 0) {
+                watermarkStore.compact(watermark.get(), overlay);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read loan event watermark {}, replaying the feed from the start: {}",
+                    watermarkFile, e.getMessage());
+            watermark.set(0);
+            try {
+                watermarkStore.compact(0, overlay);
+            } catch (IOException resetFailure) {
+                log.warn("Could not reset loan event watermark {}: {}", watermarkFile, resetFailure.getMessage());
+            }
+        }
+        log.info("Ingesting loan events after sequence {}, {} applicants restored", watermark.get(), overlay.size());
+        subscription = Flux.defer(() -> source.events(watermark.get()))
+                .bufferTimeout(batchSize, batchWindow, true)
+                .publishOn(worker)
+                .doOnNext(this::apply)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Loan event feed failed, resuming after sequence {}: {}",
+                                watermark.get(), signal.failure().getMessage())))
+                .subscribe(null, error -> log.error("Loan event ingestion stopped", error),
+                        () -> log.info("Loan event feed completed at sequence {}", watermark.get()));
+    }
+
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        worker.dispose();
+        try {
+            watermarkStore.close();
+        } catch (IOException e) {
+            log.warn("Could not close loan event watermark log: {}", e.getMessage());
+        }
+    }
+
+    public long watermark() {
+        return watermark.get();
+    }
+
+    void apply(List<LoanEvent> batch) {
+        Instant now = clock.instant();
+        long last = watermark.get();
+        List<LoanEvent> applied = new ArrayList<>(batch.size());
+        for (LoanEvent event : batch) {
+            if (event.getSequence() <= last) {
+                continue;
+            }
+            overlay.apply(event, now);
+            applied.add(event);
+            last = event.getSequence();
+            if (event.getPublishedAt() != null) {
+                lag.record(Duration.between(event.getPublishedAt(), now));
+            }
+            appliedEvents.increment();
+        }
+        if (last != watermark.get()) {
+            try {
+                watermarkStore.append(applied, now);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            watermark.set(last);
+            if (watermarkStore.loggedEvents() >= compactAfter) {
+                try {
+                    watermarkStore.compact(last, overlay);
+                } catch (IOException e) {
+                    // The log still holds every event; compaction is retried after the next batch
+                    log.warn("Could not compact loan event watermark {}: {}", watermarkFile, e.getMessage());
+                }
+            }
+        }
+        if (lastPrune.plus(retention.dividedBy(10)).isBefore(now)) {
+            int dropped = overlay.prune(now.minus(retention));
+            lastPrune = now;
+            log.debug("Dropped {} loan history changes older than {}", dropped, retention);
+        }
+    }
+}
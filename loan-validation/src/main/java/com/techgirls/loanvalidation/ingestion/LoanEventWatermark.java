@@ -0,0 +1,245 @@
+package com.techgirls.loanvalidation.ingestion;
+
+import com.techgirls.loanvalidation.adapter.LoanHistoryOverlay;
+import com.techgirls.loanvalidation.port.LoanEvent;
+import com.techgirls.loanvalidation.port.LoanHistory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Sequence of the last loan event applied to the local loan history view, saved
+ * with the overlay changes applied up to it, so that after a restart ingestion
+ * resumes where it stopped and the loans it had already ingested are still
+ * reported.
+ *
+ * Each batch only appends its applied events to a log next to the watermark file
+ * and forces it, so the cost of a batch does not grow with the overlay. Every so
+ * often the log is compacted: the whole overlay is written to a temporary file,
+ * forced, renamed over the watermark file, and the log is emptied. Loading reads
+ * the watermark file and replays the log over it; a record torn by a crash is cut
+ * off, and the events after it are fetched again from the feed.
+ *
+ * Watermark file format: the sequence on the first line, then one line per
+ * applicant: lastLoanDate (empty when none), defaultHistory, updatedAt and the
+ * applicant id, last so that ids containing commas still parse.
+ *
+ * Log format: one line per event: sequence, type, occurredOn (empty when none),
+ * the time it was applied and the applicant id.
+ */
+public final class LoanEventWatermark implements Closeable {
+
+    private final Path file;
+    private final Path log;
+
+    private FileChannel logChannel;
+    private long sequence;
+    private long loggedEvents;
+
+    public LoanEventWatermark(Path file) {
+        this.file = file;
+        this.log = file.resolveSibling(file.getFileName() + ".log");
+    }
+
+    /**
+     * Restores the saved changes into the overlay and opens the log for appending.
+     *
+     * @return saved sequence, or 0 when there is no watermark yet
+     */
+    public long load(LoanHistoryOverlay overlay) throws IOException {
+        sequence = loadSnapshot(overlay);
+        loggedEvents = 0;
+        openLog(overlay);
+        return sequence;
+    }
+
+    /**
+     * Events appended since the last compaction.
+     */
+    public long loggedEvents() {
+        return loggedEvents;
+    }
+
+    /**
+     * Appends applied events to the log and forces them to disk. A failed append
+     * is cut back off the log, so later appends never follow a partial record.
+     */
+    public void append(List<LoanEvent> events, Instant appliedAt) throws IOException {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (logChannel == null) {
+            logChannel = FileChannel.open(log, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            logChannel.position(logChannel.size());
+        }
+        StringBuilder lines = new StringBuilder();
+        for (LoanEvent event : events) {
+            lines.append(event.getSequence()).append(',')
+                    .append(event.getType()).append(',')
+                    .append(event.getOccurredOn() == null ? "" : event.getOccurredOn().toString()).append(',')
+                    .append(appliedAt).append(',')
+                    .append(event.getApplicantId()).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        long start = logChannel.position();
+        try {
+            while (buffer.hasRemaining()) {
+                logChannel.write(buffer);
+            }
+            logChannel.force(false);
+        } catch (IOException e) {
+            try {
+                logChannel.truncate(start);
+                logChannel.position(start);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        sequence = events.get(events.size() - 1).getSequence();
+        loggedEvents += events.size();
+    }
+
+    /**
+     * Writes the overlay with its sequence to the watermark file and empties the
+     * log. The new file is forced before the rename, and the rename before the
+     * log is emptied, so a crash at any point leaves a watermark that, with the
+     * log, covers every applied event.
+     */
+    public void compact(long sequence, LoanHistoryOverlay overlay) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            writer.write(Long.toString(sequence));
+            writer.newLine();
+            overlay.forEach((applicantId, history, updatedAt) -> {
+                try {
+                    writer.write((history.getLastLoanDate() == null ? "" : history.getLastLoanDate().toString())
+                            + "," + history.isDefaultHistory() + "," + updatedAt + "," + applicantId);
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            channel.force(true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory();
+        if (logChannel != null) {
+            logChannel.truncate(0);
+            logChannel.position(0);
+            logChannel.force(false);
+        } else {
+            Files.deleteIfExists(log);
+        }
+        this.sequence = sequence;
+        loggedEvents = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (logChannel != null) {
+            logChannel.close();
+            logChannel = null;
+        }
+    }
+
+    private long loadSnapshot(LoanHistoryOverlay overlay) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String first = reader.readLine();
+            if (first == null) {
+                return 0;
+            }
+            long saved = Long.parseLong(first.strip());
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",", 4);
+                if (columns.length < 4) {
+                    throw new IOException("Malformed loan event watermark line: " + line);
+                }
+                LocalDate lastLoanDate = columns[0].isEmpty() ? null : LocalDate.parse(columns[0]);
+                overlay.restore(columns[3], new LoanHistory(lastLoanDate, Boolean.parseBoolean(columns[1])),
+                        Instant.parse(columns[2]));
+            }
+            return saved;
+        }
+    }
+
+    /**
+     * Replays the complete log records newer than the watermark file, cuts off
+     * a torn last record and leaves the log open for appending.
+     */
+    private void openLog(LoanHistoryOverlay overlay) throws IOException {
+        close();
+        if (!Files.exists(log)) {
+            return;
+        }
+        byte[] content = Files.readAllBytes(log);
+        int complete = 0;
+        for (int end = indexOf(content, 0); end >= 0; end = indexOf(content, complete)) {
+            String line = new String(content, complete, end - complete, StandardCharsets.UTF_8);
+            complete = end + 1;
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] columns = line.split(",", 5);
+            if (columns.length < 5) {
+                throw new IOException("Malformed loan event log line: " + line);
+            }
+            long eventSequence = Long.parseLong(columns[0]);
+            if (eventSequence <= sequence) {
+                continue;
+            }
+            LocalDate occurredOn = columns[2].isEmpty() ? null : LocalDate.parse(columns[2]);
+            overlay.apply(new LoanEvent(eventSequence, columns[4], LoanEvent.Type.valueOf(columns[1]), occurredOn,
+                    null), Instant.parse(columns[3]));
+            sequence = eventSequence;
+            loggedEvents++;
+        }
+        logChannel = FileChannel.open(log, StandardOpenOption.WRITE);
+        if (complete < content.length) {
+            logChannel.truncate(complete);
+            logChannel.force(false);
+        }
+        logChannel.position(complete);
+    }
+
+    private void forceDirectory() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private static int indexOf(byte[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,448 @@
+package com.techgirls.loanvalidation.journal;
+
+import com.techgirls.loanvalidation.exception.DecisionJournalUnavailableException;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.service.validation.Evaluation;
+import com.techgirls.loanvalidation.service.validation.EvaluationObserver;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.util.concurrent.Queues;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only audit journal of every evaluation, in fixed-width
+ * {@link DecisionRecord}s spread over segment files named after their first
+ * sequence ({@code decisions-00000000000000000001.jnl}).
+ *
+ * Request threads only enqueue the evaluation on a lock-free multi-producer queue
+ * and return; they never wait for I/O. A single writer thread drains the queue,
+ * encodes records into one buffer and group-commits them: one write and one fsync
+ * per batch of up to {@code maxBatch} records, or per commit window when traffic
+ * is light. A record is thus durable at most one commit window after the decision.
+ *
+ * When the queue is full (the disk cannot keep up), the journal is not running or
+ * its last write or fsync failed, the {@link OverflowPolicy} decides: REJECT fails
+ * the evaluation, so no decision is returned without its record, and DROP lets it
+ * through unrecorded. After a failure the writer keeps retrying a commit and the
+ * journal takes evaluations again once one succeeds. Records that were accepted but
+ * could not be written or forced to disk are dropped too. Every drop is logged at
+ * ERROR, at most once every 10 seconds, and counted in
+ * {@code loanvalidation.journal.records{outcome=dropped}}, which should be alerted
+ * on; rejections are counted with {@code outcome=rejected}.
+ *
+ * A failed write is cut back to the last complete record before the writer goes
+ * on, so records are never issued twice under the same sequence and no torn record
+ * is left inside the journal. On start the last segment is scanned and a torn
+ * record left by a crash is truncated, so the journal always ends on a complete
+ * record.
+ */
+@Slf4j
+public class DecisionJournal implements EvaluationObserver, AutoCloseable {
+
+    static final String SEGMENT_PREFIX = "decisions-";
+    static final String SEGMENT_SUFFIX = ".jnl";
+
+    private static final long IDLE_PARK_NANOS = Duration.ofMillis(100).toNanos();
+    private static final long DROP_LOG_INTERVAL_NANOS = Duration.ofSeconds(10).toNanos();
+
+    /**
+     * What happens to an evaluation the journal cannot take.
+     */
+    public enum OverflowPolicy {
+        /** Fail the evaluation with a {@link DecisionJournalUnavailableException}. */
+        REJECT,
+        /** Return the decision without recording it. */
+        DROP
+    }
+
+    @Value
+    private static class Pending {
+        Evaluation evaluation;
+        long recordedAt;
+    }
+
+    private final Path directory;
+    private final long recordsPerSegment;
+    private final int capacity;
+    private final int maxBatch;
+    private final long commitWindowNanos;
+    private final int thresholdsVersion;
+    private final OverflowPolicy overflowPolicy;
+    private final Clock clock;
+
+    private final Queue<Pending> queue = Queues.<Pending>unboundedMultiproducer().get();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Thread writer;
+    private volatile boolean running;
+    private volatile boolean parked;
+    private volatile boolean failed;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter rejected;
+    private final AtomicLong lastDropLoggedAt = new AtomicLong(System.nanoTime() - DROP_LOG_INTERVAL_NANOS);
+    private final DistributionSummary commitBatch;
+    private final Timer fsync;
+
+    // Writer thread state
+    private Path segmentFile;
+    private FileChannel segment;
+    private long segmentRecords;
+    private long sequence;
+    private int unforced;
+    private long firstUnforcedAt;
+
+    public DecisionJournal(Path directory, long segmentSize, int capacity, int maxBatch, Duration commitWindow,
+                           int thresholdsVersion, OverflowPolicy overflowPolicy, Clock clock,
+                           MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.recordsPerSegment = Math.max(1, segmentSize / DecisionRecord.SIZE);
+        this.capacity = capacity;
+        this.maxBatch = maxBatch;
+        this.commitWindowNanos = commitWindow.toNanos();
+        this.thresholdsVersion = thresholdsVersion;
+        this.overflowPolicy = overflowPolicy;
+        this.clock = clock;
+        this.writer = new Thread(this::run, "decision-journal-writer");
+        this.writer.setDaemon(true);
+        this.written = Counter.builder("loanvalidation.journal.records")
+                .description("Evaluations journaled")
+                .tag("outcome", "written")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("loanvalidation.journal.records")
+                .description("Evaluations journaled")
+                .tag("outcome", "dropped")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("loanvalidation.journal.records")
+                .description("Evaluations journaled")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        this.commitBatch = DistributionSummary.builder("loanvalidation.journal.commit.batch")
+                .description("Records made durable by one fsync")
+                .register(meterRegistry);
+        this.fsync = Timer.builder("loanvalidation.journal.fsync")
+                .description("Time spent forcing journal segments to disk")
+                .register(meterRegistry);
+        Gauge.builder("loanvalidation.journal.queue", depth, AtomicInteger::get)
+                .description("Evaluations waiting for the journal writer")
+                .register(meterRegistry);
+    }
+
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        recover();
+        running = true;
+        writer.start();
+        log.info("Decision journal in {} continuing after sequence {}", directory, sequence);
+    }
+
+    /**
+     * Stops the writer once the queued evaluations are written and forced to disk.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join();
+    }
+
+    /**
+     * Queues the evaluation for the writer.
+     *
+     * @throws DecisionJournalUnavailableException when the journal cannot take it and
+     *         the overflow policy is REJECT
+     */
+    @Override
+    public void onEvaluation(Evaluation evaluation) {
+        if (!running) {
+            overflow("the journal is not running");
+            return;
+        }
+        if (failed) {
+            overflow("the journal could not write to " + directory);
+            return;
+        }
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            overflow("the journal queue is full");
+            return;
+        }
+        queue.offer(new Pending(evaluation, clock.millis()));
+        if (parked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void overflow(String reason) {
+        if (overflowPolicy == OverflowPolicy.REJECT) {
+            rejected.increment();
+            throw new DecisionJournalUnavailableException("Decision not recorded: " + reason);
+        }
+        drop(1, reason, null);
+    }
+
+    private void drop(int records, String reason, Exception cause) {
+        dropped.increment(records);
+        long now = System.nanoTime();
+        long last = lastDropLoggedAt.get();
+        if (now - last >= DROP_LOG_INTERVAL_NANOS && lastDropLoggedAt.compareAndSet(last, now)) {
+            log.error("Dropped {} decision records, {} dropped so far: {}", records, (long) dropped.count(),
+                    reason, cause);
+        }
+    }
+
+    /**
+     * Sequence of the last record handed to the file system.
+     */
+    public long lastSequence() {
+        return sequence;
+    }
+
+    private void run() {
+        ByteBuffer batch = ByteBuffer.allocateDirect(maxBatch * DecisionRecord.SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (running || !queue.isEmpty()) {
+            batch.clear();
+            int drained = 0;
+            Pending pending;
+            while (drained < maxBatch && (pending = queue.poll()) != null) {
+                depth.decrementAndGet();
+                toRecord(pending, sequence + drained + 1).encode(batch);
+                drained++;
+            }
+            if (drained > 0) {
+                batch.flip();
+                write(batch, drained);
+            }
+            if (unforced > 0 && (unforced >= maxBatch || !running
+                    || System.nanoTime() - firstUnforcedAt >= commitWindowNanos)) {
+                force();
+            }
+            if (failed && drained == 0 && unforced == 0 && running) {
+                retryCommit();
+            }
+            if (drained == 0 && running) {
+                parked = true;
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(unforced > 0
+                            ? Math.max(1, commitWindowNanos - (System.nanoTime() - firstUnforcedAt))
+                            : IDLE_PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+        closeSegment();
+    }
+
+    private DecisionRecord toRecord(Pending pending, long recordSequence) {
+        Evaluation evaluation = pending.getEvaluation();
+        LoanValidationRequest request = evaluation.getRequest();
+        LoanValidationResult result = evaluation.getResult();
+        List<String> incompleteRules = result.getIncompleteRules();
+        int flags = (Boolean.TRUE.equals(result.getEligible()) ? DecisionRecord.FLAG_ELIGIBLE : 0)
+                | (incompleteRules != null && !incompleteRules.isEmpty() ? DecisionRecord.FLAG_INCOMPLETE : 0);
+        return new DecisionRecord(recordSequence, pending.getRecordedAt(),
+                request.getMonthlySalary(), request.getRequestedAmount(),
+                result.getMonthlyPayment() != null ? result.getMonthlyPayment() : 0.0,
+                request.getTermMonths(), evaluation.getBusinessDate(),
+                request.getLastLoanDate() != null && request.getLastLoanDate().isPresent()
+                        ? request.getLastLoanDate().get() : null,
+                thresholdsVersion, ReasonMask.of(result.getReasons()), flags, evaluation.getLatencyNanos(),
+                evaluation.getApplicantId());
+    }
+
+    /**
+     * Writes the encoded batch, rolling to a new segment whenever the current one is
+     * full. Written records count once forced to disk; a failed batch is dropped and
+     * whatever part of it reached the segment is truncated away.
+     */
+    private void write(ByteBuffer batch, int records) {
+        int remaining = records;
+        try {
+            while (remaining > 0) {
+                if (segment == null || segmentRecords == recordsPerSegment) {
+                    openSegment();
+                }
+                int chunk = (int) Math.min(remaining, recordsPerSegment - segmentRecords);
+                ByteBuffer slice = batch.slice(batch.position(), chunk * DecisionRecord.SIZE);
+                while (slice.hasRemaining()) {
+                    segment.write(slice);
+                }
+                batch.position(batch.position() + chunk * DecisionRecord.SIZE);
+                segmentRecords += chunk;
+                sequence += chunk;
+                remaining -= chunk;
+                if (unforced == 0) {
+                    firstUnforcedAt = System.nanoTime();
+                }
+                unforced += chunk;
+            }
+        } catch (IOException e) {
+            failed = true;
+            drop(remaining, "could not write to " + directory, e);
+            truncateToLastRecord();
+        }
+    }
+
+    /**
+     * Cuts a partially written batch off the segment. If even that fails the
+     * segment is closed, and truncated when it is reopened for the next write.
+     */
+    private void truncateToLastRecord() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            segment.truncate(segmentRecords * DecisionRecord.SIZE);
+            segment.position(segmentRecords * DecisionRecord.SIZE);
+        } catch (IOException e) {
+            log.warn("Could not truncate decision journal segment {}", segmentFile, e);
+            closeSegment();
+        }
+    }
+
+    /**
+     * Commits nothing but the segment itself, to find out whether the journal
+     * can write again after a failure.
+     */
+    private void retryCommit() {
+        try {
+            if (segment == null) {
+                openSegment();
+            }
+            segment.force(false);
+            failed = false;
+            log.info("Decision journal in {} is writable again after sequence {}", directory, sequence);
+        } catch (IOException e) {
+            log.debug("Decision journal in {} still cannot be written: {}", directory, e.toString());
+        }
+    }
+
+    /**
+     * Forces the written records to disk. They count as written only once forced;
+     * if the force fails they may not be on disk and count as dropped.
+     */
+    private void force() {
+        if (unforced == 0) {
+            return;
+        }
+        int records = unforced;
+        unforced = 0;
+        long started = System.nanoTime();
+        try {
+            segment.force(false);
+            written.increment(records);
+            commitBatch.record(records);
+            failed = false;
+        } catch (IOException e) {
+            failed = true;
+            drop(records, "could not force the journal segment in " + directory, e);
+        } finally {
+            fsync.record(Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    /**
+     * Opens the segment the next record goes to: a new one once the current segment
+     * is full, otherwise the current one again after it was closed by a failure,
+     * truncated to its last complete record.
+     */
+    private void openSegment() throws IOException {
+        closeSegment();
+        if (segmentFile == null || segmentRecords == recordsPerSegment) {
+            segmentFile = directory.resolve(segmentName(sequence + 1));
+            segmentRecords = 0;
+        }
+        FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() > segmentRecords * DecisionRecord.SIZE) {
+                channel.truncate(segmentRecords * DecisionRecord.SIZE);
+            }
+            channel.position(segmentRecords * DecisionRecord.SIZE);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        segment = channel;
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        force();
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Could not close decision journal segment in {}", directory, e);
+        }
+        segment = null;
+    }
+
+    /**
+     * Finds the last complete record and truncates whatever follows it.
+     */
+    private void recover() throws IOException {
+        List<Path> segments = DecisionJournalReader.segments(directory);
+        if (segments.isEmpty()) {
+            return;
+        }
+        Path last = segments.get(segments.size() - 1);
+        long firstSequence = DecisionJournalReader.firstSequence(last);
+        sequence = firstSequence - 1;
+        FileChannel channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer buffer = ByteBuffer.allocate(DecisionRecord.SIZE);
+        long records = 0;
+        while (true) {
+            buffer.clear();
+            long position = records * DecisionRecord.SIZE;
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) > 0) {
+                // keep reading until the record is complete or the file ends
+            }
+            if (buffer.hasRemaining()) {
+                break;
+            }
+            buffer.flip();
+            DecisionRecord record = DecisionRecord.decode(buffer);
+            if (record == null || record.getSequence() != firstSequence + records) {
+                break;
+            }
+            records++;
+        }
+        if (channel.size() > records * DecisionRecord.SIZE) {
+            log.warn("Truncating {} bytes of incomplete decision records from {}",
+                    channel.size() - records * DecisionRecord.SIZE, last);
+            channel.truncate(records * DecisionRecord.SIZE);
+            channel.force(true);
+        }
+        sequence += records;
+        segmentFile = last;
+        segment = channel;
+        segmentRecords = records;
+        segment.position(records * DecisionRecord.SIZE);
+    }
+
+    static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+}
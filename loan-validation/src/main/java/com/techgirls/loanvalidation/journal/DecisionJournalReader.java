@@ -0,0 +1,118 @@
+package com.techgirls.loanvalidation.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the records of a {@link DecisionJournal} directory in sequence order, one
+ * memory-mapped segment at a time. Reading a segment stops at its first incomplete
+ * record, which can only be the tail of a segment still being written.
+ */
+public class DecisionJournalReader implements Iterator<DecisionRecord>, Closeable {
+
+    private final Iterator<Path> segments;
+    private final long fromSequence;
+    private MappedByteBuffer current;
+    private DecisionRecord next;
+
+    private DecisionJournalReader(List<Path> segments, long fromSequence) {
+        this.segments = segments.iterator();
+        this.fromSequence = fromSequence;
+    }
+
+    /**
+     * Reader over every record of the journal.
+     */
+    public static DecisionJournalReader open(Path directory) throws IOException {
+        return open(directory, 1);
+    }
+
+    /**
+     * Reader over the records from the given sequence on, skipping whole segments
+     * before it.
+     */
+    public static DecisionJournalReader open(Path directory, long fromSequence) throws IOException {
+        List<Path> all = segments(directory);
+        int start = 0;
+        for (int i = 1; i < all.size(); i++) {
+            if (firstSequence(all.get(i)) <= fromSequence) {
+                start = i;
+            }
+        }
+        return new DecisionJournalReader(all.subList(start, all.size()), fromSequence);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            if (current == null || current.remaining() < DecisionRecord.SIZE) {
+                if (!segments.hasNext()) {
+                    return false;
+                }
+                current = map(segments.next());
+                continue;
+            }
+            DecisionRecord record = DecisionRecord.decode(current);
+            if (record == null) {
+                current = null;
+            } else if (record.getSequence() >= fromSequence) {
+                next = record;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DecisionRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        DecisionRecord record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() {
+        current = null;
+    }
+
+    private static MappedByteBuffer map(Path segment) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read decision journal segment " + segment, e);
+        }
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(DecisionJournal.SEGMENT_PREFIX)
+                                && name.endsWith(DecisionJournal.SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(DecisionJournal.SEGMENT_PREFIX.length(),
+                name.length() - DecisionJournal.SEGMENT_SUFFIX.length()));
+    }
+}
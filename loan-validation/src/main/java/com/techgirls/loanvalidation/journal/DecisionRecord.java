@@ -0,0 +1,141 @@
+package com.techgirls.loanvalidation.journal;
+
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.CRC32;
+
+/**
+ * One journaled decision, with its fixed-width binary layout (128 bytes, little
+ * endian):
+ *
+ * <pre>
+ *   0  long   sequence            (starts at 1, never 0 for a written record)
+ *   8  long   recordedAt          epoch millis
+ *  16  double monthlySalary       NaN when absent
+ *  24  double requestedAmount     NaN when absent
+ *  32  double monthlyPayment
+ *  40  int    termMonths          {@link #ABSENT} when absent
+ *  44  int    businessDate        epoch day
+ *  48  int    lastLoanDate        epoch day, {@link #ABSENT} when absent
+ *  52  int    thresholdsVersion   business rules version in force
+ *  56  int    reasonMask          see ReasonMask
+ *  60  int    flags               bit 0 eligible, bit 1 incomplete rules, bit 2 applicant id truncated
+ *  64  long   latencyNanos
+ *  72  byte   applicantIdLength
+ *  73  byte[51] applicantId       UTF-8, zero padded
+ * 124  int    crc32               of bytes 0 to 123
+ * </pre>
+ *
+ * The CRC tells a complete record from a torn write at the end of a segment.
+ */
+@Value
+public class DecisionRecord {
+
+    public static final int SIZE = 128;
+    public static final int ABSENT = Integer.MIN_VALUE;
+    public static final int MAX_APPLICANT_ID_BYTES = 51;
+
+    static final int FLAG_ELIGIBLE = 1;
+    static final int FLAG_INCOMPLETE = 1 << 1;
+    static final int FLAG_APPLICANT_ID_TRUNCATED = 1 << 2;
+
+    private static final int APPLICANT_ID_OFFSET = 73;
+    private static final int CRC_OFFSET = 124;
+
+    long sequence;
+    long recordedAt;
+    Double monthlySalary;
+    Double requestedAmount;
+    double monthlyPayment;
+    Integer termMonths;
+    LocalDate businessDate;
+    LocalDate lastLoanDate;
+    int thresholdsVersion;
+    int reasonMask;
+    int flags;
+    long latencyNanos;
+    String applicantId;
+
+    public boolean isEligible() {
+        return (flags & FLAG_ELIGIBLE) != 0;
+    }
+
+    public boolean isIncomplete() {
+        return (flags & FLAG_INCOMPLETE) != 0;
+    }
+
+    /**
+     * Writes the record at the buffer's position and advances it by {@link #SIZE}.
+     * Applicant ids longer than the field are truncated on a character boundary and
+     * flagged.
+     */
+    public void encode(ByteBuffer buffer) {
+        ByteBuffer target = buffer.slice(buffer.position(), SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] id = applicantId == null ? new byte[0] : applicantId.getBytes(StandardCharsets.UTF_8);
+        int idLength = id.length;
+        int recordFlags = flags;
+        if (idLength > MAX_APPLICANT_ID_BYTES) {
+            idLength = MAX_APPLICANT_ID_BYTES;
+            while (idLength > 0 && (id[idLength] & 0xC0) == 0x80) {
+                idLength--;
+            }
+            recordFlags |= FLAG_APPLICANT_ID_TRUNCATED;
+        }
+        target.putLong(0, sequence)
+                .putLong(8, recordedAt)
+                .putDouble(16, monthlySalary == null ? Double.NaN : monthlySalary)
+                .putDouble(24, requestedAmount == null ? Double.NaN : requestedAmount)
+                .putDouble(32, monthlyPayment)
+                .putInt(40, termMonths == null ? ABSENT : termMonths)
+                .putInt(44, (int) businessDate.toEpochDay())
+                .putInt(48, lastLoanDate == null ? ABSENT : (int) lastLoanDate.toEpochDay())
+                .putInt(52, thresholdsVersion)
+                .putInt(56, reasonMask)
+                .putInt(60, recordFlags)
+                .putLong(64, latencyNanos)
+                .put(72, (byte) idLength);
+        for (int i = 0; i < MAX_APPLICANT_ID_BYTES; i++) {
+            target.put(APPLICANT_ID_OFFSET + i, i < idLength ? id[i] : 0);
+        }
+        target.putInt(CRC_OFFSET, crc(target));
+        buffer.position(buffer.position() + SIZE);
+    }
+
+    /**
+     * Reads the record at the buffer's position and advances it by {@link #SIZE}.
+     * @return the record, or null when the slot is empty or fails its checksum
+     */
+    public static DecisionRecord decode(ByteBuffer buffer) {
+        ByteBuffer source = buffer.slice(buffer.position(), SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(buffer.position() + SIZE);
+        long sequence = source.getLong(0);
+        if (sequence == 0 || source.getInt(CRC_OFFSET) != crc(source)) {
+            return null;
+        }
+        double salary = source.getDouble(16);
+        double amount = source.getDouble(24);
+        int term = source.getInt(40);
+        int lastLoan = source.getInt(48);
+        byte[] id = new byte[Math.min(source.get(72) & 0xFF, MAX_APPLICANT_ID_BYTES)];
+        source.get(APPLICANT_ID_OFFSET, id);
+        return new DecisionRecord(sequence, source.getLong(8),
+                Double.isNaN(salary) ? null : salary,
+                Double.isNaN(amount) ? null : amount,
+                source.getDouble(32),
+                term == ABSENT ? null : term,
+                LocalDate.ofEpochDay(source.getInt(44)),
+                lastLoan == ABSENT ? null : LocalDate.ofEpochDay(lastLoan),
+                source.getInt(52), source.getInt(56), source.getInt(60), source.getLong(64),
+                new String(id, StandardCharsets.UTF_8));
+    }
+
+    private static int crc(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.slice(0, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+}
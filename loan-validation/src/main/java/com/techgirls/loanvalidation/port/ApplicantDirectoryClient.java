@@ -0,0 +1,19 @@
+package com.techgirls.loanvalidation.port;
+
+import reactor.core.publisher.Mono;
+
+/**
+* External port to map an authenticated subject to its canonical applicant id.
+* Returns empty Mono if the subject is not a known applicant.
+*
+* Implementation note: In a real system, this would connect to the customer
+* directory or identity provider. For testing, we use a local stub.
+*/
+public interface ApplicantDirectoryClient {
+    /**
+     * Resolves the canonical applicant id for the given subject.
+     * @param subject principal name or applicant header value sent by the caller
+     * @return Mono containing the canonical applicant id, or empty if unknown
+     */
+    Mono<String> findApplicantId(String subject);
+}
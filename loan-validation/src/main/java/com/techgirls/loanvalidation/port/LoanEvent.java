@@ -0,0 +1,27 @@
+package com.techgirls.loanvalidation.port;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Value;
+
+/**
+* Change to an applicant's loan history, as published on the loan event feed.
+* Sequence numbers increase along the feed and are used as the ingestion watermark.
+*/
+@Value
+public class LoanEvent {
+
+    public enum Type {
+        /** A loan was paid out to the applicant on occurredOn. */
+        DISBURSED,
+        /** The applicant defaulted on a loan. */
+        DEFAULTED
+    }
+
+    long sequence;
+    String applicantId;
+    Type type;
+    LocalDate occurredOn;
+    /** When the event was published on the feed, used to measure ingestion lag. */
+    Instant publishedAt;
+}
@@ -0,0 +1,20 @@
+package com.techgirls.loanvalidation.port;
+
+import reactor.core.publisher.Flux;
+
+/**
+* External port to the feed of loan history changes (disbursements and defaults).
+*
+* Implementation note: In a real system, this would consume the loan service's
+* event stream. A tailed file and an in-memory feed are provided for local runs
+* and tests.
+*/
+public interface LoanEventSource {
+    /**
+     * Streams the events published after the given sequence, in sequence order,
+     * then keeps following the feed. The Flux only completes if the feed ends.
+     * @param afterSequence last sequence already applied, 0 to start from the beginning
+     * @return Flux of events with a sequence greater than afterSequence
+     */
+    Flux<LoanEvent> events(long afterSequence);
+}
@@ -0,0 +1,24 @@
+package com.techgirls.loanvalidation.port;
+
+import java.time.LocalDate;
+import lombok.Value;
+
+/**
+* Loan history facts of an applicant, as returned by {@link LoanHistoryClient}.
+* lastLoanDate is null when the applicant has no past loans.
+*/
+@Value
+public class LoanHistory {
+
+    private static final LoanHistory NONE = new LoanHistory(null, false);
+
+    LocalDate lastLoanDate;
+    boolean defaultHistory;
+
+    /**
+     * History of an applicant with no loans and no defaults.
+     */
+    public static LoanHistory none() {
+        return NONE;
+    }
+}
@@ -1,6 +1,7 @@
 package com.techgirls.loanvalidation.port;
 
 import java.time.LocalDate;
+import java.util.Optional;
 import reactor.core.publisher.Mono;
 
 /**
@@ -24,4 +25,18 @@ public interface LoanHistoryClient {
      * @return a Mono that emits true if the customer has default history, false otherwise
      */
     Mono<Boolean> hasDefaultHistory(String customerId);
+    
+    /**
+     * Retrieves both the last loan date and the default flag for the given applicant.
+     * The default implementation issues both lookups concurrently; adapters whose
+     * backend offers a combined call should override it to use a single round trip.
+     * @param applicantId unique identifier for the loan applicant
+     * @return Mono containing the applicant's loan history
+     */
+    default Mono<LoanHistory> getLoanHistory(String applicantId) {
+        return Mono.zip(
+                getLastLoanDate(applicantId).map(Optional::of).defaultIfEmpty(Optional.empty()),
+                hasDefaultHistory(applicantId).defaultIfEmpty(false))
+            .map(tuple -> new LoanHistory(tuple.getT1().orElse(null), tuple.getT2()));
+    }
 }
@@ -0,0 +1,44 @@
+package com.techgirls.loanvalidation.replay;
+
+import com.techgirls.loanvalidation.journal.DecisionRecord;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * A production decision to replay: the request as it was evaluated and the outcome
+ * recorded at the time, whether it came from the decision journal or an NDJSON
+ * capture.
+ */
+@Value
+public class RecordedDecision {
+
+    long sequence;
+    String applicantId;
+    LocalDate businessDate;
+    Double monthlySalary;
+    Double requestedAmount;
+    Integer termMonths;
+    LocalDate lastLoanDate;
+    boolean eligible;
+    int reasonMask;
+    double monthlyPayment;
+    /** Recorded evaluation latency, or -1 when the capture has none. */
+    long latencyNanos;
+
+    public static RecordedDecision of(DecisionRecord record) {
+        return new RecordedDecision(record.getSequence(), record.getApplicantId(), record.getBusinessDate(),
+                record.getMonthlySalary(), record.getRequestedAmount(), record.getTermMonths(),
+                record.getLastLoanDate(), record.isEligible(), record.getReasonMask(),
+                record.getMonthlyPayment(), record.getLatencyNanos());
+    }
+
+    public LoanValidationRequest toRequest() {
+        LoanValidationRequest request = new LoanValidationRequest(monthlySalary, requestedAmount, termMonths);
+        if (lastLoanDate != null) {
+            request.lastLoanDate(lastLoanDate);
+        }
+        return request;
+    }
+}
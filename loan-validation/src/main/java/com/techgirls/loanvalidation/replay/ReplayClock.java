@@ -0,0 +1,43 @@
+package com.techgirls.loanvalidation.replay;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * Clock set to the business date of the decisions being replayed, so date based
+ * rules (recent loans) judge them as they were judged in production.
+ */
+public class ReplayClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public ReplayClock(ZoneId zone) {
+        this.zone = zone;
+        this.instant = Instant.now();
+    }
+
+    public void setBusinessDate(LocalDate businessDate) {
+        instant = businessDate.atTime(LocalTime.NOON).atZone(zone).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        ReplayClock clock = new ReplayClock(zone);
+        clock.instant = instant;
+        return clock;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
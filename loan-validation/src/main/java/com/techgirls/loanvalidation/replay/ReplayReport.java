@@ -0,0 +1,190 @@
+package com.techgirls.loanvalidation.replay;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Behavioural and performance deltas of a replay: how many decisions changed and
+ * how (eligibility flips, reasons added or removed), sample changes, and recorded
+ * against replayed latency. Filled sequentially by the replay runner.
+ */
+public class ReplayReport {
+
+    private static final double PAYMENT_TOLERANCE = 0.005;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * A decision whose replayed outcome differs from the recorded one.
+     */
+    @Value
+    public static class Change {
+        long sequence;
+        String applicantId;
+        boolean recordedEligible;
+        int recordedReasons;
+        boolean replayedEligible;
+        int replayedReasons;
+    }
+
+    private final int maxSamples;
+    private final LatencyHistogram recordedLatency = new LatencyHistogram();
+    private final LatencyHistogram replayedLatency = new LatencyHistogram();
+    private final Map<ReasonsEnum, Long> reasonsAdded = new EnumMap<>(ReasonsEnum.class);
+    private final Map<ReasonsEnum, Long> reasonsRemoved = new EnumMap<>(ReasonsEnum.class);
+    private final List<Change> samples = new ArrayList<>();
+
+    private long decisions;
+    private long changed;
+    private long nowRejected;
+    private long nowEligible;
+    private long reasonsOnly;
+    private long paymentChanged;
+    private long failed;
+    private Duration elapsed = Duration.ZERO;
+
+    public ReplayReport(int maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+
+    public void add(RecordedDecision recorded, boolean eligible, int reasonMask, double monthlyPayment,
+                    long latencyNanos) {
+        decisions++;
+        if (recorded.getLatencyNanos() >= 0) {
+            recordedLatency.record(recorded.getLatencyNanos());
+        }
+        replayedLatency.record(latencyNanos);
+        if (Math.abs(recorded.getMonthlyPayment() - monthlyPayment) > PAYMENT_TOLERANCE) {
+            paymentChanged++;
+        }
+        if (recorded.isEligible() == eligible && recorded.getReasonMask() == reasonMask) {
+            return;
+        }
+        changed++;
+        if (recorded.isEligible() && !eligible) {
+            nowRejected++;
+        } else if (!recorded.isEligible() && eligible) {
+            nowEligible++;
+        } else {
+            reasonsOnly++;
+        }
+        count(reasonsAdded, reasonMask & ~recorded.getReasonMask());
+        count(reasonsRemoved, recorded.getReasonMask() & ~reasonMask);
+        if (samples.size() < maxSamples) {
+            samples.add(new Change(recorded.getSequence(), recorded.getApplicantId(), recorded.isEligible(),
+                    recorded.getReasonMask(), eligible, reasonMask));
+        }
+    }
+
+    /**
+     * A decision that could not be replayed (the engine failed on it).
+     */
+    public void addFailure() {
+        decisions++;
+        failed++;
+    }
+
+    public void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public long getDecisions() {
+        return decisions;
+    }
+
+    public long getChanged() {
+        return changed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public Map<ReasonsEnum, Long> getReasonsAdded() {
+        return reasonsAdded;
+    }
+
+    public Map<ReasonsEnum, Long> getReasonsRemoved() {
+        return reasonsRemoved;
+    }
+
+    public List<Change> getSamples() {
+        return samples;
+    }
+
+    public LatencyHistogram getReplayedLatency() {
+        return replayedLatency;
+    }
+
+    public double decisionsPerSecond() {
+        return elapsed.isZero() ? decisions : decisions / (elapsed.toNanos() / 1e9);
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Replayed %d decisions in %.1f s (%.0f decisions/s), %d failed%n",
+                decisions, elapsed.toNanos() / 1e9, decisionsPerSecond(), failed));
+        out.append(String.format(Locale.ROOT, "Changed: %d (%.3f%%)%n", changed,
+                decisions == 0 ? 0.0 : changed * 100.0 / decisions));
+        out.append(String.format(Locale.ROOT, "  eligible -> rejected: %d%n", nowRejected));
+        out.append(String.format(Locale.ROOT, "  rejected -> eligible: %d%n", nowEligible));
+        out.append(String.format(Locale.ROOT, "  reasons changed, still rejected: %d%n", reasonsOnly));
+        out.append(String.format(Locale.ROOT, "Monthly payment changed: %d%n", paymentChanged));
+        appendReasons(out, "Reasons added", reasonsAdded);
+        appendReasons(out, "Reasons removed", reasonsRemoved);
+
+        out.append(String.format(Locale.ROOT, "%nLatency (us)      recorded   replayed%n"));
+        for (double percentile : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, "  p%-6s %14s %10d%n", trim(percentile),
+                    recordedLatency.count() == 0 ? "-" : Long.toString(recordedLatency.percentileMicros(percentile)),
+                    replayedLatency.percentileMicros(percentile)));
+        }
+        out.append(String.format(Locale.ROOT, "  max     %14s %10d%n",
+                recordedLatency.count() == 0 ? "-" : Long.toString(recordedLatency.maxMicros()),
+                replayedLatency.maxMicros()));
+
+        out.append(String.format(Locale.ROOT, "%nReplayed latency histogram (us, upper bound: count)%n"));
+        for (long[] bucket : replayedLatency.buckets()) {
+            out.append(String.format(Locale.ROOT, "  <= %8d: %d%n", bucket[0], bucket[1]));
+        }
+
+        if (!samples.isEmpty()) {
+            out.append(String.format(Locale.ROOT, "%nSample changes (first %d)%n", samples.size()));
+            for (Change change : samples) {
+                out.append(String.format(Locale.ROOT, "  #%d %s: %s %s -> %s %s%n", change.getSequence(),
+                        change.getApplicantId(),
+                        change.isRecordedEligible() ? "eligible" : "rejected",
+                        ReasonMask.toReasons(change.getRecordedReasons()),
+                        change.isReplayedEligible() ? "eligible" : "rejected",
+                        ReasonMask.toReasons(change.getReplayedReasons())));
+            }
+        }
+        return out.toString();
+    }
+
+    private static void count(Map<ReasonsEnum, Long> counts, int mask) {
+        for (ReasonsEnum reason : ReasonMask.toReasons(mask)) {
+            counts.merge(reason, 1L, Long::sum);
+        }
+    }
+
+    private static void appendReasons(StringBuilder out, String title, Map<ReasonsEnum, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        out.append(title).append(':').append(System.lineSeparator());
+        counts.forEach((reason, count) ->
+                out.append(String.format(Locale.ROOT, "  %-24s %d%n", reason, count)));
+    }
+
+    private static String trim(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+}
@@ -0,0 +1,121 @@
+package com.techgirls.loanvalidation.replay;
+
+import com.techgirls.loanvalidation.config.ReplayProperties;
+import com.techgirls.loanvalidation.exception.InputValidationException;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.service.InputValidationService;
+import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Replays recorded decisions through the current rule engine and reports what
+ * changed, so a rule or threshold change can be judged on real traffic before it
+ * is deployed.
+ *
+ * Decisions are evaluated in parallel on Reactor's parallel scheduler, up to
+ * {@code concurrency} at a time, with the same input validation as the HTTP
+ * endpoint. The {@link ReplayClock} is set to each decision's business date; dates
+ * are replayed one after the other so no evaluation sees another day's clock. Loan
+ * history is looked up through the configured adapter, so point it at the snapshot
+ * of the replayed day for reproducible results.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplayRunner {
+
+    private final LoanValidationOrchestrator orchestrator;
+    private final InputValidationService inputValidationService;
+    private final ReplayClock clock;
+    private final ReplayProperties properties;
+
+    @Value
+    private static class Outcome {
+        RecordedDecision recorded;
+        boolean failed;
+        boolean eligible;
+        int reasonMask;
+        double monthlyPayment;
+        long latencyNanos;
+    }
+
+    public ReplayReport run() throws IOException {
+        ReplayReport report = new ReplayReport(properties.getMaxSamples());
+        Flux<RecordedDecision> decisions = ReplaySource.read(properties.getInput(), properties.getFromSequence());
+        if (properties.getLimit() > 0) {
+            decisions = decisions.take(properties.getLimit());
+        }
+
+        long started = System.nanoTime();
+        decisions.windowUntilChanged(RecordedDecision::getBusinessDate)
+                .concatMap(day -> day.switchOnFirst((first, sameDay) -> {
+                            if (first.hasValue()) {
+                                clock.setBusinessDate(first.get().getBusinessDate());
+                            }
+                            return sameDay;
+                        })
+                        .flatMap(decision -> replay(decision).subscribeOn(Schedulers.parallel()),
+                                properties.getConcurrency()), 1)
+                .doOnNext(outcome -> {
+                    if (outcome.isFailed()) {
+                        report.addFailure();
+                    } else {
+                        report.add(outcome.getRecorded(), outcome.isEligible(), outcome.getReasonMask(),
+                                outcome.getMonthlyPayment(), outcome.getLatencyNanos());
+                    }
+                })
+                .blockLast();
+        report.finish(Duration.ofNanos(System.nanoTime() - started));
+
+        String formatted = report.format();
+        Path reportFile = properties.getReport();
+        if (reportFile != null) {
+            if (reportFile.getParent() != null) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            Files.writeString(reportFile, formatted, StandardCharsets.UTF_8);
+        }
+        log.info("Replay finished: {} decisions, {} changed, {} failed, {} decisions/s{}{}",
+                report.getDecisions(), report.getChanged(), report.getFailed(),
+                Math.round(report.decisionsPerSecond()), System.lineSeparator(), formatted);
+        return report;
+    }
+
+    private Mono<Outcome> replay(RecordedDecision decision) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            LoanValidationRequest request = decision.toRequest();
+            try {
+                inputValidationService.validateRequest(request);
+            } catch (InputValidationException e) {
+                // No payment is computed for invalid input; keep the recorded one out of the payment delta
+                return Mono.just(new Outcome(decision, false, false,
+                        ReasonMask.bit(LoanValidationResult.ReasonsEnum.DATOS_INVALIDOS),
+                        decision.getMonthlyPayment(), System.nanoTime() - started));
+            }
+            String applicantId = decision.getApplicantId() == null || decision.getApplicantId().isEmpty()
+                    ? null : decision.getApplicantId();
+            return orchestrator.evaluate(request, applicantId)
+                    .map(result -> new Outcome(decision, false, Boolean.TRUE.equals(result.getEligible()),
+                            ReasonMask.of(result.getReasons()),
+                            result.getMonthlyPayment() != null ? result.getMonthlyPayment() : 0.0,
+                            System.nanoTime() - started))
+                    .onErrorResume(error -> {
+                        log.debug("Replay of decision {} failed: {}", decision.getSequence(), error.getMessage());
+                        return Mono.just(new Outcome(decision, true, false, 0, 0.0, System.nanoTime() - started));
+                    });
+        });
+    }
+}
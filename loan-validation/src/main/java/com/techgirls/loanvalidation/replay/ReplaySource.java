@@ -0,0 +1,98 @@
+package com.techgirls.loanvalidation.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techgirls.loanvalidation.journal.DecisionJournalReader;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import reactor.core.publisher.Flux;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams recorded decisions for replay, read lazily as the replay requests them.
+ *
+ * A directory is read as a decision journal. A file is read as an NDJSON capture,
+ * one decision per line:
+ * {@code {"sequence":1,"applicantId":"a-1","businessDate":"2024-06-01","monthlySalary":3000,
+ * "requestedAmount":5000,"termMonths":24,"lastLoanDate":null,"eligible":false,
+ * "reasons":["HAS_RECENT_LOANS"],"monthlyPayment":208.33,"latencyNanos":850000}};
+ * sequence and latencyNanos are optional.
+ */
+public final class ReplaySource {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ReplaySource() {
+    }
+
+    /**
+     * Decisions of the input from the given sequence on (line number for captures
+     * without sequences).
+     */
+    public static Flux<RecordedDecision> read(Path input, long fromSequence) {
+        if (Files.isDirectory(input)) {
+            return Flux.using(() -> DecisionJournalReader.open(input, fromSequence),
+                    reader -> Flux.fromIterable(() -> reader).map(RecordedDecision::of),
+                    DecisionJournalReader::close);
+        }
+        return Flux.using(() -> Files.newBufferedReader(input, StandardCharsets.UTF_8),
+                reader -> Flux.<RecordedDecision, long[]>generate(() -> new long[] {0}, (lineNumber, sink) -> {
+                    try {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            lineNumber[0]++;
+                            if (line.isBlank()) {
+                                continue;
+                            }
+                            RecordedDecision decision = parseCapture(line, lineNumber[0]);
+                            if (decision.getSequence() >= fromSequence) {
+                                sink.next(decision);
+                                return lineNumber;
+                            }
+                        }
+                        sink.complete();
+                    } catch (IOException e) {
+                        sink.error(new UncheckedIOException(e));
+                    }
+                    return lineNumber;
+                }),
+                ReplaySource::closeQuietly);
+    }
+
+    static RecordedDecision parseCapture(String line, long lineNumber) throws IOException {
+        JsonNode node = MAPPER.readTree(line);
+        List<ReasonsEnum> reasons = new ArrayList<>();
+        for (JsonNode reason : node.path("reasons")) {
+            reasons.add(ReasonsEnum.fromValue(reason.asText()));
+        }
+        return new RecordedDecision(
+                node.hasNonNull("sequence") ? node.get("sequence").asLong() : lineNumber,
+                node.path("applicantId").asText(null),
+                LocalDate.parse(node.path("businessDate").asText()),
+                node.hasNonNull("monthlySalary") ? node.get("monthlySalary").asDouble() : null,
+                node.hasNonNull("requestedAmount") ? node.get("requestedAmount").asDouble() : null,
+                node.hasNonNull("termMonths") ? node.get("termMonths").asInt() : null,
+                node.hasNonNull("lastLoanDate") ? LocalDate.parse(node.get("lastLoanDate").asText()) : null,
+                node.path("eligible").asBoolean(),
+                ReasonMask.of(reasons),
+                node.path("monthlyPayment").asDouble(),
+                node.hasNonNull("latencyNanos") ? node.get("latencyNanos").asLong() : -1);
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing left to read from it
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.techgirls.loanvalidation.service;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
 import com.techgirls.loanvalidation.exception.InputValidationException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 
 /**
@@ -13,8 +15,8 @@ import java.time.LocalDate;
  * 
  * Validation Rules:
  * - Salary and amount must be positive and within realistic ranges
- * - Term must be between 1-36 months
- * - Loan date must be valid if provided
+ * - Term must be between 1 and loan-validation.business-rules.max-term-months (36 by default)
+ * - Loan date must be valid if provided, relative to the injected clock
  * - Cross-field validations (debt-to-income ratios)
  */
 @Slf4j
@@ -27,9 +29,16 @@ public class InputValidationService {
     private static final double MIN_REQUESTED_AMOUNT = 100.0;
     private static final double MAX_REQUESTED_AMOUNT = 10_000_000.0;
     private static final int MIN_TERM_MONTHS = 1;
-    private static final int MAX_TERM_MONTHS = 36;
     private static final double MAX_LOAN_TO_INCOME_RATIO = 20.0; // Max 20x annual salary
     
+    private final int maxTermMonths;
+    private final Clock clock;
+    
+    public InputValidationService(BusinessRulesProperties businessRules, Clock clock) {
+        this.maxTermMonths = businessRules.getMaxTermMonths();
+        this.clock = clock;
+    }
+    
     /**
      * Validates a loan request and throws InputValidationException if invalid.
      * 
@@ -102,14 +111,14 @@ public class InputValidationService {
             throw new InputValidationException("Term in months is required");
         }
         
-        if (termMonths < MIN_TERM_MONTHS || termMonths > MAX_TERM_MONTHS) {
+        if (termMonths < MIN_TERM_MONTHS || termMonths > maxTermMonths) {
             throw new InputValidationException(
-                String.format("Term must be between %d and %d months", MIN_TERM_MONTHS, MAX_TERM_MONTHS));
+                String.format("Term must be between %d and %d months", MIN_TERM_MONTHS, maxTermMonths));
         }
     }
     
     private void validateLastLoanDate(LocalDate lastLoanDate) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
         
         // Last loan date cannot be in the future
         if (lastLoanDate.isAfter(today)) {
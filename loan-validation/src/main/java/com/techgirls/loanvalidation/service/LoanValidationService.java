@@ -1,30 +1,41 @@
 package com.techgirls.loanvalidation.service;
 
-import com.techgirls.loanvalidation.exception.ExternalServiceException;
-import com.techgirls.loanvalidation.exception.LoanValidationException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import com.techgirls.loanvalidation.service.validation.PrefetchedLoanHistory;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Enhanced loan validation service following SOLID principles and using Lombok.
- * 
+ *
  * This service acts as a facade that delegates to a more sophisticated validation orchestrator.
  * It maintains backward compatibility while providing a cleaner, more maintainable architecture.
- * 
+ *
  * SOLID Principles Applied:
  * - Single Responsibility: Only responsible for providing the public API
  * - Open/Closed: New validation logic can be added through the orchestrator
  * - Dependency Inversion: Depends on abstractions through the orchestrator
- * 
+ *
  * Lombok Features Used:
  * - @RequiredArgsConstructor: Generates constructor for final fields
  * - @Slf4j: Provides logging capability
- * 
+ *
+ * Concurrent identical requests are coalesced: while an evaluation for a given
+ * canonical key is in flight, further callers subscribe to the same shared Mono
+ * instead of running the rule pipeline (and its external lookups) again.
+ *
  * Business Rules:
  * R1: No loans in the last 3 months (inclusive).
  * R2: 1 <= termMonths <= 36.
@@ -35,25 +46,128 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 @Slf4j
 public class LoanValidationService {
-    
+
     private final LoanValidationOrchestrator validationOrchestrator;
 
+    private final ConcurrentMap<EvaluationKey, Mono<LoanValidationResult>> inFlightEvaluations =
+            new ConcurrentHashMap<>();
+
     /**
      * Evaluates loan eligibility using the orchestrated validation approach.
-     * 
+     *
      * This method now delegates to the LoanValidationOrchestrator, which implements
      * a more sophisticated validation architecture following SOLID principles.
-     * 
+     *
      * @param request the loan validation request
      * @return Mono containing the validation result
      */
     public Mono<LoanValidationResult> evaluate(LoanValidationRequest request) {
-        log.debug("Delegating loan validation to orchestrator for request: monthlySalary={}, requestedAmount={}, termMonths={}", 
+        return evaluate(request, null);
+    }
+
+    /**
+     * Evaluates loan eligibility for an already resolved applicant.
+     *
+     * @param request the loan validation request
+     * @param applicantId canonical applicant id, or null for anonymous callers
+     * @return Mono containing the validation result
+     */
+    public Mono<LoanValidationResult> evaluate(LoanValidationRequest request, String applicantId) {
+        return evaluate(request, applicantId, null);
+    }
+
+    /**
+     * Evaluates loan eligibility with a loan history prefetched by the caller.
+     *
+     * @param request the loan validation request
+     * @param applicantId canonical applicant id, or null for anonymous callers
+     * @param prefetchedHistory outcome of the caller's history prefetch, or null to let the orchestrator fetch it
+     * @return Mono containing the validation result
+     */
+    public Mono<LoanValidationResult> evaluate(LoanValidationRequest request, String applicantId,
+                                               PrefetchedLoanHistory prefetchedHistory) {
+        log.debug("Delegating loan validation to orchestrator for request: monthlySalary={}, requestedAmount={}, termMonths={}",
                  request.getMonthlySalary(), request.getRequestedAmount(), request.getTermMonths());
-        
-        return validationOrchestrator.evaluate(request)
+
+        return coalesce(request, applicantId, prefetchedHistory)
                 .doOnSuccess(result -> log.info("Validation completed successfully: eligible={}", result.getEligible()))
                 .doOnError(error -> log.error("Validation failed with error: {}", error.getMessage()));
     }
 
-}
\ No newline at end of file
+    /**
+     * Timeout for a loan history lookup started ahead of the evaluation, the same
+     * one the orchestrator applies to its own lookup. Empty when no rule needs the history.
+     */
+    public Optional<Duration> loanHistoryTimeout() {
+        return validationOrchestrator.loanHistoryTimeout();
+    }
+
+    /**
+     * Returns the in-flight evaluation for an identical request, or starts a new one.
+     * The lookup is deferred to subscription time so the map reflects the real
+     * concurrency of subscribers rather than of assembly.
+     */
+    private Mono<LoanValidationResult> coalesce(LoanValidationRequest request, String applicantId,
+                                                PrefetchedLoanHistory prefetchedHistory) {
+        EvaluationKey key = EvaluationKey.of(request, applicantId);
+        return Mono.defer(() -> inFlightEvaluations.computeIfAbsent(key,
+                k -> sharedEvaluation(k, request, applicantId, prefetchedHistory)));
+    }
+
+    /**
+     * Builds a Mono that runs the orchestrator once for all of its subscribers.
+     * The entry removes itself from the in-flight map on completion, error and
+     * cancellation; cancellation only reaches the orchestrator once every
+     * subscriber has cancelled.
+     */
+    private Mono<LoanValidationResult> sharedEvaluation(EvaluationKey key, LoanValidationRequest request,
+                                                        String applicantId, PrefetchedLoanHistory prefetchedHistory) {
+        AtomicReference<Mono<LoanValidationResult>> self = new AtomicReference<>();
+        Mono<LoanValidationResult> shared = Mono.defer(() -> orchestrate(request, applicantId, prefetchedHistory))
+                .doFinally(signal -> {
+                    inFlightEvaluations.remove(key, self.get());
+                    log.debug("In-flight evaluation released with signal {}", signal);
+                })
+                .flux()
+                .publish()
+                .refCount()
+                .singleOrEmpty();
+        self.set(shared);
+        return shared;
+    }
+
+    private Mono<LoanValidationResult> orchestrate(LoanValidationRequest request, String applicantId,
+                                                   PrefetchedLoanHistory prefetchedHistory) {
+        if (prefetchedHistory != null) {
+            return validationOrchestrator.evaluate(request, applicantId, prefetchedHistory);
+        }
+        return applicantId == null
+                ? validationOrchestrator.evaluate(request)
+                : validationOrchestrator.evaluate(request, applicantId);
+    }
+
+    /**
+     * Canonical identity of a request for in-flight deduplication.
+     * Two requests with the same key always produce the same decision.
+     */
+    @Value
+    static class EvaluationKey {
+        String applicantId;
+        Double monthlySalary;
+        Double requestedAmount;
+        Integer termMonths;
+        boolean lastLoanDateProvided;
+        LocalDate lastLoanDate;
+
+        static EvaluationKey of(LoanValidationRequest request, String applicantId) {
+            boolean provided = request.getLastLoanDate() != null && request.getLastLoanDate().isPresent();
+            return new EvaluationKey(
+                    applicantId,
+                    request.getMonthlySalary(),
+                    request.getRequestedAmount(),
+                    request.getTermMonths(),
+                    provided,
+                    provided ? request.getLastLoanDate().get() : null);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.techgirls.loanvalidation.service;
 
 import com.techgirls.loanvalidation.exception.ExternalServiceException;
 import com.techgirls.loanvalidation.exception.LoanValidationException;
+import com.techgirls.loanvalidation.exception.UnidentifiedApplicantException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.applicant.ApplicantIdentificationService;
@@ -77,6 +78,8 @@ public class RefactoredLoanValidationService {
                         "Failed during validation process: " + throwable.getMessage(), throwable);
                 });
                 
+        } catch (UnidentifiedApplicantException ex) {
+            return Mono.error(ex);
         } catch (Exception ex) {
             log.error("Unexpected error during loan evaluation", ex);
             return Mono.error(new LoanValidationException(
@@ -0,0 +1,86 @@
+package com.techgirls.loanvalidation.service.applicant;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, concurrent cache of subject to canonical applicant id mappings.
+ *
+ * Reads are lock-free {@link ConcurrentHashMap} lookups, so repeat callers are
+ * resolved without any I/O or contention. The bound is approximate: when the
+ * cache is full an arbitrary entry is evicted before inserting, and concurrent
+ * writers may briefly overshoot by a few entries.
+ *
+ * Subjects the directory does not know are kept apart, each with the time
+ * (in {@link System#nanoTime()} units) until which it is considered unknown.
+ */
+public class ApplicantIdCache {
+
+    private final ConcurrentHashMap<String, String> entries;
+    private final ConcurrentHashMap<String, Long> unknownUntil;
+    private final int maxSize;
+
+    public ApplicantIdCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+        this.unknownUntil = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * @return the cached applicant id, or null if the subject was not resolved yet
+     */
+    public String get(String subject) {
+        return entries.get(subject);
+    }
+
+    public void put(String subject, String applicantId) {
+        if (entries.size() >= maxSize && !entries.containsKey(subject)) {
+            evictOne();
+        }
+        entries.put(subject, applicantId);
+    }
+
+    /**
+     * @return true if the subject was reported unknown and that has not expired at {@code now}
+     */
+    public boolean isUnknown(String subject, long now) {
+        Long until = unknownUntil.get(subject);
+        if (until == null) {
+            return false;
+        }
+        if (now - until < 0) {
+            return true;
+        }
+        unknownUntil.remove(subject, until);
+        return false;
+    }
+
+    public void putUnknown(String subject, long until) {
+        if (unknownUntil.size() >= maxSize && !unknownUntil.containsKey(subject)) {
+            evictOne(unknownUntil.keySet().iterator());
+        }
+        unknownUntil.put(subject, until);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int unknownSize() {
+        return unknownUntil.size();
+    }
+
+    private void evictOne() {
+        evictOne(entries.keySet().iterator());
+    }
+
+    private static void evictOne(Iterator<String> keys) {
+        if (keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -1,28 +1,104 @@
 package com.techgirls.loanvalidation.service.applicant;
 
+import com.techgirls.loanvalidation.config.ApplicantIdentificationProperties;
+import com.techgirls.loanvalidation.config.ApplicantIdentificationProperties.UnidentifiedPolicy;
+import com.techgirls.loanvalidation.exception.UnidentifiedApplicantException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.port.ApplicantDirectoryClient;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.function.LongSupplier;
 
 /**
  * Service responsible for generating or retrieving applicant identifiers.
- * In a real system, this would integrate with authentication/user management systems.
+ * The applicant is taken from the authenticated principal or, failing that, from
+ * the configured request header, and mapped to its canonical id through the
+ * {@link ApplicantDirectoryClient} port. Resolved ids are kept in a bounded
+ * in-memory cache so repeat callers cost no extra I/O; subjects the directory
+ * does not know are remembered for a short TTL for the same reason.
+ * Callers that cannot be identified are rejected unless the simulated policy is
+ * configured for development.
  * This follows Single Responsibility Principle by handling only applicant ID logic.
  */
 @Service
 @Slf4j
 public class ApplicantIdentificationService {
 
+    private final ApplicantDirectoryClient applicantDirectoryClient;
+    private final ApplicantIdentificationProperties properties;
+    private final ApplicantIdCache applicantIdCache;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public ApplicantIdentificationService(ApplicantDirectoryClient applicantDirectoryClient,
+                                          ApplicantIdentificationProperties properties) {
+        this(applicantDirectoryClient, properties, System::nanoTime);
+    }
+
+    ApplicantIdentificationService(ApplicantDirectoryClient applicantDirectoryClient,
+                                   ApplicantIdentificationProperties properties, LongSupplier nanoTime) {
+        this.applicantDirectoryClient = applicantDirectoryClient;
+        this.properties = properties;
+        this.applicantIdCache = new ApplicantIdCache(properties.getCacheMaxSize());
+        this.nanoTime = nanoTime;
+    }
+
     /**
-     * Generates a simulated applicant ID for testing purposes.
-     * In a real system, this would come from authentication context or user session.
-     * 
+     * Resolves the canonical applicant id of the caller behind the exchange.
+     *
+     * @param exchange the current server exchange
+     * @return Mono with the canonical applicant id, or empty for anonymous or unknown callers
+     */
+    public Mono<String> resolveApplicantId(ServerWebExchange exchange) {
+        return getCurrentApplicantId(exchange)
+                .flatMap(this::resolveSubject);
+    }
+
+    /**
+     * Maps a caller subject to its canonical applicant id, using the cache first.
+     *
+     * @param subject principal name or header value
+     * @return Mono with the canonical applicant id, or empty if the directory does not know it
+     */
+    public Mono<String> resolveSubject(String subject) {
+        String cached = applicantIdCache.get(subject);
+        if (cached != null) {
+            log.debug("Applicant id resolved from cache");
+            return Mono.just(cached);
+        }
+        if (applicantIdCache.isUnknown(subject, nanoTime.getAsLong())) {
+            log.debug("Applicant subject recently reported unknown by the directory");
+            return Mono.empty();
+        }
+        return applicantDirectoryClient.findApplicantId(subject)
+                .doOnNext(applicantId -> {
+                    applicantIdCache.put(subject, applicantId);
+                    log.debug("Applicant id resolved from directory");
+                })
+                .switchIfEmpty(Mono.fromRunnable(() -> rememberUnknown(subject)));
+    }
+
+    /**
+     * Applicant id for a caller that no principal, header or directory entry
+     * identifies. Under the default policy there is none and the caller is rejected;
+     * only the development-only simulated policy derives a stub id from the request,
+     * so the stub loan history scenarios keep working without a header.
+     *
      * @param request the loan validation request
      * @return a simulated applicant ID based on request characteristics
+     * @throws UnidentifiedApplicantException unless the simulated policy is configured
      */
     public String generateApplicantId(LoanValidationRequest request) {
-        log.debug("Generating applicant ID for request");
-        
+        if (properties.getUnidentified() != UnidentifiedPolicy.SIMULATED) {
+            throw new UnidentifiedApplicantException("The applicant could not be identified");
+        }
+        log.debug("Generating simulated applicant ID for request");
+
         // Create different scenarios for testing based on request characteristics
         if (request.getRequestedAmount() != null && request.getRequestedAmount() > 15000) {
             log.debug("Generated applicant ID for high amount scenario");
@@ -31,22 +107,41 @@ public class ApplicantIdentificationService {
             log.debug("Generated applicant ID for medium amount scenario");
             return "applicant-old-loans"; // Will trigger old loans scenario
         }
-        
+
         log.debug("Generated applicant ID for low amount scenario");
         return "applicant-no-loans"; // No loans scenario
     }
-    
+
     /**
-     * In a real implementation, this would retrieve the applicant ID from 
-     * the current security context or authentication token.
-     * 
-     * @return the authenticated user's applicant ID
+     * Retrieves the caller subject from the authenticated principal, falling back
+     * to the configured applicant header.
+     *
+     * @param exchange the current server exchange
+     * @return Mono with the raw subject, or empty for anonymous callers
      */
-    public String getCurrentApplicantId() {
-        // In a real system:
-        // return SecurityContextHolder.getContext().getAuthentication().getName();
-        
-        log.debug("Retrieved current applicant ID from security context");
-        return "authenticated-applicant-id";
-    }
-}
\ No newline at end of file
+    public Mono<String> getCurrentApplicantId(ServerWebExchange exchange) {
+        Mono<String> fromHeader = Mono.fromSupplier(() ->
+                exchange.getRequest().getHeaders().getFirst(properties.getHeader()));
+
+        return exchange.getPrincipal()
+                .map(Principal::getName)
+                .switchIfEmpty(fromHeader)
+                .filter(subject -> !subject.isBlank())
+                .doOnNext(subject -> log.debug("Retrieved current applicant subject from exchange"));
+    }
+
+    int cachedApplicantCount() {
+        return applicantIdCache.size();
+    }
+
+    int unknownSubjectCount() {
+        return applicantIdCache.unknownSize();
+    }
+
+    private void rememberUnknown(String subject) {
+        long ttl = properties.getUnknownSubjectTtl().toNanos();
+        if (ttl > 0) {
+            applicantIdCache.putUnknown(subject, nanoTime.getAsLong() + ttl);
+        }
+    }
+}
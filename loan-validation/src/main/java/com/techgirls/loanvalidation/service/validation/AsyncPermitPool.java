@@ -0,0 +1,113 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking counting semaphore for reactive pipelines.
+ *
+ * {@link #acquire()} completes immediately while permits are available and
+ * otherwise queues the subscriber (FIFO) until a permit is released; no thread
+ * is ever parked. Cancelled waiters are skipped, and a permit granted to a
+ * subscriber that cancelled concurrently is returned through Reactor's discard hook.
+ */
+class AsyncPermitPool {
+
+    private final AtomicInteger available;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    AsyncPermitPool(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Permits must be positive");
+        }
+        this.available = new AtomicInteger(permits);
+    }
+
+    /**
+     * @return Mono emitting a permit once one is available; the permit must be released
+     */
+    Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+            if (tryAcquire()) {
+                sink.success(new Permit());
+                return;
+            }
+            Waiter waiter = new Waiter(sink);
+            sink.onCancel(() -> {
+                waiter.cancel();
+                waiters.remove(waiter);
+            });
+            waiters.offer(waiter);
+            // A permit may have been released between tryAcquire and offer
+            drain();
+        }).doOnDiscard(Permit.class, Permit::release);
+    }
+
+    int availablePermits() {
+        return available.get();
+    }
+
+    int queuedWaiters() {
+        return waiters.size();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = available.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null || !waiter.grant()) {
+                available.incrementAndGet();
+                continue;
+            }
+            waiter.sink.success(new Permit());
+        }
+    }
+
+    /**
+     * A single acquired permit; releasing it more than once has no effect.
+     */
+    final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                available.incrementAndGet();
+                drain();
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        private boolean grant() {
+            return done.compareAndSet(false, true);
+        }
+
+        private void cancel() {
+            done.set(true);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Evaluates the input-only rules over many loans at once, from parallel primitive
+ * arrays instead of request objects:
+ * - R1 recent loans: a last loan on or after the business date minus the recent-loan window
+ * - R2 maximum term: a term below 1 or above the maximum
+ * - R3 payment capacity: a monthly payment above the salary percentage
+ * - R4 invalid data: a salary or amount that is not positive
+ *
+ * Decisions are the same as {@link LoanValidationOrchestrator}'s rules: every rule
+ * is evaluated (invalid data does not stop the others) and R1 uses
+ * {@code !isBefore(threshold)}. Rules that need the loan history service, such as
+ * default history, are not evaluated here.
+ *
+ * The result of each row is its reason mask, see {@link ReasonMask}; 0 means
+ * eligible. A missing salary or amount is NaN, a missing term 0 and a missing last
+ * loan date {@link #NO_LOAN}. Each row is evaluated by one loop body with no branch
+ * the JIT cannot turn into a conditional move, so the loop can be vectorized.
+ * Instances are immutable and can be shared between threads.
+ */
+public class ColumnarRuleEngine {
+
+    public static final int NO_LOAN = Integer.MIN_VALUE;
+
+    /** Terms whose annuity factors are precomputed; longer terms are priced one by one. */
+    static final int ANNUITY_TERMS = 1200;
+
+    private static final int CHUNK_ROWS = 1024;
+
+    private static final int HAS_RECENT_LOANS = ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS);
+    private static final int PLAZO_MAXIMO_SUPERADO = ReasonMask.bit(ReasonsEnum.PLAZO_MAXIMO_SUPERADO);
+    private static final int CAPACIDAD_INSUFICIENTE = ReasonMask.bit(ReasonsEnum.CAPACIDAD_INSUFICIENTE);
+    private static final int DATOS_INVALIDOS = ReasonMask.bit(ReasonsEnum.DATOS_INVALIDOS);
+
+    private final int maxTermMonths;
+    private final double maxSalaryPercentage;
+    private final int recentLoanMonths;
+    private final double monthlyRate;
+    private final boolean simpleDivision;
+    // Annuity payment is amount * numerator / denominator, in the order
+    // PaymentCalculationService computes it, so results match to the bit
+    private final double[] numerator;
+    private final double[] denominator;
+
+    /**
+     * @param annualInterestRate prices the monthly payment as an annuity; 0 for the
+     *                           simple division used by {@link LoanValidationOrchestrator}
+     */
+    public ColumnarRuleEngine(int maxTermMonths, double maxSalaryPercentage, int recentLoanMonths,
+                              double annualInterestRate) {
+        this.maxTermMonths = maxTermMonths;
+        this.maxSalaryPercentage = maxSalaryPercentage;
+        this.recentLoanMonths = recentLoanMonths;
+        this.monthlyRate = annualInterestRate / 12;
+        this.simpleDivision = annualInterestRate == 0.0;
+        this.numerator = new double[simpleDivision ? 0 : ANNUITY_TERMS + 1];
+        this.denominator = new double[numerator.length];
+        for (int term = 0; term < numerator.length; term++) {
+            double factor = Math.pow(1 + monthlyRate, term);
+            numerator[term] = monthlyRate * factor;
+            denominator[term] = factor - 1;
+        }
+    }
+
+    /**
+     * The engine for the thresholds currently in force.
+     */
+    public static ColumnarRuleEngine of(BusinessRulesProperties properties) {
+        return new ColumnarRuleEngine(properties.getMaxTermMonths(), properties.getMaxSalaryPercentage(),
+                properties.getRecentLoanMonths(), 0.0);
+    }
+
+    /**
+     * Evaluates every row of the arrays into {@code reasons}.
+     */
+    public void evaluate(LocalDate businessDate, double[] salary, double[] amount, int[] term,
+                         int[] lastLoanEpochDay, byte[] reasons) {
+        evaluate(businessDate, salary, amount, term, lastLoanEpochDay, 0, salary.length, reasons, 0);
+    }
+
+    /**
+     * Evaluates rows {@code from} (inclusive) to {@code to} (exclusive) into
+     * {@code reasons}, starting at {@code reasonsOffset}.
+     */
+    public void evaluate(LocalDate businessDate, double[] salary, double[] amount, int[] term,
+                         int[] lastLoanEpochDay, int from, int to, byte[] reasons, int reasonsOffset) {
+        checkRange(salary, amount, term, lastLoanEpochDay, from, to);
+        Objects.checkFromIndexSize(reasonsOffset, to - from, reasons.length);
+        int threshold = recentLoanThreshold(businessDate);
+        if (simpleDivision) {
+            evaluateSimple(salary, amount, term, lastLoanEpochDay, from, to, threshold, reasons, reasonsOffset);
+        } else {
+            evaluateAnnuity(salary, amount, term, lastLoanEpochDay, from, to, threshold, reasons, reasonsOffset);
+        }
+    }
+
+    /**
+     * Evaluates every row of the arrays into {@code reasons}.
+     */
+    public void evaluate(LocalDate businessDate, double[] salary, double[] amount, int[] term,
+                         int[] lastLoanEpochDay, int[] reasons) {
+        evaluate(businessDate, salary, amount, term, lastLoanEpochDay, 0, salary.length, reasons, 0);
+    }
+
+    /**
+     * Evaluates rows {@code from} (inclusive) to {@code to} (exclusive) into
+     * {@code reasons}, starting at {@code reasonsOffset}.
+     */
+    public void evaluate(LocalDate businessDate, double[] salary, double[] amount, int[] term,
+                         int[] lastLoanEpochDay, int from, int to, int[] reasons, int reasonsOffset) {
+        checkRange(salary, amount, term, lastLoanEpochDay, from, to);
+        Objects.checkFromIndexSize(reasonsOffset, to - from, reasons.length);
+        byte[] chunk = new byte[Math.min(CHUNK_ROWS, to - from)];
+        for (int start = from; start < to; start += CHUNK_ROWS) {
+            int end = Math.min(to, start + CHUNK_ROWS);
+            evaluate(businessDate, salary, amount, term, lastLoanEpochDay, start, end, chunk, 0);
+            int offset = reasonsOffset + start - from;
+            for (int i = 0; i < end - start; i++) {
+                reasons[offset + i] = chunk[i];
+            }
+        }
+    }
+
+    public int getMaxTermMonths() {
+        return maxTermMonths;
+    }
+
+    public double getMaxSalaryPercentage() {
+        return maxSalaryPercentage;
+    }
+
+    public int getRecentLoanMonths() {
+        return recentLoanMonths;
+    }
+
+    private void evaluateSimple(double[] salary, double[] amount, int[] term, int[] lastLoanEpochDay,
+                                int from, int to, int threshold, byte[] reasons, int reasonsOffset) {
+        double percentage = maxSalaryPercentage;
+        int maxTerm = maxTermMonths;
+        for (int i = from; i < to; i++) {
+            double s = salary[i];
+            double a = amount[i];
+            int t = term[i];
+            double payment = a / t;
+            int mask = lastLoanEpochDay[i] >= threshold ? HAS_RECENT_LOANS : 0;
+            mask |= (t < 1) | (t > maxTerm) ? PLAZO_MAXIMO_SUPERADO : 0;
+            mask |= (t > 0) & (payment > s * percentage) ? CAPACIDAD_INSUFICIENTE : 0;
+            mask |= (s > 0.0) & (a > 0.0) ? 0 : DATOS_INVALIDOS;
+            reasons[reasonsOffset + i - from] = (byte) mask;
+        }
+    }
+
+    private void evaluateAnnuity(double[] salary, double[] amount, int[] term, int[] lastLoanEpochDay,
+                                 int from, int to, int threshold, byte[] reasons, int reasonsOffset) {
+        double percentage = maxSalaryPercentage;
+        int maxTerm = maxTermMonths;
+        boolean longTerms = false;
+        for (int i = from; i < to; i++) {
+            double s = salary[i];
+            double a = amount[i];
+            int t = term[i];
+            int factor = Math.max(0, Math.min(t, ANNUITY_TERMS));
+            double payment = a * numerator[factor] / denominator[factor];
+            longTerms |= t > ANNUITY_TERMS;
+            int mask = lastLoanEpochDay[i] >= threshold ? HAS_RECENT_LOANS : 0;
+            mask |= (t < 1) | (t > maxTerm) ? PLAZO_MAXIMO_SUPERADO : 0;
+            mask |= (t > 0) & (payment > s * percentage) ? CAPACIDAD_INSUFICIENTE : 0;
+            mask |= (s > 0.0) & (a > 0.0) ? 0 : DATOS_INVALIDOS;
+            reasons[reasonsOffset + i - from] = (byte) mask;
+        }
+        if (longTerms) {
+            repriceLongTerms(salary, amount, term, from, to, reasons, reasonsOffset);
+        }
+    }
+
+    /**
+     * Redoes R3 for the rare rows whose term has no precomputed annuity factor.
+     */
+    private void repriceLongTerms(double[] salary, double[] amount, int[] term, int from, int to,
+                                  byte[] reasons, int reasonsOffset) {
+        for (int i = from; i < to; i++) {
+            if (term[i] > ANNUITY_TERMS) {
+                double factor = Math.pow(1 + monthlyRate, term[i]);
+                double payment = amount[i] * (monthlyRate * factor) / (factor - 1);
+                int index = reasonsOffset + i - from;
+                int mask = reasons[index] & ~CAPACIDAD_INSUFICIENTE;
+                reasons[index] = (byte) (payment > salary[i] * maxSalaryPercentage
+                        ? mask | CAPACIDAD_INSUFICIENTE : mask);
+            }
+        }
+    }
+
+    private int recentLoanThreshold(LocalDate businessDate) {
+        return (int) businessDate.minusMonths(recentLoanMonths).toEpochDay();
+    }
+
+    private static void checkRange(double[] salary, double[] amount, int[] term, int[] lastLoanEpochDay,
+                                   int from, int to) {
+        Objects.checkFromToIndex(from, to, salary.length);
+        Objects.checkFromToIndex(from, to, amount.length);
+        Objects.checkFromToIndex(from, to, term.length);
+        Objects.checkFromToIndex(from, to, lastLoanEpochDay.length);
+    }
+}
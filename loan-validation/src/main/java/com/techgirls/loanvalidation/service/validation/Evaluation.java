@@ -0,0 +1,22 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * A completed evaluation, as handed to {@link EvaluationObserver}s: the request, the
+ * applicant and business date it was evaluated for, the result and how long the
+ * evaluation took.
+ */
+@Value
+public class Evaluation {
+
+    LoanValidationRequest request;
+    String applicantId;
+    LocalDate businessDate;
+    LoanValidationResult result;
+    long latencyNanos;
+}
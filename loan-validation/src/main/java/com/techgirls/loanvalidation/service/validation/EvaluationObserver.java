@@ -0,0 +1,17 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.exception.ExternalServiceException;
+
+/**
+ * Receives every evaluation completed by {@link LoanValidationOrchestrator}.
+ *
+ * Observers are called on the thread that completed the evaluation, before the
+ * result is returned, so they must not block: hand the evaluation off and return.
+ * An observer that must not let a decision through unobserved, like the decision
+ * journal, throws an {@link ExternalServiceException} to fail the evaluation; any
+ * other exception is logged and does not affect the result.
+ */
+public interface EvaluationObserver {
+
+    void onEvaluation(Evaluation evaluation);
+}
@@ -0,0 +1,152 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Per-request data-fetch stage that loads the applicant's loan history once,
+ * before the validation rules run.
+ *
+ * Both the last loan date and the default flag are obtained through
+ * {@link LoanHistoryClient#getLoanHistory(String)}, which issues the lookups
+ * concurrently (or as one combined call when the adapter supports it). When
+ * the request already carries lastLoanDate only the default flag is fetched.
+ * Either way a request costs at most one loan-history round trip.
+ *
+ * The HTTP controller instead starts the full lookup through {@link #prefetch}
+ * as soon as the applicant is identified, before the body is decoded. Both paths are bounded by the history rules' timeout and
+ * turn a failed lookup into unavailable history, never into an error.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanHistoryFetchStage {
+
+    private final LoanHistoryClient loanHistoryClient;
+
+    /**
+     * Fetches the loan history of the context's applicant.
+     *
+     * @param request the loan validation request
+     * @param context context with the resolved applicant id
+     * @return Mono with the applicant's history, or empty when there is no applicant to look up
+     */
+    public Mono<LoanHistory> fetch(LoanValidationRequest request, ValidationContext context) {
+        String applicantId = context.getApplicantId();
+        if (applicantId == null) {
+            return Mono.empty();
+        }
+
+        if (carriesLastLoanDate(request)) {
+            log.debug("Request carries lastLoanDate; fetching default history only");
+            return loanHistoryClient.hasDefaultHistory(applicantId)
+                    .defaultIfEmpty(false)
+                    .map(defaultHistory -> new LoanHistory(null, defaultHistory));
+        }
+
+        log.debug("Fetching loan history for applicant");
+        return loanHistoryClient.getLoanHistory(applicantId)
+                .defaultIfEmpty(LoanHistory.none());
+    }
+
+    /**
+     * Starts the loan history lookup for an applicant whose identity is known
+     * before the request body, so that the single history round trip overlaps
+     * body decoding and input validation. When the decoded body carries
+     * lastLoanDate the fetched date is ignored, as the body takes precedence.
+     * A lookup that fails or does not answer within the timeout yields
+     * {@link PrefetchedLoanHistory#unavailable()} instead of an error; a rejected
+     * body cancels the lookup through the caller, which never subscribes past it.
+     *
+     * @param applicantId canonical applicant id
+     * @param body the request body, cached by the caller
+     * @param timeout longest wait for the history, normally the history rules' timeout
+     * @return Mono with the prefetched history
+     */
+    public Mono<PrefetchedLoanHistory> prefetch(String applicantId, Mono<LoanValidationRequest> body,
+                                                Duration timeout) {
+        log.debug("Prefetching loan history for applicant");
+        Mono<PrefetchedLoanHistory> history = loanHistoryClient.getLoanHistory(applicantId)
+                .defaultIfEmpty(LoanHistory.none())
+                .map(PrefetchedLoanHistory::of)
+                .timeout(timeout)
+                .onErrorResume(error -> {
+                    log.warn("Loan history prefetch failed, history rules will be incomplete: {}", error.toString());
+                    return Mono.just(PrefetchedLoanHistory.unavailable());
+                });
+        // A rejected body fails the caller's evaluation on its own; never report it as a history failure
+        return Mono.zip(history, body.onErrorResume(error -> Mono.never()))
+                .map(tuple -> withoutFetchedDate(tuple.getT1(), tuple.getT2()));
+    }
+
+    /**
+     * Returns a copy of the context populated with the applicant's loan history.
+     * A lookup that fails or does not answer within the timeout does not fail the
+     * evaluation: the context is marked with the history unavailable, so the rules
+     * that need it report incomplete.
+     *
+     * @param request the loan validation request
+     * @param context context with the resolved applicant id
+     * @param timeout longest wait for the history, normally the history rules' timeout
+     * @return Mono with the enriched context, or the same context when there is no applicant
+     */
+    public Mono<ValidationContext> enrich(LoanValidationRequest request, ValidationContext context,
+                                          Duration timeout) {
+        return fetch(request, context)
+                .timeout(timeout)
+                .map(history -> apply(context, history))
+                .defaultIfEmpty(context)
+                .onErrorResume(error -> {
+                    log.warn("Loan history unavailable, history rules will be incomplete: {}", error.toString());
+                    return Mono.just(unavailable(context));
+                });
+    }
+
+    /**
+     * Populates the context with an already fetched loan history.
+     */
+    public ValidationContext apply(ValidationContext context, LoanHistory history) {
+        return context.toBuilder()
+                .lastLoanDate(history.getLastLoanDate())
+                .defaultHistory(history.isDefaultHistory())
+                .loanHistoryLoaded(true)
+                .build();
+    }
+
+    /**
+     * Populates the context with a prefetched loan history, or marks the history
+     * unavailable when the prefetch failed.
+     */
+    public ValidationContext apply(ValidationContext context, PrefetchedLoanHistory prefetched) {
+        return prefetched.isAvailable() ? apply(context, prefetched.getHistory()) : unavailable(context);
+    }
+
+    /**
+     * Marks the context as having no loan history available for this evaluation.
+     */
+    public ValidationContext unavailable(ValidationContext context) {
+        return context.toBuilder()
+                .loanHistoryLoaded(false)
+                .loanHistoryUnavailable(true)
+                .build();
+    }
+
+    private static PrefetchedLoanHistory withoutFetchedDate(PrefetchedLoanHistory prefetched,
+                                                            LoanValidationRequest request) {
+        if (!prefetched.isAvailable() || !carriesLastLoanDate(request)) {
+            return prefetched;
+        }
+        return PrefetchedLoanHistory.of(new LoanHistory(null, prefetched.getHistory().isDefaultHistory()));
+    }
+
+    private static boolean carriesLastLoanDate(LoanValidationRequest request) {
+        return request.getLastLoanDate() != null && request.getLastLoanDate().isPresent();
+    }
+}
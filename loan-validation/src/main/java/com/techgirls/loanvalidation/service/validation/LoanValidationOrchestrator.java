@@ -1,21 +1,26 @@
 package com.techgirls.loanvalidation.service.validation;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
 import com.techgirls.loanvalidation.exception.ExternalServiceException;
 import com.techgirls.loanvalidation.exception.LoanValidationException;
+import com.techgirls.loanvalidation.exception.UnidentifiedApplicantException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.applicant.ApplicantIdentificationService;
 import com.techgirls.loanvalidation.service.calculation.PaymentCalculationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +44,19 @@ public class LoanValidationOrchestrator {
     private final PaymentCalculationService paymentCalculationService;
     private final ApplicantIdentificationService applicantIdentificationService;
     private final Clock clock;
+    private final RuleExecutionScheduler ruleExecutionScheduler;
+    private final LoanHistoryFetchStage loanHistoryFetchStage;
+    private final BusinessRulesProperties businessRules;
+    private List<EvaluationObserver> evaluationObservers = List.of();
+
+    /**
+     * Registers the observers notified of every completed evaluation (audit journal
+     * and the like). Optional; none are registered by default.
+     */
+    @Autowired(required = false)
+    public void setEvaluationObservers(List<EvaluationObserver> evaluationObservers) {
+        this.evaluationObservers = List.copyOf(evaluationObservers);
+    }
 
     /**
      * Evaluates loan eligibility using all configured validation rules.
@@ -47,19 +65,49 @@ public class LoanValidationOrchestrator {
      * @return Mono containing the validation result
      */
     public Mono<LoanValidationResult> evaluate(LoanValidationRequest request) {
+        return evaluate(request, null);
+    }
+
+    /**
+     * Evaluates loan eligibility for an already resolved applicant.
+     * 
+     * @param request the loan validation request
+     * @param applicantId canonical applicant id, or null to fall back to the simulated id
+     * @return Mono containing the validation result
+     */
+    public Mono<LoanValidationResult> evaluate(LoanValidationRequest request, String applicantId) {
+        return evaluate(request, applicantId, null);
+    }
+
+    /**
+     * Evaluates loan eligibility for an already resolved applicant whose loan
+     * history was prefetched while the request body was being decoded.
+     * 
+     * @param request the loan validation request
+     * @param applicantId canonical applicant id, or null to fall back to the simulated id
+     * @param prefetchedHistory outcome of the prefetch, or null to fetch the history here
+     * @return Mono containing the validation result
+     */
+    public Mono<LoanValidationResult> evaluate(LoanValidationRequest request, String applicantId,
+                                               PrefetchedLoanHistory prefetchedHistory) {
         log.debug("Starting orchestrated loan validation for request: monthlySalary={}, requestedAmount={}, termMonths={}", 
                  request.getMonthlySalary(), request.getRequestedAmount(), request.getTermMonths());
         
+        long startedAt = System.nanoTime();
         try {
             // Build validation context with all necessary data
-            ValidationContext context = buildValidationContext(request);
+            ValidationContext context = buildValidationContext(request, applicantId);
             
-            // Execute validation rules in priority order and collect results
-            return executeValidationRules(request, context)
-                .collectList()
-                .map(ruleResults -> buildFinalResult(ruleResults, context))
+            // Fetch shared external data once, then execute validation rules in priority order
+            return prepareContext(request, context, prefetchedHistory)
+                .flatMap(preparedContext -> executeValidationRules(request, preparedContext)
+                        .collectList()
+                        .map(ruleOutcomes -> buildFinalResult(ruleOutcomes, preparedContext))
+                        .doOnNext(result -> notifyObservers(request, preparedContext, result, startedAt)))
                 .onErrorMap(this::mapValidationError);
                 
+        } catch (UnidentifiedApplicantException ex) {
+            return Mono.error(ex);
         } catch (Exception ex) {
             log.error("Unexpected error during orchestrated loan evaluation", ex);
             return Mono.error(new LoanValidationException(
@@ -70,20 +118,22 @@ public class LoanValidationOrchestrator {
     /**
      * Builds the validation context containing all shared data.
      */
-    private ValidationContext buildValidationContext(LoanValidationRequest request) {
+    private ValidationContext buildValidationContext(LoanValidationRequest request, String resolvedApplicantId) {
         LocalDate today = LocalDate.now(clock);
-        LocalDate threeMonthsAgo = today.minusMonths(3);
+        LocalDate recentLoanThreshold = today.minusMonths(businessRules.getRecentLoanMonths());
         
         Double monthlyPayment = paymentCalculationService.calculateMonthlyPayment(
                 request.getRequestedAmount(), 
                 request.getTermMonths()
         );
         
-        String applicantId = applicantIdentificationService.generateApplicantId(request);
+        String applicantId = resolvedApplicantId != null
+                ? resolvedApplicantId
+                : applicantIdentificationService.generateApplicantId(request);
         
         return ValidationContext.builder()
                 .currentDate(today)
-                .recentLoanThreshold(threeMonthsAgo)
+                .recentLoanThreshold(recentLoanThreshold)
                 .monthlyPayment(monthlyPayment)
                 .applicantId(applicantId)
                 .externalDataAvailable(true)
@@ -91,9 +141,39 @@ public class LoanValidationOrchestrator {
     }
 
     /**
-     * Executes all validation rules in priority order.
+     * Longest timeout among the rules that need the loan history: the wait those
+     * rules would have been allowed on their own, and so the bound for the shared
+     * history lookup. Empty when no configured rule needs the history.
      */
-    private Flux<List<LoanValidationResult.ReasonsEnum>> executeValidationRules(
+    public Optional<Duration> loanHistoryTimeout() {
+        return validationRules.stream()
+                .filter(LoanValidationRule::requiresLoanHistory)
+                .map(ruleExecutionScheduler::timeoutOf)
+                .max(Comparator.naturalOrder());
+    }
+
+    /**
+     * Runs the loan history fetch stage when any configured rule needs it,
+     * so history-based rules share a single round trip. A history prefetched
+     * by the caller is used as is, including a failed prefetch, which is not retried.
+     */
+    private Mono<ValidationContext> prepareContext(LoanValidationRequest request, ValidationContext context,
+                                                   PrefetchedLoanHistory prefetchedHistory) {
+        Optional<Duration> historyTimeout = loanHistoryTimeout();
+        if (historyTimeout.isEmpty()) {
+            return Mono.just(context);
+        }
+        if (prefetchedHistory != null) {
+            log.debug("Using loan history prefetched during request decoding");
+            return Mono.just(loanHistoryFetchStage.apply(context, prefetchedHistory));
+        }
+        return loanHistoryFetchStage.enrich(request, context, historyTimeout.get());
+    }
+
+    /**
+     * Executes all validation rules in priority order through the rule execution scheduler.
+     */
+    private Flux<RuleOutcome> executeValidationRules(
             LoanValidationRequest request, 
             ValidationContext context) {
         
@@ -104,37 +184,65 @@ public class LoanValidationOrchestrator {
         
         log.debug("Executing {} validation rules in priority order", sortedRules.size());
         
-        return Flux.fromIterable(sortedRules)
-                .flatMap(rule -> {
-                    log.debug("Executing rule: {}", rule.getRuleName());
-                    return rule.validate(request, context)
-                            .doOnNext(reasons -> {
-                                if (!reasons.isEmpty()) {
-                                    log.debug("Rule {} found violations: {}", rule.getRuleName(), reasons);
-                                }
-                            });
+        return ruleExecutionScheduler.execute(sortedRules, request, context)
+                .doOnNext(outcome -> {
+                    if (!outcome.getReasons().isEmpty()) {
+                        log.debug("Rule {} found violations: {}", outcome.getRuleName(), outcome.getReasons());
+                    }
                 });
     }
 
     /**
-     * Builds the final validation result from all rule results.
+     * Builds the final validation result from all rule outcomes.
+     * A request is only eligible when every rule completed without reasons;
+     * rules that timed out are listed in incompleteRules.
      */
     private LoanValidationResult buildFinalResult(
-            List<List<LoanValidationResult.ReasonsEnum>> ruleResults, 
+            List<RuleOutcome> ruleOutcomes, 
             ValidationContext context) {
         
         // Flatten all validation results
-        List<LoanValidationResult.ReasonsEnum> allReasons = ruleResults.stream()
-                .flatMap(List::stream)
+        List<LoanValidationResult.ReasonsEnum> allReasons = ruleOutcomes.stream()
+                .flatMap(outcome -> outcome.getReasons().stream())
                 .collect(Collectors.toList());
         
-        boolean eligible = allReasons.isEmpty();
+        List<String> incompleteRules = ruleOutcomes.stream()
+                .filter(outcome -> !outcome.isCompleted())
+                .map(RuleOutcome::getRuleName)
+                .collect(Collectors.toList());
+        
+        boolean eligible = allReasons.isEmpty() && incompleteRules.isEmpty();
         double monthlyPayment = context.getMonthlyPayment() != null ? context.getMonthlyPayment() : 0.0;
         
-        log.info("Orchestrated loan evaluation completed: eligible={}, reasons={}, monthlyPayment={}", 
-                eligible, allReasons, monthlyPayment);
+        log.info("Orchestrated loan evaluation completed: eligible={}, reasons={}, monthlyPayment={}, incompleteRules={}", 
+                eligible, allReasons, monthlyPayment, incompleteRules);
         
-        return new LoanValidationResult(eligible, allReasons, monthlyPayment);
+        LoanValidationResult result = new LoanValidationResult(eligible, allReasons, monthlyPayment);
+        if (!incompleteRules.isEmpty()) {
+            result.setIncompleteRules(incompleteRules);
+        }
+        return result;
+    }
+
+    /**
+     * Hands the completed evaluation to the registered observers.
+     */
+    private void notifyObservers(LoanValidationRequest request, ValidationContext context,
+                                 LoanValidationResult result, long startedAt) {
+        if (evaluationObservers.isEmpty()) {
+            return;
+        }
+        Evaluation evaluation = new Evaluation(request, context.getApplicantId(), context.getCurrentDate(),
+                result, System.nanoTime() - startedAt);
+        for (EvaluationObserver observer : evaluationObservers) {
+            try {
+                observer.onEvaluation(evaluation);
+            } catch (ExternalServiceException ex) {
+                throw ex;
+            } catch (RuntimeException ex) {
+                log.warn("Evaluation observer {} failed", observer.getClass().getSimpleName(), ex);
+            }
+        }
     }
 
     /**
@@ -4,6 +4,7 @@ import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -32,6 +33,32 @@ public interface LoanValidationRule {
         return 100;
     }
     
+    /**
+     * Returns true if this rule performs I/O (for example an external lookup).
+     * Asynchronous rules run concurrently under the orchestrator's concurrency caps;
+     * synchronous rules run inline on the calling thread.
+     */
+    default boolean isAsynchronous() {
+        return false;
+    }
+    
+    /**
+     * Returns true if this rule reads the applicant's loan history.
+     * When any configured rule does, the orchestrator fetches the history once
+     * per request and stores it in the {@link ValidationContext} before rules run.
+     */
+    default boolean requiresLoanHistory() {
+        return false;
+    }
+    
+    /**
+     * Returns the timeout for this rule when it runs asynchronously,
+     * or null to use the configured default.
+     */
+    default Duration getTimeout() {
+        return null;
+    }
+    
     /**
      * Returns the name of this validation rule for logging purposes.
      */
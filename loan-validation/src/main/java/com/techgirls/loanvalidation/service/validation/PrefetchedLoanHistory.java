@@ -0,0 +1,29 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import lombok.Value;
+
+/**
+ * Outcome of a loan history lookup started before the evaluation.
+ * When the lookup failed or timed out the history is null and the rules that
+ * need it are reported as incomplete, without looking it up again.
+ */
+@Value
+public class PrefetchedLoanHistory {
+
+    private static final PrefetchedLoanHistory UNAVAILABLE = new PrefetchedLoanHistory(null);
+
+    LoanHistory history;
+
+    public static PrefetchedLoanHistory of(LoanHistory history) {
+        return new PrefetchedLoanHistory(history);
+    }
+
+    public static PrefetchedLoanHistory unavailable() {
+        return UNAVAILABLE;
+    }
+
+    public boolean isAvailable() {
+        return history != null;
+    }
+}
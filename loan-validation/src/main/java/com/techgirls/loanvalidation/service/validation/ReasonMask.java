@@ -0,0 +1,53 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encodes a set of rejection reasons as an int bit mask, one bit per reason at its
+ * ordinal. Masks are persisted, so new reasons must be appended to the OpenAPI
+ * enum, never inserted or reordered.
+ */
+public final class ReasonMask {
+
+    public static final int NONE = 0;
+
+    private static final ReasonsEnum[] REASONS = ReasonsEnum.values();
+
+    private ReasonMask() {
+    }
+
+    public static int of(Collection<ReasonsEnum> reasons) {
+        int mask = NONE;
+        if (reasons != null) {
+            for (ReasonsEnum reason : reasons) {
+                mask |= bit(reason);
+            }
+        }
+        return mask;
+    }
+
+    public static int bit(ReasonsEnum reason) {
+        return 1 << reason.ordinal();
+    }
+
+    public static boolean contains(int mask, ReasonsEnum reason) {
+        return (mask & bit(reason)) != 0;
+    }
+
+    /**
+     * Reasons of the mask in enum order.
+     */
+    public static List<ReasonsEnum> toReasons(int mask) {
+        List<ReasonsEnum> reasons = new ArrayList<>(Integer.bitCount(mask));
+        for (ReasonsEnum reason : REASONS) {
+            if (contains(mask, reason)) {
+                reasons.add(reason);
+            }
+        }
+        return reasons;
+    }
+}
@@ -0,0 +1,152 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.config.RuleExecutionProperties;
+import com.techgirls.loanvalidation.exception.LoanHistoryUnavailableException;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Executes validation rules for the orchestrator.
+ *
+ * Synchronous rules run inline on the calling thread, in priority order.
+ * Asynchronous rules (external lookups) fan out concurrently, limited both per
+ * request and globally, and each one is bounded by its own timeout, which covers the
+ * wait for a global permit as well as the rule itself. A rule that times out, even
+ * before it got a permit, or that needs a loan history the fetch stage could not load, is
+ * reported as an incomplete {@link RuleOutcome} instead of failing the whole
+ * evaluation.
+ *
+ * Metrics:
+ * - loan.validation.rule.queue: time an async rule waited for a global permit
+ * - loan.validation.rule.execution: async rule execution time
+ * - loan.validation.rule.timeouts: async rules that hit their timeout
+ * - loan.validation.rule.permits.available / .waiting: global cap usage
+ */
+@Component
+@Slf4j
+public class RuleExecutionScheduler {
+
+    private static final String RULE_TAG = "rule";
+
+    private final RuleExecutionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AsyncPermitPool globalPermits;
+
+    public RuleExecutionScheduler(RuleExecutionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.globalPermits = new AsyncPermitPool(properties.getGlobalConcurrency());
+
+        Gauge.builder("loan.validation.rule.permits.available", globalPermits, AsyncPermitPool::availablePermits)
+                .description("Global permits left for asynchronous validation rules")
+                .register(meterRegistry);
+        Gauge.builder("loan.validation.rule.permits.waiting", globalPermits, AsyncPermitPool::queuedWaiters)
+                .description("Asynchronous validation rules waiting for a global permit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executes the given rules, already sorted by priority.
+     *
+     * @param rules rules in priority order
+     * @param request the loan validation request
+     * @param context validation context shared by all rules
+     * @return one outcome per rule; synchronous outcomes first, in priority order
+     */
+    public Flux<RuleOutcome> execute(List<LoanValidationRule> rules,
+                                     LoanValidationRequest request,
+                                     ValidationContext context) {
+
+        List<LoanValidationRule> synchronousRules = rules.stream()
+                .filter(rule -> !rule.isAsynchronous())
+                .collect(Collectors.toList());
+        List<LoanValidationRule> asynchronousRules = rules.stream()
+                .filter(LoanValidationRule::isAsynchronous)
+                .collect(Collectors.toList());
+
+        Flux<RuleOutcome> synchronousOutcomes = Flux.fromIterable(synchronousRules)
+                .concatMap(rule -> {
+                    log.debug("Executing rule: {}", rule.getRuleName());
+                    return rule.validate(request, context)
+                            .map(reasons -> RuleOutcome.completed(rule, reasons));
+                });
+
+        Flux<RuleOutcome> asynchronousOutcomes = Flux.fromIterable(asynchronousRules)
+                .flatMap(rule -> executeAsynchronous(rule, request, context),
+                        properties.getPerRequestConcurrency());
+
+        return Flux.concat(synchronousOutcomes, asynchronousOutcomes);
+    }
+
+    /**
+     * Timeout applied to an asynchronous rule: its own, or the configured default.
+     */
+    public Duration timeoutOf(LoanValidationRule rule) {
+        return rule.getTimeout() != null ? rule.getTimeout() : properties.getDefaultTimeout();
+    }
+
+    private Mono<RuleOutcome> executeAsynchronous(LoanValidationRule rule,
+                                                  LoanValidationRequest request,
+                                                  ValidationContext context) {
+        Duration timeout = timeoutOf(rule);
+
+        return Mono.defer(() -> {
+            long enqueuedAt = System.nanoTime();
+            return Mono.usingWhen(
+                    globalPermits.acquire(),
+                    permit -> {
+                        long startedAt = System.nanoTime();
+                        queueTimer(rule).record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                        log.debug("Executing async rule: {} (timeout {})", rule.getRuleName(), timeout);
+                        return rule.validate(request, context)
+                                .map(reasons -> RuleOutcome.completed(rule, reasons))
+                                .doOnSuccess(outcome -> executionTimer(rule)
+                                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+                    },
+                    permit -> Mono.fromRunnable(permit::release),
+                    (permit, error) -> Mono.fromRunnable(permit::release),
+                    permit -> Mono.fromRunnable(permit::release));
+        }).timeout(timeout).onErrorResume(TimeoutException.class, ex -> {
+            log.warn("Rule {} timed out after {}; reporting partial outcome", rule.getRuleName(), timeout);
+            timeoutCounter(rule).increment();
+            return Mono.just(RuleOutcome.timedOut(rule));
+        }).onErrorResume(LoanHistoryUnavailableException.class, ex -> {
+            log.debug("Rule {} has no loan history to decide on; reporting partial outcome", rule.getRuleName());
+            return Mono.just(RuleOutcome.timedOut(rule));
+        });
+    }
+
+    private Timer queueTimer(LoanValidationRule rule) {
+        return Timer.builder("loan.validation.rule.queue")
+                .description("Time an asynchronous rule waited for a global execution permit")
+                .tag(RULE_TAG, rule.getRuleName())
+                .register(meterRegistry);
+    }
+
+    private Timer executionTimer(LoanValidationRule rule) {
+        return Timer.builder("loan.validation.rule.execution")
+                .description("Execution time of asynchronous validation rules")
+                .tag(RULE_TAG, rule.getRuleName())
+                .register(meterRegistry);
+    }
+
+    private Counter timeoutCounter(LoanValidationRule rule) {
+        return Counter.builder("loan.validation.rule.timeouts")
+                .description("Asynchronous validation rules that exceeded their timeout")
+                .tag(RULE_TAG, rule.getRuleName())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of running a single validation rule.
+ * A rule that did not finish in time is reported as incomplete with no reasons.
+ */
+@Value
+public class RuleOutcome {
+
+    String ruleName;
+    List<LoanValidationResult.ReasonsEnum> reasons;
+    boolean completed;
+
+    public static RuleOutcome completed(LoanValidationRule rule, List<LoanValidationResult.ReasonsEnum> reasons) {
+        return new RuleOutcome(rule.getRuleName(), reasons, true);
+    }
+
+    public static RuleOutcome timedOut(LoanValidationRule rule) {
+        return new RuleOutcome(rule.getRuleName(), Collections.emptyList(), false);
+    }
+}
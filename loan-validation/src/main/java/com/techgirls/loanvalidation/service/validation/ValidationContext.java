@@ -10,7 +10,7 @@ import java.time.LocalDate;
  * This follows the Context pattern and helps avoid passing multiple parameters.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class ValidationContext {
     
     /**
@@ -19,7 +19,7 @@ public class ValidationContext {
     private final LocalDate currentDate;
     
     /**
-     * Date threshold for recent loan validation (3 months ago).
+     * Date threshold for recent loan validation (recent-loan-months ago).
      */
     private final LocalDate recentLoanThreshold;
     
@@ -33,13 +33,31 @@ public class ValidationContext {
      */
     private final LocalDate lastLoanDate;
     
+    /**
+     * Default flag retrieved from the loan history service (if available).
+     */
+    private final boolean defaultHistory;
+    
+    /**
+     * Flag indicating that the loan history fetch stage already populated
+     * lastLoanDate and defaultHistory, so rules must not query the client again.
+     */
+    private final boolean loanHistoryLoaded;
+    
+    /**
+     * Flag indicating that the loan history fetch stage failed or timed out, so
+     * rules that need the history cannot decide and must not query the client again.
+     */
+    private final boolean loanHistoryUnavailable;
+    
     /**
      * Flag indicating if external service data is available.
      */
     private final boolean externalDataAvailable;
     
     /**
-     * Simulated applicant ID for testing purposes.
+     * Canonical applicant ID, resolved from the caller identity
+     * (or simulated for anonymous callers).
      */
     private final String applicantId;
 }
\ No newline at end of file
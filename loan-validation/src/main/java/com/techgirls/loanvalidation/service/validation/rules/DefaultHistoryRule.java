@@ -0,0 +1,82 @@
+package com.techgirls.loanvalidation.service.validation.rules;
+
+import com.techgirls.loanvalidation.exception.LoanHistoryUnavailableException;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import com.techgirls.loanvalidation.service.validation.LoanValidationRule;
+import com.techgirls.loanvalidation.service.validation.ValidationContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates that the applicant has no default history.
+ * This rule implements Single Responsibility Principle by handling only default history validation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DefaultHistoryRule implements LoanValidationRule {
+
+    private final LoanHistoryClient loanHistoryClient;
+
+    @Override
+    public Mono<List<LoanValidationResult.ReasonsEnum>> validate(
+            LoanValidationRequest request, 
+            ValidationContext context) {
+        
+        log.debug("Validating default history for request");
+        
+        List<LoanValidationResult.ReasonsEnum> reasons = new ArrayList<>();
+        
+        // Strategy 1: Use the history prefetched by the orchestrator
+        if (context.isLoanHistoryLoaded()) {
+            if (context.isDefaultHistory()) {
+                reasons.add(LoanValidationResult.ReasonsEnum.HAS_DEFAULT_HISTORY);
+                log.warn("Default history detected for applicant");
+            }
+            return Mono.just(reasons);
+        }
+        
+        // The shared fetch already failed: querying again would only repeat the wait
+        if (context.isLoanHistoryUnavailable()) {
+            return Mono.error(new LoanHistoryUnavailableException("Default history unavailable"));
+        }
+        
+        // Strategy 2: Query external service if history was not prefetched
+        return loanHistoryClient.hasDefaultHistory(context.getApplicantId())
+                .map(defaultHistory -> {
+                    if (Boolean.TRUE.equals(defaultHistory)) {
+                        reasons.add(LoanValidationResult.ReasonsEnum.HAS_DEFAULT_HISTORY);
+                        log.warn("Default history found via client");
+                    }
+                    return reasons;
+                })
+                .defaultIfEmpty(reasons);
+    }
+
+    @Override
+    public int getPriority() {
+        return 50; // Lowest priority as it might require external call
+    }
+
+    @Override
+    public boolean isAsynchronous() {
+        return true; // May query the loan history service
+    }
+
+    @Override
+    public boolean requiresLoanHistory() {
+        return true;
+    }
+
+    @Override
+    public String getRuleName() {
+        return "Default History Rule";
+    }
+}
@@ -1,5 +1,6 @@
 package com.techgirls.loanvalidation.service.validation.rules;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.validation.LoanValidationRule;
@@ -12,14 +13,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Validates payment capacity - monthly payment should not exceed 40% of monthly salary.
+ * Validates payment capacity - monthly payment should not exceed
+ * {@code loan-validation.business-rules.max-salary-percentage} of monthly salary
+ * (40% by default).
  * This rule implements Single Responsibility Principle by handling only capacity validation.
  */
 @Component
 @Slf4j
 public class PaymentCapacityRule implements LoanValidationRule {
 
-    private static final double MAX_PAYMENT_RATIO = 0.40;
+    private final double maxPaymentRatio;
+
+    public PaymentCapacityRule(BusinessRulesProperties businessRules) {
+        this.maxPaymentRatio = businessRules.getMaxSalaryPercentage();
+    }
 
     @Override
     public Mono<List<LoanValidationResult.ReasonsEnum>> validate(
@@ -34,12 +41,12 @@ public class PaymentCapacityRule implements LoanValidationRule {
         Double monthlyPayment = context.getMonthlyPayment();
         
         if (monthlySalary != null && monthlyPayment != null) {
-            double maxAllowedPayment = monthlySalary * MAX_PAYMENT_RATIO;
+            double maxAllowedPayment = monthlySalary * maxPaymentRatio;
             
             if (monthlyPayment > maxAllowedPayment) {
                 reasons.add(LoanValidationResult.ReasonsEnum.CAPACIDAD_INSUFICIENTE);
                 log.warn("Insufficient payment capacity: monthlyPayment={}, maxAllowed={}, ratio={}", 
-                        monthlyPayment, maxAllowedPayment, MAX_PAYMENT_RATIO);
+                        monthlyPayment, maxAllowedPayment, maxPaymentRatio);
             }
         }
         
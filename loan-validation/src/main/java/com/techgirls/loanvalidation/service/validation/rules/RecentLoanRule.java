@@ -1,5 +1,6 @@
 package com.techgirls.loanvalidation.service.validation.rules;
 
+import com.techgirls.loanvalidation.exception.LoanHistoryUnavailableException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.port.LoanHistoryClient;
@@ -15,7 +16,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Validates that the applicant doesn't have recent loans (within 3 months).
+ * Validates that the applicant doesn't have recent loans (within
+ * {@code loan-validation.business-rules.recent-loan-months}, 3 by default).
  * This rule implements Single Responsibility Principle by handling only recent loan validation.
  */
 @Component
@@ -45,7 +47,22 @@ public class RecentLoanRule implements LoanValidationRule {
             return Mono.just(reasons);
         }
         
-        // Strategy 2: Query external service if no lastLoanDate provided
+        // Strategy 2: Use the history prefetched by the orchestrator
+        if (context.isLoanHistoryLoaded()) {
+            LocalDate lastLoanDate = context.getLastLoanDate();
+            if (hasRecentLoan(lastLoanDate, context.getRecentLoanThreshold())) {
+                reasons.add(LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS);
+                log.warn("Recent loan found in prefetched history: lastLoanDate={}", lastLoanDate);
+            }
+            return Mono.just(reasons);
+        }
+        
+        // The shared fetch already failed: querying again would only repeat the wait
+        if (context.isLoanHistoryUnavailable()) {
+            return Mono.error(new LoanHistoryUnavailableException("Last loan date unavailable"));
+        }
+        
+        // Strategy 3: Query external service if no lastLoanDate is known yet
         return loanHistoryClient.getLastLoanDate(context.getApplicantId())
                 .map(lastLoanDate -> {
                     log.debug("Retrieved last loan date from client: {}", lastLoanDate);
@@ -63,6 +80,16 @@ public class RecentLoanRule implements LoanValidationRule {
         return 40; // Lower priority as it might require external call
     }
 
+    @Override
+    public boolean isAsynchronous() {
+        return true; // May query the loan history service
+    }
+
+    @Override
+    public boolean requiresLoanHistory() {
+        return true;
+    }
+
     @Override
     public String getRuleName() {
         return "Recent Loan Rule";
@@ -1,5 +1,6 @@
 package com.techgirls.loanvalidation.service.validation.rules;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.validation.LoanValidationRule;
@@ -12,7 +13,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Validates loan term is within acceptable range (1-36 months).
+ * Validates loan term is within acceptable range (1 month up to
+ * {@code loan-validation.business-rules.max-term-months}, 36 by default).
  * This rule implements Single Responsibility Principle by handling only term validation.
  */
 @Component
@@ -20,7 +22,12 @@ import java.util.List;
 public class TermValidationRule implements LoanValidationRule {
 
     private static final int MIN_TERM_MONTHS = 1;
-    private static final int MAX_TERM_MONTHS = 36;
+
+    private final int maxTermMonths;
+
+    public TermValidationRule(BusinessRulesProperties businessRules) {
+        this.maxTermMonths = businessRules.getMaxTermMonths();
+    }
 
     @Override
     public Mono<List<LoanValidationResult.ReasonsEnum>> validate(
@@ -32,10 +39,10 @@ public class TermValidationRule implements LoanValidationRule {
         List<LoanValidationResult.ReasonsEnum> reasons = new ArrayList<>();
         Integer term = request.getTermMonths();
         
-        if (term == null || term < MIN_TERM_MONTHS || term > MAX_TERM_MONTHS) {
+        if (term == null || term < MIN_TERM_MONTHS || term > maxTermMonths) {
             reasons.add(LoanValidationResult.ReasonsEnum.PLAZO_MAXIMO_SUPERADO);
             log.warn("Invalid term detected: termMonths={}, valid range: {}-{}", 
-                    term, MIN_TERM_MONTHS, MAX_TERM_MONTHS);
+                    term, MIN_TERM_MONTHS, maxTermMonths);
         }
         
         return Mono.just(reasons);
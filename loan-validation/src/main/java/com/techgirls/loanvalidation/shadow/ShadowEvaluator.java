@@ -0,0 +1,233 @@
+package com.techgirls.loanvalidation.shadow;
+
+import com.techgirls.loanvalidation.config.ShadowEvaluationProperties;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.validation.ColumnarRuleEngine;
+import com.techgirls.loanvalidation.service.validation.Evaluation;
+import com.techgirls.loanvalidation.service.validation.EvaluationObserver;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import com.techgirls.loanvalidation.service.validation.ValidationContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs a sample of live evaluations through a candidate rule set in shadow and
+ * records where it would have decided differently.
+ *
+ * The candidate is a {@link ColumnarRuleEngine} with the candidate thresholds, plus
+ * optional extra {@link ShadowRule}s. It runs on its own bounded scheduler after the production
+ * result is final; at most {@code maxInFlight} shadow evaluations are queued or
+ * running, and sampled evaluations beyond that are dropped, so the customer
+ * response never waits for the shadow and never sees its outcome.
+ *
+ * Default history, and recent loans found through the loan history service, are
+ * taken from the production result rather than looked up again: the shadow adds no
+ * load on the loan history service. Production latency includes those lookups and
+ * candidate latency does not.
+ */
+@Slf4j
+public class ShadowEvaluator implements EvaluationObserver, AutoCloseable {
+
+    private static final ReasonsEnum[] REASONS = ReasonsEnum.values();
+    private static final int DEFAULT_HISTORY = ReasonMask.bit(ReasonsEnum.HAS_DEFAULT_HISTORY);
+    private static final int RECENT_LOANS = ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS);
+
+    private final ColumnarRuleEngine engine;
+    private final List<ShadowRule> extraRules;
+    private final double sampleRate;
+    private final int maxInFlight;
+    private final Duration timeout;
+    private final Scheduler scheduler;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter matched;
+    private final Counter diverged;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Counter nowRejected;
+    private final Counter nowEligible;
+    private final Counter reasonsChanged;
+    private final Map<ReasonsEnum, Counter> reasonsAdded = new EnumMap<>(ReasonsEnum.class);
+    private final Map<ReasonsEnum, Counter> reasonsRemoved = new EnumMap<>(ReasonsEnum.class);
+    private final Timer productionLatency;
+    private final Timer candidateLatency;
+
+    public ShadowEvaluator(ColumnarRuleEngine engine, List<ShadowRule> extraRules,
+                           ShadowEvaluationProperties properties, Scheduler scheduler, MeterRegistry meterRegistry) {
+        this.engine = engine;
+        this.extraRules = List.copyOf(extraRules);
+        this.sampleRate = properties.getSampleRate();
+        this.maxInFlight = properties.getMaxInFlight();
+        this.timeout = properties.getTimeout();
+        this.scheduler = scheduler;
+        this.matched = evaluations("match", meterRegistry);
+        this.diverged = evaluations("diverged", meterRegistry);
+        this.dropped = evaluations("dropped", meterRegistry);
+        this.failed = evaluations("failed", meterRegistry);
+        this.nowRejected = divergence("now_rejected", meterRegistry);
+        this.nowEligible = divergence("now_eligible", meterRegistry);
+        this.reasonsChanged = divergence("reasons", meterRegistry);
+        for (ReasonsEnum reason : REASONS) {
+            reasonsAdded.put(reason, reasons(reason, "added", meterRegistry));
+            reasonsRemoved.put(reason, reasons(reason, "removed", meterRegistry));
+        }
+        this.productionLatency = latency("production", meterRegistry);
+        this.candidateLatency = latency("candidate", meterRegistry);
+        Gauge.builder("loanvalidation.shadow.inflight", inFlight, AtomicInteger::get)
+                .description("Shadow evaluations queued or running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onEvaluation(Evaluation evaluation) {
+        List<String> incompleteRules = evaluation.getResult().getIncompleteRules();
+        if (incompleteRules != null && !incompleteRules.isEmpty()) {
+            // Nothing to compare against: production timed out on part of the rules
+            return;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        evaluate(evaluation)
+                .subscribeOn(scheduler)
+                .timeout(timeout)
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .subscribe(candidateMask -> compare(evaluation, candidateMask), error -> {
+                    if (error instanceof RejectedExecutionException) {
+                        dropped.increment();
+                    } else {
+                        failed.increment();
+                        log.debug("Shadow evaluation failed: {}", error.toString());
+                    }
+                });
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Reason mask of the evaluation under the candidate rules.
+     */
+    Mono<Integer> evaluate(Evaluation evaluation) {
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            LoanValidationRequest request = evaluation.getRequest();
+            LocalDate lastLoanDate = request.getLastLoanDate() != null && request.getLastLoanDate().isPresent()
+                    ? request.getLastLoanDate().get() : null;
+            int production = ReasonMask.of(evaluation.getResult().getReasons());
+            int pinned = (production & DEFAULT_HISTORY) | (lastLoanDate == null ? production & RECENT_LOANS : 0);
+
+            int[] reasons = new int[1];
+            engine.evaluate(evaluation.getBusinessDate(),
+                    new double[] {request.getMonthlySalary() != null ? request.getMonthlySalary() : Double.NaN},
+                    new double[] {request.getRequestedAmount() != null ? request.getRequestedAmount() : Double.NaN},
+                    new int[] {request.getTermMonths() != null ? request.getTermMonths() : 0},
+                    new int[] {lastLoanDate != null ? (int) lastLoanDate.toEpochDay() : ColumnarRuleEngine.NO_LOAN},
+                    reasons);
+            int mask = reasons[0] | pinned;
+            if (extraRules.isEmpty()) {
+                candidateLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return Mono.just(mask);
+            }
+            ValidationContext context = context(evaluation, lastLoanDate, (pinned & DEFAULT_HISTORY) != 0);
+            return Flux.fromIterable(extraRules)
+                    .concatMap(rule -> rule.validate(request, context))
+                    .reduce(mask, (candidate, extra) -> candidate | ReasonMask.of(extra))
+                    .doOnNext(candidate -> candidateLatency.record(System.nanoTime() - started,
+                            TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private ValidationContext context(Evaluation evaluation, LocalDate lastLoanDate, boolean defaultHistory) {
+        LoanValidationRequest request = evaluation.getRequest();
+        Integer term = request.getTermMonths();
+        Double amount = request.getRequestedAmount();
+        // History comes from the request or the production result, never from the client
+        return ValidationContext.builder()
+                .currentDate(evaluation.getBusinessDate())
+                .recentLoanThreshold(evaluation.getBusinessDate().minusMonths(engine.getRecentLoanMonths()))
+                .monthlyPayment(amount != null && term != null && term > 0 ? amount / term : null)
+                .lastLoanDate(lastLoanDate)
+                .defaultHistory(defaultHistory)
+                .loanHistoryLoaded(true)
+                .externalDataAvailable(true)
+                .applicantId(evaluation.getApplicantId())
+                .build();
+    }
+
+    private void compare(Evaluation evaluation, int candidate) {
+        productionLatency.record(evaluation.getLatencyNanos(), TimeUnit.NANOSECONDS);
+        int production = ReasonMask.of(evaluation.getResult().getReasons());
+        if (production == candidate) {
+            matched.increment();
+            return;
+        }
+        diverged.increment();
+        if (production == ReasonMask.NONE) {
+            nowRejected.increment();
+        } else if (candidate == ReasonMask.NONE) {
+            nowEligible.increment();
+        } else {
+            reasonsChanged.increment();
+        }
+        for (ReasonsEnum reason : ReasonMask.toReasons(candidate & ~production)) {
+            reasonsAdded.get(reason).increment();
+        }
+        for (ReasonsEnum reason : ReasonMask.toReasons(production & ~candidate)) {
+            reasonsRemoved.get(reason).increment();
+        }
+    }
+
+    private static Counter evaluations(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("loanvalidation.shadow.evaluations")
+                .description("Sampled evaluations by shadow outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter divergence(String change, MeterRegistry meterRegistry) {
+        return Counter.builder("loanvalidation.shadow.divergence")
+                .description("Shadow decisions that differ from production, by kind")
+                .tag("change", change)
+                .register(meterRegistry);
+    }
+
+    private static Counter reasons(ReasonsEnum reason, String change, MeterRegistry meterRegistry) {
+        return Counter.builder("loanvalidation.shadow.reasons")
+                .description("Rejection reasons the candidate adds or removes")
+                .tag("reason", reason.name())
+                .tag("change", change)
+                .register(meterRegistry);
+    }
+
+    private static Timer latency(String rules, MeterRegistry meterRegistry) {
+        return Timer.builder("loanvalidation.shadow.latency")
+                .description("Evaluation time of shadowed requests, production against candidate")
+                .tag("rules", rules)
+                .register(meterRegistry);
+    }
+}
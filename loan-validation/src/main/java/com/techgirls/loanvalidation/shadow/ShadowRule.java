@@ -0,0 +1,52 @@
+package com.techgirls.loanvalidation.shadow;
+
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.service.validation.LoanValidationRule;
+import com.techgirls.loanvalidation.service.validation.ValidationContext;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Candidate rule that only the {@link ShadowEvaluator} runs. It is deliberately not
+ * a {@link LoanValidationRule}: the orchestrator runs every LoanValidationRule bean
+ * on live decisions, so a candidate registered as one would go live with it.
+ * Candidates are registered as ShadowRule beans and named in
+ * {@code loan-validation.shadow.extra-rules}.
+ */
+public interface ShadowRule {
+
+    /**
+     * Validates the request as the candidate would.
+     *
+     * @param request the loan validation request
+     * @param context context built from the production result, never from the loan history service
+     * @return Mono containing list of rejection reasons, empty if validation passes
+     */
+    Mono<List<LoanValidationResult.ReasonsEnum>> validate(LoanValidationRequest request, ValidationContext context);
+
+    /**
+     * Returns the name of this candidate rule for logging purposes.
+     */
+    String getRuleName();
+
+    /**
+     * Runs a validation rule, typically a new instance with candidate settings, as a
+     * shadow rule.
+     */
+    static ShadowRule of(LoanValidationRule rule) {
+        return new ShadowRule() {
+            @Override
+            public Mono<List<LoanValidationResult.ReasonsEnum>> validate(LoanValidationRequest request,
+                                                                         ValidationContext context) {
+                return rule.validate(request, context);
+            }
+
+            @Override
+            public String getRuleName() {
+                return rule.getRuleName();
+            }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.techgirls.loanvalidation.simulation;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.replay.RecordedDecision;
+import com.techgirls.loanvalidation.replay.ReplaySource;
+import com.techgirls.loanvalidation.service.validation.ColumnarRuleEngine;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Historical loan requests held column by column in primitive arrays, the input of
+ * the policy simulator. Rows are ordered by business date so every date is one
+ * contiguous run.
+ *
+ * Missing salaries and amounts are NaN, a missing term is 0 and a missing last loan
+ * date is {@link #NO_LOAN}, as {@link ColumnarRuleEngine} expects them. Outcomes the
+ * rules cannot recompute from the row are pinned to what was recorded: default
+ * history, and recent loans found through the loan history service (their date is
+ * not journaled).
+ */
+public class HistoricalLoans {
+
+    public static final int NO_LOAN = ColumnarRuleEngine.NO_LOAN;
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final int PINNED_RECENT_LOAN = ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS);
+    private static final int PINNED_DEFAULT_HISTORY = ReasonMask.bit(ReasonsEnum.HAS_DEFAULT_HISTORY);
+
+    private int size;
+    private double[] salary = new double[INITIAL_CAPACITY];
+    private double[] amount = new double[INITIAL_CAPACITY];
+    private int[] term = new int[INITIAL_CAPACITY];
+    private int[] lastLoanEpochDay = new int[INITIAL_CAPACITY];
+    private int[] businessDay = new int[INITIAL_CAPACITY];
+    private byte[] pinnedReasons = new byte[INITIAL_CAPACITY];
+    private boolean sorted = true;
+
+    /**
+     * Loads a decision journal directory or NDJSON capture, see {@link ReplaySource}.
+     */
+    public static HistoricalLoans load(Path input) {
+        HistoricalLoans loans = new HistoricalLoans();
+        ReplaySource.read(input, 1).doOnNext(loans::add).blockLast();
+        loans.sortByBusinessDay();
+        return loans;
+    }
+
+    public void add(RecordedDecision decision) {
+        int pinned = decision.getReasonMask() & PINNED_DEFAULT_HISTORY;
+        if (decision.getLastLoanDate() == null) {
+            pinned |= decision.getReasonMask() & PINNED_RECENT_LOAN;
+        }
+        add(decision.getMonthlySalary() != null ? decision.getMonthlySalary() : Double.NaN,
+                decision.getRequestedAmount() != null ? decision.getRequestedAmount() : Double.NaN,
+                decision.getTermMonths() != null ? decision.getTermMonths() : 0,
+                decision.getLastLoanDate() != null ? (int) decision.getLastLoanDate().toEpochDay() : NO_LOAN,
+                (int) decision.getBusinessDate().toEpochDay(),
+                pinned);
+    }
+
+    public void add(double monthlySalary, double requestedAmount, int termMonths, int lastLoanDay, int day,
+                    int pinned) {
+        if (size == salary.length) {
+            grow();
+        }
+        if (size > 0 && day < businessDay[size - 1]) {
+            sorted = false;
+        }
+        salary[size] = monthlySalary;
+        amount[size] = requestedAmount;
+        term[size] = termMonths;
+        lastLoanEpochDay[size] = lastLoanDay;
+        businessDay[size] = day;
+        pinnedReasons[size] = (byte) pinned;
+        size++;
+    }
+
+    /**
+     * Orders the rows by business date, keeping input order within a date. Journals
+     * are written in date order already, so this only moves rows of unordered captures.
+     */
+    public void sortByBusinessDay() {
+        if (sorted || size == 0) {
+            sorted = true;
+            return;
+        }
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            first = Math.min(first, businessDay[i]);
+            last = Math.max(last, businessDay[i]);
+        }
+        int[] start = new int[last - first + 2];
+        for (int i = 0; i < size; i++) {
+            start[businessDay[i] - first + 1]++;
+        }
+        for (int d = 1; d < start.length; d++) {
+            start[d] += start[d - 1];
+        }
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[start[businessDay[i] - first]++] = i;
+        }
+        salary = permute(salary, order);
+        amount = permute(amount, order);
+        term = permute(term, order);
+        lastLoanEpochDay = permute(lastLoanEpochDay, order);
+        businessDay = permute(businessDay, order);
+        pinnedReasons = permute(pinnedReasons, order);
+        sorted = true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** End (exclusive) of the run of rows sharing the business date of {@code from}. */
+    int endOfDay(int from, int to) {
+        int day = businessDay[from];
+        int end = from + 1;
+        while (end < to && businessDay[end] == day) {
+            end++;
+        }
+        return end;
+    }
+
+    double[] salary() {
+        return salary;
+    }
+
+    double[] amount() {
+        return amount;
+    }
+
+    int[] term() {
+        return term;
+    }
+
+    int[] lastLoanEpochDay() {
+        return lastLoanEpochDay;
+    }
+
+    int[] businessDay() {
+        return businessDay;
+    }
+
+    byte[] pinnedReasons() {
+        return pinnedReasons;
+    }
+
+    private void grow() {
+        int capacity = salary.length * 2;
+        salary = Arrays.copyOf(salary, capacity);
+        amount = Arrays.copyOf(amount, capacity);
+        term = Arrays.copyOf(term, capacity);
+        lastLoanEpochDay = Arrays.copyOf(lastLoanEpochDay, capacity);
+        businessDay = Arrays.copyOf(businessDay, capacity);
+        pinnedReasons = Arrays.copyOf(pinnedReasons, capacity);
+    }
+
+    private double[] permute(double[] column, int[] order) {
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    private int[] permute(int[] column, int[] order) {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+
+    private byte[] permute(byte[] column, int[] order) {
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = column[order[i]];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package com.techgirls.loanvalidation.simulation;
+
+import com.techgirls.loanvalidation.service.validation.ColumnarRuleEngine;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static com.techgirls.loanvalidation.simulation.SimulationReport.BASELINE_APPROVED;
+import static com.techgirls.loanvalidation.simulation.SimulationReport.BASELINE_REASONS;
+import static com.techgirls.loanvalidation.simulation.SimulationReport.CANDIDATE_APPROVED;
+import static com.techgirls.loanvalidation.simulation.SimulationReport.CANDIDATE_REASONS;
+import static com.techgirls.loanvalidation.simulation.SimulationReport.CHANGED;
+import static com.techgirls.loanvalidation.simulation.SimulationReport.REASONS;
+import static com.techgirls.loanvalidation.simulation.SimulationReport.ROWS;
+import static com.techgirls.loanvalidation.simulation.SimulationReport.STRIDE;
+
+/**
+ * Evaluates baseline and candidate thresholds over historical loans with the
+ * {@link ColumnarRuleEngine}, then adds the outcomes pinned by {@link HistoricalLoans}.
+ *
+ * Rows are split into ranges evaluated with fork/join. Each range is evaluated a
+ * chunk of one business date at a time: the engine writes a reason mask per row for
+ * each threshold set, then one loop counts the masks into the row's amount and term
+ * bucket.
+ */
+public class PolicySimulator {
+
+    static final int LEAF_ROWS = 1 << 15;
+    private static final int CHUNK_ROWS = 4096;
+
+    private final ForkJoinPool pool;
+    private final double[] amountBounds;
+    private final int[] termBounds;
+
+    /**
+     * @param amountBounds upper bounds (inclusive) of the requested amount buckets, ascending
+     * @param termBounds upper bounds (inclusive) of the term buckets, ascending
+     */
+    public PolicySimulator(ForkJoinPool pool, double[] amountBounds, int[] termBounds) {
+        this.pool = pool;
+        this.amountBounds = amountBounds.clone();
+        this.termBounds = termBounds.clone();
+    }
+
+    public SimulationReport simulate(HistoricalLoans loans, PolicyThresholds baseline, PolicyThresholds candidate) {
+        long started = System.nanoTime();
+        ColumnarRuleEngine baselineEngine = baseline.toEngine();
+        ColumnarRuleEngine candidateEngine = candidate.toEngine();
+        int cells = (amountBounds.length + 1) * (termBounds.length + 1);
+        long[] counters = loans.size() == 0
+                ? new long[cells * STRIDE]
+                : pool.invoke(new RangeTask(loans, baselineEngine, candidateEngine, cells, 0, loans.size()));
+        return new SimulationReport(baseline, candidate, amountBounds, termBounds, counters,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private final class RangeTask extends RecursiveTask<long[]> {
+        private final HistoricalLoans loans;
+        private final ColumnarRuleEngine baseline;
+        private final ColumnarRuleEngine candidate;
+        private final int cells;
+        private final int from;
+        private final int to;
+
+        RangeTask(HistoricalLoans loans, ColumnarRuleEngine baseline, ColumnarRuleEngine candidate, int cells,
+                  int from, int to) {
+            this.loans = loans;
+            this.baseline = baseline;
+            this.candidate = candidate;
+            this.cells = cells;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= LEAF_ROWS) {
+                return evaluateRange();
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(loans, baseline, candidate, cells, from, middle);
+            left.fork();
+            long[] counters = new RangeTask(loans, baseline, candidate, cells, middle, to).compute();
+            long[] leftCounters = left.join();
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] += leftCounters[i];
+            }
+            return counters;
+        }
+
+        private long[] evaluateRange() {
+            long[] counters = new long[cells * STRIDE];
+            byte[] baselineMasks = new byte[CHUNK_ROWS];
+            byte[] candidateMasks = new byte[CHUNK_ROWS];
+            int start = from;
+            while (start < to) {
+                int end = loans.endOfDay(start, Math.min(to, start + CHUNK_ROWS));
+                LocalDate businessDate = LocalDate.ofEpochDay(loans.businessDay()[start]);
+                baseline.evaluate(businessDate, loans.salary(), loans.amount(), loans.term(),
+                        loans.lastLoanEpochDay(), start, end, baselineMasks, 0);
+                candidate.evaluate(businessDate, loans.salary(), loans.amount(), loans.term(),
+                        loans.lastLoanEpochDay(), start, end, candidateMasks, 0);
+                count(start, end, baselineMasks, candidateMasks, counters);
+                start = end;
+            }
+            return counters;
+        }
+
+        private void count(int from, int to, byte[] baselineMasks, byte[] candidateMasks, long[] counters) {
+            double[] amount = loans.amount();
+            int[] term = loans.term();
+            byte[] pinned = loans.pinnedReasons();
+            int termBuckets = termBounds.length + 1;
+            for (int i = from; i < to; i++) {
+                int offset = (bucket(amountBounds, amount[i]) * termBuckets + bucket(termBounds, term[i])) * STRIDE;
+                int before = baselineMasks[i - from] | pinned[i];
+                int after = candidateMasks[i - from] | pinned[i];
+                counters[offset + ROWS]++;
+                counters[offset + BASELINE_APPROVED] += before == 0 ? 1 : 0;
+                counters[offset + CANDIDATE_APPROVED] += after == 0 ? 1 : 0;
+                counters[offset + CHANGED] += before != after ? 1 : 0;
+                for (int reason = 0; reason < REASONS.length; reason++) {
+                    counters[offset + BASELINE_REASONS + reason] += (before >>> reason) & 1;
+                    counters[offset + CANDIDATE_REASONS + reason] += (after >>> reason) & 1;
+                }
+            }
+        }
+    }
+
+    static int bucket(double[] bounds, double value) {
+        int index = 0;
+        while (index < bounds.length && value > bounds[index]) {
+            index++;
+        }
+        return index;
+    }
+
+    static int bucket(int[] bounds, int value) {
+        int index = 0;
+        while (index < bounds.length && value > bounds[index]) {
+            index++;
+        }
+        return index;
+    }
+}
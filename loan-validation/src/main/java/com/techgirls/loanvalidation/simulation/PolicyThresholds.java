@@ -0,0 +1,45 @@
+package com.techgirls.loanvalidation.simulation;
+
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
+import com.techgirls.loanvalidation.service.validation.ColumnarRuleEngine;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Locale;
+
+/**
+ * A set of rule thresholds to simulate. The annual interest rate prices the monthly
+ * payment as an annuity; 0 is the simple division used in production.
+ */
+@Value
+@Builder(toBuilder = true)
+public class PolicyThresholds {
+
+    int maxTermMonths;
+    double maxSalaryPercentage;
+    int recentLoanMonths;
+    double annualInterestRate;
+
+    /**
+     * The thresholds currently in force.
+     */
+    public static PolicyThresholds of(BusinessRulesProperties properties) {
+        return PolicyThresholds.builder()
+                .maxTermMonths(properties.getMaxTermMonths())
+                .maxSalaryPercentage(properties.getMaxSalaryPercentage())
+                .recentLoanMonths(properties.getRecentLoanMonths())
+                .annualInterestRate(0.0)
+                .build();
+    }
+
+    public ColumnarRuleEngine toEngine() {
+        return new ColumnarRuleEngine(maxTermMonths, maxSalaryPercentage, recentLoanMonths, annualInterestRate);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "max term %d months, max payment %.1f%% of salary, "
+                        + "recent loans within %d months, annual rate %.2f%%",
+                maxTermMonths, maxSalaryPercentage * 100, recentLoanMonths, annualInterestRate * 100);
+    }
+}
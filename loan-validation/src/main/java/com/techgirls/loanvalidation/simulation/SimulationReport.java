@@ -0,0 +1,185 @@
+package com.techgirls.loanvalidation.simulation;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a policy simulation: approval rate and reason distribution under the
+ * baseline and the candidate thresholds, overall and per amount and term bucket.
+ */
+public class SimulationReport {
+
+    static final ReasonsEnum[] REASONS = ReasonsEnum.values();
+
+    // Layout of the per bucket counters produced by the simulator
+    static final int ROWS = 0;
+    static final int BASELINE_APPROVED = 1;
+    static final int CANDIDATE_APPROVED = 2;
+    static final int CHANGED = 3;
+    static final int BASELINE_REASONS = 4;
+    static final int CANDIDATE_REASONS = BASELINE_REASONS + REASONS.length;
+    static final int STRIDE = CANDIDATE_REASONS + REASONS.length;
+
+    /**
+     * Counters of one amount and term bucket, or of all rows.
+     */
+    @Value
+    public static class Bucket {
+        String amountRange;
+        String termRange;
+        long rows;
+        long baselineApproved;
+        long candidateApproved;
+        long changed;
+        long[] baselineReasons;
+        long[] candidateReasons;
+
+        public double baselineApprovalRate() {
+            return share(baselineApproved);
+        }
+
+        public double candidateApprovalRate() {
+            return share(candidateApproved);
+        }
+
+        public long baselineReasons(ReasonsEnum reason) {
+            return baselineReasons[reason.ordinal()];
+        }
+
+        public long candidateReasons(ReasonsEnum reason) {
+            return candidateReasons[reason.ordinal()];
+        }
+
+        double share(long count) {
+            return rows == 0 ? 0.0 : count * 100.0 / rows;
+        }
+    }
+
+    private final PolicyThresholds baseline;
+    private final PolicyThresholds candidate;
+    private final List<Bucket> buckets;
+    private final Bucket total;
+    private final Duration elapsed;
+
+    SimulationReport(PolicyThresholds baseline, PolicyThresholds candidate, double[] amountBounds,
+                     int[] termBounds, long[] counters, Duration elapsed) {
+        this.baseline = baseline;
+        this.candidate = candidate;
+        this.elapsed = elapsed;
+        long[] all = new long[STRIDE];
+        List<Bucket> cells = new ArrayList<>();
+        int termBuckets = termBounds.length + 1;
+        for (int cell = 0; cell * STRIDE < counters.length; cell++) {
+            int offset = cell * STRIDE;
+            for (int i = 0; i < STRIDE; i++) {
+                all[i] += counters[offset + i];
+            }
+            if (counters[offset + ROWS] > 0) {
+                cells.add(bucket(amountRange(amountBounds, cell / termBuckets),
+                        termRange(termBounds, cell % termBuckets), counters, offset));
+            }
+        }
+        this.buckets = Collections.unmodifiableList(cells);
+        this.total = bucket("all", "all", all, 0);
+    }
+
+    public PolicyThresholds getBaseline() {
+        return baseline;
+    }
+
+    public PolicyThresholds getCandidate() {
+        return candidate;
+    }
+
+    /** Non-empty buckets, by amount then term. */
+    public List<Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public Bucket getTotal() {
+        return total;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public double rowsPerSecond() {
+        return elapsed.isZero() ? total.getRows() : total.getRows() / (elapsed.toNanos() / 1e9);
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Simulated %d decisions in %.2f s (%.0f rows/s)%n",
+                total.getRows(), elapsed.toNanos() / 1e9, rowsPerSecond()));
+        out.append(String.format(Locale.ROOT, "Baseline:  %s%nCandidate: %s%n%n", baseline, candidate));
+        out.append(String.format(Locale.ROOT, "Approval rate: %.2f%% -> %.2f%% (%+.2f pp), decisions changed: %d%n",
+                total.baselineApprovalRate(), total.candidateApprovalRate(),
+                total.candidateApprovalRate() - total.baselineApprovalRate(), total.getChanged()));
+        out.append(String.format(Locale.ROOT, "%nReasons (share of decisions)   baseline  candidate      delta%n"));
+        for (ReasonsEnum reason : REASONS) {
+            double before = total.share(total.baselineReasons(reason));
+            double after = total.share(total.candidateReasons(reason));
+            out.append(String.format(Locale.ROOT, "  %-26s %9.2f%% %9.2f%% %+8.2f pp%n", reason, before, after,
+                    after - before));
+        }
+
+        out.append(String.format(Locale.ROOT, "%nBy amount and term%n"));
+        out.append(String.format(Locale.ROOT, "  %-16s %-10s %12s %9s %9s %9s  %s%n",
+                "amount", "term", "rows", "baseline", "candidate", "delta pp", "reason deltas (pp)"));
+        for (Bucket bucket : buckets) {
+            out.append(String.format(Locale.ROOT, "  %-16s %-10s %12d %8.2f%% %8.2f%% %+9.2f  %s%n",
+                    bucket.getAmountRange(), bucket.getTermRange(), bucket.getRows(),
+                    bucket.baselineApprovalRate(), bucket.candidateApprovalRate(),
+                    bucket.candidateApprovalRate() - bucket.baselineApprovalRate(), reasonDeltas(bucket)));
+        }
+        return out.toString();
+    }
+
+    private static String reasonDeltas(Bucket bucket) {
+        StringBuilder deltas = new StringBuilder();
+        for (ReasonsEnum reason : REASONS) {
+            long before = bucket.baselineReasons(reason);
+            long after = bucket.candidateReasons(reason);
+            if (before != after) {
+                if (deltas.length() > 0) {
+                    deltas.append(", ");
+                }
+                deltas.append(String.format(Locale.ROOT, "%s %+.2f", reason,
+                        bucket.share(after) - bucket.share(before)));
+            }
+        }
+        return deltas.length() == 0 ? "-" : deltas.toString();
+    }
+
+    private static Bucket bucket(String amountRange, String termRange, long[] counters, int offset) {
+        long[] baselineReasons = new long[REASONS.length];
+        long[] candidateReasons = new long[REASONS.length];
+        System.arraycopy(counters, offset + BASELINE_REASONS, baselineReasons, 0, REASONS.length);
+        System.arraycopy(counters, offset + CANDIDATE_REASONS, candidateReasons, 0, REASONS.length);
+        return new Bucket(amountRange, termRange, counters[offset + ROWS], counters[offset + BASELINE_APPROVED],
+                counters[offset + CANDIDATE_APPROVED], counters[offset + CHANGED], baselineReasons, candidateReasons);
+    }
+
+    private static String amountRange(double[] bounds, int index) {
+        if (index == bounds.length) {
+            return bounds.length == 0 ? "all" : String.format(Locale.ROOT, "> %.0f", bounds[bounds.length - 1]);
+        }
+        return index == 0
+                ? String.format(Locale.ROOT, "<= %.0f", bounds[0])
+                : String.format(Locale.ROOT, "%.0f-%.0f", bounds[index - 1], bounds[index]);
+    }
+
+    private static String termRange(int[] bounds, int index) {
+        if (index == bounds.length) {
+            return bounds.length == 0 ? "all" : "> " + bounds[bounds.length - 1];
+        }
+        return index == 0 ? "<= " + bounds[0] : (bounds[index - 1] + 1) + "-" + bounds[index];
+    }
+}
@@ -0,0 +1,45 @@
+package com.techgirls.loanvalidation.simulation;
+
+import com.techgirls.loanvalidation.config.SimulationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads the historical decisions into columns once, simulates the candidate
+ * thresholds against the baseline and writes the report.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SimulationRunner {
+
+    private final PolicySimulator simulator;
+    private final PolicyThresholds baseline;
+    private final PolicyThresholds candidate;
+    private final SimulationProperties properties;
+
+    public SimulationReport run() throws IOException {
+        long started = System.nanoTime();
+        HistoricalLoans loans = HistoricalLoans.load(properties.getInput());
+        log.info("Loaded {} historical decisions in {} ms", loans.size(),
+                (System.nanoTime() - started) / 1_000_000);
+
+        SimulationReport report = simulator.simulate(loans, baseline, candidate);
+        String formatted = report.format();
+        Path reportFile = properties.getReport();
+        if (reportFile != null) {
+            if (reportFile.getParent() != null) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            Files.writeString(reportFile, formatted, StandardCharsets.UTF_8);
+        }
+        log.info("Simulation finished: {} decisions, {} changed, {} rows/s{}{}",
+                report.getTotal().getRows(), report.getTotal().getChanged(), Math.round(report.rowsPerSecond()),
+                System.lineSeparator(), formatted);
+        return report;
+    }
+}
@@ -4,6 +4,7 @@ import com.techgirls.loanvalidation.exception.BusinessException;
 import com.techgirls.loanvalidation.exception.ExternalServiceException;
 import com.techgirls.loanvalidation.exception.InputValidationException;
 import com.techgirls.loanvalidation.exception.LoanValidationException;
+import com.techgirls.loanvalidation.exception.UnidentifiedApplicantException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -16,7 +17,7 @@ import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.time.Instant;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Global exception handler for the loan validation service.
@@ -45,6 +46,24 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.badRequest().body(problemDetail));
     }
 
+    @ExceptionHandler(UnidentifiedApplicantException.class)
+    public Mono<ResponseEntity<ProblemDetail>> handleUnidentifiedApplicant(
+            UnidentifiedApplicantException ex, ServerWebExchange exchange) {
+        
+        String traceId = generateTraceId();
+        logError(traceId, "Unidentified applicant", ex, exchange);
+        
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+            HttpStatus.UNAUTHORIZED, ex.getUserMessage());
+        problemDetail.setType(URI.create("https://api.loanvalidation.com/problems/unidentified-applicant"));
+        problemDetail.setTitle("Unidentified Applicant");
+        problemDetail.setProperty("errorCode", ex.getErrorCode());
+        problemDetail.setProperty("traceId", traceId);
+        problemDetail.setProperty("timestamp", Instant.now());
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(problemDetail));
+    }
+
     @ExceptionHandler(LoanValidationException.class)
     public Mono<ResponseEntity<ProblemDetail>> handleLoanValidation(
             LoanValidationException ex, ServerWebExchange exchange) {
@@ -139,8 +158,13 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.internalServerError().body(problemDetail));
     }
 
+    /**
+     * Short correlation id. Not UUID.randomUUID: its SecureRandom may read the
+     * entropy source and block the event loop that handles the error.
+     */
     private String generateTraceId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+        String hex = Integer.toHexString(ThreadLocalRandom.current().nextInt());
+        return "00000000".substring(hex.length()) + hex;
     }
 
     private void logError(String traceId, String errorType, Exception ex, ServerWebExchange exchange) {
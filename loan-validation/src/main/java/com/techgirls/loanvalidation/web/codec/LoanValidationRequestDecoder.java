@@ -0,0 +1,144 @@
+package com.techgirls.loanvalidation.web.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.util.MimeType;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+/**
+ * Decodes {@link LoanValidationRequest} JSON bodies with the streaming {@link JsonParser},
+ * reading the four fixed fields straight into their numeric and date values instead of
+ * going through generic bean deserialization.
+ *
+ * Anything outside the expected shape (unknown fields, numbers sent as strings, malformed
+ * dates, trailing content) is handed to the application {@link ObjectMapper}, so coercion
+ * rules and error messages stay those of the generic codec. Multi-value streams of
+ * requests are decoded by the generic Jackson decoder as well.
+ */
+@Slf4j
+public class LoanValidationRequestDecoder extends AbstractDataBufferDecoder<LoanValidationRequest> {
+
+    private static final String MONTHLY_SALARY = "monthlySalary";
+    private static final String REQUESTED_AMOUNT = "requestedAmount";
+    private static final String TERM_MONTHS = "termMonths";
+    private static final String LAST_LOAN_DATE = "lastLoanDate";
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final Jackson2JsonDecoder genericDecoder;
+
+    public LoanValidationRequestDecoder(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+        this.genericDecoder = new Jackson2JsonDecoder(objectMapper);
+    }
+
+    @Override
+    public Flux<LoanValidationRequest> decode(Publisher<DataBuffer> input, ResolvableType elementType,
+                                              MimeType mimeType, Map<String, Object> hints) {
+        return genericDecoder.decode(input, elementType, mimeType, hints).cast(LoanValidationRequest.class);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return LoanValidationRequest.class == elementType.toClass() && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public LoanValidationRequest decode(DataBuffer buffer, ResolvableType targetType,
+                                        MimeType mimeType, Map<String, Object> hints) {
+        byte[] body = new byte[buffer.readableByteCount()];
+        buffer.read(body);
+        DataBufferUtils.release(buffer);
+
+        LoanValidationRequest request = parse(body);
+        if (request != null) {
+            return request;
+        }
+        log.debug("Request body outside the fixed shape, using the generic mapper");
+        try {
+            return objectMapper.readValue(body, LoanValidationRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new DecodingException("JSON decoding error: " + ex.getOriginalMessage(), ex);
+        } catch (IOException ex) {
+            throw new DecodingException("I/O error while parsing input stream", ex);
+        }
+    }
+
+    /**
+     * Parses the fixed request shape.
+     *
+     * @return the request, or null when the body needs the generic mapper
+     */
+    LoanValidationRequest parse(byte[] body) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            LoanValidationRequest request = new LoanValidationRequest();
+            request.setLastLoanDate(JsonNullable.undefined());
+
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case MONTHLY_SALARY:
+                        if (!value.isNumeric()) {
+                            return null;
+                        }
+                        request.setMonthlySalary(parser.getDoubleValue());
+                        break;
+                    case REQUESTED_AMOUNT:
+                        if (!value.isNumeric()) {
+                            return null;
+                        }
+                        request.setRequestedAmount(parser.getDoubleValue());
+                        break;
+                    case TERM_MONTHS:
+                        if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT) {
+                            return null;
+                        }
+                        request.setTermMonths(parser.getIntValue());
+                        break;
+                    case LAST_LOAN_DATE:
+                        if (value == JsonToken.VALUE_NULL) {
+                            request.setLastLoanDate(JsonNullable.of(null));
+                        } else if (value == JsonToken.VALUE_STRING) {
+                            request.setLastLoanDate(JsonNullable.of(LocalDate.parse(parser.getText())));
+                        } else {
+                            return null;
+                        }
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                return null;
+            }
+            return request;
+        } catch (IOException | DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.techgirls.loanvalidation.web.codec;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes {@link LoanValidationResult} as JSON with a {@link JsonGenerator}, writing field
+ * names and reason codes from pre-serialized tables rather than through bean introspection.
+ *
+ * Results with null scalar fields are handed to the application {@link ObjectMapper}, so
+ * null inclusion follows the generic codec. Multi-value streams go to the generic Jackson
+ * encoder, which owns the array and streaming framing.
+ */
+public class LoanValidationResultEncoder extends AbstractEncoder<LoanValidationResult> {
+
+    private static final SerializableString ELIGIBLE = new SerializedString("eligible");
+    private static final SerializableString REASONS = new SerializedString("reasons");
+    private static final SerializableString MONTHLY_PAYMENT = new SerializedString("monthlyPayment");
+    private static final SerializableString INCOMPLETE_RULES = new SerializedString("incompleteRules");
+
+    private static final Map<LoanValidationResult.ReasonsEnum, SerializableString> REASON_VALUES =
+            new EnumMap<>(LoanValidationResult.ReasonsEnum.class);
+
+    static {
+        for (LoanValidationResult.ReasonsEnum reason : LoanValidationResult.ReasonsEnum.values()) {
+            REASON_VALUES.put(reason, new SerializedString(reason.getValue()));
+        }
+    }
+
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final Jackson2JsonEncoder genericEncoder;
+
+    public LoanValidationResultEncoder(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+        this.genericEncoder = new Jackson2JsonEncoder(objectMapper);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return LoanValidationResult.class == elementType.toClass() && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends LoanValidationResult> inputStream,
+                                   DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                    .flux();
+        }
+        return genericEncoder.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+
+    @Override
+    public DataBuffer encodeValue(LoanValidationResult value, DataBufferFactory bufferFactory,
+                                  ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        boolean release = true;
+        try (OutputStream out = buffer.asOutputStream()) {
+            if (hasFixedShape(value)) {
+                write(value, out);
+            } else {
+                objectMapper.writeValue(out, value);
+            }
+            release = false;
+            return buffer;
+        } catch (IOException ex) {
+            throw new EncodingException("JSON encoding error: " + ex.getMessage(), ex);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    static boolean hasFixedShape(LoanValidationResult value) {
+        return value.getEligible() != null
+                && value.getReasons() != null
+                && value.getMonthlyPayment() != null
+                && !value.getReasons().contains(null);
+    }
+
+    private void write(LoanValidationResult value, OutputStream out) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeFieldName(ELIGIBLE);
+            generator.writeBoolean(value.getEligible());
+            generator.writeFieldName(REASONS);
+            generator.writeStartArray();
+            for (LoanValidationResult.ReasonsEnum reason : value.getReasons()) {
+                generator.writeString(REASON_VALUES.get(reason));
+            }
+            generator.writeEndArray();
+            generator.writeFieldName(MONTHLY_PAYMENT);
+            generator.writeNumber(value.getMonthlyPayment());
+            List<String> incompleteRules = value.getIncompleteRules();
+            if (incompleteRules != null) {
+                generator.writeFieldName(INCOMPLETE_RULES);
+                generator.writeStartArray();
+                for (String rule : incompleteRules) {
+                    generator.writeString(rule);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BloomFilterLoanHistoryClientTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BloomFilterLoanHistoryClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // The stub answers by id pattern, so a filter without these ids shows whether it was consulted
+        Path export = Files.writeString(tempDir.resolve("export.csv"),
+                "recent-applicant,2024-05-01\ndefault-applicant,,true\n");
+        LoanHistoryFilterStore store = new LoanHistoryFilterStore(export, 0.001, Duration.ofMinutes(5),
+                Duration.ofDays(365_000), CLOCK);
+        store.refresh();
+        client = new BloomFilterLoanHistoryClient(store, new StubLoanHistoryClient(), meterRegistry);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(BloomFilterLoanHistoryClient.METRIC).tag("result", result).counter().count();
+    }
+
+    @Test
+    void shouldShortCircuitApplicantsRuledOutByFilter() {
+        StepVerifier.create(client.getLastLoanDate("old-newcomer"))
+                .verifyComplete();
+        StepVerifier.create(client.hasDefaultHistory("default-newcomer"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(client.getLoanHistory("recent-newcomer"))
+                .expectNext(LoanHistory.none())
+                .verifyComplete();
+
+        assertEquals(3, lookups("absent"));
+    }
+
+    @Test
+    void shouldDelegatePossibleMembers() {
+        StepVerifier.create(client.getLastLoanDate("recent-applicant"))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(client.hasDefaultHistory("default-applicant"))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertEquals(2, lookups("maybe"));
+    }
+
+    @Test
+    void shouldDelegateEverythingWithoutFilter() {
+        BloomFilterLoanHistoryClient unfiltered = new BloomFilterLoanHistoryClient(
+                new LoanHistoryFilterStore(tempDir.resolve("missing.csv"), 0.01, Duration.ofMinutes(5),
+                        Duration.ofHours(1), CLOCK),
+                new StubLoanHistoryClient(), meterRegistry);
+
+        StepVerifier.create(unfiltered.hasDefaultHistory("default-newcomer"))
+                .expectNext(true)
+                .verifyComplete();
+        assertEquals(1, lookups("bypass"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanEvent;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ChangeFeedLoanHistoryClientTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+    private static final LocalDate THIS_MORNING = LocalDate.now();
+
+    private final LoanHistoryOverlay overlay = new LoanHistoryOverlay();
+    private final ChangeFeedLoanHistoryClient client = new ChangeFeedLoanHistoryClient(overlay, new StubLoanHistoryClient());
+
+    private void ingest(long sequence, String applicantId, LoanEvent.Type type, LocalDate occurredOn) {
+        overlay.apply(new LoanEvent(sequence, applicantId, type, occurredOn, NOW), NOW);
+    }
+
+    @Test
+    void shouldReportLoanDisbursedAfterSnapshot() {
+        // The stub knows no loans for this id
+        ingest(1, "newcomer", LoanEvent.Type.DISBURSED, THIS_MORNING);
+
+        StepVerifier.create(client.getLastLoanDate("newcomer"))
+                .expectNext(THIS_MORNING)
+                .verifyComplete();
+        StepVerifier.create(client.getLoanHistory("newcomer"))
+                .expectNext(new LoanHistory(THIS_MORNING, false))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldKeepLaterDateOfWrappedClient() {
+        // The stub reports a loan one month ago for ids containing "recent"
+        ingest(1, "recent-applicant", LoanEvent.Type.DISBURSED, THIS_MORNING.minusYears(1));
+
+        StepVerifier.create(client.getLastLoanDate("recent-applicant"))
+                .expectNext(THIS_MORNING.minusMonths(1))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldAddDefaultsAndPassThroughUnknownApplicants() {
+        ingest(1, "defaulter", LoanEvent.Type.DEFAULTED, THIS_MORNING);
+
+        StepVerifier.create(client.hasDefaultHistory("defaulter"))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(client.getLastLoanDate("defaulter"))
+                .verifyComplete();
+        StepVerifier.create(client.hasDefaultHistory("someone-else"))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldMergeRepeatedEventsIdempotentlyAndPrune() {
+        ingest(1, "a", LoanEvent.Type.DISBURSED, THIS_MORNING);
+        ingest(2, "a", LoanEvent.Type.DISBURSED, THIS_MORNING.minusDays(3));
+        ingest(1, "a", LoanEvent.Type.DISBURSED, THIS_MORNING);
+
+        assertEquals(new LoanHistory(THIS_MORNING, false), overlay.lookup("a"));
+        assertEquals(1, overlay.prune(NOW.plusSeconds(1)));
+        assertNull(overlay.lookup("a"));
+    }
+}
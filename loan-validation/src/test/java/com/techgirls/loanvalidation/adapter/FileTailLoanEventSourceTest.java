@@ -0,0 +1,77 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FileTailLoanEventSourceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    @TempDir
+    Path tempDir;
+
+    private static LoanEvent disbursed(long sequence, String applicantId) {
+        return new LoanEvent(sequence, applicantId, LoanEvent.Type.DISBURSED, TODAY, Instant.parse("2024-06-01T09:00:00Z"));
+    }
+
+    @Test
+    void shouldFollowAppendedEventsAfterWatermark() throws IOException {
+        Path file = tempDir.resolve("loan-events.csv");
+        FileTailLoanEventSource.append(file, List.of(disbursed(1, "a"), disbursed(2, "b")));
+        FileTailLoanEventSource source = new FileTailLoanEventSource(file, Duration.ofMillis(20));
+
+        StepVerifier.create(source.events(1))
+                .expectNext(disbursed(2, "b"))
+                .then(() -> append(file, "3,c,DEFAULTED,2024-06-01\n4,d,DISBU"))
+                .expectNextMatches(event -> event.getSequence() == 3 && event.getType() == LoanEvent.Type.DEFAULTED)
+                .then(() -> append(file, "RSED,2024-06-01\n"))
+                .expectNextMatches(event -> event.getSequence() == 4 && "d".equals(event.getApplicantId()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldWaitForFileAndSkipMalformedLines() {
+        Path file = tempDir.resolve("late.csv");
+        FileTailLoanEventSource source = new FileTailLoanEventSource(file, Duration.ofMillis(20));
+
+        StepVerifier.create(source.events(0))
+                .then(() -> append(file, "not an event\n1,a,DISBURSED,2024-06-01\n"))
+                .expectNextMatches(event -> event.getSequence() == 1)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldParseLinesWithoutPublicationTime() {
+        LoanEvent event = FileTailLoanEventSource.parseLine("7, applicant-7 ,DISBURSED,2024-05-30");
+
+        assertEquals(7, event.getSequence());
+        assertEquals("applicant-7", event.getApplicantId());
+        assertEquals(LocalDate.of(2024, 5, 30), event.getOccurredOn());
+        assertNull(event.getPublishedAt());
+    }
+
+    private static void append(Path file, String content) {
+        try {
+            Files.writeString(file, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
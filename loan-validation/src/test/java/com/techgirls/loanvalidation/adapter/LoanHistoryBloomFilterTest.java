@@ -0,0 +1,56 @@
+package com.techgirls.loanvalidation.adapter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanHistoryBloomFilterTest {
+
+    @Test
+    void shouldNeverRuleOutAddedApplicants() {
+        LoanHistoryBloomFilter filter = LoanHistoryBloomFilter.create(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put("applicant-" + i);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(filter.mightContain("applicant-" + i));
+        }
+        assertEquals(100_000, filter.insertions());
+    }
+
+    @Test
+    void shouldStayCloseToTargetFalsePositiveRate() {
+        LoanHistoryBloomFilter filter = LoanHistoryBloomFilter.create(100_000, 0.01);
+        for (int i = 0; i < 100_000; i++) {
+            filter.put("applicant-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("newcomer-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 1_500, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldSizeFromTargetRate() {
+        LoanHistoryBloomFilter filter = LoanHistoryBloomFilter.create(1_000_000, 0.01);
+
+        // About 9.6 bits and 7 hash functions per applicant at 1%
+        assertEquals(7, filter.hashFunctions());
+        assertTrue(filter.sizeInBytes() > 1_150_000 && filter.sizeInBytes() < 1_250_000,
+                "bytes: " + filter.sizeInBytes());
+        assertTrue(LoanHistoryBloomFilter.create(1_000_000, 0.001).sizeInBytes() > filter.sizeInBytes());
+    }
+
+    @Test
+    void shouldRejectInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> LoanHistoryBloomFilter.create(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> LoanHistoryBloomFilter.create(10, 1));
+    }
+}
@@ -0,0 +1,37 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanHistoryFaultEndpointTest {
+
+    private final LoanHistoryFaultEndpoint endpoint = new LoanHistoryFaultEndpoint(new LoanHistoryFaultInjector(properties()));
+
+    private static LoanHistoryFaultProperties properties() {
+        LoanHistoryFaultProperties properties = new LoanHistoryFaultProperties();
+        properties.getProfiles().put("slow", new LoanHistoryFaultProperties.FaultProfile());
+        return properties;
+    }
+
+    @Test
+    void shouldListActiveAndConfiguredProfiles() {
+        assertEquals(LoanHistoryFaultProperties.NONE, endpoint.faults().get("active"));
+        assertTrue(endpoint.faults().get("profiles").toString().contains("slow"));
+    }
+
+    @Test
+    void shouldActivateAndResetProfiles() {
+        assertEquals("slow", endpoint.activate("slow").get("active"));
+        assertEquals(LoanHistoryFaultProperties.NONE, endpoint.reset().get("active"));
+    }
+
+    @Test
+    void shouldRejectUnknownProfiles() {
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.activate("missing"));
+    }
+}
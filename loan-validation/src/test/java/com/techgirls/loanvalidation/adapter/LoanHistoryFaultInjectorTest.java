@@ -0,0 +1,114 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties;
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties.FaultProfile;
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties.LatencyDistribution;
+import com.techgirls.loanvalidation.exception.ExternalServiceException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanHistoryFaultInjectorTest {
+
+    private static LoanHistoryFaultInjector injector(String name, FaultProfile profile) {
+        LoanHistoryFaultProperties properties = new LoanHistoryFaultProperties();
+        properties.getProfiles().put(name, profile);
+        properties.setActive(name);
+        return new LoanHistoryFaultInjector(properties);
+    }
+
+    @Test
+    void shouldPassResponsesThroughWhenNoProfileIsActive() {
+        LoanHistoryFaultInjector injector = LoanHistoryFaultInjector.disabled();
+
+        StepVerifier.create(injector.inject(Mono.just(true), 4))
+                .expectNext(true)
+                .verifyComplete();
+        assertEquals(LoanHistoryFaultProperties.NONE, injector.activeProfile());
+    }
+
+    @Test
+    void shouldDelayResponsesByFixedLatency() {
+        FaultProfile slow = new FaultProfile();
+        slow.setLatency(Duration.ofSeconds(2));
+        LoanHistoryFaultInjector injector = injector("slow", slow);
+
+        StepVerifier.withVirtualTime(() -> injector.inject(Mono.just(true), 4))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(1999))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldInjectErrorsAndTimeouts() {
+        FaultProfile outage = new FaultProfile();
+        outage.setErrorRate(1.0);
+        FaultProfile hanging = new FaultProfile();
+        hanging.setTimeoutRate(1.0);
+
+        StepVerifier.create(injector("outage", outage).inject(Mono.just(true), 4))
+                .expectError(ExternalServiceException.class)
+                .verify();
+        StepVerifier.create(injector("hanging", hanging).inject(Mono.just(true), 4))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldPaceSlowDripByPayloadSize() {
+        FaultProfile drip = new FaultProfile();
+        drip.setSlowDripRate(1.0);
+        drip.setDripInterval(Duration.ofMillis(100));
+        LoanHistoryFaultInjector injector = injector("drip", drip);
+
+        StepVerifier.withVirtualTime(() -> injector.inject(Mono.just("2024-01-15"), 10))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(999))
+                .thenAwait(Duration.ofMillis(1))
+                .expectNext("2024-01-15")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSampleLatencyWithinBounds() {
+        FaultProfile tail = new FaultProfile();
+        tail.setLatency(Duration.ofMillis(50));
+        tail.setDistribution(LatencyDistribution.EXPONENTIAL);
+        tail.setMaxLatency(Duration.ofMillis(300));
+        FaultProfile uniform = new FaultProfile();
+        uniform.setLatency(Duration.ofMillis(50));
+        uniform.setDistribution(LatencyDistribution.UNIFORM);
+
+        for (int i = 0; i < 10_000; i++) {
+            Duration sampledTail = LoanHistoryFaultInjector.sampleLatency(tail, ThreadLocalRandom.current());
+            Duration sampledUniform = LoanHistoryFaultInjector.sampleLatency(uniform, ThreadLocalRandom.current());
+            assertTrue(sampledTail.compareTo(Duration.ofMillis(300)) <= 0);
+            assertTrue(sampledUniform.compareTo(Duration.ofMillis(100)) <= 0);
+        }
+    }
+
+    @Test
+    void shouldSwitchProfilesAtRuntime() {
+        FaultProfile outage = new FaultProfile();
+        outage.setErrorRate(1.0);
+        LoanHistoryFaultInjector injector = injector("outage", outage);
+
+        injector.activate(LoanHistoryFaultProperties.NONE);
+
+        StepVerifier.create(injector.inject(Mono.just(true), 4))
+                .expectNext(true)
+                .verifyComplete();
+        assertThrows(IllegalArgumentException.class, () -> injector.activate("unknown"));
+    }
+}
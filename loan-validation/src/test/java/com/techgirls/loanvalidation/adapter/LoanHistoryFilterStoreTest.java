@@ -0,0 +1,89 @@
+package com.techgirls.loanvalidation.adapter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanHistoryFilterStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private Path export(String content, Instant exportedAt) throws IOException {
+        Path export = tempDir.resolve("export.csv");
+        Files.writeString(export, content);
+        Files.setLastModifiedTime(export, FileTime.from(exportedAt));
+        return export;
+    }
+
+    private LoanHistoryFilterStore store(Path export) {
+        return new LoanHistoryFilterStore(export, 0.01, Duration.ofMinutes(5), Duration.ofHours(1),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldIncludeOnlyApplicantsWithLoanHistory() throws IOException {
+        LoanHistoryFilterStore store = store(export("applicantId,lastLoanDate,defaultHistory\n"
+                + "with-loan,2024-01-15,false\n"
+                + "with-default,,true\n"
+                + "without-history,,false\n"
+                + "\n"
+                + "date-only,2023-02-01\n", NOW.minusSeconds(60)));
+
+        assertTrue(store.refresh());
+        LoanHistoryBloomFilter filter = store.current();
+
+        assertEquals(3, store.applicants());
+        assertTrue(filter.mightContain("with-loan"));
+        assertTrue(filter.mightContain("with-default"));
+        assertTrue(filter.mightContain("date-only"));
+        assertTrue(store.sizeInBytes() > 0);
+    }
+
+    @Test
+    void shouldRebuildOnlyWhenExportChanges() throws IOException {
+        LoanHistoryFilterStore store = store(export("a,2024-01-01\n", NOW.minusSeconds(60)));
+
+        assertTrue(store.refresh());
+        assertFalse(store.refresh());
+
+        export("a,2024-01-01\nb,2024-02-01\n", NOW);
+        assertTrue(store.refresh());
+        assertEquals(2, store.applicants());
+    }
+
+    @Test
+    void shouldNotServeMissingOrStaleFilter() throws IOException {
+        LoanHistoryFilterStore store = store(tempDir.resolve("export.csv"));
+        assertFalse(store.refresh());
+        assertNull(store.current());
+
+        export("a,2024-01-01\n", NOW.minus(Duration.ofHours(2)));
+        assertTrue(store.refresh());
+        assertNull(store.current());
+    }
+
+    @Test
+    void shouldRecogniseExportLinesWithHistory() {
+        assertTrue(LoanHistoryFilterStore.hasLoanHistory("a,2024-01-01"));
+        assertTrue(LoanHistoryFilterStore.hasLoanHistory("a, ,true"));
+        assertFalse(LoanHistoryFilterStore.hasLoanHistory("a,,false"));
+        assertFalse(LoanHistoryFilterStore.hasLoanHistory("applicantId,lastLoanDate"));
+        assertFalse(LoanHistoryFilterStore.hasLoanHistory(""));
+    }
+}
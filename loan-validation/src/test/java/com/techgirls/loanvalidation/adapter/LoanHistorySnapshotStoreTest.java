@@ -0,0 +1,85 @@
+package com.techgirls.loanvalidation.adapter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanHistorySnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private LoanHistorySnapshotStore store(Path index) {
+        return new LoanHistorySnapshotStore(index, Duration.ofHours(1), Duration.ofHours(24), CLOCK);
+    }
+
+    @Test
+    void shouldSwapInReplacedSnapshot() throws IOException {
+        Path index = tempDir.resolve("loan-history.idx");
+        new LoanHistorySnapshotBuilder().add("applicant-1", LocalDate.of(2024, 1, 1), false)
+                .write(index, NOW.minusSeconds(3600));
+        LoanHistorySnapshotStore store = store(index);
+
+        assertTrue(store.refresh());
+        LoanHistorySnapshot first = store.current();
+        assertFalse(store.refresh());
+        assertSame(first, store.current());
+
+        new LoanHistorySnapshotBuilder().add("applicant-1", LocalDate.of(2024, 5, 1), false)
+                .add("applicant-2", null, true)
+                .write(index, NOW);
+
+        assertTrue(store.refresh());
+        assertEquals(2, store.size());
+        assertEquals(LocalDate.of(2024, 5, 1), store.current().lookup("applicant-1").getLastLoanDate());
+        // Lookups still holding the previous mapping keep working
+        assertEquals(LocalDate.of(2024, 1, 1), first.lookup("applicant-1").getLastLoanDate());
+    }
+
+    @Test
+    void shouldKeepPreviousSnapshotWhenReplacementIsCorrupt() throws IOException {
+        Path index = tempDir.resolve("loan-history.idx");
+        new LoanHistorySnapshotBuilder().add("applicant-1", null, false).write(index, NOW);
+        LoanHistorySnapshotStore store = store(index);
+        store.refresh();
+
+        Files.writeString(tempDir.resolve("corrupt.tmp"), "not an index");
+        Files.move(tempDir.resolve("corrupt.tmp"), index, StandardCopyOption.REPLACE_EXISTING);
+
+        assertFalse(store.refresh());
+        assertNotNull(store.current().lookup("applicant-1"));
+    }
+
+    @Test
+    void shouldNotServeMissingOrStaleSnapshot() throws IOException {
+        Path index = tempDir.resolve("loan-history.idx");
+        LoanHistorySnapshotStore store = store(index);
+
+        assertFalse(store.refresh());
+        assertNull(store.current());
+
+        new LoanHistorySnapshotBuilder().add("applicant-1", null, false).write(index, NOW.minus(Duration.ofHours(25)));
+        assertTrue(store.refresh());
+        assertNull(store.current());
+        assertEquals(1, store.size());
+    }
+}
@@ -0,0 +1,150 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanHistorySnapshotTest {
+
+    private static final Instant EXPORTED_AT = Instant.parse("2024-06-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldBuildIndexFromCsvExportAndMergeRepeatedApplicants() throws IOException {
+        Path export = tempDir.resolve("export.csv");
+        Files.writeString(export, "applicantId,lastLoanDate,defaultHistory\n"
+                + "applicant-1,2024-01-15,false\n"
+                + "applicant-2,,true\n"
+                + "applicant-1,2023-11-02,true\n"
+                + "\n"
+                + "solicitante-ñ,2024-05-30\n");
+        Path index = tempDir.resolve("loan-history.idx");
+
+        LoanHistorySnapshotBuilder builder = new LoanHistorySnapshotBuilder().readCsv(export);
+        builder.write(index, EXPORTED_AT);
+        LoanHistorySnapshot snapshot = LoanHistorySnapshot.open(index);
+
+        assertEquals(3, snapshot.size());
+        assertEquals(EXPORTED_AT, snapshot.exportedAt());
+        assertEquals(new LoanHistory(LocalDate.of(2024, 1, 15), true), snapshot.lookup("applicant-1"));
+        assertEquals(new LoanHistory(null, true), snapshot.lookup("applicant-2"));
+        assertEquals(new LoanHistory(LocalDate.of(2024, 5, 30), false), snapshot.lookup("solicitante-ñ"));
+        assertNull(snapshot.lookup("applicant-3"));
+        assertFalse(Files.exists(tempDir.resolve("loan-history.idx.tmp")));
+    }
+
+    @Test
+    void shouldFindEveryApplicantOfALargeIndex() throws IOException {
+        LoanHistorySnapshotBuilder builder = new LoanHistorySnapshotBuilder();
+        LocalDate base = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 50_000; i++) {
+            builder.add("applicant-" + i, i % 10 == 0 ? null : base.plusDays(i % 1500), i % 7 == 0);
+        }
+        Path index = tempDir.resolve("large.idx");
+        builder.write(index, EXPORTED_AT);
+
+        LoanHistorySnapshot snapshot = LoanHistorySnapshot.open(index);
+        for (int i = 0; i < 50_000; i++) {
+            LoanHistory history = snapshot.lookup("applicant-" + i);
+            assertEquals(i % 10 == 0 ? null : base.plusDays(i % 1500), history.getLastLoanDate());
+            assertEquals(i % 7 == 0, history.isDefaultHistory());
+        }
+        assertNull(snapshot.lookup("applicant-50000"));
+    }
+
+    @Test
+    void shouldServeEmptyIndex() throws IOException {
+        Path index = tempDir.resolve("empty.idx");
+        new LoanHistorySnapshotBuilder().write(index, EXPORTED_AT);
+
+        assertNull(LoanHistorySnapshot.open(index).lookup("applicant-1"));
+    }
+
+    @Test
+    void shouldKeepLoadFactorBelowLimit() {
+        assertEquals(2, LoanHistorySnapshotBuilder.slotCount(0));
+        assertTrue(LoanHistorySnapshotBuilder.slotCount(700) >= 1000);
+        assertEquals(1024, LoanHistorySnapshotBuilder.slotCount(700));
+        assertEquals(2048, LoanHistorySnapshotBuilder.slotCount(717));
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotSnapshots() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("other.idx"), "applicantId,lastLoanDate\n".repeat(10));
+
+        assertThrows(IOException.class, () -> LoanHistorySnapshot.open(file));
+    }
+
+    @Test
+    void shouldRejectTruncatedSnapshots() throws IOException {
+        Path index = tempDir.resolve("truncated.idx");
+        LoanHistorySnapshotBuilder builder = new LoanHistorySnapshotBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.add("applicant-" + i, LocalDate.of(2024, 1, 1), false);
+        }
+        builder.write(index, EXPORTED_AT);
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.WRITE)) {
+            channel.truncate(LoanHistorySnapshot.HEADER_SIZE + LoanHistorySnapshot.SLOT_SIZE * 10);
+        }
+
+        assertThrows(IOException.class, () -> LoanHistorySnapshot.open(index));
+    }
+
+    @Test
+    void shouldRejectCorruptHeaders() throws IOException {
+        Path index = tempDir.resolve("corrupt.idx");
+        new LoanHistorySnapshotBuilder().add("applicant-1", null, true).write(index, EXPORTED_AT);
+        long size = Files.size(index);
+
+        // Entry count reaching the slot count
+        overwriteLong(index, 16, LoanHistorySnapshotBuilder.slotCount(1));
+        assertThrows(IOException.class, () -> LoanHistorySnapshot.open(index));
+        overwriteLong(index, 16, 1);
+        // Key area past the end of the file
+        overwriteLong(index, 32, size + 8);
+        assertThrows(IOException.class, () -> LoanHistorySnapshot.open(index));
+        // Key area overlapping the slots
+        overwriteLong(index, 32, LoanHistorySnapshot.HEADER_SIZE);
+        assertThrows(IOException.class, () -> LoanHistorySnapshot.open(index));
+        // Negative slot count, a power of two as a bit pattern
+        overwriteLong(index, 8, Long.MIN_VALUE);
+        assertThrows(IOException.class, () -> LoanHistorySnapshot.open(index));
+    }
+
+    @Test
+    void shouldStopProbingWhenNoSlotIsEmpty() throws IOException {
+        Path index = tempDir.resolve("full.idx");
+        new LoanHistorySnapshotBuilder().write(index, EXPORTED_AT);
+        long slotCount = LoanHistorySnapshotBuilder.slotCount(0);
+        for (long slot = 0; slot < slotCount; slot++) {
+            overwriteLong(index, LoanHistorySnapshot.HEADER_SIZE + slot * LoanHistorySnapshot.SLOT_SIZE, 1);
+        }
+
+        assertNull(LoanHistorySnapshot.open(index).lookup("applicant-1"));
+    }
+
+    private static void overwriteLong(Path file, long position, long value) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(buffer, position);
+        }
+    }
+}
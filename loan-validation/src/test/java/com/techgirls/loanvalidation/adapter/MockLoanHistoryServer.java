@@ -0,0 +1,117 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.adapter.LoanHistoryFaultInjector.Fault;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Embedded Reactor Netty server that speaks the loan history service contract
+ * expected by {@link WebClientLoanHistoryClient}, answering from an in-process
+ * {@link LoanHistoryClient} (normally the stub). Used by the {@code mock-backend}
+ * profile and by tests to exercise the real HTTP path without the external service.
+ */
+@Slf4j
+public class MockLoanHistoryServer implements AutoCloseable {
+
+    private static final String TEXT_PLAIN = "text/plain";
+
+    private final DisposableServer server;
+
+    private MockLoanHistoryServer(DisposableServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts the server on the given port; 0 picks a free port.
+     */
+    public static MockLoanHistoryServer start(int port, LoanHistoryClient backend) {
+        return start(port, backend, LoanHistoryFaultInjector.disabled());
+    }
+
+    /**
+     * Starts the server on the given port, applying the active fault profile on the
+     * HTTP side: latency before the status line, 500 errors, connections that never
+     * answer, and bodies written one byte at a time.
+     */
+    public static MockLoanHistoryServer start(int port, LoanHistoryClient backend, LoanHistoryFaultInjector faults) {
+        DisposableServer server = HttpServer.create()
+                .host("localhost")
+                .port(port)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .route(routes -> routes
+                        .get(WebClientLoanHistoryClient.LAST_LOAN_DATE_PATH, (request, response) ->
+                                respond(response, faults, backend.getLastLoanDate(request.param("applicantId"))
+                                        .map(LocalDate::toString)))
+                        .get(WebClientLoanHistoryClient.DEFAULT_HISTORY_PATH, (request, response) ->
+                                respond(response, faults, backend.hasDefaultHistory(request.param("applicantId"))
+                                        .defaultIfEmpty(false)
+                                        .map(Object::toString))))
+                .bindNow();
+        log.info("Mock loan history server listening on port {}", server.port());
+        return new MockLoanHistoryServer(server);
+    }
+
+    public int port() {
+        return server.port();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    /**
+     * Answers with the body as plain text, or 204 when there is none.
+     */
+    private static Mono<Void> respond(HttpServerResponse response, LoanHistoryFaultInjector faults, Mono<String> body) {
+        Fault fault = faults.roll();
+        Mono<Void> answer = switch (fault.getKind()) {
+            case ERROR -> sendError(response, LoanHistoryFaultInjector.injectedError());
+            case TIMEOUT -> Mono.never();
+            case NONE, SLOW_DRIP -> body
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(text -> text.isPresent()
+                            ? sendText(response, text.get(), fault.getDripInterval())
+                            : response.status(HttpResponseStatus.NO_CONTENT).send().then())
+                    .onErrorResume(error -> sendError(response, error));
+        };
+        return fault.getLatency().isZero() ? answer : Mono.delay(fault.getLatency()).then(answer);
+    }
+
+    private static Mono<Void> sendText(HttpServerResponse response, String body, Duration dripInterval) {
+        response.header(HttpHeaderNames.CONTENT_TYPE, TEXT_PLAIN);
+        if (dripInterval.isZero()) {
+            return response.sendString(Mono.just(body)).then();
+        }
+        // Flush every byte on its own so the client sees a trickle, not one delayed chunk
+        byte[] bytes = body.getBytes(StandardCharsets.US_ASCII);
+        Flux<ByteBuf> drip = Flux.range(0, bytes.length)
+                .delayElements(dripInterval)
+                .map(index -> response.alloc().buffer(1).writeByte(bytes[index]));
+        return response.send(drip, buffer -> true).then();
+    }
+
+    private static Mono<Void> sendError(HttpServerResponse response, Throwable error) {
+        log.debug("Mock loan history lookup failed: {}", error.getMessage());
+        return response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send().then();
+    }
+}
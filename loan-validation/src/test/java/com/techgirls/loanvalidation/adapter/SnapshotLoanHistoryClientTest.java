@@ -0,0 +1,92 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.port.LoanHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SnapshotLoanHistoryClientTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T12:00:00Z");
+    private static final LocalDate SNAPSHOT_DATE = LocalDate.of(2020, 3, 1);
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoanHistorySnapshotStore store;
+    private SnapshotLoanHistoryClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path index = tempDir.resolve("loan-history.idx");
+        new LoanHistorySnapshotBuilder()
+                .add("snapshot-applicant", SNAPSHOT_DATE, true)
+                .add("snapshot-without-loans", null, false)
+                .write(index, NOW);
+        store = new LoanHistorySnapshotStore(index, Duration.ofHours(1), Duration.ofHours(24),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        store.refresh();
+        client = new SnapshotLoanHistoryClient(store, new StubLoanHistoryClient(), meterRegistry);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(SnapshotLoanHistoryClient.METRIC).tag("result", result).counter().count();
+    }
+
+    @Test
+    void shouldAnswerFromSnapshotWhenApplicantIsIndexed() {
+        StepVerifier.create(client.getLastLoanDate("snapshot-applicant"))
+                .expectNext(SNAPSHOT_DATE)
+                .verifyComplete();
+        StepVerifier.create(client.hasDefaultHistory("snapshot-applicant"))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(client.getLastLoanDate("snapshot-without-loans"))
+                .verifyComplete();
+        StepVerifier.create(client.getLoanHistory("snapshot-applicant"))
+                .expectNext(new LoanHistory(SNAPSHOT_DATE, true))
+                .verifyComplete();
+
+        assertEquals(4, lookups("hit"));
+    }
+
+    @Test
+    void shouldDelegateApplicantsMissingFromSnapshot() {
+        // The stub reports a loan one month ago for ids containing "recent"
+        StepVerifier.create(client.getLastLoanDate("recent-applicant"))
+                .expectNextMatches(date -> date.isAfter(SNAPSHOT_DATE))
+                .verifyComplete();
+        StepVerifier.create(client.hasDefaultHistory("default-applicant"))
+                .expectNext(true)
+                .verifyComplete();
+
+        assertEquals(2, lookups("miss"));
+    }
+
+    @Test
+    void shouldBypassSnapshotOnceStale() {
+        LoanHistorySnapshotStore staleStore = new LoanHistorySnapshotStore(tempDir.resolve("loan-history.idx"),
+                Duration.ofHours(1), Duration.ofHours(1), Clock.fixed(NOW.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+        staleStore.refresh();
+        SnapshotLoanHistoryClient staleClient = new SnapshotLoanHistoryClient(staleStore,
+                new StubLoanHistoryClient(), meterRegistry);
+
+        StepVerifier.create(staleClient.hasDefaultHistory("snapshot-applicant"))
+                .expectNext(false)
+                .verifyComplete();
+        assertEquals(1, lookups("bypass"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.techgirls.loanvalidation.adapter;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for StubApplicantDirectoryClient.
+ */
+class StubApplicantDirectoryClientTest {
+
+    private final StubApplicantDirectoryClient stubApplicantDirectoryClient = new StubApplicantDirectoryClient();
+
+    @Test
+    void shouldNormalizeSubjectToCanonicalId() {
+        StepVerifier.create(stubApplicantDirectoryClient.findApplicantId("  Customer-Recent-01 "))
+            .expectNext("customer-recent-01")
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnEmptyForBlankSubject() {
+        StepVerifier.create(stubApplicantDirectoryClient.findApplicantId("   "))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnEmptyForNullSubject() {
+        StepVerifier.create(stubApplicantDirectoryClient.findApplicantId(null))
+            .verifyComplete();
+    }
+}
@@ -1,5 +1,7 @@
 package com.techgirls.loanvalidation.adapter;
 
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties;
+import com.techgirls.loanvalidation.exception.ExternalServiceException;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -207,4 +209,20 @@ class StubLoanHistoryClientTest {
             })
             .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFailWhenFaultProfileInjectsErrors() {
+        // Given
+        LoanHistoryFaultProperties.FaultProfile outage = new LoanHistoryFaultProperties.FaultProfile();
+        outage.setErrorRate(1.0);
+        LoanHistoryFaultProperties properties = new LoanHistoryFaultProperties();
+        properties.getProfiles().put("outage", outage);
+        properties.setActive("outage");
+        StubLoanHistoryClient degradedClient = new StubLoanHistoryClient(new LoanHistoryFaultInjector(properties));
+
+        // When & Then
+        StepVerifier.create(degradedClient.getLastLoanDate("recent-loan-user"))
+            .expectError(ExternalServiceException.class)
+            .verify();
+    }
+}
@@ -0,0 +1,155 @@
+package com.techgirls.loanvalidation.adapter;
+
+import com.techgirls.loanvalidation.config.LoanHistoryClientConfig;
+import com.techgirls.loanvalidation.config.LoanHistoryClientProperties;
+import com.techgirls.loanvalidation.config.LoanHistoryFaultProperties;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises the HTTP adapter end to end against the embedded mock server.
+ */
+class WebClientLoanHistoryClientTest {
+
+    private MockLoanHistoryServer server;
+    private ConnectionProvider connectionProvider;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    private WebClientLoanHistoryClient clientFor(LoanHistoryClient backend, Duration timeout) {
+        return clientFor(backend, LoanHistoryFaultInjector.disabled(), timeout);
+    }
+
+    private WebClientLoanHistoryClient clientFor(LoanHistoryClient backend, LoanHistoryFaultInjector faults,
+                                                 Duration timeout) {
+        server = MockLoanHistoryServer.start(0, backend, faults);
+        LoanHistoryClientProperties properties = new LoanHistoryClientProperties();
+        properties.setMode(LoanHistoryClientProperties.Mode.WEBCLIENT);
+        properties.setBaseUrl(server.baseUrl());
+        properties.setTimeout(timeout);
+        properties.setMaxConnections(4);
+
+        LoanHistoryClientConfig config = new LoanHistoryClientConfig();
+        connectionProvider = config.loanHistoryConnectionProvider(properties);
+        return config.webClientLoanHistoryClient(WebClient.builder(), connectionProvider, properties);
+    }
+
+    @Test
+    void shouldReadLastLoanDateOverHttp() {
+        WebClientLoanHistoryClient client = clientFor(new StubLoanHistoryClient(), Duration.ofSeconds(2));
+
+        StepVerifier.create(client.getLastLoanDate("applicant-recent-loans"))
+                .expectNext(LocalDate.now().minusMonths(1))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenApplicantHasNoLoans() {
+        WebClientLoanHistoryClient client = clientFor(new StubLoanHistoryClient(), Duration.ofSeconds(2));
+
+        StepVerifier.create(client.getLastLoanDate("applicant-no-loans"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReadDefaultHistoryAndCombinedHistory() {
+        WebClientLoanHistoryClient client = clientFor(new StubLoanHistoryClient(), Duration.ofSeconds(2));
+
+        StepVerifier.create(client.hasDefaultHistory("applicant-default"))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(client.getLoanHistory("applicant-old-default"))
+                .expectNext(new LoanHistory(LocalDate.now().minusMonths(6), true))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFailWhenBackendIsSlowerThanTimeout() {
+        LoanHistoryClient slowBackend = new StubLoanHistoryClient() {
+            @Override
+            public Mono<LocalDate> getLastLoanDate(String applicantId) {
+                return Mono.delay(Duration.ofSeconds(2)).then(super.getLastLoanDate(applicantId));
+            }
+        };
+        WebClientLoanHistoryClient client = clientFor(slowBackend, Duration.ofMillis(200));
+
+        StepVerifier.create(client.getLastLoanDate("applicant-recent-loans"))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldPropagateServerErrors() {
+        LoanHistoryClient failingBackend = new StubLoanHistoryClient() {
+            @Override
+            public Mono<Boolean> hasDefaultHistory(String customerId) {
+                return Mono.error(new IllegalStateException("backend down"));
+            }
+        };
+        WebClientLoanHistoryClient client = clientFor(failingBackend, Duration.ofSeconds(2));
+
+        StepVerifier.create(client.hasDefaultHistory("applicant-default"))
+                .expectError(WebClientResponseException.InternalServerError.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldReadSlowDripBodyWithinTimeout() {
+        LoanHistoryFaultProperties.FaultProfile drip = new LoanHistoryFaultProperties.FaultProfile();
+        drip.setSlowDripRate(1.0);
+        drip.setDripInterval(Duration.ofMillis(20));
+        LoanHistoryFaultProperties faults = new LoanHistoryFaultProperties();
+        faults.getProfiles().put("drip", drip);
+        faults.setActive("drip");
+        WebClientLoanHistoryClient client = clientFor(new StubLoanHistoryClient(),
+                new LoanHistoryFaultInjector(faults), Duration.ofSeconds(2));
+
+        StepVerifier.create(client.getLastLoanDate("applicant-recent-loans"))
+                .expectNext(LocalDate.now().minusMonths(1))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldParseIsoDateFromBuffer() {
+        assertEquals(LocalDate.of(2024, 1, 15), WebClientLoanHistoryClient.parseIsoDate(buffer("2024-01-15")));
+        assertEquals(LocalDate.of(2024, 1, 15), WebClientLoanHistoryClient.parseIsoDate(buffer("\"2024-01-15\"\n")));
+        assertThrows(DateTimeParseException.class, () -> WebClientLoanHistoryClient.parseIsoDate(buffer("15/01/2024")));
+    }
+
+    @Test
+    void shouldParseBooleanFromBuffer() {
+        assertTrue(WebClientLoanHistoryClient.parseBoolean(buffer("true")));
+        assertFalse(WebClientLoanHistoryClient.parseBoolean(buffer("false")));
+        assertFalse(WebClientLoanHistoryClient.parseBoolean(buffer("")));
+    }
+
+    private static org.springframework.core.io.buffer.DataBuffer buffer(String text) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,151 @@
+package com.techgirls.loanvalidation.batch;
+
+import com.techgirls.loanvalidation.config.BatchScoringProperties;
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.service.InputValidationService;
+import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchScoringRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final InputValidationService inputValidationService =
+            new InputValidationService(new BusinessRulesProperties(), Clock.systemDefaultZone());
+    private LoanValidationOrchestrator orchestrator;
+    private BatchScoringProperties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        orchestrator = mock(LoanValidationOrchestrator.class);
+        when(orchestrator.evaluate(any(LoanValidationRequest.class), anyString()))
+                .thenAnswer(invocation -> {
+                    LoanValidationRequest request = invocation.getArgument(0);
+                    return Mono.just(new LoanValidationResult(true, Collections.emptyList(),
+                            request.getRequestedAmount() / request.getTermMonths()));
+                });
+
+        StringBuilder input = new StringBuilder("applicantId,monthlySalary,requestedAmount,termMonths,lastLoanDate\n");
+        for (int i = 0; i < 1000; i++) {
+            input.append("applicant-").append(i).append(",3000,").append(2400 + i).append(",24,\n");
+        }
+        input.append("applicant-invalid,3000,5000,0,\n");
+        Files.writeString(tempDir.resolve("loans.csv"), input.toString());
+
+        properties = new BatchScoringProperties();
+        properties.setInput(tempDir.resolve("loans.csv"));
+        properties.setOutput(tempDir.resolve("scores.csv"));
+        properties.setChunkSize(64);
+        properties.setParallelism(4);
+        properties.setCheckpointInterval(256);
+    }
+
+    @Test
+    void shouldScoreEveryRecordInInputOrder() throws Exception {
+        BatchScoringRunner.Summary summary =
+                new BatchScoringRunner(orchestrator, inputValidationService, properties).run();
+
+        List<String> lines = Files.readAllLines(properties.getOutput());
+        assertEquals(1001, summary.getRecords());
+        assertEquals(1002, lines.size());
+        assertTrue(lines.get(1).contains(",applicant-0,SCORED,true,100.00,"));
+        assertTrue(lines.get(1000).contains(",applicant-999,SCORED,true,"));
+        assertTrue(lines.get(1001).contains(",applicant-invalid,INVALID,"));
+        assertFalse(Files.exists(properties.resolveCheckpoint()));
+    }
+
+    @Test
+    void shouldResumeFromCheckpointWithoutRescoring() throws Exception {
+        new BatchScoringRunner(orchestrator, inputValidationService, properties).run();
+        String complete = Files.readString(properties.getOutput());
+
+        // Simulate a crash after 512 records, with a partially written tail
+        long inputOffset = offsetAfterRecords(512);
+        long outputSize = prefixLength(complete, 513);
+        new BatchCheckpoint(BatchCheckpoint.InputIdentity.of(properties.getInput()), inputOffset, outputSize, 512)
+                .save(properties.resolveCheckpoint());
+        Files.writeString(properties.getOutput(), complete.substring(0, (int) outputSize) + "garbage");
+
+        BatchScoringRunner.Summary summary =
+                new BatchScoringRunner(orchestrator, inputValidationService, properties).run();
+
+        assertEquals(1001, summary.getRecords());
+        assertEquals(512, summary.getResumedFrom());
+        assertEquals(complete, Files.readString(properties.getOutput()));
+        verify(orchestrator, times(1000 + 488)).evaluate(any(LoanValidationRequest.class), anyString());
+    }
+
+    @Test
+    void shouldRefuseCheckpointOfADifferentInput() throws Exception {
+        BatchCheckpoint.InputIdentity original = BatchCheckpoint.InputIdentity.of(properties.getInput());
+        new BatchCheckpoint(original, offsetAfterRecords(512), 1000, 512).save(properties.resolveCheckpoint());
+        Files.writeString(properties.getInput(), "applicantId,monthlySalary,requestedAmount,termMonths,lastLoanDate\n"
+                + "applicant-new,3000,2400,24,\n");
+
+        BatchScoringRunner runner = new BatchScoringRunner(orchestrator, inputValidationService, properties);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, runner::run);
+        assertTrue(error.getMessage().contains("loan-validation.batch.resume=false"));
+        verify(orchestrator, never()).evaluate(any(LoanValidationRequest.class), anyString());
+    }
+
+    @Test
+    void shouldRefuseCheckpointWithoutInputIdentity() throws Exception {
+        Files.writeString(properties.resolveCheckpoint(), "inputOffset=100\noutputSize=100\nrecords=2\n");
+
+        BatchScoringRunner runner = new BatchScoringRunner(orchestrator, inputValidationService, properties);
+
+        assertThrows(IllegalStateException.class, runner::run);
+    }
+
+    @Test
+    void shouldIgnoreMismatchedCheckpointWhenNotResuming() throws Exception {
+        new BatchCheckpoint(new BatchCheckpoint.InputIdentity("elsewhere.csv", 10, 0), 5, 5, 1)
+                .save(properties.resolveCheckpoint());
+        properties.setResume(false);
+
+        BatchScoringRunner.Summary summary =
+                new BatchScoringRunner(orchestrator, inputValidationService, properties).run();
+
+        assertEquals(1001, summary.getRecords());
+        assertFalse(Files.exists(properties.resolveCheckpoint()));
+    }
+
+    private long offsetAfterRecords(int records) throws Exception {
+        try (MappedLoanRecordReader reader = MappedLoanRecordReader.open(properties.getInput(), 0)) {
+            return reader.nextChunk(records).get(records - 1).getNextOffset();
+        }
+    }
+
+    private static long prefixLength(String content, int lines) {
+        int index = 0;
+        for (int i = 0; i < lines; i++) {
+            index = content.indexOf('\n', index) + 1;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,110 @@
+package com.techgirls.loanvalidation.batch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedLoanRecordReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    void shouldReadCsvColumnsInHeaderOrder() throws IOException {
+        Path file = write("loans.csv", "termMonths,applicantId,monthlySalary,requestedAmount,lastLoanDate\r\n"
+                + "24,applicant-1,3000.50,5000,2024-01-15\r\n"
+                + "\r\n"
+                + "12, applicant-2 ,1000,20000,\n");
+
+        try (MappedLoanRecordReader reader = MappedLoanRecordReader.open(file, 0)) {
+            LoanRecord first = reader.next();
+            LoanRecord second = reader.next();
+
+            assertEquals("applicant-1", first.getApplicantId());
+            assertEquals(3000.50, first.getMonthlySalary());
+            assertEquals(5000.0, first.getRequestedAmount());
+            assertEquals(24, first.getTermMonths());
+            assertEquals(LocalDate.of(2024, 1, 15), first.getLastLoanDate());
+            assertTrue(first.isValid());
+
+            assertEquals("applicant-2", second.getApplicantId());
+            assertNull(second.getLastLoanDate());
+            assertEquals(Files.size(file), second.getNextOffset());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void shouldReadNdjsonAndFallBackForEscapedValues() throws IOException {
+        Path file = write("loans.ndjson",
+                "{\"applicantId\":\"a-1\",\"monthlySalary\":3000,\"requestedAmount\":5000.25,\"termMonths\":24,\"lastLoanDate\":null}\n"
+                + "{ \"applicantId\" : \"a\\\"2\", \"termMonths\": 12, \"extra\": {\"nested\": true}, \"monthlySalary\": 1e3 }\n");
+
+        try (MappedLoanRecordReader reader = MappedLoanRecordReader.open(file, 0)) {
+            LoanRecord first = reader.next();
+            LoanRecord second = reader.next();
+
+            assertEquals("a-1", first.getApplicantId());
+            assertEquals(5000.25, first.getRequestedAmount());
+            assertNull(first.getLastLoanDate());
+            assertEquals("a\"2", second.getApplicantId());
+            assertEquals(1000.0, second.getMonthlySalary());
+            assertEquals(12, second.getTermMonths());
+        }
+    }
+
+    @Test
+    void shouldReportMalformedFieldsWithoutStopping() throws IOException {
+        Path file = write("loans.csv", "applicantId,monthlySalary,requestedAmount,termMonths,lastLoanDate\n"
+                + "a-1,abc,5000,24,2024-02-30\n"
+                + "a-2,3000,5000,24,\n");
+
+        try (MappedLoanRecordReader reader = MappedLoanRecordReader.open(file, 0)) {
+            LoanRecord broken = reader.next();
+            LoanRecord valid = reader.next();
+
+            assertFalse(broken.isValid());
+            assertTrue(broken.getParseError().contains("monthlySalary"));
+            assertTrue(valid.isValid());
+        }
+    }
+
+    @Test
+    void shouldResumeFromOffsetAndCrossMappingWindows() throws IOException {
+        StringBuilder content = new StringBuilder("applicantId,monthlySalary,requestedAmount,termMonths,lastLoanDate\n");
+        for (int i = 0; i < 200; i++) {
+            content.append("applicant-").append(i).append(",3000,").append(5000 + i).append(",24,\n");
+        }
+        Path file = write("loans.csv", content.toString());
+
+        long resumeOffset;
+        try (MappedLoanRecordReader reader = MappedLoanRecordReader.open(file, LoanRecordFormat.CSV, 0, 128)) {
+            List<LoanRecord> firstChunk = reader.nextChunk(50);
+            assertEquals(50, firstChunk.size());
+            resumeOffset = firstChunk.get(49).getNextOffset();
+            List<LoanRecord> rest = reader.nextChunk(1000);
+            assertEquals(150, rest.size());
+            assertEquals(5199.0, rest.get(149).getRequestedAmount());
+        }
+
+        try (MappedLoanRecordReader reader = MappedLoanRecordReader.open(file, LoanRecordFormat.CSV, resumeOffset, 128)) {
+            assertEquals("applicant-50", reader.next().getApplicantId());
+        }
+    }
+}
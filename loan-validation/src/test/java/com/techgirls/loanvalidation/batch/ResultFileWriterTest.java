@@ -0,0 +1,48 @@
+package com.techgirls.loanvalidation.batch;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResultFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteCsvLinesAndTruncateOnReopen() throws Exception {
+        Path output = tempDir.resolve("scores.csv");
+        LoanRecord record = new LoanRecord();
+        record.setOffset(42);
+        record.setApplicantId("applicant-1");
+        LoanRecord other = new LoanRecord();
+        other.setOffset(99);
+        other.setApplicantId("name, with comma");
+
+        long checkpointSize;
+        try (ResultFileWriter writer = ResultFileWriter.open(output, 0)) {
+            writer.write(ScoredRecord.scored(record, new LoanValidationResult(false, Arrays.asList(
+                    LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS,
+                    LoanValidationResult.ReasonsEnum.CAPACIDAD_INSUFICIENTE), 208.333)));
+            checkpointSize = writer.flush();
+            writer.write(ScoredRecord.invalid(other, "Invalid termMonths"));
+        }
+        try (ResultFileWriter writer = ResultFileWriter.open(output, checkpointSize)) {
+            writer.write(ScoredRecord.scored(other, new LoanValidationResult(true, Collections.emptyList(), 50.0)));
+        }
+
+        assertEquals(ResultFileWriter.HEADER
+                        + "42,applicant-1,SCORED,false,208.33,"
+                        + LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS.getValue() + "|"
+                        + LoanValidationResult.ReasonsEnum.CAPACIDAD_INSUFICIENTE.getValue() + ",\n"
+                        + "99,\"name, with comma\",SCORED,true,50.00,,\n",
+                Files.readString(output));
+    }
+}
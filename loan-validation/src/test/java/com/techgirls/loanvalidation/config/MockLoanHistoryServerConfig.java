@@ -0,0 +1,29 @@
+package com.techgirls.loanvalidation.config;
+
+import com.techgirls.loanvalidation.adapter.LoanHistoryFaultInjector;
+import com.techgirls.loanvalidation.adapter.MockLoanHistoryServer;
+import com.techgirls.loanvalidation.adapter.StubLoanHistoryClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Starts an embedded loan history server backed by the stub scenarios.
+ * Combined with {@code loan-validation.client.loan-history.mode=webclient} (see
+ * {@code application-mock-backend.yml}) it lets integration and load tests run
+ * the real HTTP client path without the external service. It is test code and
+ * never ships in the application jar; start the service on the test classpath with
+ * {@code mvn spring-boot:test-run -Dspring-boot.run.profiles=dev,mock-backend}.
+ */
+@Configuration
+@Profile("mock-backend")
+public class MockLoanHistoryServerConfig {
+
+    @Bean(destroyMethod = "close")
+    public MockLoanHistoryServer mockLoanHistoryServer(@Value("${loan-validation.mock-backend.port:8089}") int port,
+                                                       LoanHistoryFaultInjector faultInjector) {
+        // Faults are applied on the HTTP side, so the backing stub itself stays healthy
+        return MockLoanHistoryServer.start(port, new StubLoanHistoryClient(), faultInjector);
+    }
+}
@@ -0,0 +1,99 @@
+package com.techgirls.loanvalidation.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Encode/decode cost per wire format for the loan validation payloads.
+ * Disabled by default; run with
+ * {@code mvn test -Dtest=WireFormatBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WireFormatBenchmark {
+
+    private static final int WARMUP_ROUNDS = 50_000;
+    private static final int MEASURED_ROUNDS = 200_000;
+
+    private interface Codec<T> {
+        byte[] encode(T value) throws Exception;
+
+        T decode(byte[] bytes) throws Exception;
+    }
+
+    private static ObjectMapper mapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.modulesToInstall(new JsonNullableModule()).build();
+    }
+
+    private static <T> Codec<T> codec(ObjectMapper mapper, Class<T> type) {
+        return new Codec<T>() {
+            @Override
+            public byte[] encode(T value) throws Exception {
+                return mapper.writeValueAsBytes(value);
+            }
+
+            @Override
+            public T decode(byte[] bytes) throws Exception {
+                return mapper.readValue(bytes, type);
+            }
+        };
+    }
+
+    private static <T> void measure(String format, String payload, Codec<T> codec, T value) throws Exception {
+        byte[] bytes = codec.encode(value);
+        assertEquals(value, codec.decode(bytes));
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += codec.encode(value).length;
+            sink += codec.decode(bytes).hashCode();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += codec.encode(value).length;
+        }
+        long encodeNanos = (System.nanoTime() - start) / MEASURED_ROUNDS;
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            sink += codec.decode(bytes).hashCode();
+        }
+        long decodeNanos = (System.nanoTime() - start) / MEASURED_ROUNDS;
+
+        System.out.printf("%-8s %-22s %4d B  encode %6d ns/op  decode %6d ns/op  (%d)%n",
+                format, payload, bytes.length, encodeNanos, decodeNanos, sink & 1);
+    }
+
+    @Test
+    void compareWireFormats() throws Exception {
+        LoanValidationRequest request = new LoanValidationRequest();
+        request.setMonthlySalary(3000.0);
+        request.setRequestedAmount(5000.0);
+        request.setTermMonths(24);
+        request.setLastLoanDate(JsonNullable.of(LocalDate.of(2025, 4, 1)));
+        LoanValidationResult result = new LoanValidationResult(false, Arrays.asList(
+                LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS,
+                LoanValidationResult.ReasonsEnum.CAPACIDAD_INSUFICIENTE), 208.33);
+
+        ObjectMapper[] mappers = {
+                mapper(Jackson2ObjectMapperBuilder.json()),
+                mapper(Jackson2ObjectMapperBuilder.cbor()),
+                mapper(Jackson2ObjectMapperBuilder.smile())
+        };
+        String[] formats = {"json", "cbor", "smile"};
+
+        for (int i = 0; i < mappers.length; i++) {
+            measure(formats[i], "LoanValidationRequest", codec(mappers[i], LoanValidationRequest.class), request);
+            measure(formats[i], "LoanValidationResult", codec(mappers[i], LoanValidationResult.class), result);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.techgirls.loanvalidation.consistency;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Inputs for the consistency check: the boundaries where the two engines are known
+ * to be sensitive, and seeded random traffic weighted towards them.
+ *
+ * Amounts and salaries are whole cents, as they arrive from clients. The recent-loan
+ * threshold is the business date minus three months, the maximum term 36 months and
+ * the payment limit 40% of the salary, the values both engines apply.
+ */
+final class ConsistencyInputs {
+
+    private static final double[] EDGE_SALARIES = {-1000, 0, 0.01, 1000, 2500.5, 3000};
+    private static final double[] EDGE_AMOUNTS = {-1, 0, 0.01, 1200, 36_000, 36_000.01};
+    private static final int[] EDGE_TERMS = {-1, 0, 1, 12, 36, 37};
+    private static final int MAX_TERM = 36;
+
+    private ConsistencyInputs() {
+    }
+
+    /**
+     * Every combination of the boundary salaries, amounts, terms and last loan dates
+     * (none, the day before, on and after the threshold, the business date and the
+     * day after it), then payments a fraction of a cent above and below the limit for
+     * every valid term.
+     */
+    static List<LoanInput> edgeCases(LocalDate businessDate) {
+        LocalDate threshold = businessDate.minusMonths(3);
+        List<LocalDate> lastLoans = Arrays.asList(null, threshold.minusDays(1), threshold, threshold.plusDays(1),
+                businessDate, businessDate.plusDays(1));
+        List<LoanInput> inputs = new ArrayList<>();
+        for (double salary : EDGE_SALARIES) {
+            for (double amount : EDGE_AMOUNTS) {
+                for (int term : EDGE_TERMS) {
+                    for (LocalDate lastLoan : lastLoans) {
+                        inputs.add(new LoanInput(salary, amount, term, lastLoan));
+                    }
+                }
+            }
+        }
+        // Salary 1000 allows a payment of 400.00
+        for (int term = 1; term <= MAX_TERM; term++) {
+            for (long offsetCents : new long[] {-1, 0, 1, term / 2, term}) {
+                inputs.add(new LoanInput(1000, (40_000L * term + offsetCents) / 100.0, term, null));
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Random inputs, reproducible for a given seed. About a third of the valid terms
+     * get an amount within a cent per month of the payment limit and a fifth of the
+     * last loans fall on or next to the recent-loan threshold.
+     */
+    static List<LoanInput> random(LocalDate businessDate, int count, long seed) {
+        LocalDate threshold = businessDate.minusMonths(3);
+        Random random = new Random(seed);
+        List<LoanInput> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long salaryCents = random.nextInt(1_000_000);
+            if (random.nextInt(50) == 0) {
+                salaryCents = -salaryCents;
+            }
+            int term = random.nextInt(64) - 2;
+            long amountCents;
+            if (term > 0 && random.nextInt(3) == 0) {
+                amountCents = Math.round(salaryCents * 0.4 * term) + random.nextInt(2 * term + 1) - term;
+            } else {
+                amountCents = random.nextInt(10_000_000);
+                if (random.nextInt(50) == 0) {
+                    amountCents = -amountCents;
+                }
+            }
+            inputs.add(new LoanInput(salaryCents / 100.0, amountCents / 100.0, term,
+                    lastLoan(random, businessDate, threshold)));
+        }
+        return inputs;
+    }
+
+    private static LocalDate lastLoan(Random random, LocalDate businessDate, LocalDate threshold) {
+        int kind = random.nextInt(10);
+        if (kind < 4) {
+            return null;
+        }
+        if (kind == 4) {
+            return threshold;
+        }
+        if (kind == 5) {
+            return threshold.plusDays(random.nextBoolean() ? 1 : -1);
+        }
+        return businessDate.minusDays(random.nextInt(400) - 10);
+    }
+}
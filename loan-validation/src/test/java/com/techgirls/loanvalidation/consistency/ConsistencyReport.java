@@ -0,0 +1,146 @@
+package com.techgirls.loanvalidation.consistency;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of a consistency check: every input the two engines decided differently,
+ * counted by cause, and the throughput of each engine over the same inputs.
+ */
+final class ConsistencyReport {
+
+    /** Divergences of each cause printed by {@link #format()}; {@link #write(Path)} lists all of them. */
+    static final int EXAMPLES = 3;
+
+    @Value
+    static class Divergence {
+
+        int index;
+        LoanInput input;
+        List<ReasonsEnum> legacyReasons;
+        List<ReasonsEnum> orchestratorReasons;
+        double legacyPayment;
+        double orchestratorPayment;
+        /** InputValidationService message when the orchestrator path answered 400, otherwise null. */
+        String orchestratorRejection;
+        Set<DivergenceCause> causes;
+
+        String describe() {
+            String orchestrator = orchestratorRejection != null
+                    ? "400 " + orchestratorRejection
+                    : String.format(Locale.ROOT, "%s %.4f", orchestratorReasons, orchestratorPayment);
+            return String.format(Locale.ROOT, "#%d %s | legacy %s %.2f | orchestrator %s | %s", index,
+                    input.describe(), legacyReasons, legacyPayment, orchestrator, causes);
+        }
+    }
+
+    private final LocalDate businessDate;
+    private final int inputs;
+    private final Duration legacyElapsed;
+    private final Duration orchestratorElapsed;
+    private final List<Divergence> divergences = new ArrayList<>();
+    private final Map<DivergenceCause, Long> counts = new EnumMap<>(DivergenceCause.class);
+
+    ConsistencyReport(LocalDate businessDate, int inputs, Duration legacyElapsed, Duration orchestratorElapsed) {
+        this.businessDate = businessDate;
+        this.inputs = inputs;
+        this.legacyElapsed = legacyElapsed;
+        this.orchestratorElapsed = orchestratorElapsed;
+    }
+
+    void add(Divergence divergence) {
+        divergences.add(divergence);
+        for (DivergenceCause cause : divergence.getCauses()) {
+            counts.merge(cause, 1L, Long::sum);
+        }
+    }
+
+    int inputs() {
+        return inputs;
+    }
+
+    List<Divergence> divergences() {
+        return Collections.unmodifiableList(divergences);
+    }
+
+    /** Divergent inputs with this cause among theirs. */
+    long count(DivergenceCause cause) {
+        return counts.getOrDefault(cause, 0L);
+    }
+
+    double legacyThroughput() {
+        return throughput(legacyElapsed);
+    }
+
+    double orchestratorThroughput() {
+        return throughput(orchestratorElapsed);
+    }
+
+    String format() {
+        StringBuilder out = new StringBuilder();
+        out.append("# LoanRulesService vs LoanValidationOrchestrator").append('\n')
+                .append("# business date: ").append(businessDate).append('\n')
+                .append("# cores:         ").append(Runtime.getRuntime().availableProcessors()).append('\n')
+                .append('\n');
+        out.append(String.format(Locale.ROOT, "Inputs: %d, divergent: %d (%.2f%%)%n", inputs, divergences.size(),
+                inputs == 0 ? 0.0 : divergences.size() * 100.0 / inputs));
+        out.append(String.format(Locale.ROOT, "Throughput: LoanRulesService %.0f evals/s, orchestrator %.0f evals/s"
+                        + " (legacy/orchestrator %.2fx)%n", legacyThroughput(), orchestratorThroughput(),
+                orchestratorThroughput() == 0 ? 0.0 : legacyThroughput() / orchestratorThroughput()));
+        out.append('\n').append(String.format(Locale.ROOT, "%-28s %10s  %s%n", "cause", "inputs", "meaning"));
+        for (DivergenceCause cause : DivergenceCause.values()) {
+            out.append(String.format(Locale.ROOT, "%-28s %10d  %s%n", cause, count(cause), cause.description()));
+        }
+        for (DivergenceCause cause : DivergenceCause.values()) {
+            List<Divergence> examples = divergences.stream()
+                    .filter(divergence -> divergence.getCauses().contains(cause))
+                    .limit(EXAMPLES)
+                    .toList();
+            if (!examples.isEmpty()) {
+                out.append('\n').append(cause).append('\n');
+                examples.forEach(divergence -> out.append("  ").append(divergence.describe()).append('\n'));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the summary followed by one line per divergence.
+     */
+    void write(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                writer.write(format());
+                writer.write("\nAll divergences\n");
+                for (Divergence divergence : divergences) {
+                    writer.write(divergence.describe());
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private double throughput(Duration elapsed) {
+        return elapsed.isZero() ? inputs : inputs / (elapsed.toNanos() / 1e9);
+    }
+}
@@ -0,0 +1,27 @@
+package com.techgirls.loanvalidation.consistency;
+
+/**
+ * Why {@code LoanRulesService} and {@code LoanValidationOrchestrator} decided an
+ * input differently.
+ */
+enum DivergenceCause {
+
+    REJECTED_INPUT("InputValidationService answers 400 before the orchestrator; LoanRulesService answers 200 with reasons"),
+    RECENT_LOAN_THRESHOLD_DAY("a last loan exactly three months back: isAfter(threshold) against !isBefore(threshold)"),
+    PAYMENT_ROUNDING("LoanRulesService compares the payment rounded to cents (HALF_UP) with 40% of the salary"),
+    FLOATING_POINT("the orchestrator compares payment and 40% of the salary in binary floating point"),
+    PAYMENT_AMOUNT("reported monthly payments differ by more than the half cent of rounding"),
+    INCOMPLETE_RULES("the orchestrator did not complete every rule"),
+    FAILED("an engine failed on the input"),
+    UNEXPLAINED("none of the known differences accounts for the divergence");
+
+    private final String description;
+
+    DivergenceCause(String description) {
+        this.description = description;
+    }
+
+    String description() {
+        return description;
+    }
+}
@@ -0,0 +1,237 @@
+package com.techgirls.loanvalidation.consistency;
+
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
+import com.techgirls.loanvalidation.config.RuleExecutionProperties;
+import com.techgirls.loanvalidation.exception.InputValidationException;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import com.techgirls.loanvalidation.service.InputValidationService;
+import com.techgirls.loanvalidation.service.LoanRulesService;
+import com.techgirls.loanvalidation.service.calculation.PaymentCalculationService;
+import com.techgirls.loanvalidation.service.validation.LoanHistoryFetchStage;
+import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import com.techgirls.loanvalidation.service.validation.PrefetchedLoanHistory;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import com.techgirls.loanvalidation.service.validation.RuleExecutionScheduler;
+import com.techgirls.loanvalidation.service.validation.rules.AmountValidationRule;
+import com.techgirls.loanvalidation.service.validation.rules.DefaultHistoryRule;
+import com.techgirls.loanvalidation.service.validation.rules.PaymentCapacityRule;
+import com.techgirls.loanvalidation.service.validation.rules.RecentLoanRule;
+import com.techgirls.loanvalidation.service.validation.rules.TermValidationRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Differential check between {@link LoanRulesService}, the engine behind
+ * {@code /loan-validations}, and {@link LoanValidationOrchestrator}: runs the same
+ * inputs through both and explains every input they decide differently with a
+ * {@link DivergenceCause}.
+ *
+ * Inputs go through {@link InputValidationService} before the orchestrator, as in
+ * LoanValidationController, so an input it rejects is a 400 on that path while
+ * LoanRulesService answers 200 with reasons.
+ *
+ * Both engines see the same fixed business date. The orchestrator runs its
+ * production rules over an empty loan history, so recent loans only come from the
+ * request's lastLoanDate and default history never applies, as in LoanRulesService.
+ * Each engine takes all inputs in its own parallel pass over every core, after a
+ * warm-up pass, so the two throughputs are measured under the same conditions.
+ */
+@Slf4j
+final class EngineConsistencyChecker {
+
+    static final int WARMUP_INPUTS = 20_000;
+
+    private static final String APPLICANT_ID = "consistency-check";
+    // Half a cent of rounding, plus slack for the binary representation of the payments
+    private static final double PAYMENT_TOLERANCE = 0.0051;
+    private static final BigDecimal MAX_SALARY_SHARE = BigDecimal.valueOf(0.40);
+    private static final int FAILED = -1;
+
+    private static final int HAS_RECENT_LOANS = ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS);
+    private static final int CAPACIDAD_INSUFICIENTE = ReasonMask.bit(ReasonsEnum.CAPACIDAD_INSUFICIENTE);
+
+    private final LocalDate businessDate;
+    private final LoanRulesService loanRulesService;
+    private final InputValidationService inputValidationService;
+    private final LoanValidationOrchestrator orchestrator;
+
+    EngineConsistencyChecker(LocalDate businessDate) {
+        this.businessDate = businessDate;
+        Clock clock = Clock.fixed(businessDate.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+        LoanHistoryClient noHistory = new LoanHistoryClient() {
+            @Override
+            public Mono<LocalDate> getLastLoanDate(String applicantId) {
+                return Mono.empty();
+            }
+
+            @Override
+            public Mono<Boolean> hasDefaultHistory(String customerId) {
+                return Mono.just(false);
+            }
+        };
+        this.loanRulesService = new LoanRulesService(clock);
+        // Default business rules, the thresholds LoanRulesService has built in
+        BusinessRulesProperties businessRules = new BusinessRulesProperties();
+        this.inputValidationService = new InputValidationService(businessRules, clock);
+        // The applicant id is always passed in, so no applicant identification service
+        this.orchestrator = new LoanValidationOrchestrator(
+                List.of(new AmountValidationRule(), new TermValidationRule(businessRules),
+                        new PaymentCapacityRule(businessRules),
+                        new RecentLoanRule(noHistory), new DefaultHistoryRule(noHistory)),
+                new PaymentCalculationService(), null, clock,
+                new RuleExecutionScheduler(new RuleExecutionProperties(), new SimpleMeterRegistry()),
+                new LoanHistoryFetchStage(noHistory), businessRules);
+    }
+
+    ConsistencyReport check(List<LoanInput> inputs) {
+        List<LoanInput> warmup = inputs.subList(0, Math.min(inputs.size(), WARMUP_INPUTS));
+        runLoanRulesService(warmup, new int[warmup.size()], new double[warmup.size()]);
+        runOrchestrator(warmup, new LoanValidationResult[warmup.size()], new String[warmup.size()]);
+
+        int[] legacyMasks = new int[inputs.size()];
+        double[] legacyPayments = new double[inputs.size()];
+        long started = System.nanoTime();
+        runLoanRulesService(inputs, legacyMasks, legacyPayments);
+        Duration legacyElapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        LoanValidationResult[] results = new LoanValidationResult[inputs.size()];
+        String[] rejections = new String[inputs.size()];
+        started = System.nanoTime();
+        runOrchestrator(inputs, results, rejections);
+        Duration orchestratorElapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        ConsistencyReport report = new ConsistencyReport(businessDate, inputs.size(), legacyElapsed,
+                orchestratorElapsed);
+        LocalDate threshold = businessDate.minusMonths(3);
+        for (int i = 0; i < inputs.size(); i++) {
+            Set<DivergenceCause> causes = classify(inputs.get(i), threshold, legacyMasks[i], legacyPayments[i],
+                    results[i], rejections[i]);
+            if (!causes.isEmpty()) {
+                report.add(new ConsistencyReport.Divergence(i, inputs.get(i),
+                        legacyMasks[i] == FAILED ? List.of() : ReasonMask.toReasons(legacyMasks[i]),
+                        results[i] == null ? List.of() : ReasonMask.toReasons(ReasonMask.of(results[i].getReasons())),
+                        legacyPayments[i], results[i] == null ? 0.0 : results[i].getMonthlyPayment(),
+                        rejections[i], causes));
+            }
+        }
+        log.info("Checked {} inputs: {} divergent", inputs.size(), report.divergences().size());
+        return report;
+    }
+
+    /**
+     * Causes of the difference between the two decisions on an input; empty when the
+     * engines agree on the reasons and on the rounded monthly payment.
+     *
+     * @param legacyMask reason mask of LoanRulesService, or -1 if it failed
+     * @param result the orchestrator's result, or null if it failed or the input was rejected
+     * @param rejection message of the InputValidationService rejection, or null if the input was accepted
+     */
+    static Set<DivergenceCause> classify(LoanInput input, LocalDate threshold, int legacyMask,
+                                         double legacyPayment, LoanValidationResult result, String rejection) {
+        Set<DivergenceCause> causes = EnumSet.noneOf(DivergenceCause.class);
+        if (legacyMask == FAILED) {
+            causes.add(DivergenceCause.FAILED);
+            return causes;
+        }
+        if (rejection != null) {
+            causes.add(DivergenceCause.REJECTED_INPUT);
+            return causes;
+        }
+        if (result == null) {
+            causes.add(DivergenceCause.FAILED);
+            return causes;
+        }
+        if (result.getIncompleteRules() != null && !result.getIncompleteRules().isEmpty()) {
+            causes.add(DivergenceCause.INCOMPLETE_RULES);
+        }
+        if (Math.abs(legacyPayment - result.getMonthlyPayment()) > PAYMENT_TOLERANCE) {
+            causes.add(DivergenceCause.PAYMENT_AMOUNT);
+        }
+
+        int orchestratorMask = ReasonMask.of(result.getReasons());
+        int onlyLegacy = legacyMask & ~orchestratorMask;
+        int onlyOrchestrator = orchestratorMask & ~legacyMask;
+        if ((onlyOrchestrator & HAS_RECENT_LOANS) != 0 && threshold.equals(input.getLastLoanDate())) {
+            causes.add(DivergenceCause.RECENT_LOAN_THRESHOLD_DAY);
+            onlyOrchestrator &= ~HAS_RECENT_LOANS;
+        }
+        if (((onlyLegacy | onlyOrchestrator) & CAPACIDAD_INSUFICIENTE) != 0 && input.getTermMonths() > 0) {
+            // Exact decimal arithmetic sides with the orchestrator when only the rounding differs
+            boolean orchestratorRejects = (orchestratorMask & CAPACIDAD_INSUFICIENTE) != 0;
+            causes.add(exceedsCapacity(input) == orchestratorRejects
+                    ? DivergenceCause.PAYMENT_ROUNDING : DivergenceCause.FLOATING_POINT);
+            onlyLegacy &= ~CAPACIDAD_INSUFICIENTE;
+            onlyOrchestrator &= ~CAPACIDAD_INSUFICIENTE;
+        }
+        if ((onlyLegacy | onlyOrchestrator) != 0) {
+            causes.add(DivergenceCause.UNEXPLAINED);
+        }
+        return causes;
+    }
+
+    private void runLoanRulesService(List<LoanInput> inputs, int[] masks, double[] payments) {
+        Flux.range(0, inputs.size())
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .doOnNext(i -> {
+                    LoanInput input = inputs.get(i);
+                    // Converted as LoanValidationsController does
+                    BigDecimal salary = BigDecimal.valueOf(input.getMonthlySalary());
+                    BigDecimal amount = BigDecimal.valueOf(input.getRequestedAmount());
+                    try {
+                        List<String> reasons = loanRulesService.validate(salary, amount, input.getTermMonths(),
+                                input.getLastLoanDate());
+                        masks[i] = ReasonMask.of(reasons.stream().map(ReasonsEnum::fromValue).toList());
+                        payments[i] = loanRulesService.monthlyPayment(amount, input.getTermMonths()).doubleValue();
+                    } catch (RuntimeException ex) {
+                        masks[i] = FAILED;
+                    }
+                })
+                .sequential()
+                .blockLast();
+    }
+
+    private void runOrchestrator(List<LoanInput> inputs, LoanValidationResult[] results, String[] rejections) {
+        Flux.range(0, inputs.size())
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> {
+                    LoanValidationRequest request = inputs.get(i).toRequest();
+                    try {
+                        // Validated as LoanValidationController does before evaluating
+                        inputValidationService.validateRequest(request);
+                    } catch (InputValidationException ex) {
+                        rejections[i] = ex.getMessage();
+                        return Mono.empty();
+                    }
+                    return orchestrator.evaluate(request, APPLICANT_ID, PrefetchedLoanHistory.of(LoanHistory.none()))
+                            .doOnNext(result -> results[i] = result)
+                            .onErrorResume(error -> Mono.empty());
+                })
+                .sequential()
+                .blockLast();
+    }
+
+    private static boolean exceedsCapacity(LoanInput input) {
+        BigDecimal payment = BigDecimal.valueOf(input.getRequestedAmount())
+                .divide(BigDecimal.valueOf(input.getTermMonths()), MathContext.DECIMAL128);
+        return payment.compareTo(BigDecimal.valueOf(input.getMonthlySalary()).multiply(MAX_SALARY_SHARE)) > 0;
+    }
+}
@@ -0,0 +1,162 @@
+package com.techgirls.loanvalidation.consistency;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that every divergence between LoanRulesService and the orchestrator has a
+ * known cause. The high-volume run is disabled by default; run it with
+ * {@code mvn test -Dtest=EngineConsistencyTest -Dconsistency=true [-Dconsistency.inputs=1000000]}.
+ * Its report, listing every divergence, lands in {@code target/consistency/report.txt}.
+ */
+class EngineConsistencyTest {
+
+    // End of May: minusMonths clamps the threshold to the end of February
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 5, 31);
+    private static final LocalDate THRESHOLD = BUSINESS_DATE.minusMonths(3);
+    private static final Set<DivergenceCause> UNKNOWN = Set.of(DivergenceCause.UNEXPLAINED, DivergenceCause.FAILED,
+            DivergenceCause.INCOMPLETE_RULES, DivergenceCause.PAYMENT_AMOUNT);
+
+    private static final Logger APPLICATION_LOG = (Logger) LoggerFactory.getLogger("com.techgirls.loanvalidation");
+    private static Level applicationLevel;
+
+    private final EngineConsistencyChecker checker = new EngineConsistencyChecker(BUSINESS_DATE);
+
+    @BeforeAll
+    static void quietRuleLogging() {
+        // Rules log every rejection; at this volume that would be most of what gets measured
+        applicationLevel = APPLICATION_LOG.getLevel();
+        APPLICATION_LOG.setLevel(Level.ERROR);
+    }
+
+    @AfterAll
+    static void restoreRuleLogging() {
+        APPLICATION_LOG.setLevel(applicationLevel);
+    }
+
+    @Test
+    void shouldExplainEveryDivergence() {
+        List<LoanInput> inputs = new ArrayList<>(ConsistencyInputs.edgeCases(BUSINESS_DATE));
+        inputs.addAll(ConsistencyInputs.random(BUSINESS_DATE, 5_000, 11));
+
+        ConsistencyReport report = checker.check(inputs);
+
+        for (DivergenceCause cause : UNKNOWN) {
+            assertEquals(0L, report.count(cause), report::format);
+        }
+        assertTrue(report.count(DivergenceCause.REJECTED_INPUT) > 0);
+        assertTrue(report.count(DivergenceCause.RECENT_LOAN_THRESHOLD_DAY) > 0);
+        assertTrue(report.count(DivergenceCause.PAYMENT_ROUNDING) > 0);
+        assertTrue(report.legacyThroughput() > 0);
+        assertTrue(report.orchestratorThroughput() > 0);
+    }
+
+    @Test
+    void shouldAgreeAwayFromTheKnownDifferences() {
+        List<LoanInput> inputs = List.of(
+                new LoanInput(3000, 1200, 12, null),
+                new LoanInput(3000, 1200, 12, THRESHOLD.minusDays(1)),
+                new LoanInput(3000, 1200, 12, THRESHOLD.plusDays(1)),
+                new LoanInput(1000, 14_400, 36, null),
+                new LoanInput(1000, 14_400.36, 36, null),
+                new LoanInput(1000, 20_000, 36, BUSINESS_DATE));
+
+        ConsistencyReport report = checker.check(inputs);
+
+        assertTrue(report.divergences().isEmpty(), report::format);
+    }
+
+    @Test
+    void shouldAttributeThresholdDayToTheRecentLoanComparison() {
+        LoanInput input = new LoanInput(3000, 1200, 12, THRESHOLD);
+
+        Set<DivergenceCause> causes = EngineConsistencyChecker.classify(input, THRESHOLD, ReasonMask.NONE, 100.0,
+                result(100.0, ReasonsEnum.HAS_RECENT_LOANS), null);
+
+        assertEquals(Set.of(DivergenceCause.RECENT_LOAN_THRESHOLD_DAY), causes);
+    }
+
+    @Test
+    void shouldAttributeSubCentExcessToPaymentRounding() {
+        // 1200.01 / 3 = 400.0033, rounded to 400.00 by LoanRulesService
+        LoanInput input = new LoanInput(1000, 1200.01, 3, null);
+
+        Set<DivergenceCause> causes = EngineConsistencyChecker.classify(input, THRESHOLD, ReasonMask.NONE, 400.0,
+                result(1200.01 / 3, ReasonsEnum.CAPACIDAD_INSUFICIENTE), null);
+
+        assertEquals(Set.of(DivergenceCause.PAYMENT_ROUNDING), causes);
+    }
+
+    @Test
+    void shouldReportInputsRejectedBeforeTheOrchestrator() {
+        List<LoanInput> inputs = List.of(
+                new LoanInput(1000, 1200, 0, THRESHOLD.plusDays(1)),
+                new LoanInput(1000, 20_000, 48, null),
+                new LoanInput(50, 200, 12, null),
+                new LoanInput(0, -5000, 12, null),
+                new LoanInput(3000, 1200, 12, BUSINESS_DATE.plusDays(1)));
+
+        ConsistencyReport report = checker.check(inputs);
+
+        assertEquals(inputs.size(), report.divergences().size(), report::format);
+        for (ConsistencyReport.Divergence divergence : report.divergences()) {
+            assertEquals(Set.of(DivergenceCause.REJECTED_INPUT), divergence.getCauses(), report::format);
+        }
+    }
+
+    @Test
+    void shouldAttributeRejectionToInputValidationWhateverLoanRulesServiceAnswers() {
+        LoanInput input = new LoanInput(1000, 1200, 0, null);
+
+        Set<DivergenceCause> causes = EngineConsistencyChecker.classify(input, THRESHOLD,
+                ReasonMask.bit(ReasonsEnum.DATOS_INVALIDOS), 0.0, null, "Term must be between 1 and 36 months");
+
+        assertEquals(Set.of(DivergenceCause.REJECTED_INPUT), causes);
+    }
+
+    @Test
+    void shouldFlagDifferencesWithNoKnownCause() {
+        LoanInput input = new LoanInput(3000, 1200, 12, null);
+
+        Set<DivergenceCause> causes = EngineConsistencyChecker.classify(input, THRESHOLD,
+                ReasonMask.bit(ReasonsEnum.PLAZO_MAXIMO_SUPERADO), 100.0, result(100.0), null);
+
+        assertEquals(Set.of(DivergenceCause.UNEXPLAINED), causes);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "consistency", matches = "true")
+    void shouldExplainEveryDivergenceAtVolume() {
+        List<LoanInput> inputs = new ArrayList<>(ConsistencyInputs.edgeCases(BUSINESS_DATE));
+        inputs.addAll(ConsistencyInputs.random(BUSINESS_DATE, Integer.getInteger("consistency.inputs", 1_000_000),
+                Long.getLong("consistency.seed", System.nanoTime())));
+
+        ConsistencyReport report = checker.check(inputs);
+        report.write(Path.of("target", "consistency", "report.txt"));
+        System.out.print(report.format());
+
+        assertEquals(0L, report.count(DivergenceCause.UNEXPLAINED));
+        assertEquals(0L, report.count(DivergenceCause.FAILED));
+    }
+
+    private static LoanValidationResult result(double monthlyPayment, ReasonsEnum... reasons) {
+        return new LoanValidationResult(reasons.length == 0, List.of(reasons), monthlyPayment);
+    }
+}
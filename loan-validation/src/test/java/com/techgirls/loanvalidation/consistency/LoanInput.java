@@ -0,0 +1,30 @@
+package com.techgirls.loanvalidation.consistency;
+
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * One generated loan request, in the shape both engines accept. lastLoanDate is
+ * null when the applicant has no past loans.
+ */
+@Value
+class LoanInput {
+
+    double monthlySalary;
+    double requestedAmount;
+    int termMonths;
+    LocalDate lastLoanDate;
+
+    LoanValidationRequest toRequest() {
+        LoanValidationRequest request = new LoanValidationRequest(monthlySalary, requestedAmount, termMonths);
+        return lastLoanDate != null ? request.lastLoanDate(lastLoanDate) : request;
+    }
+
+    String describe() {
+        return String.format(Locale.ROOT, "salary=%s amount=%s term=%d lastLoanDate=%s",
+                monthlySalary, requestedAmount, termMonths, lastLoanDate != null ? lastLoanDate : "-");
+    }
+}
@@ -1,9 +1,13 @@
 package com.techgirls.loanvalidation.controller;
 
+import com.techgirls.loanvalidation.config.WireFormatConfig;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.InputValidationService;
 import com.techgirls.loanvalidation.service.LoanValidationService;
+import com.techgirls.loanvalidation.service.applicant.ApplicantIdentificationService;
+import com.techgirls.loanvalidation.service.validation.LoanHistoryFetchStage;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,6 +15,7 @@ import org.openapitools.jackson.nullable.JsonNullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
@@ -20,11 +25,13 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(LoanValidationController.class)
+@Import(WireFormatConfig.class)
 @DisplayName("LoanValidationController Integration Tests")
 class LoanValidationControllerIntegrationTest {
 
@@ -37,6 +44,17 @@ class LoanValidationControllerIntegrationTest {
     @MockBean
     private InputValidationService inputValidationService;
 
+    @MockBean
+    private ApplicantIdentificationService applicantIdentificationService;
+
+    @MockBean
+    private LoanHistoryFetchStage loanHistoryFetchStage;
+
+    @BeforeEach
+    void setUp() {
+        when(applicantIdentificationService.resolveApplicantId(any())).thenReturn(Mono.empty());
+    }
+
     @Nested
     @DisplayName("POST /loan-validations")
     class ValidateLoanEndpointTests {
@@ -49,7 +67,7 @@ class LoanValidationControllerIntegrationTest {
             LoanValidationResult mockResult = new LoanValidationResult(true, Collections.emptyList(), 250.0);
 
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(mockResult));
 
             // When & Then
@@ -83,7 +101,7 @@ class LoanValidationControllerIntegrationTest {
             );
 
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(mockResult));
 
             // When & Then
@@ -147,7 +165,7 @@ class LoanValidationControllerIntegrationTest {
             LoanValidationResult mockResult = new LoanValidationResult(true, Collections.emptyList(), 0.01);
 
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(mockResult));
 
             // When & Then
@@ -177,7 +195,7 @@ class LoanValidationControllerIntegrationTest {
             LoanValidationResult mockResult = new LoanValidationResult(true, Collections.emptyList(), 50000.0);
 
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(mockResult));
 
             // When & Then
@@ -207,7 +225,7 @@ class LoanValidationControllerIntegrationTest {
             LoanValidationResult mockResult = new LoanValidationResult(true, Collections.emptyList(), 250.0);
 
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(mockResult));
 
             // When & Then
@@ -258,7 +276,7 @@ class LoanValidationControllerIntegrationTest {
             LoanValidationRequest request = createValidRequest();
 
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.error(new RuntimeException("Service error")));
 
             // When & Then
@@ -289,6 +307,79 @@ class LoanValidationControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Binary wire formats")
+    class BinaryWireFormatTests {
+
+        @Test
+        @DisplayName("Should accept and return CBOR when negotiated")
+        void shouldAcceptAndReturnCbor() {
+            // Given
+            LoanValidationResult mockResult = new LoanValidationResult(
+                    false, Collections.singletonList(LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS), 250.0);
+
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
+                    .thenReturn(Mono.just(mockResult));
+
+            // When & Then
+            webTestClient.post()
+                    .uri("/loan-validations")
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .bodyValue(createValidRequest())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                    .expectBody(LoanValidationResult.class)
+                    .isEqualTo(mockResult);
+        }
+
+        @Test
+        @DisplayName("Should accept and return Smile when negotiated")
+        void shouldAcceptAndReturnSmile() {
+            // Given
+            LoanValidationResult mockResult = new LoanValidationResult(true, Collections.emptyList(), 250.0);
+
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
+                    .thenReturn(Mono.just(mockResult));
+
+            // When & Then
+            webTestClient.post()
+                    .uri("/loan-validations")
+                    .contentType(WireFormatConfig.APPLICATION_SMILE)
+                    .accept(WireFormatConfig.APPLICATION_SMILE)
+                    .bodyValue(createValidRequest())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(WireFormatConfig.APPLICATION_SMILE)
+                    .expectBody(LoanValidationResult.class)
+                    .isEqualTo(mockResult);
+        }
+
+        @Test
+        @DisplayName("Should keep JSON as the default response format")
+        void shouldKeepJsonAsDefault() {
+            // Given
+            LoanValidationResult mockResult = new LoanValidationResult(true, Collections.emptyList(), 250.0);
+
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
+                    .thenReturn(Mono.just(mockResult));
+
+            // When & Then
+            webTestClient.post()
+                    .uri("/loan-validations")
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .accept(MediaType.ALL)
+                    .bodyValue(createValidRequest())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_JSON);
+        }
+    }
+
     // Helper methods
     private LoanValidationRequest createValidRequest() {
         LoanValidationRequest request = new LoanValidationRequest();
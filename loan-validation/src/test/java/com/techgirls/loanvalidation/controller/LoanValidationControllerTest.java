@@ -5,8 +5,12 @@ import com.techgirls.loanvalidation.exception.InputValidationException;
 import com.techgirls.loanvalidation.exception.LoanValidationException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.port.LoanHistory;
 import com.techgirls.loanvalidation.service.InputValidationService;
 import com.techgirls.loanvalidation.service.LoanValidationService;
+import com.techgirls.loanvalidation.service.applicant.ApplicantIdentificationService;
+import com.techgirls.loanvalidation.service.validation.LoanHistoryFetchStage;
+import com.techgirls.loanvalidation.service.validation.PrefetchedLoanHistory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,12 +24,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +41,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,17 +56,28 @@ class LoanValidationControllerTest {
     @Mock
     private InputValidationService inputValidationService;
 
+    @Mock
+    private ApplicantIdentificationService applicantIdentificationService;
+
+    @Mock
+    private LoanHistoryFetchStage loanHistoryFetchStage;
+
     @Mock
     private ServerWebExchange exchange;
 
     @Mock
     private ServerHttpRequest request;
 
+    private static final Duration HISTORY_TIMEOUT = Duration.ofSeconds(2);
+
     private LoanValidationController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new LoanValidationController(loanValidationService, inputValidationService);
+        controller = new LoanValidationController(loanValidationService, inputValidationService,
+                applicantIdentificationService, loanHistoryFetchStage);
+        lenient().when(applicantIdentificationService.resolveApplicantId(exchange)).thenReturn(Mono.empty());
+        lenient().when(loanValidationService.loanHistoryTimeout()).thenReturn(Optional.of(HISTORY_TIMEOUT));
         
         // Mock basic exchange behavior
         when(exchange.getRequest()).thenReturn(request);
@@ -76,7 +96,7 @@ class LoanValidationControllerTest {
             LoanValidationResult expectedResult = createEligibleResult(200.0);
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(expectedResult));
 
             // When
@@ -95,7 +115,7 @@ class LoanValidationControllerTest {
                     .verifyComplete();
 
             verify(inputValidationService).validateRequest(eq(request));
-            verify(loanValidationService).evaluate(eq(request));
+            verify(loanValidationService).evaluate(eq(request), isNull(), isNull());
         }
 
         @Test
@@ -111,7 +131,7 @@ class LoanValidationControllerTest {
             LoanValidationResult expectedResult = createIneligibleResult(reasons, 400.0);
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(expectedResult));
 
             // When
@@ -135,7 +155,7 @@ class LoanValidationControllerTest {
                     .verifyComplete();
 
             verify(inputValidationService).validateRequest(eq(request));
-            verify(loanValidationService).evaluate(eq(request));
+            verify(loanValidationService).evaluate(eq(request), isNull(), isNull());
         }
 
         @Test
@@ -146,7 +166,7 @@ class LoanValidationControllerTest {
             LoanValidationResult expectedResult = createEligibleResult(250.5);
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(expectedResult));
 
             // When
@@ -164,7 +184,7 @@ class LoanValidationControllerTest {
                     .verifyComplete();
 
             verify(inputValidationService).validateRequest(eq(request));
-            verify(loanValidationService).evaluate(eq(request));
+            verify(loanValidationService).evaluate(eq(request), isNull(), isNull());
         }
     }
 
@@ -191,7 +211,7 @@ class LoanValidationControllerTest {
                     .verify();
 
             verify(inputValidationService).validateRequest(eq(request));
-            verify(loanValidationService, never()).evaluate(any());
+            verify(loanValidationService, never()).evaluate(any(), any(), any());
         }
 
         @Test
@@ -206,7 +226,7 @@ class LoanValidationControllerTest {
                     .verifyComplete();
 
             verify(inputValidationService, never()).validateRequest(any());
-            verify(loanValidationService, never()).evaluate(any());
+            verify(loanValidationService, never()).evaluate(any(), any(), any());
         }
     }
 
@@ -222,7 +242,7 @@ class LoanValidationControllerTest {
             LoanValidationException expectedException = new LoanValidationException("Business rule validation failed");
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.error(expectedException));
 
             // When
@@ -235,7 +255,7 @@ class LoanValidationControllerTest {
                     .verify();
 
             verify(inputValidationService).validateRequest(eq(request));
-            verify(loanValidationService).evaluate(eq(request));
+            verify(loanValidationService).evaluate(eq(request), isNull(), isNull());
         }
 
         @Test
@@ -247,7 +267,7 @@ class LoanValidationControllerTest {
                     "LoanHistoryService", "External service unavailable");
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.error(expectedException));
 
             // When
@@ -260,7 +280,7 @@ class LoanValidationControllerTest {
                     .verify();
 
             verify(inputValidationService).validateRequest(eq(request));
-            verify(loanValidationService).evaluate(eq(request));
+            verify(loanValidationService).evaluate(eq(request), isNull(), isNull());
         }
 
         @Test
@@ -271,7 +291,7 @@ class LoanValidationControllerTest {
             RuntimeException expectedException = new RuntimeException("Unexpected error");
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.error(expectedException));
 
             // When
@@ -284,7 +304,7 @@ class LoanValidationControllerTest {
                     .verify();
 
             verify(inputValidationService).validateRequest(eq(request));
-            verify(loanValidationService).evaluate(eq(request));
+            verify(loanValidationService).evaluate(eq(request), isNull(), isNull());
         }
     }
 
@@ -300,7 +320,7 @@ class LoanValidationControllerTest {
             LoanValidationResult expectedResult = createEligibleResult(0.01);
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(expectedResult));
 
             // When
@@ -325,7 +345,7 @@ class LoanValidationControllerTest {
             LoanValidationResult expectedResult = createEligibleResult(50000.0);
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(expectedResult));
 
             // When
@@ -354,7 +374,7 @@ class LoanValidationControllerTest {
             LoanValidationResult expectedResult = createIneligibleResult(reasons, 250.0);
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(expectedResult));
 
             // When
@@ -382,7 +402,7 @@ class LoanValidationControllerTest {
             LoanValidationResult expectedResult = createEligibleResult(250.0);
             
             doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
-            when(loanValidationService.evaluate(any(LoanValidationRequest.class)))
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
                     .thenReturn(Mono.just(expectedResult));
 
             // When
@@ -401,6 +421,169 @@ class LoanValidationControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Applicant Identification Tests")
+    class ApplicantIdentificationTests {
+
+        @Test
+        @DisplayName("Should evaluate with the resolved applicant id")
+        void shouldEvaluateWithResolvedApplicantId() {
+            // Given
+            LoanValidationRequest request = createValidLoanRequest(3000.0, 5000.0, 24, null);
+            LoanValidationResult expectedResult = createEligibleResult(208.33);
+
+            when(applicantIdentificationService.resolveApplicantId(exchange)).thenReturn(Mono.just("applicant-42"));
+            PrefetchedLoanHistory history = PrefetchedLoanHistory.of(LoanHistory.none());
+            when(loanHistoryFetchStage.prefetch(eq("applicant-42"), any(), eq(HISTORY_TIMEOUT)))
+                    .thenReturn(Mono.just(history));
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), eq("applicant-42"), eq(history)))
+                    .thenReturn(Mono.just(expectedResult));
+
+            // When
+            Mono<ResponseEntity<LoanValidationResult>> result = controller.validateLoan(
+                    Mono.just(request), exchange);
+
+            // Then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.getBody()).isEqualTo(expectedResult))
+                    .verifyComplete();
+
+            verify(loanValidationService).evaluate(eq(request), eq("applicant-42"), eq(history));
+        }
+    }
+
+    @Nested
+    @DisplayName("Loan History Prefetch Tests")
+    class LoanHistoryPrefetchTests {
+
+        @Test
+        @DisplayName("Should pass the prefetched loan history to the evaluation")
+        void shouldPassPrefetchedLoanHistoryToEvaluation() {
+            // Given
+            LoanValidationRequest request = createValidLoanRequest(3000.0, 5000.0, 24, null);
+            LoanValidationResult expectedResult = createEligibleResult(208.33);
+            PrefetchedLoanHistory history = PrefetchedLoanHistory.of(new LoanHistory(LocalDate.of(2024, 1, 15), false));
+
+            when(applicantIdentificationService.resolveApplicantId(exchange)).thenReturn(Mono.just("applicant-42"));
+            when(loanHistoryFetchStage.prefetch(eq("applicant-42"), any(), eq(HISTORY_TIMEOUT)))
+                    .thenReturn(Mono.just(history));
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), eq("applicant-42"), eq(history)))
+                    .thenReturn(Mono.just(expectedResult));
+
+            // When
+            Mono<ResponseEntity<LoanValidationResult>> result = controller.validateLoan(
+                    Mono.just(request), exchange);
+
+            // Then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.getBody()).isEqualTo(expectedResult))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should cancel the prefetch when input validation rejects the request")
+        void shouldCancelPrefetchWhenValidationRejectsRequest() {
+            // Given
+            LoanValidationRequest request = createInvalidLoanRequest(-1000.0, 5000.0, 24);
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Sinks.One<LoanValidationRequest> body = Sinks.one();
+
+            when(applicantIdentificationService.resolveApplicantId(exchange)).thenReturn(Mono.just("applicant-42"));
+            when(loanHistoryFetchStage.prefetch(eq("applicant-42"), any(), eq(HISTORY_TIMEOUT)))
+                    .thenReturn(Mono.<PrefetchedLoanHistory>never().doOnCancel(() -> cancelled.set(true)));
+            doThrow(new InputValidationException("Invalid monthly salary"))
+                    .when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+
+            // When
+            Mono<ResponseEntity<LoanValidationResult>> result = controller.validateLoan(body.asMono(), exchange);
+
+            // Then
+            StepVerifier.create(result)
+                    .then(() -> assertThat(cancelled).isFalse())
+                    .then(() -> body.tryEmitValue(request))
+                    .expectError(InputValidationException.class)
+                    .verify();
+
+            assertThat(cancelled).isTrue();
+            verify(loanValidationService, never()).evaluate(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should pass a failed prefetch on as unavailable history instead of retrying it")
+        void shouldPassFailedPrefetchAsUnavailableHistory() {
+            // Given
+            LoanValidationRequest request = createValidLoanRequest(3000.0, 5000.0, 24, null);
+            LoanValidationResult expectedResult = createEligibleResult(208.33);
+
+            when(applicantIdentificationService.resolveApplicantId(exchange)).thenReturn(Mono.just("applicant-42"));
+            when(loanHistoryFetchStage.prefetch(eq("applicant-42"), any(), eq(HISTORY_TIMEOUT)))
+                    .thenReturn(Mono.just(PrefetchedLoanHistory.unavailable()));
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), eq("applicant-42"),
+                    eq(PrefetchedLoanHistory.unavailable())))
+                    .thenReturn(Mono.just(expectedResult));
+
+            // When
+            Mono<ResponseEntity<LoanValidationResult>> result = controller.validateLoan(
+                    Mono.just(request), exchange);
+
+            // Then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.getBody()).isEqualTo(expectedResult))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Should not prefetch for anonymous callers")
+        void shouldNotPrefetchForAnonymousCallers() {
+            // Given
+            LoanValidationRequest request = createValidLoanRequest(3000.0, 5000.0, 24, null);
+            LoanValidationResult expectedResult = createEligibleResult(208.33);
+
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), isNull(), isNull()))
+                    .thenReturn(Mono.just(expectedResult));
+
+            // When
+            Mono<ResponseEntity<LoanValidationResult>> result = controller.validateLoan(
+                    Mono.just(request), exchange);
+
+            // Then
+            StepVerifier.create(result)
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            verify(loanHistoryFetchStage, never()).prefetch(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not prefetch when no rule needs the loan history")
+        void shouldNotPrefetchWhenNoRuleNeedsHistory() {
+            // Given
+            LoanValidationRequest request = createValidLoanRequest(3000.0, 5000.0, 24, null);
+            LoanValidationResult expectedResult = createEligibleResult(208.33);
+
+            when(applicantIdentificationService.resolveApplicantId(exchange)).thenReturn(Mono.just("applicant-42"));
+            when(loanValidationService.loanHistoryTimeout()).thenReturn(Optional.empty());
+            doNothing().when(inputValidationService).validateRequest(any(LoanValidationRequest.class));
+            when(loanValidationService.evaluate(any(LoanValidationRequest.class), eq("applicant-42"), isNull()))
+                    .thenReturn(Mono.just(expectedResult));
+
+            // When
+            Mono<ResponseEntity<LoanValidationResult>> result = controller.validateLoan(
+                    Mono.just(request), exchange);
+
+            // Then
+            StepVerifier.create(result)
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            verify(loanHistoryFetchStage, never()).prefetch(any(), any(), any());
+        }
+    }
+
     // Helper methods for creating test data
     
     private LoanValidationRequest createValidLoanRequest(Double monthlySalary, Double requestedAmount, 
@@ -435,4 +618,4 @@ class LoanValidationControllerTest {
                                                        Double monthlyPayment) {
         return new LoanValidationResult(false, reasons, monthlyPayment);
     }
-}
\ No newline at end of file
+}
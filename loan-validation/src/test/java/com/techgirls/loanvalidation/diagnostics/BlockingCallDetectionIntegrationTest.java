@@ -0,0 +1,96 @@
+package com.techgirls.loanvalidation.diagnostics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives {@code validateLoan} through the real Reactor Netty server with blocking call
+ * detection enabled, so a blocking call added anywhere in the pipeline (a rule, a codec,
+ * the exception handler, logging) fails the build with its stack trace.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "loan-validation.diagnostics.blocking-detection.enabled=true")
+@ActiveProfiles("blocking-detection")
+@DisplayName("Blocking call detection on the validation pipeline")
+class BlockingCallDetectionIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private BlockingCallDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = webTestClient.mutate().responseTimeout(Duration.ofSeconds(10)).build();
+        detector.clear();
+    }
+
+    @Test
+    @DisplayName("Should detect a blocking call on a non-blocking thread")
+    void shouldDetectBlockingCall() {
+        Mono.fromCallable(() -> {
+                    Thread.sleep(1);
+                    return true;
+                })
+                .subscribeOn(Schedulers.parallel())
+                .block(Duration.ofSeconds(5));
+
+        assertFalse(detector.detections().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not block the event loop for eligible, rejected and invalid requests")
+    void shouldNotBlockEventLoop() {
+        post("recent-applicant", "{\"monthlySalary\":3000,\"requestedAmount\":5000,\"termMonths\":24}")
+                .expectStatus().isOk();
+        post("old-default-applicant", "{\"monthlySalary\":3000,\"requestedAmount\":5000,\"termMonths\":24,"
+                + "\"lastLoanDate\":\"" + LocalDate.now().minusYears(1) + "\"}")
+                .expectStatus().isOk();
+        post("new-applicant", "{\"monthlySalary\":1000,\"requestedAmount\":6000,\"termMonths\":12}")
+                .expectStatus().isOk();
+        post("new-applicant", "{\"monthlySalary\":3000,\"requestedAmount\":5000,\"termMonths\":0}")
+                .expectStatus().isBadRequest();
+        post("new-applicant", "{ invalid json }")
+                .expectStatus().isBadRequest();
+
+        assertTrue(detector.detections().isEmpty(), this::describeDetections);
+    }
+
+    private WebTestClient.ResponseSpec post(String applicantId, String body) {
+        return webTestClient.post()
+                .uri("/loan-validations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Applicant-Id", applicantId)
+                .bodyValue(body)
+                .exchange();
+    }
+
+    private String describeDetections() {
+        StringWriter out = new StringWriter();
+        PrintWriter writer = new PrintWriter(out);
+        writer.println("Blocking calls on non-blocking threads:");
+        for (BlockingOperationError error : detector.detections()) {
+            error.printStackTrace(writer);
+        }
+        writer.flush();
+        return out.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.techgirls.loanvalidation.diagnostics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingMethod;
+import reactor.blockhound.BlockingOperationError;
+
+import java.lang.reflect.Modifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BlockingCallDetectorTest {
+
+    private static final BlockingMethod SLEEP = new BlockingMethod("java.lang.Thread", "sleep", Modifier.STATIC);
+
+    @Test
+    void shouldCountAndKeepDetections() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockingCallDetector detector = new BlockingCallDetector(registry, false);
+
+        detector.onBlockingCall(SLEEP);
+        detector.onBlockingCall(SLEEP);
+
+        assertEquals(2.0, registry.get(BlockingCallDetector.METRIC).tag("method", "java.lang.Thread.sleep").counter().count());
+        assertEquals(2, detector.detections().size());
+
+        detector.clear();
+        assertEquals(0, detector.detections().size());
+    }
+
+    @Test
+    void shouldFailTheBlockingCallWhenConfigured() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockingCallDetector detector = new BlockingCallDetector(registry, true);
+
+        assertThrows(BlockingOperationError.class, () -> detector.onBlockingCall(SLEEP));
+        assertEquals(1.0, registry.get(BlockingCallDetector.METRIC).counter().count());
+    }
+}
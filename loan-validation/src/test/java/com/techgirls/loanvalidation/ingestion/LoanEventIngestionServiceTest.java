@@ -0,0 +1,200 @@
+package com.techgirls.loanvalidation.ingestion;
+
+import com.techgirls.loanvalidation.adapter.InMemoryLoanEventSource;
+import com.techgirls.loanvalidation.adapter.LoanHistoryOverlay;
+import com.techgirls.loanvalidation.port.LoanEvent;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanEventIngestionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryLoanEventSource source = new InMemoryLoanEventSource();
+    private LoanHistoryOverlay overlay = new LoanHistoryOverlay();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LoanEventIngestionService service;
+
+    private LoanEventIngestionService start() {
+        return start(50_000);
+    }
+
+    private LoanEventIngestionService start(long compactAfter) {
+        service = new LoanEventIngestionService(source, overlay, tempDir.resolve("watermark"), 100,
+                Duration.ofMillis(20), Duration.ofHours(48), compactAfter, Clock.systemUTC(), meterRegistry);
+        service.start();
+        return service;
+    }
+
+    private long loadWatermark(LoanHistoryOverlay into) throws IOException {
+        try (LoanEventWatermark watermark = new LoanEventWatermark(tempDir.resolve("watermark"))) {
+            return watermark.load(into);
+        }
+    }
+
+    private void saveWatermark(long sequence, LoanHistoryOverlay saved) throws IOException {
+        try (LoanEventWatermark watermark = new LoanEventWatermark(tempDir.resolve("watermark"))) {
+            watermark.compact(sequence, saved);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void shouldApplyEventsWithinBatchWindowAndPersistWatermark() throws Exception {
+        start();
+        source.publish("a", LoanEvent.Type.DISBURSED, TODAY.minusDays(10));
+        source.publish("a", LoanEvent.Type.DISBURSED, TODAY);
+        source.publish("b", LoanEvent.Type.DEFAULTED, TODAY);
+
+        await(() -> service.watermark() == 3);
+
+        assertEquals(TODAY, overlay.lookup("a").getLastLoanDate());
+        assertTrue(overlay.lookup("b").isDefaultHistory());
+        assertEquals(3, loadWatermark(new LoanHistoryOverlay()));
+        assertEquals(3, meterRegistry.get("loanvalidation.loanhistory.feed.events").counter().count());
+    }
+
+    @Test
+    void shouldResumeAfterPersistedWatermark() throws Exception {
+        source.publish("already-applied", LoanEvent.Type.DISBURSED, TODAY);
+        saveWatermark(1, new LoanHistoryOverlay());
+        source.publish("new", LoanEvent.Type.DISBURSED, TODAY);
+
+        start();
+        await(() -> service.watermark() == 2);
+
+        assertNull(overlay.lookup("already-applied"));
+        assertEquals(TODAY, overlay.lookup("new").getLastLoanDate());
+    }
+
+    @Test
+    void shouldStillReportIngestedLoansAfterRestart() throws Exception {
+        start();
+        source.publish("a", LoanEvent.Type.DISBURSED, TODAY);
+        source.publish("b", LoanEvent.Type.DEFAULTED, TODAY);
+        source.publish("a,with-comma", LoanEvent.Type.DISBURSED, TODAY.minusDays(3));
+        await(() -> service.watermark() == 3);
+        service.stop();
+
+        // A new process: empty overlay, and a feed that has nothing after the watermark
+        source = new InMemoryLoanEventSource();
+        overlay = new LoanHistoryOverlay();
+        start();
+
+        assertEquals(3, service.watermark());
+        assertEquals(new LoanHistory(TODAY, false), overlay.lookup("a"));
+        assertEquals(new LoanHistory(null, true), overlay.lookup("b"));
+        assertEquals(new LoanHistory(TODAY.minusDays(3), false), overlay.lookup("a,with-comma"));
+    }
+
+    @Test
+    void shouldNotRestoreChangesOlderThanRetention() throws Exception {
+        LoanHistoryOverlay saved = new LoanHistoryOverlay();
+        saved.restore("expired", new LoanHistory(TODAY, false), Instant.now().minus(Duration.ofHours(49)));
+        saved.restore("recent", new LoanHistory(TODAY, false), Instant.now().minus(Duration.ofHours(1)));
+        saveWatermark(7, saved);
+
+        start();
+
+        assertEquals(7, service.watermark());
+        assertNull(overlay.lookup("expired"));
+        assertEquals(TODAY, overlay.lookup("recent").getLastLoanDate());
+    }
+
+    @Test
+    void shouldAppendBatchesToLogAndCompactThemIntoWatermark() throws Exception {
+        start(3);
+        source.publish("a", LoanEvent.Type.DISBURSED, TODAY);
+        await(() -> service.watermark() == 1);
+
+        assertEquals(1, Files.readAllLines(tempDir.resolve("watermark.log")).size());
+        assertFalse(Files.exists(tempDir.resolve("watermark")));
+
+        source.publish("b", LoanEvent.Type.DEFAULTED, TODAY);
+        source.publish("c", LoanEvent.Type.DISBURSED, TODAY);
+        await(() -> tempDir.resolve("watermark.log").toFile().length() == 0);
+
+        assertEquals(3, service.watermark());
+        LoanHistoryOverlay restored = new LoanHistoryOverlay();
+        assertEquals(3, loadWatermark(restored));
+        assertEquals(3, restored.size());
+    }
+
+    @Test
+    void shouldReplayLogAndDropTornLastRecord() throws Exception {
+        saveWatermark(1, new LoanHistoryOverlay());
+        Instant appliedAt = Instant.now();
+        Files.writeString(tempDir.resolve("watermark.log"),
+                "2,DISBURSED," + TODAY + "," + appliedAt + ",a\n"
+                        + "3,DEFAULTED,," + appliedAt + ",b,with-comma\n"
+                        + "4,DISBURSED," + TODAY);
+
+        LoanHistoryOverlay restored = new LoanHistoryOverlay();
+        try (LoanEventWatermark watermark = new LoanEventWatermark(tempDir.resolve("watermark"))) {
+            assertEquals(3, watermark.load(restored));
+            assertEquals(2, watermark.loggedEvents());
+        }
+
+        assertEquals(new LoanHistory(TODAY, false), restored.lookup("a"));
+        assertEquals(new LoanHistory(null, true), restored.lookup("b,with-comma"));
+        assertEquals(2, Files.readAllLines(tempDir.resolve("watermark.log")).size());
+    }
+
+    @Test
+    void shouldSkipLoggedEventsAlreadyInWatermark() throws Exception {
+        LoanHistoryOverlay saved = new LoanHistoryOverlay();
+        Instant updatedAt = Instant.now();
+        saved.restore("a", new LoanHistory(TODAY, false), updatedAt);
+        saveWatermark(2, saved);
+        // A crash between the rename and emptying the log leaves events the watermark already holds
+        Files.writeString(tempDir.resolve("watermark.log"),
+                "2,DISBURSED," + TODAY + "," + updatedAt.minus(Duration.ofHours(1)) + ",a\n");
+
+        LoanHistoryOverlay restored = new LoanHistoryOverlay();
+        assertEquals(2, loadWatermark(restored));
+
+        restored.forEach((applicantId, history, restoredAt) -> assertEquals(updatedAt, restoredAt));
+    }
+
+    @Test
+    void shouldStartFromBeginningWithoutWatermark() throws IOException {
+        try (LoanEventWatermark watermark = new LoanEventWatermark(tempDir.resolve("missing"))) {
+            assertEquals(0, watermark.load(overlay));
+        }
+        assertEquals(0, overlay.size());
+    }
+}
@@ -0,0 +1,257 @@
+package com.techgirls.loanvalidation.journal;
+
+import com.techgirls.loanvalidation.exception.DecisionJournalUnavailableException;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.service.validation.Evaluation;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecisionJournalTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 6, 1);
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DecisionJournal journal(long segmentSize, int capacity) {
+        return journal(segmentSize, capacity, DecisionJournal.OverflowPolicy.REJECT);
+    }
+
+    private DecisionJournal journal(long segmentSize, int capacity, DecisionJournal.OverflowPolicy overflowPolicy) {
+        return new DecisionJournal(tempDir, segmentSize, capacity, 64, Duration.ofMillis(2), 7, overflowPolicy,
+                CLOCK, meterRegistry);
+    }
+
+    private double records(String outcome) {
+        return meterRegistry.get("loanvalidation.journal.records").tag("outcome", outcome).counter().count();
+    }
+
+    private static Evaluation evaluation(int index) {
+        LoanValidationRequest request = new LoanValidationRequest(3000.0, 1000.0 + index, 12);
+        LoanValidationResult result = index % 2 == 0
+                ? new LoanValidationResult(true, Collections.emptyList(), 90.0)
+                : new LoanValidationResult(false, List.of(LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS), 90.0);
+        return new Evaluation(request, "applicant-" + index, BUSINESS_DATE, result, 1000L + index);
+    }
+
+    private List<DecisionRecord> readAll() throws IOException {
+        List<DecisionRecord> records = new ArrayList<>();
+        try (DecisionJournalReader reader = DecisionJournalReader.open(tempDir)) {
+            reader.forEachRemaining(records::add);
+        }
+        return records;
+    }
+
+    @Test
+    void shouldJournalEvaluationsFromConcurrentProducersInSequence() throws Exception {
+        DecisionJournal journal = journal(1 << 20, 100_000);
+        journal.start();
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int producer = 0; producer < 4; producer++) {
+            int offset = producer * 1000;
+            producers.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    journal.onEvaluation(evaluation(offset + i));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        producers.shutdown();
+        journal.close();
+
+        List<DecisionRecord> records = readAll();
+        assertEquals(4000, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i + 1, records.get(i).getSequence());
+        }
+        DecisionRecord sample = records.stream()
+                .filter(record -> "applicant-3".equals(record.getApplicantId()))
+                .findFirst().orElseThrow();
+        assertEquals(1003.0, sample.getRequestedAmount());
+        assertEquals(12, sample.getTermMonths());
+        assertEquals(BUSINESS_DATE, sample.getBusinessDate());
+        assertEquals(7, sample.getThresholdsVersion());
+        assertEquals(ReasonMask.bit(LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS), sample.getReasonMask());
+        assertEquals(1003L, sample.getLatencyNanos());
+        assertEquals(CLOCK.millis(), sample.getRecordedAt());
+        // Group commit: fewer fsyncs than records
+        assertTrue(meterRegistry.get("loanvalidation.journal.commit.batch").summary().count() < 4000);
+        assertEquals(4000, meterRegistry.get("loanvalidation.journal.records").tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    void shouldRollSegmentsAndResumeSequenceAfterRestart() throws Exception {
+        DecisionJournal first = journal(DecisionRecord.SIZE * 10L, 1000);
+        first.start();
+        for (int i = 0; i < 25; i++) {
+            first.onEvaluation(evaluation(i));
+        }
+        first.close();
+
+        DecisionJournal second = journal(DecisionRecord.SIZE * 10L, 1000);
+        second.start();
+        for (int i = 25; i < 30; i++) {
+            second.onEvaluation(evaluation(i));
+        }
+        second.close();
+
+        assertEquals(3, DecisionJournalReader.segments(tempDir).size());
+        List<DecisionRecord> records = readAll();
+        assertEquals(30, records.size());
+        assertEquals(30, records.get(29).getSequence());
+        assertEquals("applicant-29", records.get(29).getApplicantId());
+
+        try (DecisionJournalReader reader = DecisionJournalReader.open(tempDir, 22)) {
+            assertEquals(22, reader.next().getSequence());
+        }
+    }
+
+    @Test
+    void shouldTruncateTornRecordOnStart() throws Exception {
+        DecisionJournal first = journal(1 << 20, 1000);
+        first.start();
+        for (int i = 0; i < 3; i++) {
+            first.onEvaluation(evaluation(i));
+        }
+        first.close();
+        Path segment = DecisionJournalReader.segments(tempDir).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[40]));
+        }
+
+        DecisionJournal second = journal(1 << 20, 1000);
+        second.start();
+        assertEquals(3, second.lastSequence());
+        assertEquals(3L * DecisionRecord.SIZE, Files.size(segment));
+        second.onEvaluation(evaluation(3));
+        second.close();
+
+        assertEquals(4, readAll().size());
+    }
+
+    @Test
+    void shouldDropEvaluationsWhenNotRunningUnderDropPolicy() {
+        DecisionJournal journal = journal(1 << 20, 1000, DecisionJournal.OverflowPolicy.DROP);
+        journal.onEvaluation(evaluation(0));
+
+        assertEquals(1, records("dropped"));
+    }
+
+    @Test
+    void shouldRejectEvaluationsWhenNotRunningUnderRejectPolicy() {
+        DecisionJournal journal = journal(1 << 20, 1000);
+
+        assertThrows(DecisionJournalUnavailableException.class, () -> journal.onEvaluation(evaluation(0)));
+        assertEquals(1, records("rejected"));
+        assertEquals(0, records("dropped"));
+    }
+
+    @Test
+    void shouldApplyOverflowPolicyWhenQueueIsFull() throws Exception {
+        // No room at all in the queue
+        DecisionJournal journal = journal(1 << 20, 0);
+        journal.start();
+
+        assertThrows(DecisionJournalUnavailableException.class, () -> journal.onEvaluation(evaluation(0)));
+        journal.close();
+        assertEquals(1, records("rejected"));
+        assertTrue(readAll().isEmpty());
+    }
+
+    @Test
+    void shouldCountDecisionsAsDroppedWhenTheyCannotBeWritten() throws Exception {
+        DecisionJournal journal = journal(1 << 20, 1000, DecisionJournal.OverflowPolicy.DROP);
+        journal.start();
+        journal.onEvaluation(evaluation(0));
+        journal.close();
+        assertEquals(1, records("written"));
+
+        // Segment files are opened on the first write after a restart; a directory in
+        // the way of the next segment makes that write fail
+        DecisionJournal second = journal(DecisionRecord.SIZE, 1000, DecisionJournal.OverflowPolicy.DROP);
+        second.start();
+        Files.createDirectory(tempDir.resolve(DecisionJournal.segmentName(2)));
+        second.onEvaluation(evaluation(1));
+        second.close();
+
+        assertEquals(1, records("written"));
+        assertEquals(1, records("dropped"));
+    }
+
+    @Test
+    void shouldApplyOverflowPolicyUntilAFailedJournalCommitsAgain() throws Exception {
+        DecisionJournal journal = journal(DecisionRecord.SIZE, 1000);
+        journal.start();
+        journal.onEvaluation(evaluation(0));
+        await(() -> records("written") == 1);
+
+        Path next = tempDir.resolve(DecisionJournal.segmentName(2));
+        Files.createDirectory(next);
+        journal.onEvaluation(evaluation(1));
+        await(() -> records("dropped") == 1);
+
+        assertThrows(DecisionJournalUnavailableException.class, () -> journal.onEvaluation(evaluation(2)));
+        assertEquals(1, records("rejected"));
+
+        // The disk recovers, leaving half a record behind in the segment the failed write was heading for
+        Path torn = Files.write(tempDir.resolve("torn"), new byte[DecisionRecord.SIZE / 2]);
+        Files.move(torn, next, StandardCopyOption.REPLACE_EXISTING);
+        await(() -> {
+            try {
+                journal.onEvaluation(evaluation(3));
+                return true;
+            } catch (DecisionJournalUnavailableException e) {
+                return false;
+            }
+        });
+        journal.close();
+
+        List<DecisionRecord> records = readAll();
+        assertEquals(2, records.size());
+        assertEquals(1, records.get(0).getSequence());
+        assertEquals(2, records.get(1).getSequence());
+        assertEquals("applicant-3", records.get(1).getApplicantId());
+        assertEquals(DecisionRecord.SIZE, Files.size(next));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.techgirls.loanvalidation.journal;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecisionRecordTest {
+
+    private static DecisionRecord record(String applicantId) {
+        return new DecisionRecord(42, 1_717_243_200_000L, 3000.0, 5000.0, 234.56, 24,
+                LocalDate.of(2024, 6, 1), LocalDate.of(2024, 1, 15), 3, 0b101,
+                DecisionRecord.FLAG_INCOMPLETE, 1_250_000, applicantId);
+    }
+
+    @Test
+    void shouldRoundTripFixedWidthRecord() {
+        ByteBuffer buffer = ByteBuffer.allocate(DecisionRecord.SIZE * 2);
+        record("applicant-42").encode(buffer);
+
+        assertEquals(DecisionRecord.SIZE, buffer.position());
+        buffer.flip();
+        DecisionRecord decoded = DecisionRecord.decode(buffer);
+
+        assertEquals(record("applicant-42"), decoded);
+        assertFalse(decoded.isEligible());
+        assertTrue(decoded.isIncomplete());
+    }
+
+    @Test
+    void shouldEncodeAbsentInputs() {
+        ByteBuffer buffer = ByteBuffer.allocate(DecisionRecord.SIZE);
+        new DecisionRecord(1, 0, null, null, 0.0, null, LocalDate.of(2024, 6, 1), null, 1, 0,
+                DecisionRecord.FLAG_ELIGIBLE, 0, null).encode(buffer);
+        buffer.flip();
+
+        DecisionRecord decoded = DecisionRecord.decode(buffer);
+
+        assertNull(decoded.getMonthlySalary());
+        assertNull(decoded.getTermMonths());
+        assertNull(decoded.getLastLoanDate());
+        assertEquals("", decoded.getApplicantId());
+        assertTrue(decoded.isEligible());
+    }
+
+    @Test
+    void shouldTruncateLongApplicantIdOnCharacterBoundary() {
+        String longId = "solicitante-" + "ñ".repeat(40);
+        ByteBuffer buffer = ByteBuffer.allocate(DecisionRecord.SIZE);
+        record(longId).encode(buffer);
+        buffer.flip();
+
+        DecisionRecord decoded = DecisionRecord.decode(buffer);
+
+        assertTrue(longId.startsWith(decoded.getApplicantId()));
+        assertEquals("solicitante-".length() + 19, decoded.getApplicantId().length());
+        assertEquals(DecisionRecord.FLAG_INCOMPLETE | DecisionRecord.FLAG_APPLICANT_ID_TRUNCATED, decoded.getFlags());
+    }
+
+    @Test
+    void shouldRejectTornOrEmptyRecord() {
+        ByteBuffer buffer = ByteBuffer.allocate(DecisionRecord.SIZE * 2);
+        record("applicant-42").encode(buffer);
+        buffer.put(100, (byte) 0x7F);
+        buffer.flip();
+
+        assertNull(DecisionRecord.decode(buffer));
+        assertNull(DecisionRecord.decode(ByteBuffer.allocate(DecisionRecord.SIZE)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import lombok.Value;
+
+import java.util.Arrays;
+
+/**
+ * Records every latency sample of one load step, plus the error count.
+ * Samples are kept exactly and sorted once when the step ends; a step of a few
+ * million requests costs tens of megabytes, which is fine for a test harness.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1 << 16];
+    private int count;
+    private long errors;
+
+    synchronized void record(long latencyNanos, boolean error) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors);
+    }
+
+    @Value
+    static class Snapshot {
+
+        long[] sortedNanos;
+        long errors;
+
+        long count() {
+            return sortedNanos.length;
+        }
+
+        /** Nearest-rank percentile, in nanoseconds; 0 when nothing was recorded. */
+        long percentile(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+            return sortedNanos[Math.min(Math.max(rank, 1), sortedNanos.length) - 1];
+        }
+
+        long max() {
+            return sortedNanos.length == 0 ? 0 : sortedNanos[sortedNanos.length - 1];
+        }
+
+        double errorRate() {
+            return sortedNanos.length == 0 ? 0.0 : (double) errors / sortedNanos.length;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Results of a load test run: one row per concurrency step with throughput,
+ * latency percentiles and error rate, and the step at which the service saturated.
+ */
+final class LoadReport {
+
+    /** A step that gains less throughput than this over the previous one marks saturation. */
+    static final double SATURATION_GAIN = 0.05;
+
+    private final LoadTestSettings settings;
+    private final Instant startedAt = Instant.now();
+    private final List<Step> steps = new ArrayList<>();
+
+    LoadReport(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    @Value
+    static class Step {
+
+        int concurrency;
+        Duration elapsed;
+        LatencyRecorder.Snapshot latencies;
+
+        double throughput() {
+            return latencies.count() / (elapsed.toNanos() / 1e9);
+        }
+    }
+
+    void add(Step step) {
+        steps.add(step);
+    }
+
+    List<Step> steps() {
+        return steps;
+    }
+
+    /**
+     * First step whose throughput grew by less than {@link #SATURATION_GAIN} over
+     * the previous step, or that started failing requests. Beyond it extra
+     * concurrency only queues, so latency rises while throughput stays flat.
+     */
+    Optional<Step> saturationStep() {
+        for (int i = 1; i < steps.size(); i++) {
+            Step previous = steps.get(i - 1);
+            Step current = steps.get(i);
+            boolean flat = current.throughput() < previous.throughput() * (1 + SATURATION_GAIN);
+            boolean failing = current.getLatencies().errorRate() > previous.getLatencies().errorRate()
+                    && current.getLatencies().errorRate() > 0.01;
+            if (flat || failing) {
+                return Optional.of(previous);
+            }
+        }
+        return Optional.empty();
+    }
+
+    String format() {
+        StringBuilder out = new StringBuilder();
+        out.append("# Loan validation load test").append('\n')
+                .append("# started:     ").append(startedAt).append('\n')
+                .append("# target:      ").append(settings.getTarget()).append(settings.getPath()).append('\n')
+                .append("# cores:       ").append(Runtime.getRuntime().availableProcessors()).append('\n')
+                .append("# mix:         ").append(settings.getMix()).append('\n')
+                .append("# step:        ").append(settings.getStepDuration()).append('\n')
+                .append("# history lag: ").append(settings.getHistoryLatency()).append('\n')
+                .append('\n')
+                .append(String.format(Locale.ROOT, "%11s %10s %10s %9s %9s %9s %9s %9s %8s %9s%n",
+                        "concurrency", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                        "errors", "err rate"));
+        for (Step step : steps) {
+            LatencyRecorder.Snapshot latencies = step.getLatencies();
+            out.append(String.format(Locale.ROOT, "%11d %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %8d %8.2f%%%n",
+                    step.getConcurrency(), latencies.count(), step.throughput(),
+                    millis(latencies.percentile(50)), millis(latencies.percentile(90)),
+                    millis(latencies.percentile(99)), millis(latencies.percentile(99.9)),
+                    millis(latencies.max()), latencies.getErrors(), latencies.errorRate() * 100));
+        }
+        out.append('\n').append(saturationStep()
+                .map(step -> String.format(Locale.ROOT, "saturation: %d concurrent requests, %.1f req/s%n",
+                        step.getConcurrency(), step.throughput()))
+                .orElse("saturation: not reached, extend loadtest.concurrency\n"));
+        return out.toString();
+    }
+
+    void write() {
+        try {
+            if (settings.getReport().getParent() != null) {
+                Files.createDirectories(settings.getReport().getParent());
+            }
+            Files.writeString(settings.getReport(), format());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write load test report " + settings.getReport(), e);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,67 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadReportTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldComputeNearestRankPercentilesAndErrorRate() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(i * 1_000_000L, i % 20 == 0);
+        }
+
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+
+        assertEquals(100, snapshot.count());
+        assertEquals(50_000_000L, snapshot.percentile(50));
+        assertEquals(99_000_000L, snapshot.percentile(99));
+        assertEquals(100_000_000L, snapshot.max());
+        assertEquals(0.05, snapshot.errorRate(), 1e-9);
+    }
+
+    @Test
+    void shouldReportSaturationWhereThroughputStopsGrowing() throws Exception {
+        LoadReport report = new LoadReport(settings());
+        report.add(step(8, 8_000));
+        report.add(step(16, 15_000));
+        report.add(step(32, 15_300));
+        report.add(step(64, 15_100));
+
+        assertEquals(16, report.saturationStep().orElseThrow().getConcurrency());
+
+        report.write();
+        String written = Files.readString(tempDir.resolve("report.txt"));
+        assertTrue(written.contains("saturation: 16 concurrent requests"));
+    }
+
+    private LoadTestSettings settings() {
+        return LoadTestSettings.builder()
+                .target("http://localhost:8080")
+                .path("/api/v1/loan-validations")
+                .mix(TrafficMix.parse(TrafficMix.DEFAULT_SPEC))
+                .stepDuration(Duration.ofSeconds(1))
+                .historyLatency(Duration.ZERO)
+                .report(tempDir.resolve("report.txt"))
+                .build();
+    }
+
+    private static LoadReport.Step step(int concurrency, int requests) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < requests; i++) {
+            recorder.record(1_000_000L, false);
+        }
+        return new LoadReport.Step(concurrency, Duration.ofSeconds(1), recorder.snapshot());
+    }
+}
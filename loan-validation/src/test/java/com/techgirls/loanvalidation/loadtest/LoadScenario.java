@@ -0,0 +1,115 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Request shapes the load harness can send. Each scenario pairs a body with an
+ * applicant id that steers the stub loan history, and with the HTTP status the
+ * service must answer; any other status counts as an error.
+ *
+ * The requested amount varies with the sequence number so concurrent requests
+ * are not coalesced into a single evaluation by {@code LoanValidationService}.
+ */
+enum LoadScenario {
+
+    /** No prior loans and no {@code lastLoanDate} in the body. */
+    ELIGIBLE("eligible", 200, "none") {
+        @Override
+        String body(long seq, LocalDate today) {
+            return json(3000.0, 5000.0 + amountOffset(seq), 24, null);
+        }
+    },
+
+    /** Old loan, sent both in the body and by the loan history backend. */
+    ELIGIBLE_OLD_LOAN("eligible-old-loan", 200, "old") {
+        @Override
+        String body(long seq, LocalDate today) {
+            return json(3000.0, 5000.0 + amountOffset(seq), 24, today.minusMonths(12));
+        }
+    },
+
+    /** Loan taken last month, rejected by the recent loan rule. */
+    RECENT_LOAN("recent-loan", 200, "recent") {
+        @Override
+        String body(long seq, LocalDate today) {
+            return json(3000.0, 5000.0 + amountOffset(seq), 24, today.minusMonths(1));
+        }
+    },
+
+    /** Monthly payment above the salary percentage, rejected on capacity. */
+    OVER_CAPACITY("over-capacity", 200, "none") {
+        @Override
+        String body(long seq, LocalDate today) {
+            return json(1000.0, 6000.0 + amountOffset(seq), 12, null);
+        }
+    },
+
+    /** Term of zero months, rejected by {@code InputValidationService}. */
+    INVALID_INPUT("invalid", 400, "none") {
+        @Override
+        String body(long seq, LocalDate today) {
+            return json(3000.0, 5000.0 + amountOffset(seq), 0, null);
+        }
+    };
+
+    private static final int APPLICANT_POOL = 50_000;
+
+    private final String key;
+    private final int expectedStatus;
+    private final String historyTag;
+
+    LoadScenario(String key, int expectedStatus, String historyTag) {
+        this.key = key;
+        this.expectedStatus = expectedStatus;
+        this.historyTag = historyTag;
+    }
+
+    String key() {
+        return key;
+    }
+
+    int expectedStatus() {
+        return expectedStatus;
+    }
+
+    abstract String body(long seq, LocalDate today);
+
+    byte[] bodyBytes(long seq, LocalDate today) {
+        return body(seq, today).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Applicant ids cycle through a fixed pool so the directory cache sees a
+     * realistic mix of hits and misses. The stub matches on "recent" and "old".
+     */
+    String applicantId(long seq) {
+        return "applicant-" + historyTag + "-" + (seq % APPLICANT_POOL);
+    }
+
+    static LoadScenario fromKey(String key) {
+        String normalized = key.trim().toLowerCase(Locale.ROOT);
+        for (LoadScenario scenario : values()) {
+            if (scenario.key.equals(normalized)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load scenario: " + key);
+    }
+
+    private static double amountOffset(long seq) {
+        return (seq % 10_000) / 100.0;
+    }
+
+    private static String json(double salary, double amount, int termMonths, LocalDate lastLoanDate) {
+        StringBuilder json = new StringBuilder(128)
+                .append("{\"monthlySalary\":").append(salary)
+                .append(",\"requestedAmount\":").append(amount)
+                .append(",\"termMonths\":").append(termMonths);
+        if (lastLoanDate != null) {
+            json.append(",\"lastLoanDate\":\"").append(lastLoanDate).append('"');
+        }
+        return json.append('}').toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import com.techgirls.loanvalidation.adapter.StubLoanHistoryClient;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Starts the full application on a random port and drives it with {@link LoadTestRunner}.
+ * Disabled by default; run with
+ * {@code mvn test -Dtest=LoadTestHarnessTest -Dloadtest=true [-Dloadtest.concurrency=16,32,64] [-Dloadtest.history-latency=20ms]}.
+ *
+ * The report lands in {@code target/load-test/report.txt}. The dedicated
+ * {@code loadtest} profile keeps the debug logging of {@code dev} out of the
+ * measurement; the stub loan history is wrapped to add the configured latency.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.webflux.base-path=/api/v1", "logging.level.com.techgirls.loanvalidation=WARN"})
+@ActiveProfiles("loadtest")
+class LoadTestHarnessTest {
+
+    @LocalServerPort
+    private int port;
+
+    @TestConfiguration
+    static class InjectedLatencyConfig {
+
+        @Bean
+        @Primary
+        LoanHistoryClient delayedLoanHistoryClient(StubLoanHistoryClient stub) {
+            Duration latency = LoadTestSettings.fromSystemProperties("").getHistoryLatency();
+            if (latency.isZero()) {
+                return stub;
+            }
+            return new LoanHistoryClient() {
+                @Override
+                public Mono<LocalDate> getLastLoanDate(String applicantId) {
+                    return Mono.delay(latency).then(stub.getLastLoanDate(applicantId));
+                }
+
+                @Override
+                public Mono<Boolean> hasDefaultHistory(String customerId) {
+                    return Mono.delay(latency).then(stub.hasDefaultHistory(customerId));
+                }
+            };
+        }
+    }
+
+    @Test
+    void findSaturationPoint() {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties("http://localhost:" + port);
+
+        LoadReport report = new LoadTestRunner(settings).run();
+
+        System.out.print(report.format());
+        assertFalse(report.steps().isEmpty());
+    }
+}
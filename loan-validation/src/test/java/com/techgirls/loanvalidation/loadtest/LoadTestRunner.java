@@ -0,0 +1,115 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load generator for {@code POST /loan-validations}.
+ *
+ * For each concurrency step, that many virtual clients send a request, wait for
+ * the response and immediately send the next one until the step ends. Requests go
+ * through a plain Reactor Netty client with one pooled keep-alive connection per
+ * virtual client, and the client runs on its own event loops so it does not share
+ * threads with an in-process server.
+ *
+ * Can also be run on its own against a separately started application, for
+ * example one pinned to a given core count with {@code taskset} or
+ * {@code -XX:ActiveProcessorCount}; see {@link LoadTestSettings} for the properties.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private final LoadTestSettings settings;
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadTestRunner(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties("http://localhost:8080");
+        LoadReport report = new LoadTestRunner(settings).run();
+        System.out.print(report.format());
+    }
+
+    LoadReport run() {
+        int maxConcurrency = settings.getConcurrencySteps().stream().mapToInt(Integer::intValue).max().orElse(1);
+        LoopResources loops = LoopResources.create("load-test", Math.max(2, Runtime.getRuntime().availableProcessors() / 2), true);
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(maxConcurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        HttpClient client = HttpClient.create(connections)
+                .runOn(loops)
+                .baseUrl(settings.getTarget())
+                .keepAlive(true)
+                .responseTimeout(settings.getTimeout())
+                .headers(headers -> headers
+                        .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                        .set(HttpHeaderNames.ACCEPT, HttpHeaderValues.APPLICATION_JSON));
+        LoadReport report = new LoadReport(settings);
+        try {
+            log.info("Warming up for {} at concurrency {}", settings.getWarmup(), maxConcurrency);
+            runStep(client, maxConcurrency, settings.getWarmup());
+            for (int concurrency : settings.getConcurrencySteps()) {
+                LoadReport.Step step = runStep(client, concurrency, settings.getStepDuration());
+                log.info("Concurrency {}: {} req/s, p99 {} ms, {} errors", concurrency,
+                        Math.round(step.throughput()), step.getLatencies().percentile(99) / 1_000_000,
+                        step.getLatencies().getErrors());
+                report.add(step);
+            }
+        } finally {
+            connections.disposeLater().block(Duration.ofSeconds(10));
+            loops.disposeLater().block(Duration.ofSeconds(10));
+        }
+        report.write();
+        log.info("Load test report written to {}", settings.getReport().toAbsolutePath());
+        return report;
+    }
+
+    private LoadReport.Step runStep(HttpClient client, int concurrency, Duration duration) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        LocalDate today = LocalDate.now();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        Flux.range(0, concurrency)
+                .flatMap(worker -> Mono.defer(() -> send(client, recorder, today))
+                        .repeat(() -> System.nanoTime() < deadline), concurrency)
+                .blockLast(duration.plus(settings.getTimeout()).multipliedBy(2));
+
+        return new LoadReport.Step(concurrency, Duration.ofNanos(System.nanoTime() - start), recorder.snapshot());
+    }
+
+    private Mono<Void> send(HttpClient client, LatencyRecorder recorder, LocalDate today) {
+        long seq = sequence.getAndIncrement();
+        LoadScenario scenario = settings.getMix().pick(seq);
+        byte[] body = scenario.bodyBytes(seq, today);
+        String applicantId = scenario.applicantId(seq);
+        long sentAt = System.nanoTime();
+
+        return client.post()
+                .uri(settings.getPath())
+                .send((request, outbound) -> {
+                    request.header(settings.getApplicantHeader(), applicantId);
+                    return outbound.sendByteArray(Mono.just(body));
+                })
+                .responseSingle((response, content) -> content.then(Mono.just(response.status().code())))
+                .doOnNext(status -> recorder.record(System.nanoTime() - sentAt, status != scenario.expectedStatus()))
+                .onErrorResume(error -> {
+                    recorder.record(System.nanoTime() - sentAt, true);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
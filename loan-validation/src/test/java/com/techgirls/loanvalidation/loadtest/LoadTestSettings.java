@@ -0,0 +1,61 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings of one load test run, read from {@code loadtest.*} system properties:
+ *
+ * - {@code loadtest.target}: base URL of the service, default {@code http://localhost:8080}
+ * - {@code loadtest.path}: endpoint path, default {@code /api/v1/loan-validations}
+ * - {@code loadtest.mix}: traffic mix, see {@link TrafficMix}
+ * - {@code loadtest.concurrency}: comma separated concurrency steps, default {@code 8,16,32,64,128,256}
+ * - {@code loadtest.warmup}: warm-up before the first step, default {@code 10s}
+ * - {@code loadtest.step-duration}: measured time per step, default {@code 20s}
+ * - {@code loadtest.timeout}: response timeout, default {@code 5s}
+ * - {@code loadtest.history-latency}: latency injected into the stub loan history, default {@code 0ms}
+ * - {@code loadtest.report}: report file, default {@code target/load-test/report.txt}
+ */
+@Value
+@Builder
+class LoadTestSettings {
+
+    String target;
+    String path;
+    String applicantHeader;
+    TrafficMix mix;
+    List<Integer> concurrencySteps;
+    Duration warmup;
+    Duration stepDuration;
+    Duration timeout;
+    Duration historyLatency;
+    Path report;
+
+    static LoadTestSettings fromSystemProperties(String defaultTarget) {
+        return LoadTestSettings.builder()
+                .target(System.getProperty("loadtest.target", defaultTarget))
+                .path(System.getProperty("loadtest.path", "/api/v1/loan-validations"))
+                .applicantHeader(System.getProperty("loadtest.applicant-header", "X-Applicant-Id"))
+                .mix(TrafficMix.parse(System.getProperty("loadtest.mix", TrafficMix.DEFAULT_SPEC)))
+                .concurrencySteps(Arrays.stream(System.getProperty("loadtest.concurrency", "8,16,32,64,128,256").split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .toList())
+                .warmup(duration("loadtest.warmup", "10s"))
+                .stepDuration(duration("loadtest.step-duration", "20s"))
+                .timeout(duration("loadtest.timeout", "5s"))
+                .historyLatency(duration("loadtest.history-latency", "0ms"))
+                .report(Path.of(System.getProperty("loadtest.report", "target/load-test/report.txt")))
+                .build();
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
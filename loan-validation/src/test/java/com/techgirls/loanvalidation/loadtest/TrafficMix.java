@@ -0,0 +1,85 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Weighted mix of {@link LoadScenario}s, parsed from a spec such as
+ * {@code eligible=40,recent-loan=20,over-capacity=20,invalid=20}.
+ *
+ * Scenarios are picked from a hash of the request sequence number rather than a
+ * shared random source, so the same mix and request count always produce the same
+ * traffic, whatever the concurrency.
+ */
+final class TrafficMix {
+
+    static final String DEFAULT_SPEC = "eligible=35,eligible-old-loan=15,recent-loan=20,over-capacity=20,invalid=10";
+
+    private final Map<LoadScenario, Integer> weights;
+    private final LoadScenario[] scenarios;
+    private final int[] cumulative;
+    private final int total;
+
+    private TrafficMix(Map<LoadScenario, Integer> weights) {
+        this.weights = weights;
+        this.scenarios = weights.keySet().toArray(new LoadScenario[0]);
+        this.cumulative = new int[scenarios.length];
+        int sum = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            sum += weights.get(scenarios[i]);
+            cumulative[i] = sum;
+        }
+        this.total = sum;
+    }
+
+    static TrafficMix parse(String spec) {
+        Map<LoadScenario, Integer> weights = new EnumMap<>(LoadScenario.class);
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in traffic mix: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(LoadScenario.fromKey(parts[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix has no scenarios: " + spec);
+        }
+        return new TrafficMix(weights);
+    }
+
+    LoadScenario pick(long seq) {
+        int slot = (int) Long.remainderUnsigned(mix(seq), total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (slot < cumulative[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    Map<LoadScenario, Integer> weights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .map(entry -> entry.getKey().key() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    /** SplitMix64 finalizer: spreads consecutive sequence numbers across the weights. */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
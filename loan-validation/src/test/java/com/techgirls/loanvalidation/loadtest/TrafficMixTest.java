@@ -0,0 +1,54 @@
+package com.techgirls.loanvalidation.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrafficMixTest {
+
+    @Test
+    void shouldPickScenariosInProportionToWeights() {
+        TrafficMix mix = TrafficMix.parse("eligible=70, invalid=30");
+        Map<LoadScenario, Integer> counts = new EnumMap<>(LoadScenario.class);
+
+        for (long seq = 0; seq < 100_000; seq++) {
+            counts.merge(mix.pick(seq), 1, Integer::sum);
+        }
+
+        assertEquals(2, counts.size());
+        assertTrue(Math.abs(counts.get(LoadScenario.ELIGIBLE) - 70_000) < 1_000);
+        assertTrue(Math.abs(counts.get(LoadScenario.INVALID_INPUT) - 30_000) < 1_000);
+    }
+
+    @Test
+    void shouldBeReproducibleForTheSameSequence() {
+        TrafficMix first = TrafficMix.parse(TrafficMix.DEFAULT_SPEC);
+        TrafficMix second = TrafficMix.parse(TrafficMix.DEFAULT_SPEC);
+
+        for (long seq = 0; seq < 1_000; seq++) {
+            assertEquals(first.pick(seq), second.pick(seq));
+        }
+    }
+
+    @Test
+    void shouldSkipZeroWeightsAndRejectUnknownScenarios() {
+        assertEquals(1, TrafficMix.parse("eligible=1,recent-loan=0").weights().size());
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("recent-loan=0"));
+        assertThrows(IllegalArgumentException.class, () -> TrafficMix.parse("unknown=5"));
+    }
+
+    @Test
+    void shouldBuildBodiesMatchingTheScenario() {
+        String invalid = LoadScenario.INVALID_INPUT.body(7, java.time.LocalDate.of(2025, 6, 1));
+        String recent = LoadScenario.RECENT_LOAN.body(7, java.time.LocalDate.of(2025, 6, 1));
+
+        assertTrue(invalid.contains("\"termMonths\":0"));
+        assertTrue(recent.contains("\"lastLoanDate\":\"2025-05-01\""));
+        assertTrue(LoadScenario.RECENT_LOAN.applicantId(7).contains("recent"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.techgirls.loanvalidation.replay;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldReportPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000L);
+        }
+
+        assertEquals(1000, histogram.count());
+        long p50 = histogram.percentileMicros(50);
+        long p99 = histogram.percentileMicros(99);
+        assertTrue(p50 >= 500 && p50 <= 500 * 1.125, "p50: " + p50);
+        assertTrue(p99 >= 990 && p99 <= 990 * 1.125, "p99: " + p99);
+        assertTrue(histogram.maxMicros() >= 1000);
+    }
+
+    @Test
+    void shouldMapValuesToContiguousBuckets() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int index = LatencyHistogram.index(micros);
+            assertTrue(LatencyHistogram.upperBound(index) >= micros);
+            assertTrue(index == 0 || LatencyHistogram.upperBound(index - 1) < micros);
+        }
+    }
+
+    @Test
+    void shouldBeEmptyInitially() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.percentileMicros(99));
+        assertEquals(0, histogram.maxMicros());
+        assertEquals(0, histogram.buckets().length);
+    }
+}
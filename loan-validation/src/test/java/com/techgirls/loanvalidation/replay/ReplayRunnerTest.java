@@ -0,0 +1,107 @@
+package com.techgirls.loanvalidation.replay;
+
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
+import com.techgirls.loanvalidation.config.ReplayProperties;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.InputValidationService;
+import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplayRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ReplayClock clock = new ReplayClock(ZoneOffset.UTC);
+    private final InputValidationService inputValidationService =
+            new InputValidationService(new BusinessRulesProperties(), clock);
+    private final Set<LocalDate> datesSeen = ConcurrentHashMap.newKeySet();
+    private LoanValidationOrchestrator orchestrator;
+    private ReplayProperties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // The "new" rules reject every request above 6000 for capacity
+        orchestrator = mock(LoanValidationOrchestrator.class);
+        when(orchestrator.evaluate(any(LoanValidationRequest.class), anyString())).thenAnswer(invocation -> {
+            LoanValidationRequest request = invocation.getArgument(0);
+            String applicantId = invocation.getArgument(1);
+            datesSeen.add(LocalDate.now(clock));
+            if (applicantId.startsWith("boom")) {
+                return Mono.error(new IllegalStateException("engine failure"));
+            }
+            boolean rejected = request.getRequestedAmount() > 6000;
+            return Mono.just(new LoanValidationResult(!rejected,
+                    rejected ? List.of(ReasonsEnum.CAPACIDAD_INSUFICIENTE) : Collections.emptyList(), 250.0));
+        });
+
+        StringBuilder capture = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            LocalDate businessDate = i < 100 ? LocalDate.of(2024, 5, 31) : LocalDate.of(2024, 6, 1);
+            capture.append(String.format("{\"sequence\":%d,\"applicantId\":\"%s\",\"businessDate\":\"%s\","
+                            + "\"monthlySalary\":3000,\"requestedAmount\":%d,\"termMonths\":24,\"eligible\":true,"
+                            + "\"reasons\":[],\"monthlyPayment\":250.0,\"latencyNanos\":800000}%n",
+                    i + 1, i == 199 ? "boom-" + i : "applicant-" + i, businessDate, 5000 + i * 10));
+        }
+        Files.writeString(tempDir.resolve("capture.ndjson"), capture);
+
+        properties = new ReplayProperties();
+        properties.setInput(tempDir.resolve("capture.ndjson"));
+        properties.setReport(tempDir.resolve("report/replay.txt"));
+        properties.setConcurrency(16);
+        properties.setMaxSamples(5);
+    }
+
+    @Test
+    void shouldReportDecisionsChangedByNewRules() throws Exception {
+        ReplayReport report = new ReplayRunner(orchestrator, inputValidationService, clock, properties).run();
+
+        // Amounts 6010 and up, that is records 102 to 199, are now rejected; the last one fails
+        assertEquals(200, report.getDecisions());
+        assertEquals(1, report.getFailed());
+        assertEquals(98, report.getChanged());
+        assertEquals(Long.valueOf(98), report.getReasonsAdded().get(ReasonsEnum.CAPACIDAD_INSUFICIENTE));
+        assertTrue(report.getReasonsRemoved().isEmpty());
+        assertEquals(5, report.getSamples().size());
+        assertEquals(199, report.getReplayedLatency().count());
+        assertEquals(Set.of(LocalDate.of(2024, 5, 31), LocalDate.of(2024, 6, 1)), datesSeen);
+
+        String written = Files.readString(properties.getReport());
+        assertTrue(written.contains("eligible -> rejected: 98"));
+        assertTrue(written.contains("CAPACIDAD_INSUFICIENTE"));
+        assertTrue(written.contains("p99"));
+    }
+
+    @Test
+    void shouldReplayFromSequenceUpToLimit() throws Exception {
+        properties.setFromSequence(150);
+        properties.setLimit(10);
+
+        ReplayReport report = new ReplayRunner(orchestrator, inputValidationService, clock, properties).run();
+
+        assertEquals(10, report.getDecisions());
+        assertEquals(10, report.getChanged());
+        assertEquals(Set.of(LocalDate.of(2024, 6, 1)), datesSeen);
+    }
+}
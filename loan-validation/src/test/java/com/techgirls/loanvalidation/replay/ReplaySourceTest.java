@@ -0,0 +1,83 @@
+package com.techgirls.loanvalidation.replay;
+
+import com.techgirls.loanvalidation.journal.DecisionJournal;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.validation.Evaluation;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReplaySourceTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 6, 1);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadDecisionJournalDirectory() throws Exception {
+        Path journalDir = tempDir.resolve("journal");
+        DecisionJournal journal = new DecisionJournal(journalDir, 1 << 20, 100, 16, Duration.ofMillis(1), 2,
+                DecisionJournal.OverflowPolicy.REJECT, Clock.systemUTC(), new SimpleMeterRegistry());
+        journal.start();
+        for (int i = 0; i < 5; i++) {
+            LoanValidationRequest request = new LoanValidationRequest(3000.0, 5000.0 + i, 24);
+            request.lastLoanDate(BUSINESS_DATE.minusMonths(1));
+            journal.onEvaluation(new Evaluation(request, "applicant-" + i, BUSINESS_DATE,
+                    new LoanValidationResult(false, List.of(ReasonsEnum.HAS_RECENT_LOANS), 210.0), 500_000));
+        }
+        journal.close();
+
+        StepVerifier.create(ReplaySource.read(journalDir, 3))
+                .assertNext(decision -> {
+                    assertEquals(3, decision.getSequence());
+                    assertEquals("applicant-2", decision.getApplicantId());
+                    assertEquals(Double.valueOf(5002.0), decision.getRequestedAmount());
+                    assertEquals(BUSINESS_DATE.minusMonths(1), decision.getLastLoanDate());
+                    assertEquals(ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS), decision.getReasonMask());
+                    assertEquals(500_000, decision.getLatencyNanos());
+                })
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReadNdjsonCapture() throws Exception {
+        Path capture = Files.writeString(tempDir.resolve("capture.ndjson"),
+                "{\"applicantId\":\"a-1\",\"businessDate\":\"2024-06-01\",\"monthlySalary\":3000,"
+                        + "\"requestedAmount\":5000,\"termMonths\":24,\"lastLoanDate\":null,\"eligible\":true,"
+                        + "\"reasons\":[],\"monthlyPayment\":208.33}\n"
+                        + "\n"
+                        + "{\"sequence\":9,\"applicantId\":\"a-2\",\"businessDate\":\"2024-06-01\",\"monthlySalary\":1000,"
+                        + "\"requestedAmount\":6000,\"termMonths\":12,\"eligible\":false,"
+                        + "\"reasons\":[\"CAPACIDAD_INSUFICIENTE\"],\"monthlyPayment\":500,\"latencyNanos\":750000}\n");
+
+        StepVerifier.create(ReplaySource.read(capture, 1))
+                .assertNext(decision -> {
+                    assertEquals(1, decision.getSequence());
+                    assertNull(decision.getLastLoanDate());
+                    assertEquals(-1, decision.getLatencyNanos());
+                    assertEquals(ReasonMask.NONE, decision.getReasonMask());
+                })
+                .assertNext(decision -> {
+                    assertEquals(9, decision.getSequence());
+                    assertEquals(Integer.valueOf(12), decision.getTermMonths());
+                    assertEquals(ReasonMask.bit(ReasonsEnum.CAPACIDAD_INSUFICIENTE), decision.getReasonMask());
+                })
+                .verifyComplete();
+    }
+}
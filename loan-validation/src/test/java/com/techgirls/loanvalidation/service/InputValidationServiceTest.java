@@ -1,5 +1,6 @@
 package com.techgirls.loanvalidation.service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -9,12 +10,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.openapitools.jackson.nullable.JsonNullable;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
 import com.techgirls.loanvalidation.exception.InputValidationException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 
 class InputValidationServiceTest {
 
-    private final InputValidationService inputValidationService = new InputValidationService();
+    private final InputValidationService inputValidationService =
+            new InputValidationService(new BusinessRulesProperties(), Clock.systemDefaultZone());
 
     @Test
     void shouldThrowExceptionWhenRequestIsNull() {
@@ -149,6 +152,21 @@ class InputValidationServiceTest {
         assertEquals("Term must be between 1 and 36 months", exception.getMessage());
     }
 
+    @Test
+    void shouldReadMaximumTermFromBusinessRules() {
+        BusinessRulesProperties businessRules = new BusinessRulesProperties();
+        businessRules.setMaxTermMonths(48);
+        InputValidationService service = new InputValidationService(businessRules, Clock.systemDefaultZone());
+        LoanValidationRequest request = createValidRequest();
+        request.setTermMonths(48);
+        assertDoesNotThrow(() -> service.validateRequest(request));
+
+        request.setTermMonths(49);
+        InputValidationException exception = assertThrows(InputValidationException.class,
+            () -> service.validateRequest(request));
+        assertEquals("Term must be between 1 and 48 months", exception.getMessage());
+    }
+
     @Test
     void shouldAcceptNullLastLoanDate() {
         LoanValidationRequest request = createValidRequest();
@@ -1,7 +1,10 @@
 package com.techgirls.loanvalidation.service;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +18,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.port.LoanHistory;
 import com.techgirls.loanvalidation.service.validation.LoanValidationOrchestrator;
+import com.techgirls.loanvalidation.service.validation.PrefetchedLoanHistory;
 
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 /**
@@ -149,4 +156,106 @@ class LoanValidationServiceTest {
         
         verify(validationOrchestrator).evaluate(request);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCoalesceConcurrentIdenticalRequests() {
+        // Given
+        Sinks.One<LoanValidationResult> pending = Sinks.one();
+        when(validationOrchestrator.evaluate(any(LoanValidationRequest.class)))
+            .thenReturn(pending.asMono());
+        LoanValidationRequest duplicate = new LoanValidationRequest();
+        duplicate.setRequestedAmount(50000.0);
+        duplicate.setTermMonths(24);
+        duplicate.setMonthlySalary(8000.0);
+
+        AtomicReference<LoanValidationResult> first = new AtomicReference<>();
+        AtomicReference<LoanValidationResult> second = new AtomicReference<>();
+
+        // When
+        loanValidationService.evaluate(request).subscribe(first::set);
+        loanValidationService.evaluate(duplicate).subscribe(second::set);
+        LoanValidationResult expectedResult = new LoanValidationResult(true, Collections.emptyList(), 2083.33);
+        pending.tryEmitValue(expectedResult);
+
+        // Then
+        assertSame(expectedResult, first.get());
+        assertSame(expectedResult, second.get());
+        verify(validationOrchestrator, times(1)).evaluate(any(LoanValidationRequest.class));
+    }
+
+    @Test
+    void shouldEvaluateAgainAfterInFlightRequestCompletes() {
+        // Given
+        LoanValidationResult expectedResult = new LoanValidationResult(true, Collections.emptyList(), 2083.33);
+        when(validationOrchestrator.evaluate(any(LoanValidationRequest.class)))
+            .thenReturn(Mono.just(expectedResult));
+
+        // When
+        StepVerifier.create(loanValidationService.evaluate(request))
+            .expectNext(expectedResult)
+            .verifyComplete();
+        StepVerifier.create(loanValidationService.evaluate(request))
+            .expectNext(expectedResult)
+            .verifyComplete();
+
+        // Then
+        verify(validationOrchestrator, times(2)).evaluate(request);
+    }
+
+    @Test
+    void shouldReleaseInFlightEntryOnError() {
+        // Given
+        LoanValidationResult expectedResult = new LoanValidationResult(true, Collections.emptyList(), 2083.33);
+        when(validationOrchestrator.evaluate(any(LoanValidationRequest.class)))
+            .thenReturn(Mono.error(new RuntimeException("Orchestrator error")))
+            .thenReturn(Mono.just(expectedResult));
+
+        // When
+        StepVerifier.create(loanValidationService.evaluate(request))
+            .expectError(RuntimeException.class)
+            .verify();
+
+        // Then
+        StepVerifier.create(loanValidationService.evaluate(request))
+            .expectNext(expectedResult)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReleaseInFlightEntryWhenAllSubscribersCancel() {
+        // Given
+        Sinks.One<LoanValidationResult> pending = Sinks.one();
+        LoanValidationResult expectedResult = new LoanValidationResult(true, Collections.emptyList(), 2083.33);
+        when(validationOrchestrator.evaluate(any(LoanValidationRequest.class)))
+            .thenReturn(pending.asMono())
+            .thenReturn(Mono.just(expectedResult));
+
+        // When
+        Disposable first = loanValidationService.evaluate(request).subscribe();
+        Disposable second = loanValidationService.evaluate(request).subscribe();
+        first.dispose();
+        second.dispose();
+
+        // Then
+        assertEquals(0, pending.currentSubscriberCount());
+        StepVerifier.create(loanValidationService.evaluate(request))
+            .expectNext(expectedResult)
+            .verifyComplete();
+        verify(validationOrchestrator, times(2)).evaluate(request);
+    }
+
+    @Test
+    void shouldHandPrefetchedHistoryToOrchestrator() {
+        // Given
+        PrefetchedLoanHistory history = PrefetchedLoanHistory.of(LoanHistory.none());
+        LoanValidationResult expectedResult = new LoanValidationResult(true, Collections.emptyList(), 2083.33);
+        when(validationOrchestrator.evaluate(request, "applicant-42", history))
+            .thenReturn(Mono.just(expectedResult));
+
+        // When & Then
+        StepVerifier.create(loanValidationService.evaluate(request, "applicant-42", history))
+            .expectNext(expectedResult)
+            .verifyComplete();
+        verify(validationOrchestrator).evaluate(request, "applicant-42", history);
+    }
+}
@@ -1,14 +1,58 @@
 package com.techgirls.loanvalidation.service.applicant;
 
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
 
+import com.techgirls.loanvalidation.config.ApplicantIdentificationProperties;
+import com.techgirls.loanvalidation.config.ApplicantIdentificationProperties.UnidentifiedPolicy;
+import com.techgirls.loanvalidation.exception.UnidentifiedApplicantException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.port.ApplicantDirectoryClient;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 class ApplicantIdentificationServiceTest {
 
-    private final ApplicantIdentificationService applicantIdentificationService = new ApplicantIdentificationService();
+    private ApplicantDirectoryClient applicantDirectoryClient;
+    private ApplicantIdentificationProperties properties;
+    private ApplicantIdentificationService applicantIdentificationService;
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        applicantDirectoryClient = mock(ApplicantDirectoryClient.class);
+        properties = new ApplicantIdentificationProperties();
+        properties.setCacheMaxSize(2);
+        properties.setUnidentified(UnidentifiedPolicy.SIMULATED);
+        applicantIdentificationService = new ApplicantIdentificationService(applicantDirectoryClient, properties,
+                nanoTime::get);
+    }
+
+    @Test
+    void shouldRejectUnidentifiedCallersByDefault() {
+        ApplicantIdentificationService rejecting = new ApplicantIdentificationService(applicantDirectoryClient,
+                new ApplicantIdentificationProperties());
+        LoanValidationRequest request = new LoanValidationRequest();
+        request.setRequestedAmount(20000.0);
+
+        assertThrows(UnidentifiedApplicantException.class, () -> rejecting.generateApplicantId(request));
+    }
 
     @Test
     void shouldGenerateRecentLoansIdForHighAmount() {
@@ -81,11 +125,107 @@ class ApplicantIdentificationServiceTest {
     }
 
     @Test
-    void shouldReturnAuthenticatedApplicantId() {
-        String result = applicantIdentificationService.getCurrentApplicantId();
-        
-        assertNotNull(result);
-        assertEquals("authenticated-applicant-id", result);
+    void shouldResolveApplicantFromHeader() {
+        ServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/loan-validations").header("X-Applicant-Id", "Customer-7"));
+        when(applicantDirectoryClient.findApplicantId("Customer-7")).thenReturn(Mono.just("applicant-7"));
+
+        StepVerifier.create(applicantIdentificationService.resolveApplicantId(exchange))
+                .expectNext("applicant-7")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPreferAuthenticatedPrincipalOverHeader() {
+        Principal principal = () -> "customer-principal";
+        ServerWebExchange exchange = MockServerWebExchange.from(
+                        MockServerHttpRequest.post("/loan-validations").header("X-Applicant-Id", "customer-header"))
+                .mutate()
+                .principal(Mono.just(principal))
+                .build();
+        when(applicantDirectoryClient.findApplicantId("customer-principal")).thenReturn(Mono.just("applicant-p"));
+
+        StepVerifier.create(applicantIdentificationService.resolveApplicantId(exchange))
+                .expectNext("applicant-p")
+                .verifyComplete();
+
+        verify(applicantDirectoryClient, never()).findApplicantId("customer-header");
+    }
+
+    @Test
+    void shouldReturnEmptyForAnonymousCaller() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/loan-validations"));
+
+        StepVerifier.create(applicantIdentificationService.resolveApplicantId(exchange))
+                .verifyComplete();
+
+        verify(applicantDirectoryClient, never()).findApplicantId(anyString());
+    }
+
+    @Test
+    void shouldServeRepeatCallersFromCache() {
+        when(applicantDirectoryClient.findApplicantId("customer-1")).thenReturn(Mono.just("applicant-1"));
+
+        StepVerifier.create(applicantIdentificationService.resolveSubject("customer-1"))
+                .expectNext("applicant-1")
+                .verifyComplete();
+        StepVerifier.create(applicantIdentificationService.resolveSubject("customer-1"))
+                .expectNext("applicant-1")
+                .verifyComplete();
+
+        verify(applicantDirectoryClient, times(1)).findApplicantId("customer-1");
+    }
+
+    @Test
+    void shouldKeepCacheBounded() {
+        when(applicantDirectoryClient.findApplicantId(anyString()))
+                .thenAnswer(invocation -> Mono.just("applicant-" + invocation.getArgument(0)));
+
+        for (String subject : new String[] {"a", "b", "c", "d"}) {
+            applicantIdentificationService.resolveSubject(subject).block();
+        }
+
+        assertEquals(2, applicantIdentificationService.cachedApplicantCount());
+    }
+
+    @Test
+    void shouldNotCacheUnknownSubjects() {
+        when(applicantDirectoryClient.findApplicantId("ghost")).thenReturn(Mono.empty());
+
+        StepVerifier.create(applicantIdentificationService.resolveSubject("ghost"))
+                .verifyComplete();
+
+        assertEquals(0, applicantIdentificationService.cachedApplicantCount());
+    }
+
+    @Test
+    void shouldRememberUnknownSubjectsUntilTheirTtlExpires() {
+        properties.setUnknownSubjectTtl(Duration.ofSeconds(30));
+        when(applicantDirectoryClient.findApplicantId("ghost")).thenReturn(Mono.empty());
+
+        StepVerifier.create(applicantIdentificationService.resolveSubject("ghost")).verifyComplete();
+        nanoTime.addAndGet(Duration.ofSeconds(29).toNanos());
+        StepVerifier.create(applicantIdentificationService.resolveSubject("ghost")).verifyComplete();
+
+        verify(applicantDirectoryClient, times(1)).findApplicantId("ghost");
+        assertEquals(1, applicantIdentificationService.unknownSubjectCount());
+
+        nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+        StepVerifier.create(applicantIdentificationService.resolveSubject("ghost")).verifyComplete();
+
+        verify(applicantDirectoryClient, times(2)).findApplicantId("ghost");
+    }
+
+    @Test
+    void shouldNotRememberUnknownSubjectsWithZeroTtl() {
+        properties.setUnknownSubjectTtl(Duration.ZERO);
+        when(applicantDirectoryClient.findApplicantId("ghost")).thenReturn(Mono.empty());
+
+        applicantIdentificationService.resolveSubject("ghost").block();
+        applicantIdentificationService.resolveSubject("ghost").block();
+
+        verify(applicantDirectoryClient, times(2)).findApplicantId("ghost");
+        assertEquals(0, applicantIdentificationService.unknownSubjectCount());
     }
 
     @Test
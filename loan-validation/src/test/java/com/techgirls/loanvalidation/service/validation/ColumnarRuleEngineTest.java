@@ -0,0 +1,169 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import com.techgirls.loanvalidation.service.calculation.PaymentCalculationService;
+import com.techgirls.loanvalidation.service.validation.rules.AmountValidationRule;
+import com.techgirls.loanvalidation.service.validation.rules.PaymentCapacityRule;
+import com.techgirls.loanvalidation.service.validation.rules.RecentLoanRule;
+import com.techgirls.loanvalidation.service.validation.rules.TermValidationRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ColumnarRuleEngineTest {
+
+    // End of May: minusMonths clamps to the end of February
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 5, 31);
+
+    private final BusinessRulesProperties businessRules = new BusinessRulesProperties();
+    private final ColumnarRuleEngine engine = ColumnarRuleEngine.of(businessRules);
+    private final PaymentCalculationService paymentCalculationService = new PaymentCalculationService();
+    private final List<LoanValidationRule> rules = List.of(new AmountValidationRule(),
+            new TermValidationRule(businessRules), new PaymentCapacityRule(businessRules),
+            new RecentLoanRule(mock(LoanHistoryClient.class)));
+
+    @Test
+    void shouldDecideLikeTheRuleChain() {
+        Random random = new Random(7);
+        int rows = 2_000;
+        double[] salary = new double[rows];
+        double[] amount = new double[rows];
+        int[] term = new int[rows];
+        int[] lastLoan = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            salary[i] = random.nextInt(40) == 0 ? Double.NaN : random.nextInt(6000) - 100;
+            amount[i] = random.nextInt(40) == 0 ? Double.NaN : random.nextInt(60_000) - 100;
+            term[i] = random.nextInt(50) - 2;
+            lastLoan[i] = random.nextBoolean()
+                    ? ColumnarRuleEngine.NO_LOAN
+                    : (int) BUSINESS_DATE.toEpochDay() - random.nextInt(200) + 5;
+        }
+        byte[] reasons = new byte[rows];
+
+        engine.evaluate(BUSINESS_DATE, salary, amount, term, lastLoan, reasons);
+
+        for (int i = 0; i < rows; i++) {
+            assertEquals(ruleChain(salary[i], amount[i], term[i], lastLoan[i]), reasons[i], "row " + i);
+        }
+    }
+
+    @Test
+    void shouldTreatTheRecentLoanThresholdAsInclusive() {
+        int threshold = (int) BUSINESS_DATE.minusMonths(3).toEpochDay();
+        double[] salary = {3000, 3000, 3000};
+        double[] amount = {1200, 1200, 1200};
+        int[] term = {12, 12, 12};
+        int[] lastLoan = {threshold - 1, threshold, ColumnarRuleEngine.NO_LOAN};
+        int[] reasons = new int[3];
+
+        engine.evaluate(BUSINESS_DATE, salary, amount, term, lastLoan, reasons);
+
+        assertArrayEquals(new int[] {0, ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS), 0}, reasons);
+    }
+
+    @Test
+    void shouldEvaluateEveryRuleForInvalidData() {
+        int[] reasons = new int[1];
+
+        engine.evaluate(BUSINESS_DATE, new double[] {0}, new double[] {5000}, new int[] {48},
+                new int[] {(int) BUSINESS_DATE.toEpochDay()}, reasons);
+
+        assertEquals(ReasonMask.of(List.of(ReasonsEnum.DATOS_INVALIDOS, ReasonsEnum.PLAZO_MAXIMO_SUPERADO,
+                ReasonsEnum.CAPACIDAD_INSUFICIENTE, ReasonsEnum.HAS_RECENT_LOANS)), reasons[0]);
+    }
+
+    @Test
+    void shouldPriceAnnuitiesLikeThePaymentCalculation() {
+        ColumnarRuleEngine withInterest = new ColumnarRuleEngine(2000, 0.40, 3, 0.18);
+        int[] terms = {1, 12, 36, 360, ColumnarRuleEngine.ANNUITY_TERMS, ColumnarRuleEngine.ANNUITY_TERMS + 300};
+        double[] amount = new double[terms.length];
+        double[] salary = new double[terms.length];
+        int[] lastLoan = new int[terms.length];
+        int[] expected = new int[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            amount[i] = 100_000;
+            double payment = paymentCalculationService.calculateMonthlyPaymentWithInterest(100_000.0, terms[i], 0.18);
+            // Every other row sits exactly at the capacity limit, the rest just below it
+            salary[i] = payment / 0.40 * (i % 2 == 0 ? 1.0 : 0.999);
+            lastLoan[i] = ColumnarRuleEngine.NO_LOAN;
+            expected[i] = payment > salary[i] * 0.40 ? ReasonMask.bit(ReasonsEnum.CAPACIDAD_INSUFICIENTE) : 0;
+        }
+        int[] reasons = new int[terms.length];
+
+        withInterest.evaluate(BUSINESS_DATE, salary, amount, terms, lastLoan, reasons);
+
+        assertArrayEquals(expected, reasons);
+    }
+
+    @Test
+    void shouldWriteRangesAtTheGivenOffset() {
+        int rows = 3000;
+        double[] salary = new double[rows];
+        double[] amount = new double[rows];
+        int[] term = new int[rows];
+        int[] lastLoan = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            salary[i] = 1000;
+            amount[i] = 10_000;
+            term[i] = i % 2 == 0 ? 12 : 40;
+            lastLoan[i] = ColumnarRuleEngine.NO_LOAN;
+        }
+        int[] reasons = new int[rows + 10];
+        byte[] bytes = new byte[rows];
+
+        engine.evaluate(BUSINESS_DATE, salary, amount, term, lastLoan, 1, rows, reasons, 10);
+        engine.evaluate(BUSINESS_DATE, salary, amount, term, lastLoan, 1, rows, bytes, 0);
+
+        int capacity = ReasonMask.bit(ReasonsEnum.CAPACIDAD_INSUFICIENTE);
+        int termTooLong = ReasonMask.bit(ReasonsEnum.PLAZO_MAXIMO_SUPERADO);
+        for (int i = 1; i < rows; i++) {
+            int expected = i % 2 == 0 ? capacity : termTooLong;
+            assertEquals(expected, reasons[9 + i]);
+            assertEquals(expected, bytes[i - 1]);
+        }
+        assertEquals(0, reasons[9]);
+    }
+
+    @Test
+    void shouldRejectRangesOutsideTheArrays() {
+        double[] salary = new double[4];
+        byte[] reasons = new byte[2];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.evaluate(BUSINESS_DATE, salary, new double[4],
+                new int[4], new int[3], 0, 4, new byte[4], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.evaluate(BUSINESS_DATE, salary, new double[4],
+                new int[4], new int[4], 0, 4, reasons, 0));
+    }
+
+    /**
+     * Reason mask of the row through the reactive rules, as the orchestrator runs them.
+     */
+    private int ruleChain(double salary, double amount, int term, int lastLoan) {
+        LoanValidationRequest request = new LoanValidationRequest(Double.isNaN(salary) ? null : salary,
+                Double.isNaN(amount) ? null : amount, term);
+        if (lastLoan != ColumnarRuleEngine.NO_LOAN) {
+            request.lastLoanDate(LocalDate.ofEpochDay(lastLoan));
+        }
+        ValidationContext context = ValidationContext.builder()
+                .currentDate(BUSINESS_DATE)
+                .recentLoanThreshold(BUSINESS_DATE.minusMonths(3))
+                .monthlyPayment(paymentCalculationService.calculateMonthlyPayment(request.getRequestedAmount(), term))
+                .loanHistoryLoaded(true)
+                .build();
+        int mask = ReasonMask.NONE;
+        for (LoanValidationRule rule : rules) {
+            mask |= ReasonMask.of(rule.validate(request, context).block());
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,212 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for LoanHistoryFetchStage.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoanHistoryFetchStageTest {
+
+    @Mock
+    private LoanHistoryClient loanHistoryClient;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    @InjectMocks
+    private LoanHistoryFetchStage loanHistoryFetchStage;
+
+    private final ValidationContext context = ValidationContext.builder()
+            .applicantId("APP123")
+            .monthlyPayment(250.0)
+            .build();
+
+    @Test
+    void shouldPopulateContextWithCombinedHistory() {
+        LocalDate lastLoanDate = LocalDate.of(2023, 5, 1);
+        LoanValidationRequest request = new LoanValidationRequest();
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.just(new LoanHistory(lastLoanDate, true)));
+
+        StepVerifier.create(loanHistoryFetchStage.enrich(request, context, TIMEOUT))
+                .assertNext(enriched -> {
+                    assertTrue(enriched.isLoanHistoryLoaded());
+                    assertEquals(lastLoanDate, enriched.getLastLoanDate());
+                    assertTrue(enriched.isDefaultHistory());
+                    assertEquals(250.0, enriched.getMonthlyPayment());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFetchOnlyDefaultHistoryWhenRequestCarriesLastLoanDate() {
+        LoanValidationRequest request = new LoanValidationRequest();
+        request.setLastLoanDate(JsonNullable.of(LocalDate.of(2023, 1, 1)));
+        when(loanHistoryClient.hasDefaultHistory("APP123")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(loanHistoryFetchStage.enrich(request, context, TIMEOUT))
+                .assertNext(enriched -> {
+                    assertTrue(enriched.isLoanHistoryLoaded());
+                    assertNull(enriched.getLastLoanDate());
+                    assertFalse(enriched.isDefaultHistory());
+                })
+                .verifyComplete();
+
+        verify(loanHistoryClient, never()).getLoanHistory(anyString());
+        verify(loanHistoryClient, never()).getLastLoanDate(anyString());
+    }
+
+    @Test
+    void shouldTreatEmptyHistoryAsNoLoans() {
+        LoanValidationRequest request = new LoanValidationRequest();
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.empty());
+
+        StepVerifier.create(loanHistoryFetchStage.enrich(request, context, TIMEOUT))
+                .assertNext(enriched -> {
+                    assertTrue(enriched.isLoanHistoryLoaded());
+                    assertNull(enriched.getLastLoanDate());
+                    assertFalse(enriched.isDefaultHistory());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPrefetchHistoryBeforeTheBodyArrives() {
+        LocalDate lastLoanDate = LocalDate.of(2023, 5, 1);
+        Sinks.One<LoanValidationRequest> body = Sinks.one();
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.just(new LoanHistory(lastLoanDate, true)));
+
+        StepVerifier.create(loanHistoryFetchStage.prefetch("APP123", body.asMono(), TIMEOUT))
+                .then(() -> {
+                    verify(loanHistoryClient).getLoanHistory("APP123");
+                    body.tryEmitValue(new LoanValidationRequest());
+                })
+                .expectNext(PrefetchedLoanHistory.of(new LoanHistory(lastLoanDate, true)))
+                .verifyComplete();
+
+        verify(loanHistoryClient, never()).hasDefaultHistory(anyString());
+        verify(loanHistoryClient, never()).getLastLoanDate(anyString());
+    }
+
+    @Test
+    void shouldIgnoreFetchedLastLoanDateWhenTheBodyCarriesOne() {
+        LoanValidationRequest request = new LoanValidationRequest();
+        request.setLastLoanDate(JsonNullable.of(LocalDate.of(2023, 1, 1)));
+        when(loanHistoryClient.getLoanHistory("APP123"))
+                .thenReturn(Mono.just(new LoanHistory(LocalDate.of(2023, 5, 1), true)));
+
+        StepVerifier.create(loanHistoryFetchStage.prefetch("APP123", Mono.just(request), TIMEOUT))
+                .expectNext(PrefetchedLoanHistory.of(new LoanHistory(null, true)))
+                .verifyComplete();
+
+        verify(loanHistoryClient).getLoanHistory("APP123");
+    }
+
+    @Test
+    void shouldCancelPrefetchWhenTheBodyIsRejected() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        when(loanHistoryClient.getLoanHistory("APP123"))
+                .thenReturn(Mono.<LoanHistory>never().doOnCancel(() -> cancelled.set(true)));
+        Sinks.One<LoanValidationRequest> body = Sinks.one();
+
+        StepVerifier.create(Mono.zip(body.asMono(), loanHistoryFetchStage.prefetch("APP123", body.asMono(), TIMEOUT)))
+                .then(() -> body.tryEmitError(new IllegalArgumentException("Invalid body")))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    void shouldPrefetchNoLoansForUnknownApplicant() {
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.empty());
+
+        StepVerifier.create(loanHistoryFetchStage.prefetch("APP123", Mono.just(new LoanValidationRequest()), TIMEOUT))
+                .expectNext(PrefetchedLoanHistory.of(LoanHistory.none()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReportFailedPrefetchAsUnavailable() {
+        when(loanHistoryClient.getLoanHistory("APP123"))
+                .thenReturn(Mono.error(new RuntimeException("History service down")));
+
+        StepVerifier.create(loanHistoryFetchStage.prefetch("APP123", Mono.just(new LoanValidationRequest()), TIMEOUT))
+                .expectNext(PrefetchedLoanHistory.unavailable())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldReportPrefetchAsUnavailableWhenClientNeverAnswers() {
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.never());
+
+        StepVerifier.create(loanHistoryFetchStage.prefetch("APP123", Mono.just(new LoanValidationRequest()),
+                        Duration.ofMillis(50)))
+                .expectNext(PrefetchedLoanHistory.unavailable())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldLeaveContextUntouchedWithoutApplicant() {
+        ValidationContext anonymous = ValidationContext.builder().build();
+
+        StepVerifier.create(loanHistoryFetchStage.enrich(new LoanValidationRequest(), anonymous, TIMEOUT))
+                .assertNext(enriched -> assertSame(anonymous, enriched))
+                .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+
+    @Test
+    void shouldMarkHistoryUnavailableOnClientErrors() {
+        when(loanHistoryClient.getLoanHistory("APP123"))
+                .thenReturn(Mono.error(new RuntimeException("History service down")));
+
+        StepVerifier.create(loanHistoryFetchStage.enrich(new LoanValidationRequest(), context, TIMEOUT))
+                .assertNext(enriched -> {
+                    assertFalse(enriched.isLoanHistoryLoaded());
+                    assertTrue(enriched.isLoanHistoryUnavailable());
+                    assertEquals(250.0, enriched.getMonthlyPayment());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldMarkHistoryUnavailableWhenClientNeverAnswers() {
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.never());
+
+        StepVerifier.create(loanHistoryFetchStage.enrich(new LoanValidationRequest(), context,
+                        Duration.ofMillis(50)))
+                .assertNext(enriched -> {
+                    assertFalse(enriched.isLoanHistoryLoaded());
+                    assertTrue(enriched.isLoanHistoryUnavailable());
+                })
+                .verifyComplete();
+    }
+}
@@ -1,12 +1,15 @@
 package com.techgirls.loanvalidation.service.validation;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -15,16 +18,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
+import com.techgirls.loanvalidation.config.RuleExecutionProperties;
+import com.techgirls.loanvalidation.exception.DecisionJournalUnavailableException;
 import com.techgirls.loanvalidation.exception.ExternalServiceException;
 import com.techgirls.loanvalidation.exception.LoanValidationException;
+import com.techgirls.loanvalidation.exception.UnidentifiedApplicantException;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.port.LoanHistory;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
 import com.techgirls.loanvalidation.service.applicant.ApplicantIdentificationService;
 import com.techgirls.loanvalidation.service.calculation.PaymentCalculationService;
+import com.techgirls.loanvalidation.service.validation.rules.DefaultHistoryRule;
+import com.techgirls.loanvalidation.service.validation.rules.RecentLoanRule;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -36,6 +51,10 @@ class LoanValidationOrchestratorTest {
     private PaymentCalculationService paymentCalculationService;
     private ApplicantIdentificationService applicantIdentificationService;
     private Clock clock;
+    private RuleExecutionScheduler ruleExecutionScheduler;
+    private LoanHistoryClient loanHistoryClient;
+    private LoanHistoryFetchStage loanHistoryFetchStage;
+    private BusinessRulesProperties businessRules;
 
     @BeforeEach
     void setUp() {
@@ -44,10 +63,16 @@ class LoanValidationOrchestratorTest {
         paymentCalculationService = mock(PaymentCalculationService.class);
         applicantIdentificationService = mock(ApplicantIdentificationService.class);
         clock = Clock.fixed(Instant.parse("2023-06-15T10:00:00Z"), ZoneId.systemDefault());
+        ruleExecutionScheduler = new RuleExecutionScheduler(new RuleExecutionProperties(), new SimpleMeterRegistry());
+        loanHistoryClient = mock(LoanHistoryClient.class);
+        loanHistoryFetchStage = new LoanHistoryFetchStage(loanHistoryClient);
+        businessRules = new BusinessRulesProperties();
+        businessRules.setRecentLoanMonths(6);
 
         List<LoanValidationRule> rules = Arrays.asList(rule1, rule2);
         orchestrator = new LoanValidationOrchestrator(rules, paymentCalculationService, 
-                                                     applicantIdentificationService, clock);
+                                                     applicantIdentificationService, clock, ruleExecutionScheduler,
+                                                     loanHistoryFetchStage, businessRules);
     }
 
     @Test
@@ -234,6 +259,25 @@ class LoanValidationOrchestratorTest {
             .verify();
     }
 
+    @Test
+    void shouldPropagateUnidentifiedApplicantUnchanged() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(applicantIdentificationService.generateApplicantId(request))
+            .thenThrow(new UnidentifiedApplicantException("The applicant could not be identified"));
+
+        // When
+        Mono<LoanValidationResult> result = orchestrator.evaluate(request);
+
+        // Then
+        StepVerifier.create(result)
+            .expectError(UnidentifiedApplicantException.class)
+            .verify();
+        verify(rule1, never()).validate(any(LoanValidationRequest.class), any(ValidationContext.class));
+    }
+
     @Test
     void shouldBuildValidationContextCorrectly() {
         // Given
@@ -250,7 +294,8 @@ class LoanValidationOrchestratorTest {
                 
                 // Verify context properties
                 assertEquals(LocalDate.now(clock), context.getCurrentDate());
-                assertEquals(LocalDate.now(clock).minusMonths(3), context.getRecentLoanThreshold());
+                // Taken from the business rules, not the default of 3 months
+                assertEquals(LocalDate.now(clock).minusMonths(6), context.getRecentLoanThreshold());
                 assertEquals(2500.0, context.getMonthlyPayment());
                 assertEquals("APP123", context.getApplicantId());
                 assertTrue(context.isExternalDataAvailable());
@@ -275,7 +320,8 @@ class LoanValidationOrchestratorTest {
         LoanValidationRequest request = createValidRequest();
         List<LoanValidationRule> emptyRules = Collections.emptyList();
         LoanValidationOrchestrator emptyOrchestrator = new LoanValidationOrchestrator(
-            emptyRules, paymentCalculationService, applicantIdentificationService, clock);
+            emptyRules, paymentCalculationService, applicantIdentificationService, clock, ruleExecutionScheduler,
+            loanHistoryFetchStage, businessRules);
         
         when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
         when(applicantIdentificationService.generateApplicantId(request)).thenReturn("APP123");
@@ -293,6 +339,62 @@ class LoanValidationOrchestratorTest {
             .verifyComplete();
     }
 
+    @Test
+    void shouldNotifyObserversOfCompletedEvaluation() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        List<Evaluation> observed = new ArrayList<>();
+        EvaluationObserver failingObserver = evaluation -> {
+            throw new IllegalStateException("observer failure");
+        };
+        LoanValidationOrchestrator observedOrchestrator = new LoanValidationOrchestrator(
+            Collections.emptyList(), paymentCalculationService, applicantIdentificationService, clock,
+            ruleExecutionScheduler, loanHistoryFetchStage, businessRules);
+        observedOrchestrator.setEvaluationObservers(List.of(failingObserver, observed::add));
+        
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(applicantIdentificationService.generateApplicantId(request)).thenReturn("APP123");
+
+        // When
+        Mono<LoanValidationResult> result = observedOrchestrator.evaluate(request);
+
+        // Then
+        StepVerifier.create(result)
+            .assertNext(validationResult -> assertTrue(validationResult.getEligible()))
+            .verifyComplete();
+        assertEquals(1, observed.size());
+        Evaluation evaluation = observed.get(0);
+        assertEquals(request, evaluation.getRequest());
+        assertEquals("APP123", evaluation.getApplicantId());
+        assertEquals(LocalDate.now(clock), evaluation.getBusinessDate());
+        assertTrue(evaluation.getResult().getEligible());
+        assertTrue(evaluation.getLatencyNanos() > 0);
+    }
+
+    @Test
+    void shouldFailEvaluationWhenObserverRejectsIt() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        EvaluationObserver rejectingObserver = evaluation -> {
+            throw new DecisionJournalUnavailableException("Decision not recorded: the journal queue is full");
+        };
+        LoanValidationOrchestrator observedOrchestrator = new LoanValidationOrchestrator(
+            Collections.emptyList(), paymentCalculationService, applicantIdentificationService, clock,
+            ruleExecutionScheduler, loanHistoryFetchStage, businessRules);
+        observedOrchestrator.setEvaluationObservers(List.of(rejectingObserver));
+
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(applicantIdentificationService.generateApplicantId(request)).thenReturn("APP123");
+
+        // When
+        Mono<LoanValidationResult> result = observedOrchestrator.evaluate(request);
+
+        // Then
+        StepVerifier.create(result)
+            .expectError(DecisionJournalUnavailableException.class)
+            .verify();
+    }
+
     @Test
     void shouldHandleNullMonthlyPayment() {
         // Given
@@ -318,6 +420,198 @@ class LoanValidationOrchestratorTest {
             .verifyComplete();
     }
 
+    @Test
+    void shouldReportPartialOutcomeWhenAsyncRuleTimesOut() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(applicantIdentificationService.generateApplicantId(request)).thenReturn("APP123");
+        
+        when(rule1.getPriority()).thenReturn(1);
+        when(rule1.getRuleName()).thenReturn("AmountValidationRule");
+        when(rule1.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenReturn(Mono.just(Collections.emptyList()));
+        
+        when(rule2.getPriority()).thenReturn(2);
+        when(rule2.getRuleName()).thenReturn("SlowExternalRule");
+        when(rule2.isAsynchronous()).thenReturn(true);
+        when(rule2.getTimeout()).thenReturn(Duration.ofMillis(50));
+        when(rule2.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenReturn(Mono.never());
+
+        // When
+        Mono<LoanValidationResult> result = orchestrator.evaluate(request);
+
+        // Then
+        StepVerifier.create(result)
+            .assertNext(validationResult -> {
+                assertFalse(validationResult.getEligible());
+                assertTrue(validationResult.getReasons().isEmpty());
+                assertEquals(List.of("SlowExternalRule"), validationResult.getIncompleteRules());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFetchLoanHistoryOnceForAllHistoryRules() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        LocalDate lastLoanDate = LocalDate.now(clock).minusMonths(1);
+        
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(applicantIdentificationService.generateApplicantId(request)).thenReturn("APP123");
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.just(new LoanHistory(lastLoanDate, true)));
+        
+        for (LoanValidationRule rule : Arrays.asList(rule1, rule2)) {
+            when(rule.getRuleName()).thenReturn("HistoryRule");
+            when(rule.requiresLoanHistory()).thenReturn(true);
+            when(rule.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+                .thenAnswer(invocation -> {
+                    ValidationContext context = invocation.getArgument(1);
+                    assertTrue(context.isLoanHistoryLoaded());
+                    assertEquals(lastLoanDate, context.getLastLoanDate());
+                    assertTrue(context.isDefaultHistory());
+                    return Mono.just(Collections.emptyList());
+                });
+        }
+
+        // When
+        Mono<LoanValidationResult> result = orchestrator.evaluate(request);
+
+        // Then
+        StepVerifier.create(result)
+            .assertNext(validationResult -> assertTrue(validationResult.getEligible()))
+            .verifyComplete();
+
+        verify(loanHistoryClient, times(1)).getLoanHistory("APP123");
+    }
+
+    @Test
+    void shouldUsePrefetchedLoanHistoryWithoutFetching() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        LocalDate lastLoanDate = LocalDate.now(clock).minusMonths(1);
+        
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(rule1.getRuleName()).thenReturn("HistoryRule");
+        when(rule1.requiresLoanHistory()).thenReturn(true);
+        when(rule1.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenAnswer(invocation -> {
+                ValidationContext context = invocation.getArgument(1);
+                assertTrue(context.isLoanHistoryLoaded());
+                assertEquals(lastLoanDate, context.getLastLoanDate());
+                assertEquals("applicant-42", context.getApplicantId());
+                return Mono.just(Collections.emptyList());
+            });
+        when(rule2.getRuleName()).thenReturn("OtherRule");
+        when(rule2.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenReturn(Mono.just(Collections.emptyList()));
+
+        // When
+        Mono<LoanValidationResult> result = orchestrator.evaluate(request, "applicant-42",
+            PrefetchedLoanHistory.of(new LoanHistory(lastLoanDate, false)));
+
+        // Then
+        StepVerifier.create(result)
+            .assertNext(validationResult -> assertTrue(validationResult.getEligible()))
+            .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+
+    @Test
+    void shouldNotRetryFailedPrefetch() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(rule1.getRuleName()).thenReturn("HistoryRule");
+        when(rule1.requiresLoanHistory()).thenReturn(true);
+        when(rule1.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenAnswer(invocation -> {
+                ValidationContext context = invocation.getArgument(1);
+                assertFalse(context.isLoanHistoryLoaded());
+                assertTrue(context.isLoanHistoryUnavailable());
+                return Mono.just(Collections.emptyList());
+            });
+        when(rule2.getRuleName()).thenReturn("OtherRule");
+        when(rule2.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenReturn(Mono.just(Collections.emptyList()));
+
+        // When
+        Mono<LoanValidationResult> result = orchestrator.evaluate(request, "applicant-42",
+            PrefetchedLoanHistory.unavailable());
+
+        // Then
+        StepVerifier.create(result)
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+
+    @Test
+    void shouldSkipLoanHistoryFetchWhenNoRuleNeedsIt() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(applicantIdentificationService.generateApplicantId(request)).thenReturn("APP123");
+        when(rule1.getRuleName()).thenReturn("TestRule");
+        when(rule1.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenReturn(Mono.just(Collections.emptyList()));
+        when(rule2.getRuleName()).thenReturn("OtherRule");
+        when(rule2.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenReturn(Mono.just(Collections.emptyList()));
+
+        // When
+        Mono<LoanValidationResult> result = orchestrator.evaluate(request);
+
+        // Then
+        StepVerifier.create(result)
+            .assertNext(validationResult -> assertTrue(validationResult.getEligible()))
+            .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+
+    @Test
+    void shouldReportHistoryRulesIncompleteWhenHistoryNeverArrives() {
+        // Given
+        LoanValidationRequest request = createValidRequest();
+        RuleExecutionProperties properties = new RuleExecutionProperties();
+        properties.setDefaultTimeout(Duration.ofMillis(100));
+        when(paymentCalculationService.calculateMonthlyPayment(50000.0, 24)).thenReturn(2500.0);
+        when(loanHistoryClient.getLoanHistory("APP123")).thenReturn(Mono.never());
+        when(rule1.getPriority()).thenReturn(1);
+        when(rule1.getRuleName()).thenReturn("AmountValidationRule");
+        when(rule1.validate(any(LoanValidationRequest.class), any(ValidationContext.class)))
+            .thenReturn(Mono.just(Collections.emptyList()));
+        LoanValidationOrchestrator historyOrchestrator = new LoanValidationOrchestrator(
+            Arrays.asList(rule1, new RecentLoanRule(loanHistoryClient), new DefaultHistoryRule(loanHistoryClient)),
+            paymentCalculationService, applicantIdentificationService, clock,
+            new RuleExecutionScheduler(properties, new SimpleMeterRegistry()), loanHistoryFetchStage, businessRules);
+
+        // When
+        Mono<LoanValidationResult> result = historyOrchestrator.evaluate(request, "APP123");
+
+        // Then
+        StepVerifier.create(result)
+            .assertNext(validationResult -> {
+                assertFalse(validationResult.getEligible());
+                assertTrue(validationResult.getReasons().isEmpty());
+                assertEquals(Set.of("Recent Loan Rule", "Default History Rule"),
+                    Set.copyOf(validationResult.getIncompleteRules()));
+            })
+            .verifyComplete();
+
+        // The rules do not retry the lookup the shared fetch gave up on
+        verify(loanHistoryClient, times(1)).getLoanHistory("APP123");
+        verify(loanHistoryClient, never()).getLastLoanDate(any());
+        verify(loanHistoryClient, never()).hasDefaultHistory(any());
+    }
+
     private LoanValidationRequest createValidRequest() {
         LoanValidationRequest request = new LoanValidationRequest();
         request.setRequestedAmount(50000.0);
@@ -0,0 +1,30 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReasonMaskTest {
+
+    @Test
+    void shouldRoundTripReasonsInEnumOrder() {
+        int mask = ReasonMask.of(List.of(ReasonsEnum.CAPACIDAD_INSUFICIENTE, ReasonsEnum.HAS_RECENT_LOANS));
+
+        assertTrue(ReasonMask.contains(mask, ReasonsEnum.HAS_RECENT_LOANS));
+        assertFalse(ReasonMask.contains(mask, ReasonsEnum.PLAZO_MAXIMO_SUPERADO));
+        assertEquals(List.of(ReasonsEnum.HAS_RECENT_LOANS, ReasonsEnum.CAPACIDAD_INSUFICIENTE),
+                ReasonMask.toReasons(mask));
+    }
+
+    @Test
+    void shouldMapNoReasonsToEmptyMask() {
+        assertEquals(ReasonMask.NONE, ReasonMask.of(null));
+        assertEquals(ReasonMask.NONE, ReasonMask.of(List.of()));
+        assertTrue(ReasonMask.toReasons(ReasonMask.NONE).isEmpty());
+    }
+}
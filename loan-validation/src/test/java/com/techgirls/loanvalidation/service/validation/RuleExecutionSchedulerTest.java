@@ -0,0 +1,199 @@
+package com.techgirls.loanvalidation.service.validation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.techgirls.loanvalidation.config.RuleExecutionProperties;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for RuleExecutionScheduler.
+ * Covers inline execution of synchronous rules, concurrency caps and timeouts
+ * of asynchronous rules, and the queueing metrics.
+ */
+class RuleExecutionSchedulerTest {
+
+    private RuleExecutionProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private LoanValidationRequest request;
+    private ValidationContext context;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RuleExecutionProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        request = new LoanValidationRequest();
+        context = ValidationContext.builder().applicantId("APP123").build();
+    }
+
+    @Test
+    void shouldRunSynchronousRulesOnCallingThread() {
+        RuleExecutionScheduler scheduler = new RuleExecutionScheduler(properties, meterRegistry);
+        Thread caller = Thread.currentThread();
+        TestRule rule = new TestRule("SyncRule", false, Mono.fromCallable(() -> {
+            assertEquals(caller, Thread.currentThread());
+            return Collections.emptyList();
+        }));
+
+        StepVerifier.create(scheduler.execute(List.of(rule), request, context))
+                .assertNext(outcome -> {
+                    assertTrue(outcome.isCompleted());
+                    assertEquals("SyncRule", outcome.getRuleName());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldLimitAsynchronousRulesPerRequest() {
+        properties.setPerRequestConcurrency(2);
+        RuleExecutionScheduler scheduler = new RuleExecutionScheduler(properties, meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<LoanValidationRule> rules = List.of(
+                trackingRule("A", running, maxRunning),
+                trackingRule("B", running, maxRunning),
+                trackingRule("C", running, maxRunning),
+                trackingRule("D", running, maxRunning));
+
+        StepVerifier.create(scheduler.execute(rules, request, context))
+                .expectNextCount(4)
+                .verifyComplete();
+
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void shouldLimitAsynchronousRulesGloballyAndRecordQueueTime() {
+        properties.setGlobalConcurrency(1);
+        RuleExecutionScheduler scheduler = new RuleExecutionScheduler(properties, meterRegistry);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<LoanValidationRule> rules = List.of(
+                trackingRule("A", running, maxRunning),
+                trackingRule("B", running, maxRunning),
+                trackingRule("C", running, maxRunning));
+
+        StepVerifier.create(scheduler.execute(rules, request, context))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, maxRunning.get());
+        assertEquals(1L, meterRegistry.get("loan.validation.rule.queue").tag("rule", "C").timer().count());
+        assertEquals(1.0, meterRegistry.get("loan.validation.rule.permits.available").gauge().value());
+    }
+
+    @Test
+    void shouldReportTimedOutRuleAsIncomplete() {
+        properties.setDefaultTimeout(Duration.ofMillis(50));
+        RuleExecutionScheduler scheduler = new RuleExecutionScheduler(properties, meterRegistry);
+        TestRule slowRule = new TestRule("SlowRule", true, Mono.never());
+
+        StepVerifier.create(scheduler.execute(List.of(slowRule), request, context))
+                .assertNext(outcome -> {
+                    assertFalse(outcome.isCompleted());
+                    assertTrue(outcome.getReasons().isEmpty());
+                })
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("loan.validation.rule.timeouts").tag("rule", "SlowRule").counter().count());
+        assertEquals(256.0, meterRegistry.get("loan.validation.rule.permits.available").gauge().value());
+    }
+
+    @Test
+    void shouldTimeOutRuleWaitingForGlobalPermit() {
+        properties.setGlobalConcurrency(1);
+        properties.setPerRequestConcurrency(2);
+        properties.setDefaultTimeout(Duration.ofMillis(50));
+        RuleExecutionScheduler scheduler = new RuleExecutionScheduler(properties, meterRegistry);
+        // Holds the only permit past the other rule's timeout, so that one never runs
+        TestRule holder = new TestRule("Holder", true, Mono.never(), Duration.ofMillis(300));
+        TestRule queued = new TestRule("Queued", true, Mono.just(Collections.emptyList()));
+
+        StepVerifier.create(scheduler.execute(List.of(holder, queued), request, context))
+                .expectNextMatches(outcome -> !outcome.isCompleted())
+                .expectNextMatches(outcome -> !outcome.isCompleted())
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("loan.validation.rule.timeouts").tag("rule", "Queued").counter().count());
+        assertEquals(1.0, meterRegistry.get("loan.validation.rule.permits.available").gauge().value());
+        assertEquals(0.0, meterRegistry.get("loan.validation.rule.permits.waiting").gauge().value());
+    }
+
+    @Test
+    void shouldPropagateAsynchronousRuleErrors() {
+        RuleExecutionScheduler scheduler = new RuleExecutionScheduler(properties, meterRegistry);
+        TestRule failingRule = new TestRule("FailingRule", true, Mono.error(new IllegalStateException("boom")));
+
+        StepVerifier.create(scheduler.execute(List.of(failingRule), request, context))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(256.0, meterRegistry.get("loan.validation.rule.permits.available").gauge().value());
+    }
+
+    private TestRule trackingRule(String name, AtomicInteger running, AtomicInteger maxRunning) {
+        Mono<List<LoanValidationResult.ReasonsEnum>> work = Mono.defer(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return Mono.delay(Duration.ofMillis(20))
+                    .map(tick -> Collections.<LoanValidationResult.ReasonsEnum>emptyList())
+                    .doFinally(signal -> running.decrementAndGet());
+        });
+        return new TestRule(name, true, work);
+    }
+
+    private static final class TestRule implements LoanValidationRule {
+
+        private final String name;
+        private final boolean asynchronous;
+        private final Mono<List<LoanValidationResult.ReasonsEnum>> result;
+        private final Duration timeout;
+
+        private TestRule(String name, boolean asynchronous, Mono<List<LoanValidationResult.ReasonsEnum>> result) {
+            this(name, asynchronous, result, null);
+        }
+
+        private TestRule(String name, boolean asynchronous, Mono<List<LoanValidationResult.ReasonsEnum>> result,
+                         Duration timeout) {
+            this.name = name;
+            this.asynchronous = asynchronous;
+            this.result = result;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        @Override
+        public Mono<List<LoanValidationResult.ReasonsEnum>> validate(LoanValidationRequest request,
+                                                                     ValidationContext context) {
+            return result;
+        }
+
+        @Override
+        public boolean isAsynchronous() {
+            return asynchronous;
+        }
+
+        @Override
+        public String getRuleName() {
+            return name;
+        }
+    }
+}
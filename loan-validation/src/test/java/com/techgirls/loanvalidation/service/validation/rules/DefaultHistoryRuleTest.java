@@ -0,0 +1,99 @@
+package com.techgirls.loanvalidation.service.validation.rules;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.port.LoanHistoryClient;
+import com.techgirls.loanvalidation.service.validation.ValidationContext;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for DefaultHistoryRule.
+ * Covers prefetched history from the context and the fallback client lookup.
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultHistoryRuleTest {
+
+    @Mock
+    private LoanHistoryClient loanHistoryClient;
+
+    @InjectMocks
+    private DefaultHistoryRule defaultHistoryRule;
+
+    private final LoanValidationRequest request = new LoanValidationRequest();
+
+    @Test
+    void shouldRejectWhenPrefetchedHistoryHasDefaults() {
+        ValidationContext context = ValidationContext.builder()
+                .applicantId("APP123")
+                .loanHistoryLoaded(true)
+                .defaultHistory(true)
+                .build();
+
+        Mono<List<LoanValidationResult.ReasonsEnum>> result = defaultHistoryRule.validate(request, context);
+
+        StepVerifier.create(result)
+                .assertNext(reasons -> {
+                    assertEquals(1, reasons.size());
+                    assertTrue(reasons.contains(LoanValidationResult.ReasonsEnum.HAS_DEFAULT_HISTORY));
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+
+    @Test
+    void shouldAcceptWhenPrefetchedHistoryHasNoDefaults() {
+        ValidationContext context = ValidationContext.builder()
+                .applicantId("APP123")
+                .loanHistoryLoaded(true)
+                .build();
+
+        StepVerifier.create(defaultHistoryRule.validate(request, context))
+                .assertNext(reasons -> assertTrue(reasons.isEmpty()))
+                .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+
+    @Test
+    void shouldQueryClientWhenHistoryWasNotPrefetched() {
+        ValidationContext context = ValidationContext.builder().applicantId("APP123").build();
+        when(loanHistoryClient.hasDefaultHistory("APP123")).thenReturn(Mono.just(true));
+
+        StepVerifier.create(defaultHistoryRule.validate(request, context))
+                .assertNext(reasons -> assertTrue(reasons.contains(LoanValidationResult.ReasonsEnum.HAS_DEFAULT_HISTORY)))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldAcceptWhenClientReturnsEmpty() {
+        ValidationContext context = ValidationContext.builder().applicantId("APP123").build();
+        when(loanHistoryClient.hasDefaultHistory("APP123")).thenReturn(Mono.empty());
+
+        StepVerifier.create(defaultHistoryRule.validate(request, context))
+                .assertNext(reasons -> assertTrue(reasons.isEmpty()))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDeclareItselfAsAsynchronousHistoryRule() {
+        assertTrue(defaultHistoryRule.isAsynchronous());
+        assertTrue(defaultHistoryRule.requiresLoanHistory());
+        assertEquals(50, defaultHistoryRule.getPriority());
+        assertEquals("Default History Rule", defaultHistoryRule.getRuleName());
+    }
+}
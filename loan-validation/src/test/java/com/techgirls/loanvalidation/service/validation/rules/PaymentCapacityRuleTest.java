@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.validation.ValidationContext;
@@ -15,7 +16,7 @@ import reactor.test.StepVerifier;
 
 class PaymentCapacityRuleTest {
 
-    private final PaymentCapacityRule rule = new PaymentCapacityRule();
+    private final PaymentCapacityRule rule = new PaymentCapacityRule(new BusinessRulesProperties());
 
     @Test
     void shouldPassValidationWithSufficientCapacity() {
@@ -95,6 +96,25 @@ class PaymentCapacityRuleTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldUseConfiguredSalaryPercentage() {
+        BusinessRulesProperties businessRules = new BusinessRulesProperties();
+        businessRules.setMaxSalaryPercentage(0.25);
+        PaymentCapacityRule configuredRule = new PaymentCapacityRule(businessRules);
+        LoanValidationRequest request = createValidRequest();
+        request.setMonthlySalary(5000.0);
+        ValidationContext context = ValidationContext.builder()
+                .monthlyPayment(1500.0) // 30% of salary - within the default limit only
+                .build();
+
+        Mono<List<LoanValidationResult.ReasonsEnum>> result = configuredRule.validate(request, context);
+
+        StepVerifier.create(result)
+                .assertNext(reasons -> assertEquals(List.of(LoanValidationResult.ReasonsEnum.CAPACIDAD_INSUFICIENTE),
+                        reasons))
+                .verifyComplete();
+    }
+
     @Test
     void shouldReturnCorrectPriority() {
         assertEquals(30, rule.getPriority());
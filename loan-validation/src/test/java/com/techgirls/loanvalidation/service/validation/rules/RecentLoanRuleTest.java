@@ -276,4 +276,38 @@ class RecentLoanRuleTest {
 
         verify(loanHistoryClient).getLastLoanDate("APP123");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldUsePrefetchedHistoryWithoutQueryingClient() {
+        // Given
+        request.setLastLoanDate(JsonNullable.undefined());
+        ValidationContext prefetched = context.toBuilder()
+                .loanHistoryLoaded(true)
+                .lastLoanDate(LocalDate.now().minusMonths(1))
+                .build();
+
+        // When
+        Mono<List<LoanValidationResult.ReasonsEnum>> result = recentLoanRule.validate(request, prefetched);
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(reasons -> assertTrue(reasons.contains(LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS)))
+                .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+
+    @Test
+    void shouldAcceptPrefetchedHistoryWithoutLoans() {
+        // Given
+        request.setLastLoanDate(JsonNullable.undefined());
+        ValidationContext prefetched = context.toBuilder().loanHistoryLoaded(true).build();
+
+        // When & Then
+        StepVerifier.create(recentLoanRule.validate(request, prefetched))
+                .assertNext(reasons -> assertTrue(reasons.isEmpty()))
+                .verifyComplete();
+
+        verifyNoInteractions(loanHistoryClient);
+    }
+}
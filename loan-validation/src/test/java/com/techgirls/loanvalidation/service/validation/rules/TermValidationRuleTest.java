@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
+import com.techgirls.loanvalidation.config.BusinessRulesProperties;
 import com.techgirls.loanvalidation.model.LoanValidationRequest;
 import com.techgirls.loanvalidation.model.LoanValidationResult;
 import com.techgirls.loanvalidation.service.validation.ValidationContext;
@@ -16,7 +17,7 @@ import reactor.test.StepVerifier;
 
 class TermValidationRuleTest {
 
-    private final TermValidationRule rule = new TermValidationRule();
+    private final TermValidationRule rule = new TermValidationRule(new BusinessRulesProperties());
 
     @Test
     void shouldPassValidationWithValidTerm() {
@@ -121,6 +122,22 @@ class TermValidationRuleTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldUseConfiguredMaximumTerm() {
+        BusinessRulesProperties businessRules = new BusinessRulesProperties();
+        businessRules.setMaxTermMonths(48);
+        TermValidationRule configuredRule = new TermValidationRule(businessRules);
+        LoanValidationRequest request = createValidRequest();
+        request.setTermMonths(48); // Above the default maximum of 36
+        ValidationContext context = createValidationContext();
+
+        Mono<List<LoanValidationResult.ReasonsEnum>> result = configuredRule.validate(request, context);
+
+        StepVerifier.create(result)
+                .assertNext(reasons -> assertTrue(reasons.isEmpty()))
+                .verifyComplete();
+    }
+
     @Test
     void shouldReturnCorrectPriority() {
         assertEquals(20, rule.getPriority());
@@ -0,0 +1,184 @@
+package com.techgirls.loanvalidation.shadow;
+
+import com.techgirls.loanvalidation.config.ShadowEvaluationProperties;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.validation.ColumnarRuleEngine;
+import com.techgirls.loanvalidation.service.validation.Evaluation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShadowEvaluatorTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 6, 14);
+
+    private final ColumnarRuleEngine current = new ColumnarRuleEngine(36, 0.40, 3, 0.0);
+    private MeterRegistry meterRegistry;
+    private ShadowEvaluationProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ShadowEvaluationProperties();
+        properties.setSampleRate(1.0);
+    }
+
+    @Test
+    void shouldCountMatchesWhenCandidateDecidesTheSame() {
+        ShadowEvaluator evaluator = evaluator(current, List.of(), Schedulers.immediate());
+
+        evaluator.onEvaluation(evaluation(3000.0, 6000.0, 24, null, List.of()));
+        evaluator.onEvaluation(evaluation(3000.0, 6000.0, 48, null, List.of(ReasonsEnum.PLAZO_MAXIMO_SUPERADO)));
+
+        assertEquals(2, evaluations("match"));
+        assertEquals(0, evaluations("diverged"));
+        assertEquals(2, meterRegistry.get("loanvalidation.shadow.latency").tag("rules", "candidate").timer().count());
+    }
+
+    @Test
+    void shouldRecordDivergencesByKindAndReason() {
+        ShadowEvaluator evaluator = evaluator(new ColumnarRuleEngine(48, 0.30, 3, 0.0), List.of(),
+                Schedulers.immediate());
+
+        // 250 a month is within 40% of 800 but not within 30%
+        evaluator.onEvaluation(evaluation(800.0, 6000.0, 24, null, List.of()));
+        // 48 months is allowed by the candidate
+        evaluator.onEvaluation(evaluation(3000.0, 6000.0, 48, null, List.of(ReasonsEnum.PLAZO_MAXIMO_SUPERADO)));
+
+        assertEquals(2, evaluations("diverged"));
+        assertEquals(1, divergence("now_rejected"));
+        assertEquals(1, divergence("now_eligible"));
+        assertEquals(1, reasons(ReasonsEnum.CAPACIDAD_INSUFICIENTE, "added"));
+        assertEquals(1, reasons(ReasonsEnum.PLAZO_MAXIMO_SUPERADO, "removed"));
+    }
+
+    @Test
+    void shouldKeepOutcomesFromTheLoanHistoryService() {
+        ShadowEvaluator evaluator = evaluator(new ColumnarRuleEngine(36, 0.40, 1, 0.0), List.of(),
+                Schedulers.immediate());
+
+        // Found through the history service: kept even with a shorter window
+        evaluator.onEvaluation(evaluation(3000.0, 6000.0, 24, null,
+                List.of(ReasonsEnum.HAS_RECENT_LOANS, ReasonsEnum.HAS_DEFAULT_HISTORY)));
+        // Given in the request: re-evaluated with the one month window
+        evaluator.onEvaluation(evaluation(3000.0, 6000.0, 24, BUSINESS_DATE.minusMonths(2),
+                List.of(ReasonsEnum.HAS_RECENT_LOANS)));
+
+        assertEquals(1, evaluations("match"));
+        assertEquals(1, divergence("now_eligible"));
+        assertEquals(1, reasons(ReasonsEnum.HAS_RECENT_LOANS, "removed"));
+    }
+
+    @Test
+    void shouldApplyExtraRules() {
+        ShadowRule extraRule = mock(ShadowRule.class);
+        when(extraRule.validate(any(), any())).thenAnswer(invocation -> {
+            LoanValidationRequest request = invocation.getArgument(0);
+            return Mono.just(request.getRequestedAmount() > 5000
+                    ? List.of(ReasonsEnum.CAPACIDAD_INSUFICIENTE)
+                    : Collections.<ReasonsEnum>emptyList());
+        });
+        ShadowEvaluator evaluator = evaluator(current, List.of(extraRule), Schedulers.immediate());
+
+        evaluator.onEvaluation(evaluation(3000.0, 4000.0, 24, null, List.of()));
+        evaluator.onEvaluation(evaluation(3000.0, 6000.0, 24, null, List.of()));
+
+        assertEquals(1, evaluations("match"));
+        assertEquals(1, divergence("now_rejected"));
+    }
+
+    @Test
+    void shouldCountFailingCandidatesWithoutThrowing() {
+        ShadowRule extraRule = mock(ShadowRule.class);
+        when(extraRule.validate(any(), any())).thenThrow(new IllegalStateException("broken rule"));
+        ShadowEvaluator evaluator = evaluator(current, List.of(extraRule), Schedulers.immediate());
+
+        assertDoesNotThrow(() -> evaluator.onEvaluation(evaluation(3000.0, 6000.0, 24, null, List.of())));
+
+        assertEquals(1, evaluations("failed"));
+    }
+
+    @Test
+    void shouldDropSampledEvaluationsBeyondTheInFlightLimit() {
+        properties.setMaxInFlight(2);
+        properties.setTimeout(Duration.ofMinutes(1));
+        List<Runnable> queued = new ArrayList<>();
+        Scheduler stalled = Schedulers.fromExecutor(queued::add);
+        ShadowEvaluator evaluator = evaluator(current, List.of(), stalled);
+
+        for (int i = 0; i < 5; i++) {
+            evaluator.onEvaluation(evaluation(3000.0, 6000.0, 24, null, List.of()));
+        }
+        assertEquals(3, evaluations("dropped"));
+        assertEquals(2.0, meterRegistry.get("loanvalidation.shadow.inflight").gauge().value());
+
+        queued.forEach(Runnable::run);
+        evaluator.onEvaluation(evaluation(3000.0, 6000.0, 24, null, List.of()));
+
+        assertEquals(2, evaluations("match"));
+        assertEquals(3, evaluations("dropped"));
+    }
+
+    @Test
+    void shouldSkipUnsampledAndIncompleteEvaluations() {
+        properties.setSampleRate(0.0);
+        ShadowEvaluator unsampled = evaluator(current, List.of(), Schedulers.immediate());
+        unsampled.onEvaluation(evaluation(3000.0, 6000.0, 24, null, List.of()));
+
+        properties.setSampleRate(1.0);
+        ShadowEvaluator sampled = evaluator(current, List.of(), Schedulers.immediate());
+        Evaluation incomplete = evaluation(3000.0, 6000.0, 24, null, List.of());
+        incomplete.getResult().setIncompleteRules(List.of("Recent Loan Rule"));
+        sampled.onEvaluation(incomplete);
+
+        assertEquals(0, evaluations("match") + evaluations("diverged") + evaluations("dropped"));
+        assertEquals(0, meterRegistry.get("loanvalidation.shadow.latency").tag("rules", "candidate").timer().count());
+    }
+
+    private ShadowEvaluator evaluator(ColumnarRuleEngine engine, List<ShadowRule> extraRules,
+                                      Scheduler scheduler) {
+        return new ShadowEvaluator(engine, extraRules, properties, scheduler, meterRegistry);
+    }
+
+    private static Evaluation evaluation(Double salary, Double amount, Integer term, LocalDate lastLoanDate,
+                                         List<ReasonsEnum> reasons) {
+        LoanValidationRequest request = new LoanValidationRequest(salary, amount, term);
+        if (lastLoanDate != null) {
+            request.lastLoanDate(lastLoanDate);
+        }
+        LoanValidationResult result = new LoanValidationResult(reasons.isEmpty(), new ArrayList<>(reasons),
+                term != null && term > 0 ? amount / term : 0.0);
+        return new Evaluation(request, "applicant-1", BUSINESS_DATE, result, 2_000_000);
+    }
+
+    private long evaluations(String outcome) {
+        return (long) meterRegistry.get("loanvalidation.shadow.evaluations").tag("outcome", outcome).counter().count();
+    }
+
+    private long divergence(String change) {
+        return (long) meterRegistry.get("loanvalidation.shadow.divergence").tag("change", change).counter().count();
+    }
+
+    private long reasons(ReasonsEnum reason, String change) {
+        return (long) meterRegistry.get("loanvalidation.shadow.reasons")
+                .tag("reason", reason.name()).tag("change", change).counter().count();
+    }
+}
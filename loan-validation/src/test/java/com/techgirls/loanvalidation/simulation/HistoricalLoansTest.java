@@ -0,0 +1,75 @@
+package com.techgirls.loanvalidation.simulation;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.replay.RecordedDecision;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoricalLoansTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 6, 1);
+
+    @Test
+    void shouldSortRowsByBusinessDayKeepingInputOrder() {
+        HistoricalLoans loans = new HistoricalLoans();
+        int day = (int) DAY.toEpochDay();
+        loans.add(1000, 1, 12, HistoricalLoans.NO_LOAN, day + 2, 0);
+        loans.add(1000, 2, 12, HistoricalLoans.NO_LOAN, day, 0);
+        loans.add(1000, 3, 12, HistoricalLoans.NO_LOAN, day + 2, 0);
+        loans.add(1000, 4, 12, HistoricalLoans.NO_LOAN, day + 1, 0);
+        loans.add(1000, 5, 12, HistoricalLoans.NO_LOAN, day, 0);
+
+        loans.sortByBusinessDay();
+
+        assertArrayEquals(new double[] {2, 5, 4, 1, 3}, Arrays.copyOf(loans.amount(), 5));
+        assertArrayEquals(new int[] {day, day, day + 1, day + 2, day + 2},
+                Arrays.copyOf(loans.businessDay(), 5));
+        assertEquals(2, loans.endOfDay(0, 5));
+        assertEquals(3, loans.endOfDay(2, 5));
+        assertEquals(4, loans.endOfDay(3, 4));
+    }
+
+    @Test
+    void shouldPinOutcomesThatCannotBeRecomputed() {
+        HistoricalLoans loans = new HistoricalLoans();
+        int recent = ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS);
+        int defaulted = ReasonMask.bit(ReasonsEnum.HAS_DEFAULT_HISTORY);
+        int capacity = ReasonMask.bit(ReasonsEnum.CAPACIDAD_INSUFICIENTE);
+        loans.add(decision(null, recent | defaulted | capacity));
+        loans.add(decision(DAY.minusMonths(1), recent));
+
+        assertEquals(recent | defaulted, loans.pinnedReasons()[0]);
+        assertEquals(0, loans.pinnedReasons()[1]);
+        assertEquals(HistoricalLoans.NO_LOAN, loans.lastLoanEpochDay()[0]);
+        assertEquals(DAY.minusMonths(1).toEpochDay(), loans.lastLoanEpochDay()[1]);
+    }
+
+    @Test
+    void shouldGrowAndEncodeMissingValues() {
+        HistoricalLoans loans = new HistoricalLoans();
+        for (int i = 0; i < 100_000; i++) {
+            loans.add(decision(null, 0));
+        }
+        loans.add(new RecordedDecision(1, "a", DAY, null, null, null, null, false,
+                ReasonMask.of(List.of(ReasonsEnum.DATOS_INVALIDOS)), 0.0, -1));
+
+        assertEquals(100_001, loans.size());
+        assertTrue(Double.isNaN(loans.salary()[100_000]));
+        assertTrue(Double.isNaN(loans.amount()[100_000]));
+        assertEquals(0, loans.term()[100_000]);
+        assertEquals(HistoricalLoans.NO_LOAN, loans.lastLoanEpochDay()[100_000]);
+    }
+
+    private static RecordedDecision decision(LocalDate lastLoanDate, int reasonMask) {
+        return new RecordedDecision(1, "applicant", DAY, 3000.0, 5000.0, 24, lastLoanDate, reasonMask == 0,
+                reasonMask, 208.33, -1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.techgirls.loanvalidation.simulation;
+
+import com.techgirls.loanvalidation.model.LoanValidationResult.ReasonsEnum;
+import com.techgirls.loanvalidation.service.calculation.PaymentCalculationService;
+import com.techgirls.loanvalidation.service.validation.ReasonMask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolicySimulatorTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 29);
+
+    private static final PolicyThresholds BASELINE = PolicyThresholds.builder()
+            .maxTermMonths(36)
+            .maxSalaryPercentage(0.40)
+            .recentLoanMonths(3)
+            .build();
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final PolicySimulator simulator = new PolicySimulator(pool,
+            new double[] {1_000, 5_000, 10_000}, new int[] {12, 36});
+    private final PaymentCalculationService paymentCalculationService = new PaymentCalculationService();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldMatchRowByRowRulesAcrossRangesAndDays() {
+        PolicyThresholds candidate = BASELINE.toBuilder()
+                .maxTermMonths(48)
+                .maxSalaryPercentage(0.35)
+                .recentLoanMonths(6)
+                .annualInterestRate(0.12)
+                .build();
+        HistoricalLoans loans = randomLoans(3 * PolicySimulator.LEAF_ROWS + 123, 42);
+
+        SimulationReport report = simulator.simulate(loans, BASELINE, candidate);
+
+        long[] expected = new long[2 + 2 * ReasonsEnum.values().length];
+        for (int i = 0; i < loans.size(); i++) {
+            int before = reference(loans, i, BASELINE);
+            int after = reference(loans, i, candidate);
+            expected[0] += before == 0 ? 1 : 0;
+            expected[1] += after == 0 ? 1 : 0;
+            for (ReasonsEnum reason : ReasonsEnum.values()) {
+                expected[2 + reason.ordinal()] += ReasonMask.contains(before, reason) ? 1 : 0;
+                expected[2 + ReasonsEnum.values().length + reason.ordinal()] +=
+                        ReasonMask.contains(after, reason) ? 1 : 0;
+            }
+        }
+        SimulationReport.Bucket total = report.getTotal();
+        assertEquals(loans.size(), total.getRows());
+        assertEquals(expected[0], total.getBaselineApproved());
+        assertEquals(expected[1], total.getCandidateApproved());
+        for (ReasonsEnum reason : ReasonsEnum.values()) {
+            assertEquals(expected[2 + reason.ordinal()], total.baselineReasons(reason), reason.name());
+            assertEquals(expected[2 + ReasonsEnum.values().length + reason.ordinal()],
+                    total.candidateReasons(reason), reason.name());
+        }
+        assertEquals(total.getRows(),
+                report.getBuckets().stream().mapToLong(SimulationReport.Bucket::getRows).sum());
+    }
+
+    @Test
+    void shouldReportDeltasPerAmountAndTermBucket() {
+        HistoricalLoans loans = new HistoricalLoans();
+        int day = (int) FIRST_DAY.toEpochDay();
+        // 48 month loans: rejected by term today, approved with a 48 month maximum
+        for (int i = 0; i < 10; i++) {
+            loans.add(3000, 8000, 48, HistoricalLoans.NO_LOAN, day, 0);
+        }
+        // Short loans within capacity: unaffected
+        for (int i = 0; i < 30; i++) {
+            loans.add(3000, 800, 6, HistoricalLoans.NO_LOAN, day, 0);
+        }
+
+        SimulationReport report = simulator.simulate(loans, BASELINE,
+                BASELINE.toBuilder().maxTermMonths(48).build());
+
+        assertEquals(2, report.getBuckets().size());
+        SimulationReport.Bucket longLoans = report.getBuckets().get(1);
+        assertEquals("5000-10000", longLoans.getAmountRange());
+        assertEquals("> 36", longLoans.getTermRange());
+        assertEquals(0.0, longLoans.baselineApprovalRate());
+        assertEquals(100.0, longLoans.candidateApprovalRate());
+        assertEquals(10, longLoans.getChanged());
+        assertEquals(10, longLoans.baselineReasons(ReasonsEnum.PLAZO_MAXIMO_SUPERADO));
+        assertEquals(25.0, report.getTotal().candidateApprovalRate() - report.getTotal().baselineApprovalRate());
+
+        String formatted = report.format();
+        assertTrue(formatted.contains("Approval rate: 75.00% -> 100.00% (+25.00 pp)"), formatted);
+        assertTrue(formatted.contains("PLAZO_MAXIMO_SUPERADO -100.00"), formatted);
+    }
+
+    @Test
+    void shouldReportEmptyHistory() {
+        SimulationReport report = simulator.simulate(new HistoricalLoans(), BASELINE, BASELINE);
+
+        assertEquals(0, report.getTotal().getRows());
+        assertTrue(report.getBuckets().isEmpty());
+    }
+
+    /**
+     * The rules as the rule engine applies them, one row at a time.
+     */
+    private int reference(HistoricalLoans loans, int row, PolicyThresholds thresholds) {
+        double salary = loans.salary()[row];
+        double amount = loans.amount()[row];
+        int term = loans.term()[row];
+        int mask = loans.pinnedReasons()[row];
+        if (!(salary > 0) || !(amount > 0)) {
+            mask |= ReasonMask.bit(ReasonsEnum.DATOS_INVALIDOS);
+        }
+        if (term < 1 || term > thresholds.getMaxTermMonths()) {
+            mask |= ReasonMask.bit(ReasonsEnum.PLAZO_MAXIMO_SUPERADO);
+        }
+        Double payment = paymentCalculationService.calculateMonthlyPaymentWithInterest(
+                Double.isNaN(amount) ? null : amount, term, thresholds.getAnnualInterestRate());
+        if (!Double.isNaN(salary) && payment != null && payment > salary * thresholds.getMaxSalaryPercentage()) {
+            mask |= ReasonMask.bit(ReasonsEnum.CAPACIDAD_INSUFICIENTE);
+        }
+        LocalDate threshold = LocalDate.ofEpochDay(loans.businessDay()[row])
+                .minusMonths(thresholds.getRecentLoanMonths());
+        int lastLoan = loans.lastLoanEpochDay()[row];
+        if (lastLoan != HistoricalLoans.NO_LOAN && !LocalDate.ofEpochDay(lastLoan).isBefore(threshold)) {
+            mask |= ReasonMask.bit(ReasonsEnum.HAS_RECENT_LOANS);
+        }
+        return mask;
+    }
+
+    private static HistoricalLoans randomLoans(int rows, long seed) {
+        Random random = new Random(seed);
+        HistoricalLoans loans = new HistoricalLoans();
+        int firstDay = (int) FIRST_DAY.toEpochDay();
+        for (int i = 0; i < rows; i++) {
+            // Month ends around February exercise the calendar clamping of minusMonths
+            int day = firstDay + i * 40 / rows;
+            double salary = random.nextInt(50) == 0 ? Double.NaN : 500 + random.nextInt(8000);
+            double amount = random.nextInt(50) == 0 ? -1 : 500 + random.nextInt(40_000);
+            int term = random.nextInt(100) == 0 ? 0 : 1 + random.nextInt(59);
+            int lastLoan = random.nextBoolean() ? HistoricalLoans.NO_LOAN : day - random.nextInt(250);
+            int pinned = random.nextInt(20) == 0 ? ReasonMask.bit(ReasonsEnum.HAS_DEFAULT_HISTORY) : 0;
+            loans.add(salary, amount, term, lastLoan, day, pinned);
+        }
+        return loans;
+    }
+}
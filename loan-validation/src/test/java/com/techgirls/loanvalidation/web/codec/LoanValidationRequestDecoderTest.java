@@ -0,0 +1,99 @@
+package com.techgirls.loanvalidation.web.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techgirls.loanvalidation.model.LoanValidationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanValidationRequestDecoderTest {
+
+    private static final ResolvableType REQUEST_TYPE = ResolvableType.forClass(LoanValidationRequest.class);
+
+    private ObjectMapper objectMapper;
+    private LoanValidationRequestDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new JsonNullableModule()).build();
+        decoder = new LoanValidationRequestDecoder(objectMapper);
+    }
+
+    private LoanValidationRequest decode(String json) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return decoder.decode(buffer, REQUEST_TYPE, MediaType.APPLICATION_JSON, Collections.emptyMap());
+    }
+
+    @Test
+    void shouldDecodeFixedShape() {
+        LoanValidationRequest request = decode(
+                "{\"monthlySalary\":2500,\"requestedAmount\":6000.5,\"termMonths\":24,\"lastLoanDate\":\"2025-04-01\"}");
+
+        assertEquals(2500.0, request.getMonthlySalary());
+        assertEquals(6000.5, request.getRequestedAmount());
+        assertEquals(24, request.getTermMonths());
+        assertEquals(JsonNullable.of(LocalDate.of(2025, 4, 1)), request.getLastLoanDate());
+    }
+
+    @Test
+    void shouldDistinguishAbsentAndNullLastLoanDate() {
+        LoanValidationRequest absent = decode("{\"monthlySalary\":2500,\"requestedAmount\":6000,\"termMonths\":24}");
+        LoanValidationRequest explicitNull = decode(
+                "{\"monthlySalary\":2500,\"requestedAmount\":6000,\"termMonths\":24,\"lastLoanDate\":null}");
+
+        assertFalse(absent.getLastLoanDate().isPresent());
+        assertTrue(explicitNull.getLastLoanDate().isPresent());
+        assertNull(explicitNull.getLastLoanDate().get());
+    }
+
+    @Test
+    void shouldMatchGenericMapperOnFixedShape() throws Exception {
+        String json = "{\"monthlySalary\":3000.0,\"requestedAmount\":5000.0,\"termMonths\":12,\"lastLoanDate\":\"2024-01-15\"}";
+
+        assertEquals(objectMapper.readValue(json, LoanValidationRequest.class), decode(json));
+    }
+
+    @Test
+    void shouldFallBackToGenericMapperForUnexpectedInput() throws Exception {
+        String json = "{\"monthlySalary\":\"2500\",\"requestedAmount\":6000,\"termMonths\":24,\"channel\":\"web\"}";
+
+        assertNull(decoder.parse(json.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(objectMapper.readValue(json, LoanValidationRequest.class), decode(json));
+    }
+
+    @Test
+    void shouldFallBackForFractionalTerm() {
+        String json = "{\"monthlySalary\":2500,\"requestedAmount\":6000,\"termMonths\":24.5}";
+
+        assertNull(decoder.parse(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void shouldReportMalformedJsonAsDecodingException() {
+        assertThrows(DecodingException.class, () -> decode("{\"monthlySalary\":"));
+    }
+
+    @Test
+    void shouldOnlyDecodeLoanValidationRequests() {
+        assertTrue(decoder.canDecode(REQUEST_TYPE, MediaType.APPLICATION_JSON));
+        assertFalse(decoder.canDecode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON));
+        assertFalse(decoder.canDecode(REQUEST_TYPE, MediaType.APPLICATION_CBOR));
+    }
+}
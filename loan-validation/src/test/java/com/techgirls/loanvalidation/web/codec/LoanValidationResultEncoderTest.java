@@ -0,0 +1,97 @@
+package com.techgirls.loanvalidation.web.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techgirls.loanvalidation.model.LoanValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanValidationResultEncoderTest {
+
+    private static final ResolvableType RESULT_TYPE = ResolvableType.forClass(LoanValidationResult.class);
+
+    private ObjectMapper objectMapper;
+    private LoanValidationResultEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new JsonNullableModule()).build();
+        encoder = new LoanValidationResultEncoder(objectMapper);
+    }
+
+    private String encode(LoanValidationResult result) {
+        DataBuffer buffer = encoder.encodeValue(result, DefaultDataBufferFactory.sharedInstance,
+                RESULT_TYPE, MediaType.APPLICATION_JSON, Collections.emptyMap());
+        String json = buffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(buffer);
+        return json;
+    }
+
+    @Test
+    void shouldWriteSameDocumentAsGenericMapper() throws Exception {
+        LoanValidationResult result = new LoanValidationResult(false, Arrays.asList(
+                LoanValidationResult.ReasonsEnum.HAS_RECENT_LOANS,
+                LoanValidationResult.ReasonsEnum.CAPACIDAD_INSUFICIENTE), 208.33);
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(result)), objectMapper.readTree(encode(result)));
+    }
+
+    @Test
+    void shouldWriteIncompleteRules() throws Exception {
+        LoanValidationResult result = new LoanValidationResult(false, Collections.emptyList(), 250.0);
+        result.setIncompleteRules(Collections.singletonList("Recent Loan Rule"));
+
+        String json = encode(result);
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(result)), objectMapper.readTree(json));
+        assertEquals(result, objectMapper.readValue(json, LoanValidationResult.class));
+    }
+
+    @Test
+    void shouldFallBackToGenericMapperForNullFields() throws Exception {
+        LoanValidationResult result = new LoanValidationResult(true, Collections.emptyList(), null);
+
+        assertFalse(LoanValidationResultEncoder.hasFixedShape(result));
+        assertEquals(objectMapper.writeValueAsString(result), encode(result));
+    }
+
+    @Test
+    void shouldDelegateMultiValueStreamsToGenericEncoder() {
+        LoanValidationResult first = new LoanValidationResult(true, Collections.emptyList(), 100.0);
+        LoanValidationResult second = new LoanValidationResult(true, Collections.emptyList(), 200.0);
+
+        Flux<String> json = encoder.encode(Flux.just(first, second), DefaultDataBufferFactory.sharedInstance,
+                        RESULT_TYPE, MediaType.APPLICATION_JSON, Collections.emptyMap())
+                .map(buffer -> {
+                    String chunk = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return chunk;
+                });
+
+        StepVerifier.create(json.reduce(String::concat))
+                .assertNext(array -> assertTrue(array.startsWith("[") && array.endsWith("]")))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldOnlyEncodeLoanValidationResults() {
+        assertTrue(encoder.canEncode(RESULT_TYPE, MediaType.APPLICATION_JSON));
+        assertFalse(encoder.canEncode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON));
+    }
+}